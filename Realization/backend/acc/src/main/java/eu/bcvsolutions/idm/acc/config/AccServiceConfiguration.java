@@ -9,9 +9,12 @@ import org.springframework.core.annotation.Order;
 import eu.bcvsolutions.idm.acc.entity.SysSystem;
 import eu.bcvsolutions.idm.acc.entity.SysSystemFormValue;
 import eu.bcvsolutions.idm.acc.repository.SysProvisioningAttributeRepository;
+import eu.bcvsolutions.idm.acc.repository.SysSyncReconciliationUidRepository;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningAttributeService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncReconciliationUidService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemFormValueService;
 import eu.bcvsolutions.idm.acc.service.impl.DefaultSysProvisioningAttributeService;
+import eu.bcvsolutions.idm.acc.service.impl.DefaultSysSyncReconciliationUidService;
 import eu.bcvsolutions.idm.acc.service.impl.DefaultSysSystemFormValueService;
 import eu.bcvsolutions.idm.core.eav.repository.AbstractFormValueRepository;
 
@@ -28,6 +31,7 @@ public class AccServiceConfiguration {
 	//
 	// Spring Data repositories through interfaces - they are constructed automatically
 	@Autowired private SysProvisioningAttributeRepository provisioningAttributeRepository;
+	@Autowired private SysSyncReconciliationUidRepository syncReconciliationUidRepository;
 
 	/**
 	 * Eav attributes for target system configuration
@@ -51,4 +55,16 @@ public class AccServiceConfiguration {
 	public SysProvisioningAttributeService provisioningAttributeService() {
 		return new DefaultSysProvisioningAttributeService(provisioningAttributeRepository);
 	}
+	
+	/**
+	 * Service for staging account uids returned from the target system in reconciliation.
+	 * 
+	 * @return
+	 * @since 11.0.0
+	 */
+	@Bean
+	@ConditionalOnMissingBean(SysSyncReconciliationUidService.class)
+	public SysSyncReconciliationUidService syncReconciliationUidService() {
+		return new DefaultSysSyncReconciliationUidService(syncReconciliationUidRepository);
+	}
 }
@@ -8,10 +8,12 @@ import org.springframework.context.annotation.Configuration;
 
 import eu.bcvsolutions.idm.acc.dto.AccPasswordFilterEchoItemDto;
 import eu.bcvsolutions.idm.acc.dto.AttributeValueWrapperDto;
+import eu.bcvsolutions.idm.acc.dto.SysConnectorConfigurationSnapshot;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningBreakItems;
 import eu.bcvsolutions.idm.acc.service.api.PasswordFilterManager;
 import eu.bcvsolutions.idm.acc.service.api.SynchronizationEntityExecutor;
 import eu.bcvsolutions.idm.acc.service.api.SynchronizationService;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
 import eu.bcvsolutions.idm.acc.service.impl.AbstractSynchronizationExecutor;
 import eu.bcvsolutions.idm.acc.service.impl.DefaultSysProvisioningBreakConfigService;
 import eu.bcvsolutions.idm.core.api.config.cache.DistributedIdMCacheConfiguration;
@@ -84,4 +86,36 @@ public class AccCacheConfiguration {
 				.withTtl(Duration.ofHours(12))
 				.build();
 	}
+	
+	/**
+	 * Define local cache for compiled connector configurations. Configuration contains confidential values 
+	 * => configuration is cached locally only, version is distributed.
+	 *
+	 * @return IdMCacheConfiguration for {@link SysSystemService#getConnectorConfiguration(eu.bcvsolutions.idm.acc.dto.SysSystemDto)}
+	 * @since 11.0.0
+	 */
+	@Bean
+	public IdMCacheConfiguration connectorConfigurationCacheConfiguration() {
+		return LocalIdMCacheConfiguration.<UUID, SysConnectorConfigurationSnapshot> builder()
+				.withName(SysSystemService.CONNECTOR_CONFIGURATION_CACHE_NAME)
+				.withKeyType(UUID.class)
+				.withValueType(SysConnectorConfigurationSnapshot.class)
+				.build();
+	}
+	
+	/**
+	 * Define distributed cache for connector configuration versions - connector configuration is evicted 
+	 * on all server instances.
+	 *
+	 * @return IdMCacheConfiguration for {@link SysSystemService#evictConnectorConfiguration(UUID)}
+	 * @since 11.0.0
+	 */
+	@Bean
+	public IdMCacheConfiguration connectorConfigurationVersionCacheConfiguration() {
+		return DistributedIdMCacheConfiguration.<UUID, UUID> builder()
+				.withName(SysSystemService.CONNECTOR_CONFIGURATION_VERSION_CACHE_NAME)
+				.withKeyType(UUID.class)
+				.withValueType(UUID.class)
+				.build();
+	}
 }
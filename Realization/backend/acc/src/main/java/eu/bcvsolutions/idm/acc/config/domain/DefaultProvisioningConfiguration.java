@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.acc.config.domain;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
 import eu.bcvsolutions.idm.core.api.config.domain.AbstractConfiguration;
 
 /**
@@ -44,4 +45,42 @@ public class DefaultProvisioningConfiguration extends AbstractConfiguration impl
 		//
 		return timeout;
 	}
+	
+	@Override
+	public int getQueueWorkers() {
+		int workers = getConfigurationService().getIntegerValue(PROPERTY_QUEUE_WORKERS, DEFAULT_QUEUE_WORKERS);
+		if (workers < 1) {
+			LOG.warn("Configured provisioning queue workers count has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					workers, DEFAULT_QUEUE_WORKERS, PROPERTY_QUEUE_WORKERS);
+			return DEFAULT_QUEUE_WORKERS;
+		}
+		//
+		return workers;
+	}
+	
+	@Override
+	public int getSystemConcurrency(SysSystemDto system) {
+		int concurrency = getConfigurationService().getIntegerValue(PROPERTY_SYSTEM_CONCURRENCY, DEFAULT_SYSTEM_CONCURRENCY);
+		String systemProperty = null;
+		if (system != null) {
+			systemProperty = String.format("%s.%s", PROPERTY_SYSTEM_CONCURRENCY, system.getCode());
+			concurrency = getConfigurationService().getIntegerValue(systemProperty, concurrency);
+		}
+		if (concurrency < 1) {
+			LOG.warn("Configured provisioning system concurrency has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					concurrency, DEFAULT_SYSTEM_CONCURRENCY, systemProperty == null ? PROPERTY_SYSTEM_CONCURRENCY : systemProperty);
+			return DEFAULT_SYSTEM_CONCURRENCY;
+		}
+		//
+		return concurrency;
+	}
+	
+	@Override
+	public boolean isSkipRead(SysSystemDto system) {
+		boolean skipRead = getConfigurationService().getBooleanValue(PROPERTY_SYSTEM_SKIP_READ, DEFAULT_SYSTEM_SKIP_READ);
+		if (system == null) {
+			return skipRead;
+		}
+		return getConfigurationService().getBooleanValue(String.format("%s.%s", PROPERTY_SYSTEM_SKIP_READ, system.getCode()), skipRead);
+	}
 }
@@ -0,0 +1,53 @@
+package eu.bcvsolutions.idm.acc.config.domain;
+
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.config.domain.AbstractConfiguration;
+
+/**
+ * Configuration for synchronization.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component("synchronizationConfiguration")
+public class DefaultSynchronizationConfiguration extends AbstractConfiguration implements SynchronizationConfiguration {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultSynchronizationConfiguration.class);
+
+	@Override
+	public int getWorkers() {
+		int workers = getConfigurationService().getIntegerValue(PROPERTY_WORKERS, DEFAULT_WORKERS);
+		if (workers < 1) {
+			LOG.warn("Configured synchronization workers count has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					workers, DEFAULT_WORKERS, PROPERTY_WORKERS);
+			return DEFAULT_WORKERS;
+		}
+		//
+		return workers;
+	}
+	
+	@Override
+	public int getCheckpointItems() {
+		int items = getConfigurationService().getIntegerValue(PROPERTY_CHECKPOINT_ITEMS, DEFAULT_CHECKPOINT_ITEMS);
+		if (items < 1) {
+			LOG.warn("Configured synchronization checkpoint items count has to be greater than [0], given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					items, DEFAULT_CHECKPOINT_ITEMS, PROPERTY_CHECKPOINT_ITEMS);
+			return DEFAULT_CHECKPOINT_ITEMS;
+		}
+		//
+		return items;
+	}
+	
+	@Override
+	public long getCheckpointInterval() {
+		long interval = getConfigurationService().getLongValue(PROPERTY_CHECKPOINT_INTERVAL, DEFAULT_CHECKPOINT_INTERVAL);
+		if (interval < 0) {
+			LOG.warn("Configured synchronization checkpoint interval cannot be negative, given [{}]. Default [{}] will be used, change your configuration property [{}].",
+					interval, DEFAULT_CHECKPOINT_INTERVAL, PROPERTY_CHECKPOINT_INTERVAL);
+			return DEFAULT_CHECKPOINT_INTERVAL;
+		}
+		//
+		return interval;
+	}
+}
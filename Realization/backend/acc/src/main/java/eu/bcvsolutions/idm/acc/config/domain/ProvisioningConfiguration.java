@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
 import eu.bcvsolutions.idm.core.api.service.Configurable;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 
@@ -36,6 +37,42 @@ public interface ProvisioningConfiguration extends Configurable {
 	String PROPERTY_TIMEOUT = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
 			+ "acc.provisioning.timeout";
 	long DEFAULT_TIMEOUT = 180000;
+	
+	/**
+	 * Count of workers processing provisioning queue (batches) in parallel.
+	 * 
+	 * @since 11.0.0
+	 */
+	String PROPERTY_QUEUE_WORKERS = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.provisioning.queue.workers";
+	int DEFAULT_QUEUE_WORKERS = 1;
+	
+	/**
+	 * Count of provisioning batches executed from provisioning queue concurrently on one target system (on one server instance).
+	 * Concurrency can be configured for the target system by system code suffix, 
+	 * e.g. {@code idm.sec.acc.provisioning.system.concurrency.ad=2}.
+	 * 
+	 * @since 11.0.0
+	 */
+	String PROPERTY_SYSTEM_CONCURRENCY = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.provisioning.system.concurrency";
+	int DEFAULT_SYSTEM_CONCURRENCY = 1;
+	
+	/**
+	 * Last provisioned account attributes are stored for system entity and are used for computing changed attributes
+	 * instead of reading account from target system before each provisioning operation. 
+	 * Account is read from target system, when state is not available (e.g. after previous provisioning failure).
+	 * Stored states are cleared in bulk, when skip read is disabled (or changed) in configuration.
+	 * Can be configured for the target system by system code suffix, 
+	 * e.g. {@code idm.sec.acc.provisioning.system.skip-read.sap=true}.
+	 * 
+	 * Look out: changes made directly on target system are not detected, when account is not read.
+	 * 
+	 * @since 11.0.0
+	 */
+	String PROPERTY_SYSTEM_SKIP_READ = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX
+			+ "acc.provisioning.system.skip-read";
+	boolean DEFAULT_SYSTEM_SKIP_READ = false;
 
 	@Override
 	default String getConfigurableType() {
@@ -54,6 +91,9 @@ public interface ProvisioningConfiguration extends Configurable {
 		properties.add(PROPERTY_SEND_PASSWORD_ATTRIBUTES_TOGETHER);
 		properties.add(PROPERTY_ALLOW_AUTO_MAPPING_ON_EXISTING_ACCOUNT);
 		properties.add(PROPERTY_TIMEOUT);
+		properties.add(PROPERTY_QUEUE_WORKERS);
+		properties.add(PROPERTY_SYSTEM_CONCURRENCY);
+		properties.add(PROPERTY_SYSTEM_SKIP_READ);
 		return properties;
 	}
 
@@ -107,4 +147,31 @@ public interface ProvisioningConfiguration extends Configurable {
 	 * @since 10.2.0
 	 */
 	long getTimeout();
+	
+	/**
+	 * Count of workers processing provisioning queue (batches) in parallel.
+	 * 
+	 * @return workers count, 1 - batches are processed sequentially
+	 * @since 11.0.0
+	 */
+	int getQueueWorkers();
+	
+	/**
+	 * Count of provisioning batches executed from provisioning queue concurrently on given target system.
+	 * Operations for the same system entity are executed in order regardless of this setting.
+	 * 
+	 * @param system target system
+	 * @return concurrency configured for given system or default concurrency
+	 * @since 11.0.0
+	 */
+	int getSystemConcurrency(SysSystemDto system);
+	
+	/**
+	 * Last provisioned account state is used instead of reading account from given target system before provisioning.
+	 * 
+	 * @param system target system
+	 * @return true - account is not read from target system, when last provisioned state is available
+	 * @since 11.0.0
+	 */
+	boolean isSkipRead(SysSystemDto system);
 }
@@ -0,0 +1,77 @@
+package eu.bcvsolutions.idm.acc.config.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import eu.bcvsolutions.idm.core.api.service.Configurable;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+
+/**
+ * Configuration for synchronization.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface SynchronizationConfiguration extends Configurable {
+
+	/**
+	 * Count of workers processing synchronized items in parallel (pipelined synchronization).
+	 * Items read from connector are processed sequentially in the synchronization thread, when one (default) worker is configured.
+	 */
+	String PROPERTY_WORKERS = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "acc.synchronization.workers";
+	int DEFAULT_WORKERS = 1;
+	
+	/**
+	 * Processed items count, after which synchronization checkpoint is made 
+	 * - token, configuration and action logs are saved together.
+	 */
+	String PROPERTY_CHECKPOINT_ITEMS = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "acc.synchronization.checkpoint.items";
+	int DEFAULT_CHECKPOINT_ITEMS = 100;
+	
+	/**
+	 * Interval in milliseconds, after which synchronization checkpoint is made (if any item was processed).
+	 */
+	String PROPERTY_CHECKPOINT_INTERVAL = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "acc.synchronization.checkpoint.interval";
+	long DEFAULT_CHECKPOINT_INTERVAL = 10000L; // 10s
+
+	@Override
+	default String getConfigurableType() {
+		return "synchronization";
+	}
+
+	@Override
+	default boolean isDisableable() {
+		return false;
+	}
+
+	@Override
+	default List<String> getPropertyNames() {
+		List<String> properties = new ArrayList<>(); // we are not using superclass properties - enable and order does not make a sense here
+		properties.add(PROPERTY_WORKERS);
+		properties.add(PROPERTY_CHECKPOINT_ITEMS);
+		properties.add(PROPERTY_CHECKPOINT_INTERVAL);
+		return properties;
+	}
+
+	/**
+	 * Count of workers processing synchronized items in parallel.
+	 * 
+	 * @return workers count, 1 - items are processed sequentially
+	 */
+	int getWorkers();
+	
+	/**
+	 * Processed items count, after which synchronization checkpoint is made.
+	 * Synchronization is resumed from the last checkpoint token, when server is killed during synchronization.
+	 * 
+	 * @return items count
+	 */
+	int getCheckpointItems();
+	
+	/**
+	 * Interval in milliseconds, after which synchronization checkpoint is made.
+	 * 
+	 * @return interval in milliseconds
+	 */
+	long getCheckpointInterval();
+}
@@ -84,6 +84,8 @@ public enum AccResultCode implements ResultCode {
 	PROVISIONING_SUCCEED(HttpStatus.OK, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s], object class [%s] is sucessfully completed."),
 	PROVISIONING_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s], object class [%s] exceeded the timeout [%s]."),
 	PROVISIONING_IS_IN_QUEUE(HttpStatus.ACCEPTED, "Provisioning operation for object with uid [%s] on system [%s], operation type [%s], object class [%s] was already in queue. Addind new operation request into queue."),
+	PROVISIONING_SYSTEM_CONCURRENCY_EXCEEDED(HttpStatus.ACCEPTED, "Provisioning operations for object with uid [%s] on system [%s] are queued in system lane, system concurrency [%s] is exceeded - operations will be executed after previous operations on the system."),
+	PROVISIONING_BATCH_CLAIMED(HttpStatus.ACCEPTED, "Provisioning operations for object with uid [%s] on system [%s] are executed by other server instance."),
 	PROVISIONING_MERGE_ATTRIBUTE_IS_NOT_MULTIVALUE(HttpStatus.BAD_REQUEST, "Object [%s]. For MERGE strategy must be attribute [%s] multivalued (on system [%s])!"),
 	PROVISIONING_ATTRIBUTE_STRATEGY_CONFLICT(HttpStatus.CONFLICT, "Strategies [%s] and [%s] are in conflict, for attribute [%s] (roles in conflict [%s] and [%s])!"),
 	PROVISIONING_TREE_PARENT_ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "Account for parent node [%s] was not found!"),
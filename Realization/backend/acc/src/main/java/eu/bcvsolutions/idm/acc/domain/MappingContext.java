@@ -1,9 +1,12 @@
 package eu.bcvsolutions.idm.acc.domain;
 
 import com.google.common.collect.Maps;
+import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +25,8 @@ public class MappingContext {
 	private List<IdmIdentityRoleDto> identityRoles;
 	private List<IdmIdentityRoleDto> identityRolesForSystem;
 	private IcConnectorObject connectorObject;
+	private IdmFormInstanceDto formInstance; // loaded once for all extended attributes
+	private final Map<AttributeMapping, SysSchemaAttributeDto> schemaAttributes = new IdentityHashMap<>(); // resolved once for all attributes
 
 	private Map<String, Object> context;
 
@@ -73,6 +78,49 @@ public class MappingContext {
 		this.identityRolesForSystem = identityRolesForSystem;
 	}
 
+	/**
+	 * Form instance (main definition) of provisioned entity - shared by all mapped extended attributes.
+	 * 
+	 * @return loaded form instance, {@code null} if not loaded yet
+	 * @since 11.0.0
+	 */
+	public IdmFormInstanceDto getFormInstance() {
+		return formInstance;
+	}
+	
+	/**
+	 * Form instance (main definition) of provisioned entity - shared by all mapped extended attributes.
+	 * 
+	 * @param formInstance loaded form instance
+	 * @since 11.0.0
+	 */
+	public void setFormInstance(IdmFormInstanceDto formInstance) {
+		this.formInstance = formInstance;
+	}
+
+	/**
+	 * Resolved schema attribute of mapped attribute in the current provisioning.
+	 * 
+	 * @param attribute mapped attribute
+	 * @return resolved schema attribute, {@code null} if not resolved yet
+	 * @since 11.0.0
+	 */
+	public SysSchemaAttributeDto getSchemaAttribute(AttributeMapping attribute) {
+		return schemaAttributes.get(attribute);
+	}
+	
+	/**
+	 * Resolved schema attribute of mapped attribute in the current provisioning.
+	 * Mapped attribute instance is used as key - mapped attribute is not changed (can be shared).
+	 * 
+	 * @param attribute mapped attribute
+	 * @param schemaAttribute resolved schema attribute
+	 * @since 11.0.0
+	 */
+	public void setSchemaAttribute(AttributeMapping attribute, SysSchemaAttributeDto schemaAttribute) {
+		schemaAttributes.put(attribute, schemaAttribute);
+	}
+
 	@Override
 	public String toString() {
 		return "MappingContext{" +
@@ -0,0 +1,121 @@
+package eu.bcvsolutions.idm.acc.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import eu.bcvsolutions.idm.ic.api.IcConfigurationProperties;
+import eu.bcvsolutions.idm.ic.api.IcConfigurationProperty;
+import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
+import eu.bcvsolutions.idm.ic.api.IcObjectPoolConfiguration;
+import eu.bcvsolutions.idm.ic.czechidm.domain.IcConnectorConfigurationCzechIdMImpl;
+import eu.bcvsolutions.idm.ic.impl.IcConfigurationPropertiesImpl;
+import eu.bcvsolutions.idm.ic.impl.IcConfigurationPropertyImpl;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorConfigurationImpl;
+import eu.bcvsolutions.idm.ic.impl.IcObjectPoolConfigurationImpl;
+
+/**
+ * Compiled connector configuration of the system with version. 
+ * Version is shared between server instances - snapshot is valid, till version is the same.
+ * Snapshot is immutable - configuration is copied, when snapshot is created and when configuration is returned.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class SysConnectorConfigurationSnapshot implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	//
+	private final UUID version;
+	private final IcConnectorConfiguration configuration;
+	
+	public SysConnectorConfigurationSnapshot(UUID version, IcConnectorConfiguration configuration) {
+		this.version = version;
+		this.configuration = copy(configuration);
+	}
+	
+	/**
+	 * Configuration version.
+	 * 
+	 * @return version
+	 */
+	public UUID getVersion() {
+		return version;
+	}
+	
+	/**
+	 * Compiled connector configuration - new copy is returned on each call, returned configuration can be modified.
+	 * 
+	 * @return configuration
+	 */
+	public IcConnectorConfiguration getConfiguration() {
+		return copy(configuration);
+	}
+	
+	/**
+	 * Copy connector configuration. Property values are copied (arrays are cloned), 
+	 * immutable values (e.g. strings, guarded strings) are shared.
+	 * 
+	 * @param configuration source configuration
+	 * @return configuration copy
+	 */
+	private static IcConnectorConfiguration copy(IcConnectorConfiguration configuration) {
+		if (configuration == null) {
+			return null;
+		}
+		IcConnectorConfigurationImpl copy;
+		if (configuration instanceof IcConnectorConfigurationCzechIdMImpl) {
+			copy = new IcConnectorConfigurationCzechIdMImpl();
+			((IcConnectorConfigurationCzechIdMImpl) copy).setSystemId(((IcConnectorConfigurationCzechIdMImpl) configuration).getSystemId());
+		} else {
+			copy = new IcConnectorConfigurationImpl();
+		}
+		copy.setConnectorPoolingSupported(configuration.isConnectorPoolingSupported());
+		copy.setProducerBufferSize(configuration.getProducerBufferSize());
+		if (configuration.getSystemOperationOptions() != null) {
+			copy.setOperationOptions(new HashMap<>(configuration.getSystemOperationOptions()));
+		}
+		IcObjectPoolConfiguration poolConfiguration = configuration.getConnectorPoolConfiguration();
+		if (poolConfiguration != null) {
+			IcObjectPoolConfigurationImpl poolConfigurationCopy = new IcObjectPoolConfigurationImpl();
+			poolConfigurationCopy.setMaxObjects(poolConfiguration.getMaxObjects());
+			poolConfigurationCopy.setMaxIdle(poolConfiguration.getMaxIdle());
+			poolConfigurationCopy.setMaxWait(poolConfiguration.getMaxWait());
+			poolConfigurationCopy.setMinEvictableIdleTimeMillis(poolConfiguration.getMinEvictableIdleTimeMillis());
+			poolConfigurationCopy.setMinIdle(poolConfiguration.getMinIdle());
+			copy.setConnectorPoolConfiguration(poolConfigurationCopy);
+		}
+		IcConfigurationProperties properties = configuration.getConfigurationProperties();
+		if (properties != null) {
+			List<IcConfigurationProperty> propertiesCopy = new ArrayList<>(properties.getProperties().size());
+			for (IcConfigurationProperty property : properties.getProperties()) {
+				IcConfigurationPropertyImpl propertyCopy = new IcConfigurationPropertyImpl();
+				propertyCopy.setName(property.getName());
+				propertyCopy.setHelpMessage(property.getHelpMessage());
+				propertyCopy.setDisplayName(property.getDisplayName());
+				propertyCopy.setGroup(property.getGroup());
+				propertyCopy.setValue(copyValue(property.getValue()));
+				propertyCopy.setType(property.getType());
+				propertyCopy.setConfidential(property.isConfidential());
+				propertyCopy.setRequired(property.isRequired());
+				propertyCopy.setOrder(property.getOrder());
+				propertyCopy.setFace(property.getFace());
+				propertiesCopy.add(propertyCopy);
+			}
+			IcConfigurationPropertiesImpl configurationPropertiesCopy = new IcConfigurationPropertiesImpl();
+			configurationPropertiesCopy.setProperties(propertiesCopy);
+			copy.setConfigurationProperties(configurationPropertiesCopy);
+		}
+		//
+		return copy;
+	}
+	
+	private static Object copyValue(Object value) {
+		if (value instanceof Object[]) {
+			return ((Object[]) value).clone();
+		}
+		return value;
+	}
+}
@@ -1,129 +1,183 @@
 package eu.bcvsolutions.idm.acc.dto;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.util.Assert;
 
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
 
 /**
- * Class for cache processed items in provisioning. There is stored only
- * timestamp
- * 
+ * Class for cache processed items in provisioning. Processed items are counted in sliding time window
+ * (period from provisioning break configuration) for each provisioning type.
+ * Window is split into fixed count of time buckets (ring buffer) => size of cached item is constant regardless of
+ * count of processed items.
+ *
  * @author Ondrej Kopr
+ * @author Radek Tomiška
  *
  */
 public class SysProvisioningBreakItems implements Serializable {
-	
-	private static final long serialVersionUID = 1L;
+
+	private static final long serialVersionUID = 2L;
+	public static final int BUCKET_COUNT = 60; // window is split to 60 buckets
 	//
-	private final Map<ProvisioningEventType, List<Long>> executedItems;
+	private final Map<ProvisioningEventType, SlidingWindowCounter> counters;
 
 	public SysProvisioningBreakItems() {
-		this.executedItems = new HashMap<>();
-		this.executedItems.put(ProvisioningEventType.CREATE, Collections.synchronizedList(new LinkedList<Long>()));
-		this.executedItems.put(ProvisioningEventType.DELETE, Collections.synchronizedList(new LinkedList<Long>()));
-		this.executedItems.put(ProvisioningEventType.UPDATE, Collections.synchronizedList(new LinkedList<Long>()));
-	}
-
-	/**
-	 * Add new item to executed items for specific provisioning type
-	 * 
-	 * @param event
-	 * @param timestamp
-	 */
-	public void addItem(ProvisioningEventType provisioningType, Long timestamp) {
-		this.getExecutedItems(provisioningType).add(timestamp);
+		this.counters = new EnumMap<>(ProvisioningEventType.class);
+		this.counters.put(ProvisioningEventType.CREATE, new SlidingWindowCounter());
+		this.counters.put(ProvisioningEventType.DELETE, new SlidingWindowCounter());
+		this.counters.put(ProvisioningEventType.UPDATE, new SlidingWindowCounter());
 	}
 
 	/**
-	 * Return executed items for specific provisioning type
-	 * 
-	 * @param provisioningType
-	 * @return
+	 * Add new item to executed items for specific provisioning type.
+	 *
+	 * @param provisioningType provisioning type
+	 * @param timestamp item timestamp
+	 * @param period window period in milliseconds - counter is reset, when period is changed
+	 * @since 11.0.0
 	 */
-	public synchronized List<Long> getExecutedItems(ProvisioningEventType provisioningType) {
-		return this.executedItems.get(provisioningType);
+	public void addItem(ProvisioningEventType provisioningType, long timestamp, long period) {
+		getCounter(provisioningType).add(timestamp, period);
 	}
 
 	/**
-	 * Get size of all processed items for specific provisioning type
-	 * 
-	 * @param provisioningType
-	 * @return
+	 * Get size of all processed items in the last window (till now) for specific provisioning type.
+	 *
+	 * @param provisioningType provisioning type
+	 * @return count of processed items
 	 */
 	public int getSize(ProvisioningEventType provisioningType) {
-		return this.getExecutedItems(provisioningType).size();
+		return getCounter(provisioningType).size();
 	}
 
 	/**
-	 * Remove all order items that given timestamp for specific provisioning
-	 * type
-	 * 
-	 * @param provisioningType
-	 * @param timestamp
+	 * Return count of processed items in window (timestamp - period, timestamp] for specific provisioning type.
+	 * Bucket partially overlapping the window is counted whole (~ counter is rather higher).
+	 *
+	 * @param provisioningType provisioning type
+	 * @param timestamp window end (e.g. current time)
+	 * @param period window period in milliseconds
+	 * @return count of processed items
+	 * @since 11.0.0
 	 */
-	public void removeOlderRecordsThan(ProvisioningEventType provisioningType, Long timestamp) {
-		this.getExecutedItems(provisioningType).removeIf(item -> item < timestamp);
+	public int getSize(ProvisioningEventType provisioningType, long timestamp, long period) {
+		return getCounter(provisioningType).count(timestamp, period);
 	}
-	
+
 	/**
-	 * Return timestamp different between first and actual timestamp given in
-	 * parameter, if actualParameter will be null return diff between fisrt and
-	 * last timestamp in list.
-	 * 
-	 * @return
+	 * Return time difference between the first item in window and given timestamp.
+	 *
+	 * @param provisioningType provisioning type
+	 * @param timestamp window end (e.g. current time)
+	 * @param period window period in milliseconds
+	 * @return difference in milliseconds, {@code null} if window is empty
+	 * @since 11.0.0
 	 */
-	public Long getDiffBetweenActualAndLast(ProvisioningEventType provisioningType, Long actualTimestamp) {
-		if (this.getSize(provisioningType) == 0) {
+	public Long getDiffBetweenActualAndFirst(ProvisioningEventType provisioningType, long timestamp, long period) {
+		Long first = getCounter(provisioningType).first(timestamp, period);
+		if (first == null) {
 			return null;
 		}
-		Long first = this.getExecutedItems(provisioningType).get(0);
-		Long last = actualTimestamp;
-		if (last == null) {
-			last = this.getExecutedItems(provisioningType).get(this.getSize(provisioningType) - 1);
-		}
-		return last - first;
+		return timestamp - first;
 	}
 
 	/**
-	 * Return all processed items newer than timestamp for specific provisioning
-	 * type
-	 * 
+	 * Clear all records for given {@link ProvisioningEventType}
+	 *
 	 * @param provisioningType
-	 * @param timestamp
-	 * @return
 	 */
-	public List<Long> getRecordsNewerThan(ProvisioningEventType provisioningType, Long timestamp) {
-		return this.getExecutedItems(provisioningType).stream().filter(item -> item >= timestamp)
-				.collect(Collectors.toList());
+	public void clearRecords(ProvisioningEventType provisioningType) {
+		Assert.notNull(provisioningType, "Provisioning type is required.");
+		getCounter(provisioningType).clear();
 	}
 
-	/**
-	 * Return size all processed items newer than timestamp for specific
-	 * provisioning type
-	 * 
-	 * @param provisioningType
-	 * @param timestamp
-	 * @return
-	 */
-	public int getSizeRecordsNewerThan(ProvisioningEventType provisioningType, Long timestamp) {
-		return getRecordsNewerThan(provisioningType, timestamp).size();
+	private SlidingWindowCounter getCounter(ProvisioningEventType provisioningType) {
+		SlidingWindowCounter counter = counters.get(provisioningType);
+		Assert.notNull(counter, String.format("Provisioning type [%s] is not supported.", provisioningType));
+		//
+		return counter;
 	}
-	
+
 	/**
-	 * Clear all records for given {@link ProvisioningEventType}
-	 * 
-	 * @param provisioningType
+	 * Time bucketed sliding window counter.
 	 */
-	public void clearRecords(ProvisioningEventType provisioningType) {
-		Assert.notNull(provisioningType, "Provisioning type is required.");
-		this.getExecutedItems(provisioningType).clear();
+	private static class SlidingWindowCounter implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+		//
+		private long period = 0;
+		private final long[] bucketStarts = new long[BUCKET_COUNT];
+		private final int[] counts = new int[BUCKET_COUNT];
+
+		synchronized void add(long timestamp, long period) {
+			if (this.period != period) {
+				reset(period);
+			}
+			long width = getBucketWidth();
+			long bucketStart = timestamp - Math.floorMod(timestamp, width);
+			int index = (int) Math.floorMod(bucketStart / width, (long) BUCKET_COUNT);
+			if (bucketStarts[index] != bucketStart) {
+				// bucket from the previous window is reused
+				bucketStarts[index] = bucketStart;
+				counts[index] = 0;
+			}
+			counts[index]++;
+		}
+
+		synchronized int count(long timestamp, long period) {
+			if (this.period != period) {
+				return 0;
+			}
+			long width = getBucketWidth();
+			long windowStart = timestamp - period;
+			int count = 0;
+			for (int index = 0; index < BUCKET_COUNT; index++) {
+				if (counts[index] > 0 && bucketStarts[index] + width > windowStart && bucketStarts[index] <= timestamp) {
+					count += counts[index];
+				}
+			}
+			return count;
+		}
+
+		synchronized Long first(long timestamp, long period) {
+			if (this.period != period) {
+				return null;
+			}
+			long width = getBucketWidth();
+			long windowStart = timestamp - period;
+			Long first = null;
+			for (int index = 0; index < BUCKET_COUNT; index++) {
+				if (counts[index] > 0
+						&& bucketStarts[index] + width > windowStart
+						&& bucketStarts[index] <= timestamp
+						&& (first == null || bucketStarts[index] < first)) {
+					first = bucketStarts[index];
+				}
+			}
+			return first;
+		}
+
+		synchronized int size() {
+			return count(System.currentTimeMillis(), period);
+		}
+
+		synchronized void clear() {
+			reset(period);
+		}
+
+		private void reset(long period) {
+			this.period = period;
+			Arrays.fill(bucketStarts, 0);
+			Arrays.fill(counts, 0);
+		}
+
+		private long getBucketWidth() {
+			return Math.max(1, (period + BUCKET_COUNT - 1) / BUCKET_COUNT);
+		}
 	}
 }
@@ -12,6 +12,7 @@ import javax.validation.constraints.NotNull;
 
 import java.time.ZonedDateTime;
 
+import eu.bcvsolutions.idm.core.api.domain.DefaultFieldLengths;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
 
 /**
@@ -38,6 +39,13 @@ public class SysProvisioningBatch extends AbstractEntity {
 	
 	@Column(name = "next_attempt")
 	private ZonedDateTime nextAttempt;
+	
+	// claim is changed by repository only (~ not by batch save)
+	@Column(name = "claimed_by", length = DefaultFieldLengths.NAME, insertable = false, updatable = false)
+	private String claimedBy; // server instance
+	
+	@Column(name = "claimed_until", insertable = false, updatable = false)
+	private ZonedDateTime claimedUntil;
 
 	public ZonedDateTime getNextAttempt() {
 		return nextAttempt;
@@ -54,4 +62,24 @@ public class SysProvisioningBatch extends AbstractEntity {
 	public void setSystemEntity(SysSystemEntity systemEntity) {
 		this.systemEntity = systemEntity;
 	}
+	
+	/**
+	 * Server instance, which executes batch operations.
+	 * 
+	 * @return server instance identifier
+	 * @since 11.0.0
+	 */
+	public String getClaimedBy() {
+		return claimedBy;
+	}
+	
+	/**
+	 * Claim of server instance expires after this date (e.g. server instance was killed).
+	 * 
+	 * @return claim expiration
+	 * @since 11.0.0
+	 */
+	public ZonedDateTime getClaimedUntil() {
+		return claimedUntil;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package eu.bcvsolutions.idm.acc.entity;
+
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import eu.bcvsolutions.idm.core.api.domain.DefaultFieldLengths;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
+
+/**
+ * Account uid returned from the target system in reconciliation.
+ * - uids are staged during reconciliation run only (~ processed items of the given synchronization log)
+ * - missing accounts are found by database query against staged uids
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Entity
+@Table(name = "sys_sync_reconciliation_uid", indexes = {
+		@Index(name = "idx_sys_sync_rec_uid_log_uid", columnList = "sync_log_id,uid")
+		})
+public class SysSyncReconciliationUid extends AbstractEntity {
+
+	private static final long serialVersionUID = 1L;
+	
+	@NotNull
+	@Column(name = "sync_log_id", length = 16, nullable = false)
+	private UUID syncLogId; // synchronization log id
+	
+	@Size(min = 1, max = DefaultFieldLengths.UID)
+	@Column(name = "uid", length = DefaultFieldLengths.UID, nullable = false)
+	private String uid; // account uid on target system
+	
+	public SysSyncReconciliationUid() {
+	}
+	
+	public SysSyncReconciliationUid(UUID syncLogId, String uid) {
+		this.syncLogId = syncLogId;
+		this.uid = uid;
+	}
+	
+	/**
+	 * Synchronization log identifier.
+	 * 
+	 * @see SysSyncLog
+	 * @return
+	 */
+	public UUID getSyncLogId() {
+		return syncLogId;
+	}
+	
+	/**
+	 * Synchronization log identifier.
+	 * 
+	 * @see SysSyncLog
+	 * @param syncLogId
+	 */
+	public void setSyncLogId(UUID syncLogId) {
+		this.syncLogId = syncLogId;
+	}
+	
+	/**
+	 * Account uid on target system.
+	 * 
+	 * @return
+	 */
+	public String getUid() {
+		return uid;
+	}
+	
+	/**
+	 * Account uid on target system.
+	 * 
+	 * @param uid
+	 */
+	public void setUid(String uid) {
+		this.uid = uid;
+	}
+}
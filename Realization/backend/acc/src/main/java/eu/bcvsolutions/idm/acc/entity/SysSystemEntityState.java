@@ -0,0 +1,81 @@
+package eu.bcvsolutions.idm.acc.entity;
+
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
+import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
+
+/**
+ * Last provisioned account attributes of system entity - used instead of reading account from target system.
+ * State is stored in separate table => state is not loaded with system entity.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Entity
+@Table(name = "sys_system_entity_state", indexes = {
+		@Index(name = "ux_sys_system_entity_state_se", columnList = "system_entity_id", unique = true)
+		})
+public class SysSystemEntityState extends AbstractEntity {
+
+	private static final long serialVersionUID = 1L;
+	
+	@NotNull
+	@Column(name = "system_entity_id", length = 16, nullable = false)
+	private UUID systemEntityId; // system entity id
+	
+	@NotNull
+	@Column(name = "provisioned_state", length = Integer.MAX_VALUE, nullable = false)
+	private IcConnectorObject provisionedState; // last provisioned attributes
+	
+	public SysSystemEntityState() {
+	}
+	
+	public SysSystemEntityState(UUID systemEntityId) {
+		this.systemEntityId = systemEntityId;
+	}
+	
+	/**
+	 * System entity identifier.
+	 * 
+	 * @see SysSystemEntity
+	 * @return
+	 */
+	public UUID getSystemEntityId() {
+		return systemEntityId;
+	}
+	
+	/**
+	 * System entity identifier.
+	 * 
+	 * @see SysSystemEntity
+	 * @param systemEntityId
+	 */
+	public void setSystemEntityId(UUID systemEntityId) {
+		this.systemEntityId = systemEntityId;
+	}
+	
+	/**
+	 * Last provisioned account attributes on target system (confidential attributes are not stored).
+	 * 
+	 * @return
+	 */
+	public IcConnectorObject getProvisionedState() {
+		return provisionedState;
+	}
+	
+	/**
+	 * Last provisioned account attributes on target system (confidential attributes are not stored).
+	 * 
+	 * @param provisionedState
+	 */
+	public void setProvisionedState(IcConnectorObject provisionedState) {
+		this.provisionedState = provisionedState;
+	}
+}
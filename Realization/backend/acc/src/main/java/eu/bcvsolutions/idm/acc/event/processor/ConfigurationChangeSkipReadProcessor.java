@@ -0,0 +1,100 @@
+package eu.bcvsolutions.idm.acc.event.processor;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemEntityService;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
+import eu.bcvsolutions.idm.core.api.dto.IdmConfigurationDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.ConfigurationProcessor;
+import eu.bcvsolutions.idm.core.model.event.ConfigurationEvent.ConfigurationEventType;
+
+/**
+ * When skip read is changed, then last provisioned states of accounts on target system (or on all systems) are cleared in bulk.
+ * Accounts are provisioned without storing state, when skip read is disabled - stale state cannot be used, 
+ * when skip read will be enabled again.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(ConfigurationChangeSkipReadProcessor.PROCESSOR_NAME)
+@Description("When skip read is changed, then last provisioned states of accounts are cleared.")
+public class ConfigurationChangeSkipReadProcessor
+		extends CoreEventProcessor<IdmConfigurationDto> 
+		implements ConfigurationProcessor {
+	
+	public static final String PROCESSOR_NAME = "acc-configuration-change-skip-read-processor";
+	private static final Logger LOG = LoggerFactory.getLogger(ConfigurationChangeSkipReadProcessor.class);
+	//
+	@Autowired private SysSystemService systemService;
+	@Autowired private SysSystemEntityService systemEntityService;
+	
+	public ConfigurationChangeSkipReadProcessor() {
+		super(ConfigurationEventType.UPDATE, ConfigurationEventType.CREATE, ConfigurationEventType.DELETE);
+	}
+	
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+	
+	@Override
+	public boolean conditional(EntityEvent<IdmConfigurationDto> event) {
+		if (!super.conditional(event)) {
+			return false;
+		}
+		String propertyName = event.getContent().getName();
+		//
+		return propertyName.equals(ProvisioningConfiguration.PROPERTY_SYSTEM_SKIP_READ)
+				|| propertyName.startsWith(ProvisioningConfiguration.PROPERTY_SYSTEM_SKIP_READ + ".");
+	}
+
+	@Override
+	public EventResult<IdmConfigurationDto> process(EntityEvent<IdmConfigurationDto> event) {
+		IdmConfigurationDto configuration = event.getContent();
+		IdmConfigurationDto previousConfiguration = event.getOriginalSource();
+		if (event.hasType(ConfigurationEventType.UPDATE)
+				&& previousConfiguration != null
+				&& Objects.equals(previousConfiguration.getName(), configuration.getName())
+				&& Objects.equals(previousConfiguration.getValue(), configuration.getValue())) {
+			// skip read is not changed (e.g. description only) => states are still valid
+			return new DefaultEventResult<>(event, this);
+		}
+		String propertyName = configuration.getName();
+		if (propertyName.equals(ProvisioningConfiguration.PROPERTY_SYSTEM_SKIP_READ)) {
+			// default for all systems
+			int count = systemEntityService.clearProvisionedStates(null);
+			LOG.info("Skip read configuration changed, [{}] provisioned states on all systems were cleared.", count);
+			//
+			return new DefaultEventResult<>(event, this);
+		}
+		String systemCode = propertyName.substring(ProvisioningConfiguration.PROPERTY_SYSTEM_SKIP_READ.length() + 1);
+		SysSystemDto system = systemService.getByCode(systemCode);
+		if (system == null) {
+			LOG.debug("System with code [{}] not found, provisioned states will not be cleared.", systemCode);
+			//
+			return new DefaultEventResult<>(event, this);
+		}
+		int count = systemEntityService.clearProvisionedStates(system.getId());
+		LOG.info("Skip read configuration of system [{}] changed, [{}] provisioned states were cleared.", systemCode, count);
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
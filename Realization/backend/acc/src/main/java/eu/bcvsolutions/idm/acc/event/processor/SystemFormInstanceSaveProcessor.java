@@ -0,0 +1,62 @@
+package eu.bcvsolutions.idm.acc.event.processor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.acc.entity.SysSystem;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent.CoreEventType;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.utils.EntityUtils;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
+import eu.bcvsolutions.idm.core.eav.api.event.processor.FormInstanceProcessor;
+
+/**
+ * Evict cached connector configuration, after system form values (connector configuration, pooling, operation options) are saved.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(SystemFormInstanceSaveProcessor.PROCESSOR_NAME)
+@Description("Evict cached connector configuration, after system form values are saved.")
+public class SystemFormInstanceSaveProcessor 
+		extends CoreEventProcessor<IdmFormInstanceDto>
+		implements FormInstanceProcessor {
+
+	public static final String PROCESSOR_NAME = "acc-system-form-instance-save-processor";
+	//
+	@Autowired private SysSystemService systemService;
+	
+	public SystemFormInstanceSaveProcessor() {
+		super(CoreEventType.UPDATE); // eavs are updated for CUD
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+	
+	@Override
+	public boolean conditional(EntityEvent<IdmFormInstanceDto> event) {
+		return super.conditional(event)
+				&& SysSystem.class.equals(event.getContent().getOwnerType());
+	}
+
+	@Override
+	public EventResult<IdmFormInstanceDto> process(EntityEvent<IdmFormInstanceDto> event) {
+		systemService.evictConnectorConfiguration(EntityUtils.toUuid(event.getContent().getOwnerId()));
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		// after form instance is saved
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
@@ -13,6 +13,7 @@ import org.springframework.util.Assert;
 import com.google.common.collect.ImmutableMap;
 
 import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
+import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
@@ -64,6 +65,7 @@ public abstract class AbstractProvisioningProcessor extends AbstractEntityEventP
 	@Autowired private SysSystemAttributeMappingService systemAttributeMappingService;
 	@Autowired private AccAccountService accountService;
 	@Autowired private PasswordFilterManager passwordFilterManager;
+	@Autowired private ProvisioningConfiguration provisioningConfiguration;
 
 	public AbstractProvisioningProcessor(
 			IcConnectorFacade connectorFacade,
@@ -159,10 +161,27 @@ public abstract class AbstractProvisioningProcessor extends AbstractEntityEventP
 					LOG.info("UID was changed. System entity with uid [{}] was updated", systemEntity.getUid());
 				}
 			}
+			// last provisioned state is used instead of reading account from target system
+			ProvisioningEventType operationType = provisioningOperation.getOperationType();
+			if (ProvisioningEventType.CREATE == operationType || ProvisioningEventType.UPDATE == operationType) {
+				// states are cleared in bulk, when skip read is disabled (see ConfigurationChangeSkipReadProcessor)
+				if (provisioningConfiguration.isSkipRead(system)) {
+					systemEntityService.saveProvisionedState(systemEntity, connectorObject, ProvisioningEventType.UPDATE == operationType);
+				}
+			}
 			
 			provisioningOperation = provisioningOperationService.handleSuccessful(provisioningOperation);
 		} catch (Exception ex) {
 			provisioningOperation = provisioningOperationService.handleFailed(provisioningOperation, ex);
+			if (provisioningConfiguration.isSkipRead(system)) {
+				try {
+					// account will be read from target system in next provisioning operation
+					systemEntityService.saveProvisionedState(systemEntity, null, false);
+				} catch (Exception clearEx) {
+					// original exception is already persisted in provisioning operation
+					LOG.warn("Provisioned state of system entity with uid [{}] was not cleared.", systemEntity.getUid(), clearEx);
+				}
+			}
 			if (processEcho) {
 				// Clear echo record about password change
 				accountIds.forEach(accountId -> {
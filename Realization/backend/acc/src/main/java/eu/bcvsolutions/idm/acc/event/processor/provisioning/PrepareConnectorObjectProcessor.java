@@ -94,6 +94,7 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 	private final SysSystemAttributeMappingService attributeMappingService;
 	private final IcConnectorFacade connectorFacade;
 	private final SysSystemService systemService;
+	private final SysSystemEntityService systemEntityService;
 	private final SysProvisioningOperationService provisioningOperationService;
 	private final SysSchemaAttributeService schemaAttributeService;
 	private final SysSchemaObjectClassService schemaObjectClassService;
@@ -134,6 +135,7 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 		this.attributeMappingService = attributeMappingService;
 		this.connectorFacade = connectorFacade;
 		this.systemService = systemService;
+		this.systemEntityService = systemEntityService;
 		this.provisioningOperationService = provisioningOperationService;
 		this.schemaAttributeService = schemaAttributeService;
 		this.schemaObjectClassService = schemaObjectClassService;
@@ -176,12 +178,22 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 		//
 		try {
 			IcConnectorObject existsConnectorObject = null;
-			// We do not want search account on the target system, when this is the first
-			// call the connector and auto mapping is not allowed.
-			if (!isWish || provisioningConfiguration.isAllowedAutoMappingOnExistingAccount()) {
+			boolean skipRead = provisioningConfiguration.isSkipRead(system);
+			IcConnectorObject provisionedState = skipRead && !isWish ? systemEntityService.getProvisionedState(systemEntity) : null;
+			if (provisionedState != null) {
+				// Last provisioned state is used instead of reading account from the target system.
+				LOG.debug("Last provisioned state of object with uid [{}] will be used, account will not be read from the target system.", uid);
+				existsConnectorObject = provisionedState;
+			} else if (!isWish || provisioningConfiguration.isAllowedAutoMappingOnExistingAccount()) {
+				// We do not want search account on the target system, when this is the first
+				// call the connector and auto mapping is not allowed.
 				IcUidAttribute uidAttribute = new IcUidAttributeImpl(null, uid, null);
 				existsConnectorObject = connectorFacade.readObject(systemService.getConnectorInstance(system), connectorConfig,
 						objectClass, uidAttribute);
+				if (skipRead && existsConnectorObject != null) {
+					// read account is used as the base state for next provisioning operations
+					systemEntityService.saveProvisionedState(systemEntity, existsConnectorObject, false);
+				}
 			}
 			if (existsConnectorObject == null) {
 				processCreate(provisioningOperation);
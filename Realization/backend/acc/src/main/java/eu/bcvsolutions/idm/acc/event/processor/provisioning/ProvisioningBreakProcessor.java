@@ -267,16 +267,13 @@ public class ProvisioningBreakProcessor extends AbstractEntityEventProcessor<Sys
 	private synchronized boolean processProvisioningBreak(SysProvisioningOperationDto provisioningOperation,
 			ProvisioningEventType operationType, SysSystemDto system, SysProvisioningBreakConfigDto breakConfig) {
 		boolean blocked = false;
-		Long currentTimeMillis = System.currentTimeMillis();
+		long currentTimeMillis = System.currentTimeMillis();
+		long period = breakConfig.getPeriod(TimeUnit.MILLISECONDS);
 		//
 		// get cache for system
 		SysProvisioningBreakItems cache = breakConfigService.getCacheProcessedItems(system.getId());
-		// calculate timestamp without period
-		Long timestampWithoutPeriod = currentTimeMillis - breakConfig.getPeriod(TimeUnit.MILLISECONDS);
-		// remove older records
-		cache.removeOlderRecordsThan(operationType, timestampWithoutPeriod);
-		// get actual count - processed items from timestampWithoutPeriod
-		int actualCount = cache.getSizeRecordsNewerThan(operationType, timestampWithoutPeriod);
+		// get actual count - processed items in period
+		int actualCount = cache.getSize(operationType, currentTimeMillis, period);
 		//
 		if (isReachedDisableLimit(breakConfig, actualCount)) {
 			// check count is higher than disable limit
@@ -291,7 +288,7 @@ public class ProvisioningBreakProcessor extends AbstractEntityEventProcessor<Sys
 			}
 			//
 			sendMessage(AccModuleDescriptor.TOPIC_PROVISIONING_BREAK_DISABLE, system, actualCount, template,
-					breakConfig, operationType, cache.getDiffBetweenActualAndLast(operationType, currentTimeMillis));
+					breakConfig, operationType, cache.getDiffBetweenActualAndFirst(operationType, currentTimeMillis, period));
 			//
 			LOG.warn("System id: [{}] will be blocked for operation: [{}].",
 					provisioningOperation.getSystem(), operationType.toString());
@@ -316,7 +313,7 @@ public class ProvisioningBreakProcessor extends AbstractEntityEventProcessor<Sys
 			}
 			//
 			sendMessage(AccModuleDescriptor.TOPIC_PROVISIONING_BREAK_WARNING, system, actualCount, template,
-					breakConfig, operationType, cache.getDiffBetweenActualAndLast(operationType, currentTimeMillis));
+					breakConfig, operationType, cache.getDiffBetweenActualAndFirst(operationType, currentTimeMillis, period));
 		} else if (isMoreThanWarningLimit(breakConfig, actualCount)) {
 			// after overrun warning limit, isn't send any another notification - add at least log
 			if (breakConfig.getDisableLimit() == null) {
@@ -327,8 +324,7 @@ public class ProvisioningBreakProcessor extends AbstractEntityEventProcessor<Sys
 						provisioningOperation.getSystem(), provisioningOperation.getOperationType().toString(), breakConfig.getDisableLimit() - actualCount);
 			}
 		}
-		// remove all unless items in cache
-		cache.addItem(operationType, currentTimeMillis);
+		cache.addItem(operationType, currentTimeMillis, period);
 		breakConfigService.saveCacheProcessedItems(provisioningOperation.getSystem(), cache);
 		
 		return blocked;
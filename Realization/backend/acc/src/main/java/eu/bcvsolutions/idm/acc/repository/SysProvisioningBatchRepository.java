@@ -83,4 +83,35 @@ public interface SysProvisioningBatchRepository extends AbstractEntityRepository
 	@Modifying(clearAutomatically = true)
 	@Query("update SysProvisioningOperation o set o.batch = :newBatch where o.batch = :oldBatch")
 	int mergeBatch(@Param("oldBatch") SysProvisioningBatch oldBatch, @Param("newBatch") SysProvisioningBatch newBatch);
+	
+	/**
+	 * Claim batch for given server instance - batch is not claimed, claimed by given instance already or claim expired.
+	 * 
+	 * @param id batch identifier
+	 * @param instanceId server instance identifier
+	 * @param claimedUntil claim expiration
+	 * @param now current date
+	 * @return 1 - batch was claimed, 0 - batch is claimed by other instance
+	 * @since 11.0.0
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update #{#entityName} e set e.claimedBy = :instanceId, e.claimedUntil = :claimedUntil"
+			+ " where e.id = :id and (e.claimedBy is null or e.claimedBy = :instanceId or e.claimedUntil < :now)")
+	int claim(
+			@Param("id") UUID id, 
+			@Param("instanceId") String instanceId, 
+			@Param("claimedUntil") ZonedDateTime claimedUntil, 
+			@Param("now") ZonedDateTime now);
+	
+	/**
+	 * Release batch claimed by given server instance.
+	 * 
+	 * @param id batch identifier
+	 * @param instanceId server instance identifier
+	 * @return 1 - claim was released
+	 * @since 11.0.0
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update #{#entityName} e set e.claimedBy = null, e.claimedUntil = null where e.id = :id and e.claimedBy = :instanceId")
+	int release(@Param("id") UUID id, @Param("instanceId") String instanceId);
 }
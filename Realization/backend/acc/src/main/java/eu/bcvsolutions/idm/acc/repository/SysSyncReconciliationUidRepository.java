@@ -0,0 +1,67 @@
+package eu.bcvsolutions.idm.acc.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import eu.bcvsolutions.idm.acc.entity.SysSyncReconciliationUid;
+import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
+
+/**
+ * Account uids returned from the target system in reconciliation.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface SysSyncReconciliationUidRepository extends AbstractEntityRepository<SysSyncReconciliationUid> {
+	
+	/**
+	 * Accounts on given system, which uids were not returned from the target system in given reconciliation run.
+	 * Account identifiers are ordered by id (~ keyset pagination is supported).
+	 * 
+	 * @param syncLogId synchronization log identifier
+	 * @param systemId system identifier
+	 * @param pageable page size
+	 * @return account identifiers
+	 */
+	@Query("select e.id from AccAccount e left join e.systemEntity se where e.system.id = :systemId"
+			+ " and not exists (select u.id from #{#entityName} u where u.syncLogId = :syncLogId and u.uid = coalesce(se.uid, e.uid))"
+			+ " order by e.id asc")
+	List<UUID> findMissingAccounts(
+			@Param("syncLogId") UUID syncLogId, 
+			@Param("systemId") UUID systemId,
+			Pageable pageable);
+	
+	/**
+	 * Accounts on given system, which uids were not returned from the target system in given reconciliation run.
+	 * Account identifiers greater than given identifier are returned ordered by id (~ next keyset page).
+	 * 
+	 * @param syncLogId synchronization log identifier
+	 * @param systemId system identifier
+	 * @param idFrom last processed account identifier (exclusive)
+	 * @param pageable page size
+	 * @return account identifiers
+	 */
+	@Query("select e.id from AccAccount e left join e.systemEntity se where e.system.id = :systemId and e.id > :idFrom"
+			+ " and not exists (select u.id from #{#entityName} u where u.syncLogId = :syncLogId and u.uid = coalesce(se.uid, e.uid))"
+			+ " order by e.id asc")
+	List<UUID> findMissingAccounts(
+			@Param("syncLogId") UUID syncLogId, 
+			@Param("systemId") UUID systemId,
+			@Param("idFrom") UUID idFrom,
+			Pageable pageable);
+	
+	/**
+	 * Delete all uids staged for given synchronization log.
+	 * 
+	 * @param syncLogId
+	 * @return
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.syncLogId = :syncLogId")
+	int deleteBySyncLogId(@Param("syncLogId") UUID syncLogId);
+}
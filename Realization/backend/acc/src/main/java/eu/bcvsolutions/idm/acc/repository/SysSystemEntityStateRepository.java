@@ -0,0 +1,64 @@
+package eu.bcvsolutions.idm.acc.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import eu.bcvsolutions.idm.acc.entity.SysSystemEntityState;
+import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
+
+/**
+ * Last provisioned account attributes of system entity.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface SysSystemEntityStateRepository extends AbstractEntityRepository<SysSystemEntityState> {
+	
+	/**
+	 * State of given system entity.
+	 * 
+	 * @param systemEntityId system entity identifier
+	 * @return state or {@code null}
+	 */
+	SysSystemEntityState findOneBySystemEntityId(UUID systemEntityId);
+	
+	/**
+	 * Count of states of given system entity (state is not loaded).
+	 * 
+	 * @param systemEntityId system entity identifier
+	 * @return count of states
+	 */
+	Long countBySystemEntityId(UUID systemEntityId);
+	
+	/**
+	 * Delete state of given system entity.
+	 * 
+	 * @param systemEntityId system entity identifier
+	 * @return count of deleted states
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.systemEntityId = :systemEntityId")
+	int deleteBySystemEntityId(@Param("systemEntityId") UUID systemEntityId);
+	
+	/**
+	 * Delete states of all system entities of given system.
+	 * 
+	 * @param systemId system identifier
+	 * @return count of deleted states
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.systemEntityId in (select se.id from SysSystemEntity se where se.system.id = :systemId)")
+	int deleteBySystemId(@Param("systemId") UUID systemId);
+	
+	/**
+	 * Delete states of all system entities.
+	 * 
+	 * @return count of deleted states
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e")
+	int deleteAllStates();
+}
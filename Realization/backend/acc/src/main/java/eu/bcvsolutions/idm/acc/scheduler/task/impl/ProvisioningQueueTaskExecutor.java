@@ -13,6 +13,7 @@ import org.springframework.stereotype.Component;
 
 import com.google.common.collect.Lists;
 
+import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningBatchDto;
 import eu.bcvsolutions.idm.acc.service.api.ProvisioningExecutor;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningBatchService;
@@ -25,9 +26,11 @@ import eu.bcvsolutions.idm.core.scheduler.api.service.AbstractSchedulableStatefu
 
 /**
  * Process provisioning operations in queue periodically.
+ * Batches can be processed by more workers - batches for the same system entity are executed in order, 
+ * batches for different systems are executed concurrently (with configured concurrency for each system).
  * 
  * @author Radek Tomiška
- *
+ * @see ProvisioningConfiguration#getQueueWorkers()
  */
 @DisallowConcurrentExecution
 @PersistJobDataAfterExecution
@@ -40,6 +43,7 @@ public class ProvisioningQueueTaskExecutor extends AbstractSchedulableStatefulEx
 	//
 	@Autowired private ProvisioningExecutor provisioningExecutor;	
 	@Autowired private SysProvisioningBatchService provisioningBatchService;
+	@Autowired private ProvisioningConfiguration provisioningConfiguration;
 	//
 	private Boolean virtualSystem; // configured virtual system
 	
@@ -52,6 +56,13 @@ public class ProvisioningQueueTaskExecutor extends AbstractSchedulableStatefulEx
 	public void init(Map<String, Object> properties) {
 		super.init(properties);
 		virtualSystem = getParameterConverter().toBoolean(properties, PARAMETER_VIRTUAL);
+		//
+		int queueWorkers = provisioningConfiguration.getQueueWorkers();
+		if (queueWorkers > 1) {
+			// batch is claimed and executed outside a transaction => parallel workers are safe
+			setRequireNewTransaction(true);
+			setParallelism(queueWorkers);
+		}
 	}
 	
 	@Override
@@ -76,7 +87,7 @@ public class ProvisioningQueueTaskExecutor extends AbstractSchedulableStatefulEx
 
 	@Override
 	public Page<SysProvisioningBatchDto> getItemsToProcess(Pageable pageable) {
-		// TODO: we want to execute provisioning in more threads - we aren't using pagination here to prevent collisions
+		// batches are claimed by executor - we aren't using pagination here to prevent collisions
 		// TODO: we can add Sort by some priority (CREATE ... etc.)
 		// TODO: we can add algorithm to reduce / merge provisioning operations by system entity
 		return provisioningBatchService.findBatchesToProcess(virtualSystem, null);
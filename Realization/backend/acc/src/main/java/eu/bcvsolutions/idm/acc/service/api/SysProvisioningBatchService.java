@@ -53,4 +53,24 @@ public interface SysProvisioningBatchService extends ReadWriteDtoService<SysProv
 	 * @return
 	 */
 	SysProvisioningBatchDto findBatch(UUID systemEntity);
+	
+	/**
+	 * Claim batch for the current server instance - batch operations can be executed by one server instance only.
+	 * Claim can be renewed by the same server instance. Claim is released after batch is executed
+	 * or expires after given lease time (e.g. server instance was killed).
+	 * 
+	 * @param batchId batch identifier
+	 * @param leaseTime claim expiration in milliseconds
+	 * @return true - batch was claimed by the current server instance, false - batch is claimed by other server instance
+	 * @since 11.0.0
+	 */
+	boolean claimBatch(UUID batchId, long leaseTime);
+	
+	/**
+	 * Release batch claimed by the current server instance.
+	 * 
+	 * @param batchId batch identifier
+	 * @since 11.0.0
+	 */
+	void releaseBatch(UUID batchId);
 }
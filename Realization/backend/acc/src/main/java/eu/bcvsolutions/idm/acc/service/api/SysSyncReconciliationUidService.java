@@ -0,0 +1,46 @@
+package eu.bcvsolutions.idm.acc.service.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import eu.bcvsolutions.idm.acc.repository.SysSyncReconciliationUidRepository;
+
+/**
+ * Helper service only - account uids returned from the target system are staged in database during reconciliation,
+ * missing accounts are found by query (uids are not held in memory).
+ * 
+ * @see SysSyncReconciliationUidRepository
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface SysSyncReconciliationUidService {
+	
+	/**
+	 * Stage uids returned from the target system in given reconciliation run.
+	 * 
+	 * @param syncLogId synchronization log identifier
+	 * @param uids account uids
+	 */
+	void saveUids(UUID syncLogId, Collection<String> uids);
+	
+	/**
+	 * Accounts on given system, which uids were not staged in given reconciliation run.
+	 * Account identifiers are ordered by id => use the last returned identifier as {@code idFrom} to get next page.
+	 * 
+	 * @param syncLogId synchronization log identifier
+	 * @param systemId system identifier
+	 * @param idFrom last processed account identifier (exclusive) - {@code null} for the first page
+	 * @param size page size
+	 * @return account identifiers
+	 */
+	List<UUID> findMissingAccounts(UUID syncLogId, UUID systemId, UUID idFrom, int size);
+	
+	/**
+	 * Delete all uids staged in given reconciliation run.
+	 * 
+	 * @param syncLogId synchronization log identifier
+	 * @return count of deleted uids
+	 */
+	int deleteUids(UUID syncLogId);
+}
@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.acc.service.api;
 
+import java.util.UUID;
+
 import eu.bcvsolutions.idm.acc.domain.ProvisioningOperation;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
@@ -43,4 +45,33 @@ public interface SysSystemEntityService extends ReadWriteDtoService<SysSystemEnt
 	 */
 	IcConnectorObject getConnectorObject(SysSystemEntityDto systemEntity, BasePermission... permissions);
 	
+	/**
+	 * Last provisioned state of account on target system. State is not loaded with system entity - can be big.
+	 * 
+	 * @param systemEntity system entity
+	 * @return last provisioned state, {@code null} - state is not available (account will be read from target system)
+	 * @since 11.0.0
+	 */
+	IcConnectorObject getProvisionedState(SysSystemEntityDto systemEntity);
+	
+	/**
+	 * Save last provisioned state of account on target system. 
+	 * Confidential attributes (passwords) are not stored.
+	 * 
+	 * @param systemEntity system entity
+	 * @param connectorObject provisioned attributes, {@code null} - state will be cleared (account will be read from target system)
+	 * @param merge true - given attributes will be merged into previously stored state (e.g. update operation with changed attributes only)
+	 * @since 11.0.0
+	 */
+	void saveProvisionedState(SysSystemEntityDto systemEntity, IcConnectorObject connectorObject, boolean merge);
+	
+	/**
+	 * Clear last provisioned states of all accounts on given target system (e.g. when skip read is disabled).
+	 * 
+	 * @param systemId target system identifier, {@code null} - states on all systems will be cleared
+	 * @return count of cleared states
+	 * @since 11.0.0
+	 */
+	int clearProvisionedStates(UUID systemId);
+
 }
@@ -4,6 +4,7 @@ import eu.bcvsolutions.idm.core.api.script.ScriptEnabled;
 import java.util.List;
 import java.util.UUID;
 
+import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaObjectClassDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
 import eu.bcvsolutions.idm.acc.dto.filter.SysSystemFilter;
@@ -46,6 +47,18 @@ public interface SysSystemService extends
 	String MAX_WAIT_PROPERTY = "maxWait";
 	String MAX_WAIT_NAME = "Max time to wait";
 	String MIN_TIME_TO_EVIC_PROPERTY = "minEvictableIdleTimeMillis";
+	/**
+	 * Compiled connector configuration snapshots (local).
+	 * 
+	 * @since 11.0.0
+	 */
+	String CONNECTOR_CONFIGURATION_CACHE_NAME = AccModuleDescriptor.MODULE_ID + ":connector-configuration-cache";
+	/**
+	 * Connector configuration versions (distributed) - snapshot is evicted on all server instances, when version is evicted.
+	 * 
+	 * @since 11.0.0
+	 */
+	String CONNECTOR_CONFIGURATION_VERSION_CACHE_NAME = AccModuleDescriptor.MODULE_ID + ":connector-configuration-version-cache";
 	String MIN_TIME_TO_EVIC_NAME = "Minimum time to wait before evicting";
 
 	
@@ -60,12 +73,21 @@ public interface SysSystemService extends
 	List<SysSchemaObjectClassDto> generateSchema(SysSystemDto system);
 
 	/**
-	 * Returns connector configuration for given system
+	 * Returns connector configuration for given system.
+	 * Configuration is cached - returned configuration is shared, don't modify it.
 	 * 
 	 * @param system
 	 * @return
 	 */
 	IcConnectorConfiguration getConnectorConfiguration(SysSystemDto system);
+	
+	/**
+	 * Evict cached connector configuration for given system (on all server instances).
+	 * 
+	 * @param systemId system identifier
+	 * @since 11.0.0
+	 */
+	void evictConnectorConfiguration(UUID systemId);
 
 	/**
 	 * Returns form definition to given connector key. If no definition for
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -749,7 +750,10 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 	}
 
 	/**
-	 * Prepare all mapped attribute values (= account)
+	 * Prepare all mapped attribute values (= account).
+	 * 
+	 * Schema attributes are resolved and merge attributes are grouped once (~ mapping plan), then all attributes are evaluated 
+	 * in a single pass with shared mapping context (e.g. entity form instance is loaded once).
 	 * 
 	 * @param dto
 	 * @param operationType
@@ -769,6 +773,8 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 		if (ProvisioningOperationType.DELETE == operationType) {
 			return accountAttributes;
 		}
+		// resolve schema attributes once
+		Map<AttributeMapping, SysSchemaAttributeDto> schemaAttributes = resolveSchemaAttributes(attributes, mappingContext);
 
 		// First we will resolve attribute without MERGE strategy
 		attributes.stream().filter(attribute -> {
@@ -776,7 +782,7 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 					&& AttributeMappingStrategyType.AUTHORITATIVE_MERGE != attribute.getStrategyType()
 					&& AttributeMappingStrategyType.MERGE != attribute.getStrategyType();
 		}).forEach(attribute -> {
-			SysSchemaAttributeDto schemaAttributeDto = getSchemaAttribute(attribute);
+			SysSchemaAttributeDto schemaAttributeDto = schemaAttributes.get(attribute);
 			if (attribute.isUid()) {
 				// TODO: now we set UID from SystemEntity, may be UID from
 				// AccAccount will be more correct
@@ -798,56 +804,88 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 			}
 		});
 
-		// Second we will resolve MERGE attributes
-		List<? extends AttributeMapping> attributesMerge = attributes.stream().filter(attribute -> {
+		// Second we will resolve MERGE attributes - grouped by schema attribute and strategy (~ provisioning attribute key)
+		Map<ProvisioningAttributeDto, List<AttributeMapping>> attributesMerge = new LinkedHashMap<>();
+		attributes.stream().filter(attribute -> {
 			return !attribute.isDisabledAttribute()
 					&& (AttributeMappingStrategyType.AUTHORITATIVE_MERGE == attribute.getStrategyType()
 							|| AttributeMappingStrategyType.MERGE == attribute.getStrategyType());
 
-		}).collect(Collectors.toList());
+		}).forEach(attribute -> {
+			SysSchemaAttributeDto schemaAttribute = schemaAttributes.get(attribute);
+			ProvisioningAttributeDto attributeKey = ProvisioningAttributeDto
+					.createProvisioningAttributeKey(attribute, schemaAttribute.getName(), schemaAttribute.getClassType());
+			// the first attribute in group is parent => key created from parent is used
+			attributesMerge.computeIfAbsent(attributeKey, key -> new ArrayList<>()).add(attribute);
+		});
 
-		for (AttributeMapping attributeParent : attributesMerge) {
-			SysSchemaAttributeDto schemaAttributeParent = getSchemaAttribute(attributeParent);
-			ProvisioningAttributeDto attributeParentKey = ProvisioningAttributeDto
-					.createProvisioningAttributeKey(attributeParent, schemaAttributeParent.getName(), schemaAttributeParent.getClassType());
+		attributesMerge.forEach((attributeParentKey, attributesGroup) -> {
+			SysSchemaAttributeDto schemaAttributeParent = schemaAttributes.get(attributesGroup.get(0));
 			if (!schemaAttributeParent.isMultivalued()) {
 				throw new ProvisioningException(AccResultCode.PROVISIONING_MERGE_ATTRIBUTE_IS_NOT_MULTIVALUE,
 						ImmutableMap.of("object", uid, "attribute", schemaAttributeParent.getName(), "system",
 								system.getName()));
 			}
+			if (accountAttributes.containsKey(attributeParentKey)) {
+				return;
+			}
 
 			// We use SET collection because we want collection of merged values without duplicates
 			Set<Object> mergedValues = new LinkedHashSet<>();
-			attributesMerge.stream() //
-					.filter(attribute -> { //
-						SysSchemaAttributeDto schemaAttribute = getSchemaAttribute(attribute);
-						return !accountAttributes.containsKey(attributeParentKey)
-								&& schemaAttributeParent.equals(schemaAttribute)
-								&& attributeParent.getStrategyType() == attribute.getStrategyType();
-					}).forEach(attribute -> {
-						Object value = getAttributeValue(uid, dto, attribute, system, mappingContext);
-						// We don`t want null item in list (problem with
-						// provisioning in IC)
-						if (value != null) {
-							// If is value collection, then we add all its items to
-							// main list!
-							if (value instanceof Collection) {
-								Collection<?> collectionNotNull = ((Collection<?>) value).stream().filter(item -> {
-									return item != null;
-								}).collect(Collectors.toList());
-								mergedValues.addAll(collectionNotNull);
-							} else {
-								mergedValues.add(value);
-							}
-						}
-					});
-			if (!accountAttributes.containsKey(attributeParentKey)) {
-				// we must put merged values as array list
-				accountAttributes.put(attributeParentKey, new ArrayList<>(mergedValues));
- 			}
-    	}
+			attributesGroup.forEach(attribute -> {
+				Object value = getAttributeValue(uid, dto, attribute, system, mappingContext);
+				// We don`t want null item in list (problem with
+				// provisioning in IC)
+				if (value != null) {
+					// If is value collection, then we add all its items to
+					// main list!
+					if (value instanceof Collection) {
+						Collection<?> collectionNotNull = ((Collection<?>) value).stream().filter(item -> {
+							return item != null;
+						}).collect(Collectors.toList());
+						mergedValues.addAll(collectionNotNull);
+					} else {
+						mergedValues.add(value);
+					}
+				}
+			});
+			// we must put merged values as array list
+			accountAttributes.put(attributeParentKey, new ArrayList<>(mergedValues));
+		});
 		return accountAttributes;
 	}
+	
+	/**
+	 * Resolve schema attributes for all given attributes. Resolved schema attributes are registered in mapping context
+	 * => schema attribute is not loaded again in transformations. Given attributes are not changed - they can be shared.
+	 * 
+	 * @param attributes mapped attributes
+	 * @param mappingContext [optional] context of the current provisioning
+	 * @return resolved schema attributes
+	 */
+	private Map<AttributeMapping, SysSchemaAttributeDto> resolveSchemaAttributes(
+			List<? extends AttributeMapping> attributes,
+			MappingContext mappingContext) {
+		Map<AttributeMapping, SysSchemaAttributeDto> schemaAttributes = new IdentityHashMap<>(attributes.size());
+		Map<UUID, SysSchemaAttributeDto> loadedSchemaAttributes = new HashMap<>();
+		attributes.forEach(attribute -> {
+			SysSchemaAttributeDto schemaAttribute = null;
+			if (attribute.getSchemaAttribute() != null) {
+				schemaAttribute = loadedSchemaAttributes.get(attribute.getSchemaAttribute());
+			}
+			if (schemaAttribute == null) {
+				schemaAttribute = getSchemaAttribute(attribute);
+				Assert.notNull(schemaAttribute, "Schema attribute is required.");
+				loadedSchemaAttributes.put(schemaAttribute.getId(), schemaAttribute);
+			}
+			if (mappingContext != null) {
+				mappingContext.setSchemaAttribute(attribute, schemaAttribute);
+			}
+			schemaAttributes.put(attribute, schemaAttribute);
+		});
+		//
+		return schemaAttributes;
+	}
 
 	protected Object getAttributeValue(String uid, DTO dto, AttributeMapping attribute, SysSystemDto system, MappingContext mappingContext) {
 		return attributeMappingService.getAttributeValue(uid, dto, attribute, mappingContext);
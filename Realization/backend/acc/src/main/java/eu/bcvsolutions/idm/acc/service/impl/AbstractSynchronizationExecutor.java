@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
 import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
+import eu.bcvsolutions.idm.acc.config.domain.SynchronizationConfiguration;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AccountType;
 import eu.bcvsolutions.idm.acc.domain.AttributeMapping;
@@ -54,6 +55,7 @@ import eu.bcvsolutions.idm.acc.service.api.SysSyncActionLogService;
 import eu.bcvsolutions.idm.acc.service.api.SysSyncConfigService;
 import eu.bcvsolutions.idm.acc.service.api.SysSyncItemLogService;
 import eu.bcvsolutions.idm.acc.service.api.SysSyncLogService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncReconciliationUidService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemAttributeMappingService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemEntityService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemMappingService;
@@ -66,6 +68,7 @@ import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.FormableDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.CorrelationFilter;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.event.CoreEvent;
 import eu.bcvsolutions.idm.core.api.event.EventResult;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
@@ -83,6 +86,7 @@ import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.scheduler.api.config.SchedulerConfiguration;
 import eu.bcvsolutions.idm.core.scheduler.api.service.AbstractSchedulableTaskExecutor;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.workflow.service.WorkflowProcessInstanceService;
@@ -114,12 +118,21 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import org.activiti.engine.ProcessEngine;
@@ -130,9 +143,11 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -150,6 +165,10 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			.getLogger(AbstractSynchronizationExecutor.class);
 
 	public static final String CACHE_NAME = AccModuleDescriptor.MODULE_ID + ":sync-mapping-cache";
+	private static final int PIPELINE_LANE_CAPACITY = 100; // items waiting for worker
+	private static final long PIPELINE_CHECK_STATE_INTERVAL = 1000L; // 1s
+	private static final int RECONCILIATION_UID_BATCH_SIZE = 500; // uids returned from connector, which are staged together
+	private static final int RECONCILIATION_PAGE_SIZE = 100; // missing accounts loaded together
 
 	@Autowired
 	private WorkflowProcessInstanceService workflowProcessInstanceService;
@@ -190,12 +209,19 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	@Autowired
 	protected ProvisioningConfiguration provisioningConfiguration;
 	@Autowired
+	private SynchronizationConfiguration synchronizationConfiguration;
+	@Autowired
+	private SysSyncReconciliationUidService syncReconciliationUidService;
+	@Autowired
 	private ProcessEngine processEngine;
 	@Autowired
 	@Lazy
 	private ProvisioningService provisioningService;
 	@Autowired(required = false)
 	private IdmCacheManager idmCacheManager;
+	@Autowired(required = false)
+	@Qualifier(SchedulerConfiguration.TASK_EXECUTOR_NAME)
+	private Executor executor;
 	// Instance of LRT
 	protected AbstractSchedulableTaskExecutor<Boolean> longRunningTaskExecutor;
 
@@ -221,12 +247,13 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		// Create basic synchronization log
 		log.setSynchronizationConfig(synchronizationConfigId);
 		log.setStarted(ZonedDateTime.now());
+		ReconciliationUids reconciliationUids = null;
+		SynchronizationCheckpoint checkpoint = null;
 		try {
 			// Validate and create basic context
 			SynchronizationContext context = this.validate(synchronizationConfigId);
 
 			AbstractSysSyncConfigDto config = context.getConfig();
-			SystemEntityType entityType = context.getEntityType();
 			SysSystemDto system = context.getSystem();
 			IcConnectorConfiguration connectorConfig = context.getConnectorConfig();
 			SysSystemMappingDto systemMapping = systemMappingService.get(config.getSystemMapping());
@@ -240,16 +267,27 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			log.setRunning(true);
 			log = syncStarted(log, context);
 
-			// List of all accounts keys (used in reconciliation)
-			Set<String> systemAccountsList = new HashSet<>();
-
 			longRunningTaskExecutor.setCounter(0L);
 
 			log = synchronizationLogService.save(log);
+			// All accounts keys (used in reconciliation) are staged in database
+			if (config.isReconciliation()) {
+				reconciliationUids = new ReconciliationUids(log.getId());
+			}
 			List<SysSyncActionLogDto> actionsLog = new ArrayList<>();
 
 			// add logs to context
 			context.addLog(log).addActionLogs(actionsLog);
+			// Processed items (token) and action logs are saved on checkpoint
+			checkpoint = new SynchronizationCheckpoint(context);
+			
+			// Pipelined synchronization - items are processed by workers in parallel
+			SynchronizationPipeline pipeline = null;
+			int workers = supportsPipeline(context) && executor != null ? synchronizationConfiguration.getWorkers() : 1;
+			if (workers > 1) {
+				log.addToLog(MessageFormat.format("Synchronization items will be processed by [{0}] workers.", workers));
+				pipeline = new SynchronizationPipeline(context, workers, checkpoint);
+			}
 
 			// Is differential sync enabled?
 			if (config.isDifferentialSync()) {
@@ -273,20 +311,35 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 				IcFilter filter = resolveSynchronizationFilter(config);
 				log.addToLog(MessageFormat.format("Start search with filter [{0}].", filter != null ? filter : "NONE"));
 
-				connectorFacade.search(systemService.getConnectorInstance(system), connectorConfig, objectClass, filter,
-						new DefaultResultHandler(context, systemAccountsList));
+				try {
+					connectorFacade.search(systemService.getConnectorInstance(system), connectorConfig, objectClass, filter,
+							new DefaultResultHandler(context, reconciliationUids, pipeline, checkpoint));
+				} catch (Exception ex) {
+					closePipeline(pipeline, ex);
+					throw ex;
+				}
+				closePipeline(pipeline, null);
 			} else {
 				// Inner Sync
 				log.addToLog("Synchronization will use inner connector synchronization implementation.");
-				DefalutSyncResultHandler syncResultsHandler = new DefalutSyncResultHandler(context, systemAccountsList);
-				connectorFacade.synchronization(systemService.getConnectorInstance(system), connectorConfig, objectClass,
-						lastIcToken, syncResultsHandler);
+				DefalutSyncResultHandler syncResultsHandler = new DefalutSyncResultHandler(context, reconciliationUids, pipeline, checkpoint);
+				try {
+					connectorFacade.synchronization(systemService.getConnectorInstance(system), connectorConfig, objectClass,
+							lastIcToken, syncResultsHandler);
+				} catch (Exception ex) {
+					closePipeline(pipeline, ex);
+					throw ex;
+				}
+				closePipeline(pipeline, null);
 			}
 
 			// We do reconciliation (find missing account)
 			if (config.isReconciliation() && log.isRunning()) {
-				startReconciliation(entityType, systemAccountsList, config, system, log, actionsLog);
+				reconciliationUids.flush();
+				startReconciliation(context, checkpoint);
 			}
+			// Save all processed items
+			checkpoint.checkpoint(true);
 			// Sync is correctly ends if wasn't cancelled
 			if (log.isRunning()) {
 				log = syncCorrectlyEnded(log, context);
@@ -297,8 +350,19 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			log.addToLog(message);
 			log.setContainsError(true);
 			log.addToLog(Throwables.getStackTraceAsString(e));
+			// Save processed items - synchronization will continue from the last processed item
+			if (checkpoint != null) {
+				try {
+					checkpoint.checkpoint(true);
+				} catch (Exception ex) {
+					LOG.error("Synchronization checkpoint failed, synchronization will continue from the previous checkpoint.", ex);
+				}
+			}
 			throw e;
 		} finally {
+			if (reconciliationUids != null) {
+				reconciliationUids.clear();
+			}
 			log.setRunning(false);
 			log.setEnded(ZonedDateTime.now());
 			synchronizationLogService.save(log);
@@ -310,6 +374,27 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		}
 	}
 
+	/**
+	 * Wait for pipeline workers. Pipeline failure doesn't override the original exception - is added as suppressed.
+	 *
+	 * @param pipeline pipeline or {@code null}
+	 * @param originalException original exception or {@code null}
+	 */
+	private void closePipeline(SynchronizationPipeline pipeline, Exception originalException) {
+		if (pipeline == null) {
+			return;
+		}
+		if (originalException == null) {
+			pipeline.close();
+			return;
+		}
+		try {
+			pipeline.close();
+		} catch (RuntimeException ex) {
+			originalException.addSuppressed(ex);
+		}
+	}
+
 	/**
 	 * Method called after sync started.
 	 *
@@ -505,11 +590,48 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	 * @return
 	 */
 	protected boolean handleIcObject(SynchronizationContext itemContext) {
+		return handleIcObject(itemContext, null);
+	}
+	
+	/**
+	 * Handle IC connector object. Action logs are saved for each item, when checkpoint is not given.
+	 *
+	 * @param itemContext
+	 * @param checkpoint synchronization checkpoint
+	 * @return
+	 */
+	private boolean handleIcObject(SynchronizationContext itemContext, SynchronizationCheckpoint checkpoint) {
 		Assert.notNull(itemContext, "Item context is required.");
 
-		IcConnectorObject icObject = itemContext.getIcObject();
 		AbstractSysSyncConfigDto config = itemContext.getConfig();
 		SysSyncLogDto log = itemContext.getLog();
+
+		String token = prepareIcObjectItem(itemContext, config.getToken());
+		// Save token
+		log.setToken(token);
+		if (!config.isReconciliation()) {
+			config.setToken(token);
+		}
+
+		boolean result = startItemSynchronization(itemContext, checkpoint);
+		// Update (increased counter) and check state of sync (maybe was cancelled from
+		// sync or LRT)
+		result = updateAndCheckState(result, log);
+		if (checkpoint != null) {
+			checkpoint.checkpoint(false);
+		}
+		return result;
+	}
+
+	/**
+	 * Prepare item context for IC connector object (custom filter mode) and find token by token attribute.
+	 *
+	 * @param itemContext
+	 * @param lastToken the greatest token found before
+	 * @return token
+	 */
+	private String prepareIcObjectItem(SynchronizationContext itemContext, String lastToken) {
+		IcConnectorObject icObject = itemContext.getIcObject();
 		AttributeMapping tokenAttribute = itemContext.getTokenAttribute();
 
 		SysSyncItemLogDto itemLog = new SysSyncItemLogDto();
@@ -534,19 +656,10 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		// order of returned (searched) objects is random. We
 		// have to do !!STRING!! compare and save only
 		// grater token to config and log.
-		if (token != null && config.getToken() != null && token.compareTo(config.getToken()) <= -1) {
-			token = config.getToken();
-		}
-		// Save token
-		log.setToken(token);
-		if (!config.isReconciliation()) {
-			config.setToken(token);
+		if (token != null && lastToken != null && token.compareTo(lastToken) <= -1) {
+			token = lastToken;
 		}
-
-		boolean result = startItemSynchronization(itemContext);
-		// Update (increased counter) and check state of sync (maybe was cancelled from
-		// sync or LRT)
-		return updateAndCheckState(result, log);
+		return token;
 	}
 
 	/**
@@ -557,6 +670,18 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	 * @return
 	 */
 	protected boolean startItemSynchronization(SynchronizationContext itemContext) {
+		return startItemSynchronization(itemContext, null);
+	}
+
+	/**
+	 * Synchronization for one item. Action logs are saved for each item, when checkpoint is not given.
+	 * Action logs are collected by given checkpoint otherwise.
+	 *
+	 * @param itemContext
+	 * @param checkpoint synchronization checkpoint
+	 * @return
+	 */
+	private boolean startItemSynchronization(SynchronizationContext itemContext, SynchronizationCheckpoint checkpoint) {
 		String uid = itemContext.getUid();
 		AbstractSysSyncConfigDto config = itemContext.getConfig();
 		SystemEntityType entityType = itemContext.getEntityType();
@@ -566,9 +691,11 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		List<SysSyncActionLogDto> actionsLog = new ArrayList<>();
 		try {
 
-			SysSyncActionLogFilter actionFilter = new SysSyncActionLogFilter();
-			actionFilter.setSynchronizationLogId(log.getId());
-			actionsLog.addAll(syncActionLogService.find(actionFilter, null).getContent());
+			if (checkpoint == null) {
+				SysSyncActionLogFilter actionFilter = new SysSyncActionLogFilter();
+				actionFilter.setSynchronizationLogId(log.getId());
+				actionsLog.addAll(syncActionLogService.find(actionFilter, null).getContent());
+			}
 			itemContext.addActionLogs(actionsLog);
 
 			// Default setting for log item
@@ -604,15 +731,23 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			}
 			return true;
 		} finally {
-			synchronizationConfigService.save(config);
 			boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
-			actionsLog = saveActionLogs(actionsLog, log.getId());
+			if (checkpoint == null) {
+				synchronizationConfigService.save(config);
+				actionsLog = saveActionLogs(actionsLog, log.getId());
+			}
 			//
 			if (!existingItemLog) {
 				addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
 				initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
 						actionsLog);
-				syncItemLogService.save(itemLog);
+				if (checkpoint == null) {
+					syncItemLogService.save(itemLog);
+				}
+			}
+			if (checkpoint != null) {
+				// item action logs are saved in batch
+				checkpoint.addActionLogs(actionsLog);
 			}
 		}
 	}
@@ -636,64 +771,133 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		}
 		AccAccountFilter accountFilter = new AccAccountFilter();
 		accountFilter.setSystemId(system.getId());
-
-		List<AccAccountDto> accounts = accountService.find(accountFilter, null).getContent();
-
-		for (AccAccountDto account : accounts) {
-			if (!log.isRunning()) {
+		// accounts are loaded by pages (keyset pagination) - accounts can be deleted by reconciliation
+		PageRequest pageable = PageRequest.of(0, RECONCILIATION_PAGE_SIZE, Sort.by(AbstractEntity_.id.getName()));
+		List<AccAccountDto> accounts;
+		do {
+			accounts = accountService.find(accountFilter, pageable).getContent();
+			for (AccAccountDto account : accounts) {
+				if (!log.isRunning()) {
+					return;
+				}
+				if (!allAccountsSet.contains(account.getRealUid())) {
+					actionsLog = startReconciliationItem(entityType, account, config, system, log, actionsLog, null);
+				}
+			}
+			if (!accounts.isEmpty()) {
+				accountFilter.setIdFrom(accounts.get(accounts.size() - 1).getId());
+			}
+		} while (accounts.size() == RECONCILIATION_PAGE_SIZE);
+	}
+	
+	/**
+	 * Start reconciliation. Is call after synchronization. Main purpose is find and
+	 * resolve missing accounts. Account uids returned from the target system are staged in database 
+	 * for the given synchronization log - missing accounts are found by database query.
+	 *
+	 * @param context synchronization context
+	 * @param checkpoint synchronization checkpoint
+	 * @see SysSyncReconciliationUidService
+	 */
+	private void startReconciliation(SynchronizationContext context, SynchronizationCheckpoint checkpoint) {
+		SystemEntityType entityType = context.getEntityType();
+		AbstractSysSyncConfigDto config = context.getConfig();
+		SysSystemDto system = context.getSystem();
+		SysSyncLogDto log = context.getLog();
+		if (!log.isRunning()) {
+			return;
+		}
+		UUID lastAccountId = null;
+		List<UUID> accountIds;
+		do {
+			// missing accounts are loaded by pages (keyset pagination) - accounts can be deleted by reconciliation
+			accountIds = syncReconciliationUidService.findMissingAccounts(
+					log.getId(), system.getId(), lastAccountId, RECONCILIATION_PAGE_SIZE);
+			if (accountIds.isEmpty()) {
 				return;
 			}
-			String uid = account.getRealUid();
-			if (!allAccountsSet.contains(uid)) {
-				SysSyncItemLogDto itemLog = new SysSyncItemLogDto();
-				try {
+			lastAccountId = accountIds.get(accountIds.size() - 1);
+			//
+			AccAccountFilter accountFilter = new AccAccountFilter();
+			accountFilter.setIds(accountIds);
+			for (AccAccountDto account : accountService.find(accountFilter, null)) {
+				if (!log.isRunning()) {
+					return;
+				}
+				startReconciliationItem(entityType, account, config, system, log, null, checkpoint);
+				checkpoint.checkpoint(false);
+			}
+		} while (accountIds.size() == RECONCILIATION_PAGE_SIZE);
+	}
+	
+	/**
+	 * Resolve one missing account. Action logs are saved for each item, when checkpoint is not given.
+	 * Action logs are collected by given checkpoint otherwise.
+	 * 
+	 * @return saved action logs
+	 */
+	private List<SysSyncActionLogDto> startReconciliationItem(SystemEntityType entityType, AccAccountDto account,
+			AbstractSysSyncConfigDto config, SysSystemDto system, SysSyncLogDto log,
+			List<SysSyncActionLogDto> actionsLog, SynchronizationCheckpoint checkpoint) {
+		String uid = account.getRealUid();
+		SysSyncItemLogDto itemLog = new SysSyncItemLogDto();
+		if (checkpoint != null) {
+			actionsLog = new ArrayList<>();
+		}
+		try {
 
-					// Default setting for log item
-					itemLog.setIdentification(uid);
-					itemLog.setDisplayName(uid);
-					itemLog.setType(entityType.getEntityType().getSimpleName());
-
-					// Do reconciliation for one item (produces event)
-					// Start in new Transaction
-					SynchronizationContext builder = new SynchronizationContext();
-					builder.addUid(uid).addType(IcSyncDeltaTypeEnum.DELETE).addConfig(config).addSystem(system)
-							.addEntityType(entityType).addAccount(account).addLog(log).addLogItem(itemLog)
-							.addActionLogs(actionsLog);
-
-					CoreEvent<SysSyncItemLogDto> event = new CoreEvent<>(
-							SynchronizationEventType.START_ITEM, itemLog);
-					event.getProperties().put(SynchronizationService.WRAPPER_SYNC_ITEM, builder);
-					EventResult<SysSyncItemLogDto> lastResult = entityEventManager.process(event).getLastResult();
-					boolean result = false;
-					if (lastResult != null && lastResult.getEvent().getProperties()
-							.containsKey(SynchronizationService.RESULT_SYNC_ITEM)) {
-						result = (boolean) lastResult.getEvent().getProperties()
-								.get(SynchronizationService.RESULT_SYNC_ITEM);
-					}
-					// Update (increased counter) and check state of sync (maybe was cancelled from
-					// sync or LRT)
-					updateAndCheckState(result, log);
+			// Default setting for log item
+			itemLog.setIdentification(uid);
+			itemLog.setDisplayName(uid);
+			itemLog.setType(entityType.getEntityType().getSimpleName());
 
-				} catch (Exception ex) {
-					String message = MessageFormat.format("Reconciliation - error for uid [{0}]", uid);
-					log.addToLog(message);
-					log.addToLog(Throwables.getStackTraceAsString(ex));
-					LOG.error(message, ex);
-				} finally {
-					config = synchronizationConfigService.save(config);
-
-					boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
-					actionsLog = saveActionLogs(actionsLog, log.getId());
-					//
-					if (!existingItemLog) {
-						addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
-						initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
-								actionsLog);
-						syncItemLogService.save(itemLog);
-					}
+			// Do reconciliation for one item (produces event)
+			// Start in new Transaction
+			SynchronizationContext builder = new SynchronizationContext();
+			builder.addUid(uid).addType(IcSyncDeltaTypeEnum.DELETE).addConfig(config).addSystem(system)
+					.addEntityType(entityType).addAccount(account).addLog(log).addLogItem(itemLog)
+					.addActionLogs(actionsLog);
+
+			CoreEvent<SysSyncItemLogDto> event = new CoreEvent<>(
+					SynchronizationEventType.START_ITEM, itemLog);
+			event.getProperties().put(SynchronizationService.WRAPPER_SYNC_ITEM, builder);
+			EventResult<SysSyncItemLogDto> lastResult = entityEventManager.process(event).getLastResult();
+			boolean result = false;
+			if (lastResult != null && lastResult.getEvent().getProperties()
+					.containsKey(SynchronizationService.RESULT_SYNC_ITEM)) {
+				result = (boolean) lastResult.getEvent().getProperties()
+						.get(SynchronizationService.RESULT_SYNC_ITEM);
+			}
+			// Update (increased counter) and check state of sync (maybe was cancelled from
+			// sync or LRT)
+			updateAndCheckState(result, log);
+
+		} catch (Exception ex) {
+			String message = MessageFormat.format("Reconciliation - error for uid [{0}]", uid);
+			log.addToLog(message);
+			log.addToLog(Throwables.getStackTraceAsString(ex));
+			LOG.error(message, ex);
+		} finally {
+			boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
+			if (checkpoint == null) {
+				synchronizationConfigService.save(config);
+				actionsLog = saveActionLogs(actionsLog, log.getId());
+			}
+			//
+			if (!existingItemLog) {
+				addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
+				initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
+						actionsLog);
+				if (checkpoint == null) {
+					syncItemLogService.save(itemLog);
 				}
 			}
+			if (checkpoint != null) {
+				// item action logs are saved in batch
+				checkpoint.addActionLogs(actionsLog);
+			}
 		}
+		return actionsLog;
 	}
 
 	/**
@@ -2445,11 +2649,16 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	private class DefaultResultHandler implements IcResultsHandler {
 
 		private final SynchronizationContext context;
-		private final Set<String> systemAccountsList;
+		private final ReconciliationUids reconciliationUids;
+		private final SynchronizationPipeline pipeline;
+		private final SynchronizationCheckpoint checkpoint;
 
-		public DefaultResultHandler(final SynchronizationContext context, final Set<String> systemAccountsList) {
+		public DefaultResultHandler(final SynchronizationContext context, final ReconciliationUids reconciliationUids,
+				final SynchronizationPipeline pipeline, final SynchronizationCheckpoint checkpoint) {
 			this.context = context;
-			this.systemAccountsList = systemAccountsList;
+			this.reconciliationUids = reconciliationUids;
+			this.pipeline = pipeline;
+			this.checkpoint = checkpoint;
 		}
 
 		@Override
@@ -2459,7 +2668,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			String uid = connectorObject.getUidValue();
 
 			if (context.getConfig().isReconciliation()) {
-				systemAccountsList.add(uid);
+				reconciliationUids.add(uid);
 			}
 
 			SynchronizationContext itemContext = SynchronizationContext.cloneContext(context);
@@ -2468,7 +2677,12 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 					.addIcObject(connectorObject) //
 					.addGeneratedUid(null); //
 
-			return handleIcObject(itemContext);
+			if (pipeline != null) {
+				// item will be processed by pipeline worker
+				String token = prepareIcObjectItem(itemContext, pipeline.getToken());
+				return pipeline.submit(itemContext, token);
+			}
+			return handleIcObject(itemContext, checkpoint);
 		}
 	}
 
@@ -2481,11 +2695,16 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	private class DefalutSyncResultHandler implements IcSyncResultsHandler {
 
 		private final SynchronizationContext context;
-		private final Set<String> systemAccountsList;
+		private final ReconciliationUids reconciliationUids;
+		private final SynchronizationPipeline pipeline;
+		private final SynchronizationCheckpoint checkpoint;
 
-		public DefalutSyncResultHandler(final SynchronizationContext context, final Set<String> systemAccountsList) {
+		public DefalutSyncResultHandler(final SynchronizationContext context, final ReconciliationUids reconciliationUids,
+				final SynchronizationPipeline pipeline, final SynchronizationCheckpoint checkpoint) {
 			this.context = context;
-			this.systemAccountsList = systemAccountsList;
+			this.reconciliationUids = reconciliationUids;
+			this.pipeline = pipeline;
+			this.checkpoint = checkpoint;
 		}
 
 		@Override
@@ -2501,14 +2720,9 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			IcConnectorObject icObject = delta.getObject();
 			IcSyncToken token = delta.getToken();
 			String tokenObject = token.getValue() != null ? token.getValue().toString() : null;
-			// Save token
-			log.setToken(tokenObject);
-			if (!config.isReconciliation()) {
-				config.setToken(tokenObject);
-			}
 			//
 			if (config.isReconciliation()) {
-				systemAccountsList.add(uid);
+				reconciliationUids.add(uid);
 			}
 
 			SynchronizationContext itemContext = SynchronizationContext.cloneContext(context);
@@ -2519,15 +2733,447 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 					.addIcObject(icObject) //
 					.addGeneratedUid(null); //
 
-			boolean result = startItemSynchronization(itemContext);
+			if (pipeline != null) {
+				// item will be processed by pipeline worker, token is saved after all items are processed
+				return pipeline.submit(itemContext, tokenObject);
+			}
+			// Save token
+			log.setToken(tokenObject);
+			if (!config.isReconciliation()) {
+				config.setToken(tokenObject);
+			}
+
+			boolean result = startItemSynchronization(itemContext, checkpoint);
 
 			// Update (increased counter) and check state of sync (maybe was cancelled from
 			// sync or LRT)
-			return updateAndCheckState(result, log);
+			result = updateAndCheckState(result, log);
+			checkpoint.checkpoint(false);
+			//
+			return result;
 
 		}
 	}
 
+	/**
+	 * Account uids returned from connector in reconciliation - uids are staged in database in batch,
+	 * missing accounts are found by database query (uids are not held in memory).
+	 *
+	 * @author Radek Tomiška
+	 * @since 11.0.0
+	 */
+	private class ReconciliationUids {
+		
+		private final UUID syncLogId;
+		private final List<String> uids = new ArrayList<>(RECONCILIATION_UID_BATCH_SIZE);
+		
+		public ReconciliationUids(UUID syncLogId) {
+			Assert.notNull(syncLogId, "Synchronization log identifier is required.");
+			//
+			this.syncLogId = syncLogId;
+		}
+		
+		public void add(String uid) {
+			uids.add(uid);
+			if (uids.size() >= RECONCILIATION_UID_BATCH_SIZE) {
+				flush();
+			}
+		}
+		
+		/**
+		 * Stage remaining uids.
+		 */
+		public void flush() {
+			if (uids.isEmpty()) {
+				return;
+			}
+			syncReconciliationUidService.saveUids(syncLogId, uids);
+			uids.clear();
+		}
+		
+		/**
+		 * Delete staged uids - reconciliation ends.
+		 */
+		public void clear() {
+			uids.clear();
+			syncReconciliationUidService.deleteUids(syncLogId);
+		}
+	}
+
+	/**
+	 * Pipelined synchronization - items read from connector (in synchronization thread) are processed by workers in parallel.
+	 * Items with the same uid are processed by the same lane in the order they were read from connector.
+	 * Lanes are processed by workers from task executor (security and transaction context is propagated by executor). 
+	 * Lane, which worker is not started (task executor is exhausted), is processed by synchronization thread.
+	 * Synchronization thread checks synchronization state (cancel) and makes checkpoints (action logs are saved in batch).
+	 * Token is saved after all items are processed - synchronization starts from the previous token, 
+	 * when synchronization is canceled or fails.
+	 *
+	 * @author Radek Tomiška
+	 * @since 11.0.0
+	 */
+	private class SynchronizationPipeline {
+
+		private final SynchronizationContext endOfItems = new SynchronizationContext(); // end of items mark for workers
+		private final SynchronizationContext context;
+		private final List<PipelineLane> lanes;
+		private final AtomicBoolean running = new AtomicBoolean(true);
+		private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		private final AtomicLong processedCount = new AtomicLong();
+		private final long initialCounter;
+		private final SynchronizationCheckpoint checkpoint;
+		private String token;
+		private long lastCheckState = System.currentTimeMillis();
+		private boolean closed = false;
+
+		SynchronizationPipeline(SynchronizationContext context, int workersCount, SynchronizationCheckpoint checkpoint) {
+			this.context = context;
+			this.checkpoint = checkpoint;
+			this.token = context.getConfig().getToken();
+			this.initialCounter = longRunningTaskExecutor.getCounter() == null ? 0L : longRunningTaskExecutor.getCounter();
+			this.lanes = new ArrayList<>(workersCount);
+			for (int i = 0; i < workersCount; i++) {
+				PipelineLane lane = new PipelineLane();
+				lanes.add(lane);
+				try {
+					executor.execute(() -> {
+						if (!lane.start(false)) {
+							// lane is processed by synchronization thread already
+							return;
+						}
+						try {
+							work(lane);
+						} finally {
+							lane.end();
+						}
+					});
+				} catch (RejectedExecutionException ex) {
+					LOG.debug("Synchronization [{}] worker was rejected by task executor, lane will be processed by synchronization thread.",
+							context.getConfig().getId(), ex);
+					lane.start(true);
+				}
+			}
+		}
+
+		/**
+		 * The greatest token read from connector.
+		 *
+		 * @return
+		 */
+		String getToken() {
+			return token;
+		}
+
+		/**
+		 * Submit item to worker. Synchronization thread waits, if the worker is busy.
+		 * Synchronization thread processes item, if lane worker was not started.
+		 *
+		 * @param itemContext
+		 * @param itemToken
+		 * @return false - synchronization was canceled or failed
+		 */
+		boolean submit(SynchronizationContext itemContext, String itemToken) {
+			token = itemToken;
+			// the same uid => the same lane
+			PipelineLane lane = lanes.get(Math.floorMod(itemContext.getUid().hashCode(), lanes.size()));
+			try {
+				while (running.get() && !lane.isInline() && !lane.offer(itemContext)) {
+					if (lane.start(true)) {
+						// worker is not started (task executor is exhausted) => lane is processed by synchronization thread
+						LOG.debug("Synchronization [{}] worker was not started, lane will be processed by synchronization thread.",
+								context.getConfig().getId());
+					}
+					checkState(false);
+				}
+				if (lane.isInline()) {
+					processLane(lane);
+					process(itemContext);
+				}
+			} catch (InterruptedException ex) {
+				LOG.warn("Synchronization [{}] was interrupted.", context.getConfig().getId(), ex);
+				running.set(false);
+				Thread.currentThread().interrupt();
+			}
+			checkState(false);
+			//
+			return running.get();
+		}
+
+		/**
+		 * Wait for all workers, save action logs and token.
+		 */
+		void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			boolean interrupted = false;
+			for (PipelineLane lane : lanes) {
+				if (lane.start(true)) {
+					// worker is not started => lane is processed by synchronization thread
+					processLane(lane);
+					continue;
+				}
+				if (lane.isInline()) {
+					continue;
+				}
+				while (true) {
+					try {
+						lane.put(endOfItems);
+						break;
+					} catch (InterruptedException ex) {
+						interrupted = true;
+						running.set(false); // workers skip remaining items
+					}
+				}
+			}
+			for (PipelineLane lane : lanes) {
+				while (true) {
+					try {
+						lane.await();
+						break;
+					} catch (InterruptedException ex) {
+						interrupted = true;
+						running.set(false);
+					}
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			checkState(true);
+			//
+			if (failure.get() != null) {
+				throw failure.get();
+			}
+			SysSyncLogDto log = context.getLog();
+			if (!running.get()) {
+				log.setRunning(false);
+				log.addToLog("Synchronization canceled!");
+				return;
+			}
+			// all items are processed => token can be saved
+			log.setToken(token);
+			AbstractSysSyncConfigDto config = context.getConfig();
+			if (!config.isReconciliation()) {
+				config.setToken(token);
+			}
+		}
+
+		private void work(PipelineLane lane) {
+			while (true) {
+				SynchronizationContext itemContext;
+				try {
+					itemContext = lane.take();
+				} catch (InterruptedException ex) {
+					LOG.warn("Synchronization [{}] worker was interrupted, remaining items will be skipped.",
+							context.getConfig().getId(), ex);
+					running.set(false);
+					continue;
+				}
+				if (itemContext == endOfItems) {
+					return;
+				}
+				process(itemContext);
+			}
+		}
+
+		/**
+		 * Process items waiting in lane, which worker was not started - by synchronization thread.
+		 */
+		private void processLane(PipelineLane lane) {
+			SynchronizationContext itemContext;
+			while ((itemContext = lane.poll()) != null) {
+				process(itemContext);
+			}
+		}
+
+		private void process(SynchronizationContext itemContext) {
+			if (!running.get()) {
+				// synchronization was canceled or failed - remaining items are skipped
+				return;
+			}
+			try {
+				if (!startItemSynchronization(itemContext, checkpoint)) {
+					running.set(false);
+				}
+			} catch (RuntimeException ex) {
+				failure.compareAndSet(null, ex);
+				running.set(false);
+			} finally {
+				processedCount.incrementAndGet();
+			}
+		}
+
+		/**
+		 * Make checkpoint (action logs are saved in batch), update counter and check synchronization was not canceled.
+		 *
+		 * @param force true - check state regardless of interval
+		 */
+		private void checkState(boolean force) {
+			checkpoint.checkpoint(force);
+			if (!force && System.currentTimeMillis() - lastCheckState < PIPELINE_CHECK_STATE_INTERVAL) {
+				return;
+			}
+			lastCheckState = System.currentTimeMillis();
+			// We reload log (maybe was synchronization canceled)
+			SysSyncLogDto log = context.getLog();
+			log.setRunning(synchronizationLogService.get(log.getId()).isRunning());
+			longRunningTaskExecutor.setCounter(initialCounter + processedCount.get());
+			boolean lrtResult = longRunningTaskExecutor.updateState();
+			if (!log.isRunning() || !lrtResult) {
+				running.set(false);
+			}
+		}
+	}
+	
+	/**
+	 * Pipeline lane - items waiting for worker.
+	 * Lane is processed by worker from task executor or by synchronization thread (inline), 
+	 * if worker was not started - the first one wins.
+	 *
+	 * @author Radek Tomiška
+	 * @since 11.0.0
+	 */
+	private static class PipelineLane {
+		
+		private final BlockingQueue<SynchronizationContext> items = new ArrayBlockingQueue<>(PIPELINE_LANE_CAPACITY);
+		private final AtomicBoolean started = new AtomicBoolean();
+		private final CountDownLatch ended = new CountDownLatch(1);
+		private volatile boolean inline = false;
+		
+		/**
+		 * Start lane processing.
+		 * 
+		 * @param inline true - lane will be processed by synchronization thread
+		 * @return true - lane was started by the caller
+		 */
+		boolean start(boolean inline) {
+			if (!started.compareAndSet(false, true)) {
+				return false;
+			}
+			if (inline) {
+				this.inline = true;
+				ended.countDown();
+			}
+			return true;
+		}
+		
+		boolean isInline() {
+			return inline;
+		}
+		
+		void end() {
+			ended.countDown();
+		}
+		
+		void await() throws InterruptedException {
+			ended.await();
+		}
+		
+		boolean offer(SynchronizationContext itemContext) throws InterruptedException {
+			return items.offer(itemContext, PIPELINE_CHECK_STATE_INTERVAL, TimeUnit.MILLISECONDS);
+		}
+		
+		void put(SynchronizationContext itemContext) throws InterruptedException {
+			items.put(itemContext);
+		}
+		
+		SynchronizationContext take() throws InterruptedException {
+			return items.take();
+		}
+		
+		SynchronizationContext poll() {
+			return items.poll();
+		}
+	}
+	
+	/**
+	 * Synchronization checkpoint - token (configuration) and action logs of processed items are saved together 
+	 * after configured count of processed items or interval (see {@link SynchronizationConfiguration#getCheckpointItems()}).
+	 * Checkpoint is made, when synchronization ends, is canceled or fails too. 
+	 * Synchronization is resumed from the last checkpoint token, when server is killed during synchronization 
+	 * - items processed after the last checkpoint are synchronized again.
+	 * Action logs can be collected from pipeline workers, checkpoint is made by synchronization thread only.
+	 *
+	 * @author Radek Tomiška
+	 * @since 11.0.0
+	 */
+	private class SynchronizationCheckpoint {
+		
+		private final SynchronizationContext context;
+		private final int checkpointItems;
+		private final long checkpointInterval;
+		// action logs - items processed after the last checkpoint (guarded by this)
+		private Map<Pair<SynchronizationActionType, OperationResultType>, SysSyncActionLogDto> pendingActionLogs = new LinkedHashMap<>();
+		private int pendingCount = 0;
+		private long lastCheckpoint = System.currentTimeMillis();
+		// action logs - saved (synchronization thread only)
+		private final Map<Pair<SynchronizationActionType, OperationResultType>, SysSyncActionLogDto> actionLogs = new HashMap<>();
+		
+		SynchronizationCheckpoint(SynchronizationContext context) {
+			this.context = context;
+			this.checkpointItems = synchronizationConfiguration.getCheckpointItems();
+			this.checkpointInterval = synchronizationConfiguration.getCheckpointInterval();
+		}
+		
+		/**
+		 * Collect item action logs - action logs are saved on checkpoint.
+		 *
+		 * @param itemActionLogs
+		 */
+		synchronized void addActionLogs(List<SysSyncActionLogDto> itemActionLogs) {
+			itemActionLogs.forEach(itemActionLog -> {
+				Pair<SynchronizationActionType, OperationResultType> key = new ImmutablePair<>(
+						itemActionLog.getSyncAction(), itemActionLog.getOperationResult());
+				SysSyncActionLogDto pendingActionLog = pendingActionLogs.get(key);
+				if (pendingActionLog == null) {
+					itemActionLog.setLogItems(new ArrayList<>(itemActionLog.getLogItems()));
+					pendingActionLogs.put(key, itemActionLog);
+				} else {
+					pendingActionLog.setOperationCount(pendingActionLog.getOperationCount() + itemActionLog.getOperationCount());
+					pendingActionLog.getLogItems().addAll(itemActionLog.getLogItems());
+				}
+			});
+			pendingCount++;
+		}
+		
+		/**
+		 * Save action logs and configuration (token), when configured count of items was processed 
+		 * or interval elapsed from the last checkpoint.
+		 *
+		 * @param force true - make checkpoint regardless of processed items and interval
+		 */
+		void checkpoint(boolean force) {
+			Map<Pair<SynchronizationActionType, OperationResultType>, SysSyncActionLogDto> pendingToSave;
+			synchronized (this) {
+				if (!force 
+						&& (pendingCount == 0 
+							|| (pendingCount < checkpointItems && System.currentTimeMillis() - lastCheckpoint < checkpointInterval))) {
+					return;
+				}
+				pendingToSave = pendingActionLogs;
+				pendingActionLogs = new LinkedHashMap<>();
+				pendingCount = 0;
+				lastCheckpoint = System.currentTimeMillis();
+			}
+			pendingToSave.forEach((key, pendingActionLog) -> {
+				SysSyncActionLogDto actionLog = actionLogs.get(key);
+				if (actionLog == null) {
+					actionLog = pendingActionLog;
+				} else {
+					actionLog.setOperationCount(actionLog.getOperationCount() + pendingActionLog.getOperationCount());
+					actionLog.setLogItems(pendingActionLog.getLogItems());
+				}
+				actionLog = syncActionLogService.save(actionLog);
+				actionLog.setLogItems(null); // log items are saved already
+				actionLogs.put(key, actionLog);
+			});
+			// token of processed items
+			synchronizationConfigService.save(context.getConfig());
+		}
+	}
+
 	/**
 	 * Save DTO
 	 *
@@ -2620,4 +3266,25 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	protected boolean skipEntityUpdate(DTO entity, SynchronizationContext context) {
 		return false;
 	}
+
+	/**
+	 * Returns true, when synchronized items can be processed in parallel by pipeline workers
+	 * (see {@link SynchronizationConfiguration#getWorkers()}).
+	 * Items with the same uid are always processed by the same worker in the order they were read from connector.
+	 * Accounts with different uid can be correlated to the same entity - pipeline is not supported, when correlation 
+	 * attribute other than uid is configured.
+	 *
+	 * @param context synchronization context
+	 * @return true - pipelined synchronization is supported
+	 * @since 11.0.0
+	 */
+	protected boolean supportsPipeline(SynchronizationContext context) {
+		UUID correlationAttribute = context.getConfig().getCorrelationAttribute();
+		if (correlationAttribute == null) {
+			return true;
+		}
+		SysSystemAttributeMappingDto correlationMapping = systemAttributeMappingService.get(correlationAttribute);
+		//
+		return correlationMapping == null || correlationMapping.isUid();
+	}
 }
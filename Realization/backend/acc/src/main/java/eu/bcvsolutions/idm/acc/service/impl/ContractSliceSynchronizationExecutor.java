@@ -633,7 +633,15 @@ public class ContractSliceSynchronizationExecutor extends AbstractSynchronizatio
 	protected CorrelationFilter getEntityFilter(SynchronizationContext context) {
 		return new IdmContractSliceFilter();
 	}
-	
+
+	/**
+	 * Slices (with different uid) of the same contract cannot be processed in parallel - parent contract is updated by slices.
+	 */
+	@Override
+	protected boolean supportsPipeline(SynchronizationContext context) {
+		return false;
+	}
+
 	/**
 	 * Check if is supported provisioning for given entity type.
 	 * 
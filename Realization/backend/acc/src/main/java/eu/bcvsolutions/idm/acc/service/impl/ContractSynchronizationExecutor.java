@@ -915,4 +915,13 @@ public class ContractSynchronizationExecutor extends AbstractSynchronizationExec
 		}
 		return tasks.get(0);
 	}
+
+	/**
+	 * Contracts (with different uid) of the same identity cannot be processed in parallel - identity is updated by contracts
+	 * (identity state, automatic roles).
+	 */
+	@Override
+	protected boolean supportsPipeline(SynchronizationContext context) {
+		return false;
+	}
 }
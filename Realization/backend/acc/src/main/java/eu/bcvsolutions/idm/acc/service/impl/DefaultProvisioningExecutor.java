@@ -2,11 +2,18 @@ package eu.bcvsolutions.idm.acc.service.impl;
 
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
 
 import eu.bcvsolutions.idm.core.config.DelegatingTransactionContextRunnable;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +28,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Striped;
 
 import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
 import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
@@ -65,6 +73,7 @@ import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
 public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultProvisioningExecutor.class);
+	private static final int SYSTEM_ENTITY_LOCK_STRIPES = 1024;
 	private final EntityEventManager entityEventManager;
 	private final SysProvisioningOperationService provisioningOperationService;
 	private final SysProvisioningBatchService batchService;
@@ -75,6 +84,13 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 	private final SysSystemEntityService systemEntityService;
 	//
 	@Autowired private IdmRoleRequestService roleRequestService;
+	//
+	// Operations for the same system entity are executed in order. Lock stripes are shared by unrelated system entities 
+	// (stripe is chosen by system entity hash) => operations for unrelated system entities can wait for each other rarely, 
+	// but they are never reordered. Stripes count is much greater than count of queue workers, so collisions are improbable.
+	private final Striped<Lock> systemEntityLocks = Striped.lazyWeakLock(SYSTEM_ENTITY_LOCK_STRIPES);
+	// batches waiting for execution on the target system
+	private final Map<UUID, SystemLane> systemLanes = new ConcurrentHashMap<>();
 
 	@Autowired
 	public DefaultProvisioningExecutor(
@@ -108,7 +124,17 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 
 	@Override
 	@Transactional
-	public synchronized void execute(SysProvisioningOperationDto provisioningOperation) {
+	public void execute(SysProvisioningOperationDto provisioningOperation) {
+		Lock lock = getSystemEntityLock(provisioningOperation.getSystemEntity(), provisioningOperation.getSystem());
+		lock.lock();
+		try {
+			executeOperation(provisioningOperation);
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private void executeOperation(SysProvisioningOperationDto provisioningOperation) {
 		//
 		// execute - after original transaction is commited
 		// only if system supports synchronous processing
@@ -264,48 +290,163 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 	 * Next processing is executed outside a transaction 
 	 * => operation states has to be saved in new transactions 
 	 * => rollback on the target system is not possible anyway
+	 * 
+	 * Operations for the same system entity are executed in order (batch is executed by one thread and claimed by one server instance).
+	 * Batches are queued into target system lane - batches for different target systems are executed concurrently, 
+	 * batches for the same system are executed with configured system concurrency. When system concurrency is exceeded, 
+	 * batch waits in the lane and is executed by the thread, which currently executes batches on the target system 
+	 * (~ caller is not blocked, {@link OperationState#RUNNING} is returned).
 	 */
 	@Override
 	@Transactional(propagation = Propagation.NOT_SUPPORTED)
-	public synchronized OperationResult execute(SysProvisioningBatchDto batch) {
+	public OperationResult execute(SysProvisioningBatchDto batch) {
 		Assert.notNull(batch, "Provisioning batch is required.");
 		batch = batchService.get(batch.getId());
-		//	
-		OperationResult result = null;
+		Assert.notNull(batch, "Provisioning batch is required.");
+		//
 		List<SysProvisioningOperationDto> operations = provisioningOperationService.getByTimelineAndBatchId(batch.getId());
 		if (operations.isEmpty()) {
-			// reset next attempt time if is filled
-			if (batch.getNextAttempt() != null) {
-				batch.setNextAttempt(null);
-				batchService.save(batch);
+			// nothing to execute - next attempt is reset in batch execution
+			return executeBatch(batch.getId());
+		}
+		SysProvisioningOperationDto firstOperation = operations.get(0);
+		SysSystemDto system = DtoUtils.getEmbedded(firstOperation, SysProvisioningOperation_.system, (SysSystemDto) null);
+		if (system == null) {
+			system = systemService.get(firstOperation.getSystem());
+		}
+		// queue batch into system lane
+		SystemLane systemLane = getSystemLane(system);
+		if (!systemLane.offer(batch.getId())) {
+			LOG.debug("Batch [{}] is queued in system [{}] lane already.", batch.getId(), system.getCode());
+		}
+		// execute batches queued in the system lane, when system concurrency is not exceeded
+		OperationResult result = null;
+		while (systemLane.tryAcquire()) {
+			try {
+				UUID batchId;
+				while ((batchId = systemLane.poll()) != null) {
+					OperationResult batchResult;
+					try {
+						batchResult = executeBatch(batchId);
+					} catch (Exception ex) {
+						// just for sure - execute should return appropriate result always => next batches in lane are executed
+						LOG.error("Batch [{}] execution in system [{}] lane failed.", batchId, system.getCode(), ex);
+						batchResult = new OperationResult.Builder(OperationState.EXCEPTION).setCause(ex).build();
+					}
+					if (batchId.equals(batch.getId())) {
+						result = batchResult;
+					}
+				}
+			} finally {
+				systemLane.release();
+			}
+			if (systemLane.isEmpty()) {
+				// batch queued after lane was drained, but before permit was released is executed in next cycle
+				break;
 			}
-			return new OperationResult.Builder(OperationState.EXECUTED).build();
 		}
-		for (SysProvisioningOperationDto provisioningOperation : operations) {
-			// operation is already running - not complete or executed manually between
-			if (provisioningOperation.getResultState() == OperationState.RUNNING) {
-				LOG.debug("Previous operation [{}] still running, next operations will be executed after previous operation ends (with next retry run)",
-						provisioningOperation.getId());
-				//
-				ResultModel resultModel = new DefaultResultModel(AccResultCode.PROVISIONING_IS_IN_QUEUE, 
+		if (result != null) {
+			return result;
+		}
+		LOG.debug("Batch [{}] is queued in system [{}] lane, system concurrency [{}] is exceeded.",
+				batch.getId(), system.getCode(), systemLane.getConcurrency());
+		//
+		return new OperationResult
+				.Builder(OperationState.RUNNING)
+				.setModel(new DefaultResultModel(AccResultCode.PROVISIONING_SYSTEM_CONCURRENCY_EXCEEDED, 
 						ImmutableMap.of(
-								"name", provisioningOperation.getSystemEntityUid(), 
-								"system", provisioningOperation.getSystem(),
-								"operationType", provisioningOperation.getOperationType(),
-								"objectClass", provisioningOperation.getProvisioningContext().getConnectorObject().getObjectClass()));
-				result = new OperationResult.Builder(OperationState.NOT_EXECUTED).setModel(resultModel).build();
-				break;
+								"name", firstOperation.getSystemEntityUid(), 
+								"system", system.getCode(),
+								"concurrency", String.valueOf(systemLane.getConcurrency()))))
+				.build();
+	}
+	
+	/**
+	 * Execute batch operations - batch is claimed by the current server instance. 
+	 * Batch execution is stopped, when claim expires and batch is claimed by other server instance.
+	 * 
+	 * @param batchId batch identifier
+	 * @return result of the last executed operation
+	 */
+	private OperationResult executeBatch(UUID batchId) {
+		SysProvisioningBatchDto batch = batchService.get(batchId);
+		if (batch == null) {
+			LOG.debug("Batch [{}] was deleted before execution.", batchId);
+			//
+			return new OperationResult.Builder(OperationState.EXECUTED).build();
+		}
+		Lock lock = getSystemEntityLock(batch.getSystemEntity(), null);
+		lock.lock();
+		try {
+			OperationResult result = null;
+			List<SysProvisioningOperationDto> operations = provisioningOperationService.getByTimelineAndBatchId(batch.getId());
+			if (operations.isEmpty()) {
+				// reset next attempt time if is filled
+				if (batch.getNextAttempt() != null) {
+					batch.setNextAttempt(null);
+					batchService.save(batch);
+				}
+				return new OperationResult.Builder(OperationState.EXECUTED).build();
+			}
+			SysProvisioningOperationDto firstOperation = operations.get(0);
+			// batch is claimed by the current server instance (~ claim is renewed before each operation)
+			long leaseTime = provisioningConfiguration.getTimeout() * 2;
+			if (!batchService.claimBatch(batch.getId(), leaseTime)) {
+				return getBatchClaimedResult(firstOperation);
 			}
-			// It not possible to get operation from embedded, because missing request
-			SysProvisioningOperationDto operation = executeInternal(provisioningOperation); // not run in transaction
-			result = operation.getResult();
-			if (OperationState.EXECUTED != result.getState()) {
-				// stop processing next requests
+			try {
+				for (SysProvisioningOperationDto provisioningOperation : operations) {
+					// operation is already running - not complete or executed manually between
+					if (provisioningOperation.getResultState() == OperationState.RUNNING) {
+						LOG.debug("Previous operation [{}] still running, next operations will be executed after previous operation ends (with next retry run)",
+								provisioningOperation.getId());
+						//
+						ResultModel resultModel = new DefaultResultModel(AccResultCode.PROVISIONING_IS_IN_QUEUE, 
+								ImmutableMap.of(
+										"name", provisioningOperation.getSystemEntityUid(), 
+										"system", provisioningOperation.getSystem(),
+										"operationType", provisioningOperation.getOperationType(),
+										"objectClass", provisioningOperation.getProvisioningContext().getConnectorObject().getObjectClass()));
+						result = new OperationResult.Builder(OperationState.NOT_EXECUTED).setModel(resultModel).build();
+						break;
+					}
+					// renew claim - operation can take up to configured timeout
+					if (!batchService.claimBatch(batch.getId(), leaseTime)) {
+						// claim expired and batch was claimed by other server instance => next operations are executed by other instance
+						LOG.warn("Batch [{}] was claimed by other server instance, next operations will not be executed by the current instance.",
+								batch.getId());
+						//
+						return getBatchClaimedResult(provisioningOperation);
+					}
+					// It not possible to get operation from embedded, because missing request
+					SysProvisioningOperationDto operation = executeInternal(provisioningOperation); // not run in transaction
+					result = operation.getResult();
+					if (OperationState.EXECUTED != result.getState()) {
+						// stop processing next requests
+						return result;
+					}
+				}
+				// last processed request state (previous requests will be OperationState.EXECUTED)
 				return result;
+			} finally {
+				// claimed by other instance is not released (released by claim owner only)
+				batchService.releaseBatch(batch.getId());
 			}
+		} finally {
+			lock.unlock();
 		}
-		// last processed request state (previous requests will be OperationState.EXECUTED)
-		return result;
+	}
+	
+	private OperationResult getBatchClaimedResult(SysProvisioningOperationDto provisioningOperation) {
+		SysSystemDto system = DtoUtils.getEmbedded(provisioningOperation, SysProvisioningOperation_.system, (SysSystemDto) null);
+		//
+		return new OperationResult
+				.Builder(OperationState.NOT_EXECUTED)
+				.setModel(new DefaultResultModel(AccResultCode.PROVISIONING_BATCH_CLAIMED, 
+						ImmutableMap.of(
+								"name", provisioningOperation.getSystemEntityUid(), 
+								"system", system == null ? String.valueOf(provisioningOperation.getSystem()) : system.getCode())))
+				.build();
 	}
 
 	@Override
@@ -324,6 +465,39 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 		return provisioningConfiguration;
 	}
 	
+	/**
+	 * Lock for operations executed for the same system entity. System is used,
+	 * if system entity is not created yet.
+	 * 
+	 * @param systemEntityId system entity identifier
+	 * @param systemId system identifier
+	 * @return lock
+	 */
+	private Lock getSystemEntityLock(UUID systemEntityId, UUID systemId) {
+		Object key = systemEntityId != null ? systemEntityId : systemId;
+		Assert.notNull(key, "System entity or system is required.");
+		//
+		return systemEntityLocks.get(key);
+	}
+	
+	/**
+	 * Lane for concurrent batch execution on the target system. Lane is recreated, 
+	 * when configured concurrency is changed.
+	 * 
+	 * @param system target system
+	 * @return lane
+	 */
+	private SystemLane getSystemLane(SysSystemDto system) {
+		int concurrency = provisioningConfiguration.getSystemConcurrency(system);
+		//
+		return systemLanes.compute(system.getId(), (systemId, lane) -> {
+			if (lane != null && lane.getConcurrency() == concurrency) {
+				return lane;
+			}
+			return new SystemLane(concurrency);
+		});
+	}
+	
 	/**
 	 * Persist new operation - assign appropriate batch. Operation is put into queue, if it's already in the queue
 	 * 
@@ -391,4 +565,67 @@ public class DefaultProvisioningExecutor implements ProvisioningExecutor {
 		//
 		return provisioningOperation;
 	}
+	
+	/**
+	 * Target system lane - batches waiting for execution on the target system. 
+	 * Lane limits batches executed concurrently on the target system.
+	 * 
+	 * @author Radek Tomiška
+	 * @since 11.0.0
+	 */
+	private static class SystemLane {
+		
+		private final int concurrency;
+		private final Semaphore permits;
+		private final Queue<UUID> batches = new ConcurrentLinkedQueue<>();
+		private final Set<UUID> queuedBatches = ConcurrentHashMap.newKeySet();
+		
+		SystemLane(int concurrency) {
+			this.concurrency = concurrency;
+			this.permits = new Semaphore(concurrency);
+		}
+		
+		int getConcurrency() {
+			return concurrency;
+		}
+		
+		/**
+		 * Queue batch into lane.
+		 * 
+		 * @param batchId batch identifier
+		 * @return false - batch is queued already
+		 */
+		boolean offer(UUID batchId) {
+			if (!queuedBatches.add(batchId)) {
+				return false;
+			}
+			batches.add(batchId);
+			return true;
+		}
+		
+		/**
+		 * Next batch to execute.
+		 * 
+		 * @return batch identifier or {@code null}, if lane is empty
+		 */
+		UUID poll() {
+			UUID batchId = batches.poll();
+			if (batchId != null) {
+				queuedBatches.remove(batchId);
+			}
+			return batchId;
+		}
+		
+		boolean isEmpty() {
+			return batches.isEmpty();
+		}
+		
+		boolean tryAcquire() {
+			return permits.tryAcquire();
+		}
+		
+		void release() {
+			permits.release();
+		}
+	}
 }
@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.acc.service.impl;
 
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,7 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningBatchDto;
@@ -19,6 +22,7 @@ import eu.bcvsolutions.idm.acc.service.api.SysProvisioningBatchService;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.dto.filter.EmptyFilter;
 import eu.bcvsolutions.idm.core.api.service.AbstractReadWriteDtoService;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 
 /**
  * Persists provisioning operation batches
@@ -37,6 +41,7 @@ public class DefaultSysProvisioningBatchService
 	private final SysProvisioningBatchRepository repository;
 	//
 	@Autowired private ProvisioningConfiguration provisioningConfiguration;
+	@Autowired private ConfigurationService configurationService;
 	
 	@Autowired
 	public DefaultSysProvisioningBatchService(SysProvisioningBatchRepository repository) {
@@ -114,4 +119,29 @@ public class DefaultSysProvisioningBatchService
 		//
 		return toDto(firstBatch);
 	}
+	
+	/**
+	 * Claim is committed in new transaction - claim has to be visible for other server instances.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public boolean claimBatch(UUID batchId, long leaseTime) {
+		Assert.notNull(batchId, "Batch identifier is required.");
+		//
+		ZonedDateTime now = ZonedDateTime.now();
+		String instanceId = configurationService.getInstanceId();
+		boolean claimed = repository.claim(batchId, instanceId, now.plus(leaseTime, ChronoUnit.MILLIS), now) > 0;
+		if (!claimed) {
+			LOG.debug("Batch [{}] is claimed by other server instance, current instance [{}].", batchId, instanceId);
+		}
+		return claimed;
+	}
+	
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void releaseBatch(UUID batchId) {
+		Assert.notNull(batchId, "Batch identifier is required.");
+		//
+		repository.release(batchId, configurationService.getInstanceId());
+	}
 }
@@ -253,6 +253,7 @@ public class DefaultSysProvisioningBreakConfigService extends
 	public void clearCache(UUID systemId, ProvisioningEventType event) {
 		SysProvisioningBreakItems cache = this.getCacheProcessedItems(systemId);
 		cache.clearRecords(event);
+		saveCacheProcessedItems(systemId, cache);
 	}
 	
 	@Override
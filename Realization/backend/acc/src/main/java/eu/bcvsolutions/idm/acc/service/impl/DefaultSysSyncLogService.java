@@ -30,6 +30,7 @@ import eu.bcvsolutions.idm.acc.entity.SysSystemMapping_;
 import eu.bcvsolutions.idm.acc.repository.SysSyncLogRepository;
 import eu.bcvsolutions.idm.acc.service.api.SysSyncActionLogService;
 import eu.bcvsolutions.idm.acc.service.api.SysSyncLogService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncReconciliationUidService;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.service.AbstractReadWriteDtoService;
 import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
@@ -46,6 +47,7 @@ public class DefaultSysSyncLogService
 		implements SysSyncLogService {
 
 	private final SysSyncActionLogService syncActionLogService;
+	@Autowired private SysSyncReconciliationUidService syncReconciliationUidService;
 
 	@Autowired
 	public DefaultSysSyncLogService(
@@ -93,6 +95,8 @@ public class DefaultSysSyncLogService
 		syncActionLogService.find(filter, null).forEach(log -> {
 			syncActionLogService.delete(log);
 		});
+		// remove uids staged by reconciliation (e.g. after server was killed during reconciliation)
+		syncReconciliationUidService.deleteUids(syncLog.getId());
 		//
 		super.delete(syncLog);
 	}
@@ -0,0 +1,69 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+import eu.bcvsolutions.idm.acc.entity.SysSyncReconciliationUid;
+import eu.bcvsolutions.idm.acc.repository.SysSyncReconciliationUidRepository;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncReconciliationUidService;
+
+/**
+ * Helper service only - account uids returned from the target system are staged in database during reconciliation.
+ * 
+ * @see SysSyncReconciliationUidRepository
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class DefaultSysSyncReconciliationUidService implements SysSyncReconciliationUidService {
+
+	private final SysSyncReconciliationUidRepository repository;
+	
+	@Autowired
+	public DefaultSysSyncReconciliationUidService(SysSyncReconciliationUidRepository repository) {
+		Assert.notNull(repository, "Repository is required.");
+		//
+		this.repository = repository;
+	}
+	
+	@Override
+	@Transactional
+	public void saveUids(UUID syncLogId, Collection<String> uids) {
+		Assert.notNull(syncLogId, "Synchronization log identifier is required.");
+		//
+		if (CollectionUtils.isEmpty(uids)) {
+			return;
+		}
+		repository.saveAll(uids
+				.stream()
+				.map(uid -> new SysSyncReconciliationUid(syncLogId, uid))
+				.collect(Collectors.toList()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<UUID> findMissingAccounts(UUID syncLogId, UUID systemId, UUID idFrom, int size) {
+		Assert.notNull(syncLogId, "Synchronization log identifier is required.");
+		Assert.notNull(systemId, "System identifier is required.");
+		//
+		if (idFrom == null) {
+			return repository.findMissingAccounts(syncLogId, systemId, PageRequest.of(0, size));
+		}
+		return repository.findMissingAccounts(syncLogId, systemId, idFrom, PageRequest.of(0, size));
+	}
+	
+	@Override
+	@Transactional
+	public int deleteUids(UUID syncLogId) {
+		Assert.notNull(syncLogId, "Synchronization log identifier is required.");
+		//
+		return repository.deleteBySyncLogId(syncLogId);
+	}
+}
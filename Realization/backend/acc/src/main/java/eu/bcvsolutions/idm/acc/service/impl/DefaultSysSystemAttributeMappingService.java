@@ -91,6 +91,7 @@ import eu.bcvsolutions.idm.core.api.utils.EntityUtils;
 import eu.bcvsolutions.idm.core.api.utils.ExceptionUtils;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
 import eu.bcvsolutions.idm.core.eav.api.service.IdmFormAttributeService;
@@ -373,7 +374,7 @@ public class DefaultSysSystemAttributeMappingService
 		Assert.notNull(attributeMapping, "Attribute mapping is required.");
 		try {
 			return transformValueToResource(uid, value, attributeMapping.getTransformToResourceScript(), entity,
-					getSystemFromAttributeMapping(attributeMapping), mappingContext);
+					getSystemFromSchemaAttribute(getSchemaAttribute(attributeMapping, mappingContext)), mappingContext);
 		} catch (Exception e) {
 			Map<String, Object> logParams = createTransformationScriptFailureParams(e, attributeMapping);
 			ResultCodeException ex = new ResultCodeException(AccResultCode.GROOVY_SCRIPT_ATTR_TRANSFORMATION_FAILED,
@@ -777,10 +778,10 @@ public class DefaultSysSystemAttributeMappingService
 			return null;
 		}
 		//
-		SysSchemaAttributeDto schemaAttributeDto = getSchemaAttribute(attributeHandling);
+		SysSchemaAttributeDto schemaAttributeDto = getSchemaAttribute(attributeHandling, mappingContext);
 		//
 		if (attributeHandling.isExtendedAttribute() && entity != null && formService.isFormable(entity.getClass())) {
-			List<IdmFormValueDto> formValues = formService.getValues(entity, attributeHandling.getIdmPropertyName());
+			List<IdmFormValueDto> formValues = getFormValues(entity, attributeHandling.getIdmPropertyName(), mappingContext);
 			if (formValues.isEmpty()) {
 				idmValue = null;
 			} else if (schemaAttributeDto.isMultivalued()) {
@@ -836,6 +837,34 @@ public class DefaultSysSystemAttributeMappingService
 		return this.transformValueToResource(uid, idmValue, attributeHandling, entity, mappingContext);
 	}
 
+	/**
+	 * Form values of extended attribute. Form instance is loaded once and shared by all attributes in mapping context.
+	 * 
+	 * @param entity values owner
+	 * @param attributeCode attribute code in main form definition
+	 * @param mappingContext [optional] shared mapping context
+	 * @return form values
+	 */
+	private List<IdmFormValueDto> getFormValues(AbstractDto entity, String attributeCode, MappingContext mappingContext) {
+		if (mappingContext == null || entity.getId() == null) {
+			return formService.getValues(entity, attributeCode);
+		}
+		IdmFormInstanceDto formInstance = mappingContext.getFormInstance();
+		if (formInstance == null || !entity.getId().equals(formInstance.getOwnerId())) {
+			formInstance = formService.getFormInstance(entity);
+			mappingContext.setFormInstance(formInstance);
+		}
+		IdmFormAttributeDto formAttribute = formInstance.getMappedAttributeByCode(attributeCode);
+		if (formAttribute == null) {
+			// attribute is not in main definition => original behavior
+			return formService.getValues(entity, attributeCode);
+		}
+		return formInstance.getValues()
+				.stream()
+				.filter(value -> formAttribute.getId().equals(value.getFormAttribute()))
+				.collect(Collectors.toList());
+	}
+
 	@Override
 	public String generateUid(AbstractDto entity, SysSystemAttributeMappingDto uidAttribute) {
 		Object uid = this.getAttributeValue(null, entity, uidAttribute);
@@ -1141,6 +1170,23 @@ public class DefaultSysSystemAttributeMappingService
 		}
 	}
 
+	/**
+	 * Schema attribute resolved in mapping context is used (e.g. by provisioning).
+	 * 
+	 * @param attributeMapping mapped attribute
+	 * @param mappingContext [optional] mapping context
+	 * @return schema attribute
+	 */
+	private SysSchemaAttributeDto getSchemaAttribute(AttributeMapping attributeMapping, MappingContext mappingContext) {
+		if (mappingContext != null) {
+			SysSchemaAttributeDto schemaAttributeDto = mappingContext.getSchemaAttribute(attributeMapping);
+			if (schemaAttributeDto != null) {
+				return schemaAttributeDto;
+			}
+		}
+		return getSchemaAttribute(attributeMapping);
+	}
+
 	/**
 	 * Method return {@link SysSystemDto} from {@link AttributeMapping}
 	 * 
@@ -1,5 +1,11 @@
 package eu.bcvsolutions.idm.acc.service.impl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
@@ -22,8 +28,10 @@ import eu.bcvsolutions.idm.acc.dto.filter.AccAccountFilter;
 import eu.bcvsolutions.idm.acc.dto.filter.SysProvisioningOperationFilter;
 import eu.bcvsolutions.idm.acc.dto.filter.SysSystemEntityFilter;
 import eu.bcvsolutions.idm.acc.entity.SysSystemEntity;
+import eu.bcvsolutions.idm.acc.entity.SysSystemEntityState;
 import eu.bcvsolutions.idm.acc.entity.SysSystemEntity_;
 import eu.bcvsolutions.idm.acc.repository.SysSystemEntityRepository;
+import eu.bcvsolutions.idm.acc.repository.SysSystemEntityStateRepository;
 import eu.bcvsolutions.idm.acc.service.api.AccAccountService;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningBatchService;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningOperationService;
@@ -33,7 +41,12 @@ import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.AbstractReadWriteDtoService;
 import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
 import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
+import eu.bcvsolutions.idm.core.security.api.domain.ConfidentialString;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.ic.api.IcAttribute;
 import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
+import eu.bcvsolutions.idm.ic.api.IcPasswordAttribute;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorObjectImpl;
 
 /**
  * Entities on target system
@@ -53,6 +66,7 @@ public class DefaultSysSystemEntityService
 	@Autowired @Lazy private AccAccountService accountService;
 	@Autowired private SysProvisioningBatchService batchService;
 	@Autowired private SysSystemService systemService;
+	@Autowired private SysSystemEntityStateRepository stateRepository;
 
 	@Autowired
 	public DefaultSysSystemEntityService(SysSystemEntityRepository systemEntityRepository) {
@@ -102,6 +116,9 @@ public class DefaultSysSystemEntityService
 			batchService.delete(batch);
 		}
 		//
+		// clear last provisioned state
+		stateRepository.deleteBySystemEntityId(systemEntity.getId());
+		//
 		super.delete(systemEntity, permission);
 	}
 
@@ -132,4 +149,79 @@ public class DefaultSysSystemEntityService
 
 		return this.systemService.readConnectorObject(systemEntity.getSystem(), systemEntity.getUid(), null);
 	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public IcConnectorObject getProvisionedState(SysSystemEntityDto systemEntity) {
+		Assert.notNull(systemEntity, "System entity is required.");
+		//
+		if (systemEntity.getId() == null) {
+			return null;
+		}
+		SysSystemEntityState state = stateRepository.findOneBySystemEntityId(systemEntity.getId());
+		//
+		return state == null ? null : state.getProvisionedState();
+	}
+	
+	@Override
+	@Transactional
+	public void saveProvisionedState(SysSystemEntityDto systemEntity, IcConnectorObject connectorObject, boolean merge) {
+		Assert.notNull(systemEntity, "System entity is required.");
+		Assert.notNull(systemEntity.getId(), "Persisted system entity is required.");
+		//
+		if (connectorObject == null) {
+			// state is not loaded, when is cleared
+			if (stateRepository.countBySystemEntityId(systemEntity.getId()) > 0) {
+				stateRepository.deleteBySystemEntityId(systemEntity.getId());
+			}
+			return;
+		}
+		SysSystemEntityState state = stateRepository.findOneBySystemEntityId(systemEntity.getId());
+		Map<String, IcAttribute> attributes = new LinkedHashMap<>();
+		if (merge && state != null) {
+			state.getProvisionedState().getAttributes().forEach(attribute -> attributes.put(attribute.getName(), attribute));
+		}
+		connectorObject
+			.getAttributes()
+			.stream()
+			.filter(attribute -> !isConfidential(attribute))
+			.forEach(attribute -> attributes.put(attribute.getName(), attribute));
+		//
+		if (state == null) {
+			state = new SysSystemEntityState(systemEntity.getId());
+		}
+		state.setProvisionedState(new IcConnectorObjectImpl(
+				systemEntity.getUid(), 
+				connectorObject.getObjectClass(), 
+				new ArrayList<>(attributes.values())));
+		stateRepository.save(state);
+	}
+	
+	@Override
+	@Transactional
+	public int clearProvisionedStates(UUID systemId) {
+		if (systemId == null) {
+			return stateRepository.deleteAllStates();
+		}
+		return stateRepository.deleteBySystemId(systemId);
+	}
+	
+	/**
+	 * Confidential attributes are not stored in provisioned state.
+	 * 
+	 * @param attribute connector attribute
+	 * @return true - attribute contains password or confidential value
+	 */
+	private boolean isConfidential(IcAttribute attribute) {
+		if (attribute instanceof IcPasswordAttribute) {
+			return true;
+		}
+		List<Object> values = attribute.getValues();
+		if (values == null) {
+			return false;
+		}
+		return values
+				.stream()
+				.anyMatch(value -> value instanceof GuardedString || value instanceof ConfidentialString);
+	}
 }
@@ -20,15 +20,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.util.Asserts;
 import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache.ValueWrapper;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
 
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.dto.AbstractSysSyncConfigDto;
+import eu.bcvsolutions.idm.acc.dto.SysConnectorConfigurationSnapshot;
 import eu.bcvsolutions.idm.acc.dto.SysConnectorKeyDto;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaObjectClassDto;
@@ -56,6 +60,7 @@ import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.ConfidentialStorage;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.utils.EntityUtils;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
@@ -116,6 +121,8 @@ public class DefaultSysSystemService
 	private final SysSystemMappingService systemMappingService;
 	private final SysSystemAttributeMappingService systemAttributeMappingService;
 	private final SysSchemaObjectClassService schemaObjectClassService;
+	//
+	@Autowired private IdmCacheManager cacheManager;
 
 	@Autowired
 	public DefaultSysSystemService(
@@ -175,7 +182,19 @@ public class DefaultSysSystemService
 				dto.setDisabled(true);
 			}
 		}
-		return super.saveInternal(dto);
+		SysSystemDto system = super.saveInternal(dto);
+		// connector key or connector server can be changed
+		evictConnectorConfiguration(system.getId());
+		//
+		return system;
+	}
+	
+	@Override
+	@Transactional
+	public void deleteInternal(SysSystemDto dto) {
+		super.deleteInternal(dto);
+		//
+		evictConnectorConfiguration(dto.getId());
 	}
 	
 	@Override
@@ -268,6 +287,10 @@ public class DefaultSysSystemService
 		return predicates;
 	}
 
+	/**
+	 * Compiled configuration is cached with version. Version is shared between server instances 
+	 * => configuration is evicted on all instances, when version is evicted.
+	 */
 	@Override
 	@Transactional
 	public IcConnectorConfiguration getConnectorConfiguration(SysSystemDto system) {
@@ -275,6 +298,81 @@ public class DefaultSysSystemService
 		if (system.getConnectorKey() == null) {
 			return null;
 		}
+		UUID systemId = system.getId();
+		if (systemId == null) {
+			// system is not persisted - configuration is not cached
+			return createConnectorConfiguration(system);
+		}
+		UUID version = getConnectorConfigurationVersion(systemId);
+		ValueWrapper cachedValue = cacheManager.getValue(CONNECTOR_CONFIGURATION_CACHE_NAME, systemId);
+		if (cachedValue != null) {
+			SysConnectorConfigurationSnapshot snapshot = (SysConnectorConfigurationSnapshot) cachedValue.get();
+			if (snapshot != null && version.equals(snapshot.getVersion())) {
+				return snapshot.getConfiguration();
+			}
+		}
+		//
+		// snapshot holds configuration copy => returned configuration is not shared
+		IcConnectorConfiguration configuration = createConnectorConfiguration(system);
+		cacheManager.cacheValue(
+				CONNECTOR_CONFIGURATION_CACHE_NAME, 
+				systemId, 
+				new SysConnectorConfigurationSnapshot(version, configuration));
+		//
+		return configuration;
+	}
+	
+	/**
+	 * Configuration is evicted immediately and after transaction is committed again - configuration 
+	 * (with previous form values) can be cached by concurrent thread before saving transaction is committed.
+	 */
+	@Override
+	public void evictConnectorConfiguration(UUID systemId) {
+		if (systemId == null) {
+			return;
+		}
+		evictConnectorConfigurationInternal(systemId);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			
+			@Override
+			public void afterCommit() {
+				evictConnectorConfigurationInternal(systemId);
+			}
+		});
+	}
+	
+	private void evictConnectorConfigurationInternal(UUID systemId) {
+		cacheManager.evictValue(CONNECTOR_CONFIGURATION_VERSION_CACHE_NAME, systemId);
+		cacheManager.evictValue(CONNECTOR_CONFIGURATION_CACHE_NAME, systemId);
+	}
+	
+	/**
+	 * Shared configuration version - new version is created, if version was evicted.
+	 * 
+	 * @param systemId system identifier
+	 * @return configuration version
+	 */
+	private UUID getConnectorConfigurationVersion(UUID systemId) {
+		ValueWrapper cachedVersion = cacheManager.getValue(CONNECTOR_CONFIGURATION_VERSION_CACHE_NAME, systemId);
+		if (cachedVersion != null && cachedVersion.get() != null) {
+			return (UUID) cachedVersion.get();
+		}
+		UUID version = UUID.randomUUID();
+		cacheManager.cacheValue(CONNECTOR_CONFIGURATION_VERSION_CACHE_NAME, systemId, version);
+		//
+		return version;
+	}
+	
+	/**
+	 * Compile connector configuration from system form values.
+	 * 
+	 * @param system target system
+	 * @return connector configuration
+	 */
+	private IcConnectorConfiguration createConnectorConfiguration(SysSystemDto system) {
 		IcConnectorConfiguration connectorConfig = null;
 		// load connector properties, different between local and remote
 		IcConnectorInstance connectorInstance = getConnectorInstance(system);
@@ -0,0 +1,25 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Reconciliation - account uids returned from the target system are staged in database
+
+CREATE TABLE sys_sync_reconciliation_uid (
+	id bytea NOT NULL,
+	created timestamp NOT NULL,
+	creator varchar(255) NOT NULL,
+	creator_id bytea NULL,
+	modified timestamp NULL,
+	modifier varchar(255) NULL,
+	modifier_id bytea NULL,
+	original_creator varchar(255) NULL,
+	original_creator_id bytea NULL,
+	original_modifier varchar(255) NULL,
+	original_modifier_id bytea NULL,
+	realm_id bytea NULL,
+	transaction_id bytea NULL,
+	sync_log_id bytea NOT NULL,
+	uid varchar(1000) NOT NULL,
+	CONSTRAINT sys_sync_reconciliation_uid_pkey PRIMARY KEY (id)
+);
+CREATE INDEX idx_sys_sync_rec_uid_log_uid ON sys_sync_reconciliation_uid USING btree (sync_log_id, uid);
@@ -0,0 +1,8 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Provisioning queue - batch is claimed by server instance
+
+ALTER TABLE sys_provisioning_batch ADD COLUMN claimed_by varchar(255) NULL;
+ALTER TABLE sys_provisioning_batch ADD COLUMN claimed_until timestamp NULL;
@@ -0,0 +1,25 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Last provisioned attributes state of system entity - used instead of reading account from target system before provisioning
+
+CREATE TABLE sys_system_entity_state (
+	id bytea NOT NULL,
+	created timestamp NOT NULL,
+	creator varchar(255) NOT NULL,
+	creator_id bytea NULL,
+	modified timestamp NULL,
+	modifier varchar(255) NULL,
+	modifier_id bytea NULL,
+	original_creator varchar(255) NULL,
+	original_creator_id bytea NULL,
+	original_modifier varchar(255) NULL,
+	original_modifier_id bytea NULL,
+	realm_id bytea NULL,
+	transaction_id bytea NULL,
+	system_entity_id bytea NOT NULL,
+	provisioned_state bytea NOT NULL,
+	CONSTRAINT sys_system_entity_state_pkey PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX ux_sys_system_entity_state_se ON sys_system_entity_state USING btree (system_entity_id);
@@ -0,0 +1,25 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Reconciliation - account uids returned from the target system are staged in database
+
+CREATE TABLE sys_sync_reconciliation_uid (
+	id binary(16) NOT NULL,
+	created datetime2 NOT NULL,
+	creator nvarchar(255) NOT NULL,
+	creator_id binary(16) NULL,
+	modified datetime2 NULL,
+	modifier nvarchar(255) NULL,
+	modifier_id binary(16) NULL,
+	original_creator nvarchar(255) NULL,
+	original_creator_id binary(16) NULL,
+	original_modifier nvarchar(255) NULL,
+	original_modifier_id binary(16) NULL,
+	realm_id binary(16) NULL,
+	transaction_id binary(16) NULL,
+	sync_log_id binary(16) NOT NULL,
+	uid nvarchar(1000) NOT NULL,
+	CONSTRAINT sys_sync_reconciliation_uid_pkey PRIMARY KEY (id)
+);
+CREATE INDEX idx_sys_sync_rec_uid_log_uid ON sys_sync_reconciliation_uid (sync_log_id, uid);
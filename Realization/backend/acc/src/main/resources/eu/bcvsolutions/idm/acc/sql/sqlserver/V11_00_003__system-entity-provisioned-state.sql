@@ -0,0 +1,25 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Last provisioned attributes state of system entity - used instead of reading account from target system before provisioning
+
+CREATE TABLE sys_system_entity_state (
+	id binary(16) NOT NULL,
+	created datetime2 NOT NULL,
+	creator nvarchar(255) NOT NULL,
+	creator_id binary(16) NULL,
+	modified datetime2 NULL,
+	modifier nvarchar(255) NULL,
+	modifier_id binary(16) NULL,
+	original_creator nvarchar(255) NULL,
+	original_creator_id binary(16) NULL,
+	original_modifier nvarchar(255) NULL,
+	original_modifier_id binary(16) NULL,
+	realm_id binary(16) NULL,
+	transaction_id binary(16) NULL,
+	system_entity_id binary(16) NOT NULL,
+	provisioned_state image NOT NULL,
+	CONSTRAINT sys_system_entity_state_pkey PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX ux_sys_system_entity_state_se ON sys_system_entity_state (system_entity_id);
@@ -8,6 +8,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -528,11 +529,13 @@ public class ProvisioningBreakProcessorTest extends AbstractIntegrationTest {
 		//
 		// subtrack 25 minutes from all items
 		long subtrackMinutes = 1500000;
-		List<Long> execudedItems = cacheProcessedItems.getExecutedItems(ProvisioningEventType.UPDATE);
-		// it isn't possible use foreEach or another stream function (reference)
-		for (Long item : execudedItems) {
-			execudedItems.set(execudedItems.indexOf(item), item - subtrackMinutes);
+		long period = breakConfig.getPeriod(TimeUnit.MILLISECONDS);
+		int executedItems = cacheProcessedItems.getSize(ProvisioningEventType.UPDATE);
+		cacheProcessedItems.clearRecords(ProvisioningEventType.UPDATE);
+		for (int index = 0; index < executedItems; index++) {
+			cacheProcessedItems.addItem(ProvisioningEventType.UPDATE, System.currentTimeMillis() - subtrackMinutes, period);
 		}
+		provisioningBreakConfig.saveCacheProcessedItems(system.getId(), cacheProcessedItems);
 		//
 		provisioningService.doProvisioning(identity);
 		provisioningService.doProvisioning(identity);
@@ -564,11 +567,13 @@ public class ProvisioningBreakProcessorTest extends AbstractIntegrationTest {
 		//
 		// subtrack only 19 minutes from all items
 		long subtrackMinutes = 1140000;
-		List<Long> execudedItems = cacheProcessedItems.getExecutedItems(ProvisioningEventType.UPDATE);
-		// it isn't possible use foreEach or another stream function (reference)
-		for (Long item : execudedItems) {
-			execudedItems.set(execudedItems.indexOf(item), item - subtrackMinutes);
+		long period = breakConfig.getPeriod(TimeUnit.MILLISECONDS);
+		int executedItems = cacheProcessedItems.getSize(ProvisioningEventType.UPDATE);
+		cacheProcessedItems.clearRecords(ProvisioningEventType.UPDATE);
+		for (int index = 0; index < executedItems; index++) {
+			cacheProcessedItems.addItem(ProvisioningEventType.UPDATE, System.currentTimeMillis() - subtrackMinutes, period);
 		}
+		provisioningBreakConfig.saveCacheProcessedItems(system.getId(), cacheProcessedItems);
 		//
 		provisioningService.doProvisioning(identity); // block
 		//
@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.acc.provisioning;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
@@ -24,6 +25,8 @@ import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
  */
 public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	
+	private static final long PERIOD = 600000; // 10 minutes
+	
 	@Test
 	public void testAdd() throws InterruptedException {
 		List<Thread> threads = new ArrayList<Thread>();
@@ -39,7 +42,7 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 			Thread thread = new Thread(new ItemsWorker(readyCounter, lock, completeCounter, new Callable<Void>() {
 				@Override
 				public Void call() throws Exception {
-					items.addItem(ProvisioningEventType.UPDATE, System.currentTimeMillis());
+					items.addItem(ProvisioningEventType.UPDATE, System.currentTimeMillis(), PERIOD);
 					return null;
 				}
 			}));
@@ -48,8 +51,7 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 			threads.add(thread);
 		}
 	    
-	    List<Long> executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(0, executedItems.size());
+	    assertEquals(0, items.getSize(ProvisioningEventType.UPDATE));
 
 	    // Wait on all thread
 	    readyCounter.await();
@@ -58,51 +60,42 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	    // Wait on all thread
 	    completeCounter.await(); 
 
-	    executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(maximumIteration, executedItems.size());
+	    assertEquals(maximumIteration, items.getSize(ProvisioningEventType.UPDATE));
+	    assertEquals(0, items.getSize(ProvisioningEventType.CREATE));
 	    interruptThreads(threads);
 	}
 
 	@Test
-	public void testRemove() throws InterruptedException {
-		List<Thread> threads = new ArrayList<Thread>();
-		int maximumIteration = 20;
-		CountDownLatch readyCounter = new CountDownLatch(maximumIteration);
-	    CountDownLatch lock = new CountDownLatch(1);
-	    CountDownLatch completeCounter = new CountDownLatch(maximumIteration);
-	    
-	    SysProvisioningBreakItems items = new SysProvisioningBreakItems();
-	    
-	    for (int index = 0; index < maximumIteration; index++) {
-	    	items.addItem(ProvisioningEventType.UPDATE, Long.valueOf(1000 + index));
+	public void testSlidingWindow() {
+		SysProvisioningBreakItems items = new SysProvisioningBreakItems();
+		long start = 1000000;
+		long bucketWidth = PERIOD / SysProvisioningBreakItems.BUCKET_COUNT;
+		//
+		for (int index = 0; index < 20; index++) {
+			items.addItem(ProvisioningEventType.UPDATE, start + index, PERIOD);
 		}
-	    
-	    for (int index = 0; index < maximumIteration; index++) {
-			Thread thread = new Thread(new ItemsWorker(readyCounter, lock, completeCounter, new Callable<Void>() {
-				@Override
-				public Void call() throws Exception {
-					items.removeOlderRecordsThan(ProvisioningEventType.UPDATE, Long.valueOf(100000));
-					return null;
-				}
-			}));
-			thread.start();
-			// We need them for stop
-			threads.add(thread);
-		}
-	    
-	    List<Long> executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(maximumIteration, executedItems.size());
-
-	    // Wait on all thread
-	    readyCounter.await();
-	    // Release all thread
-	    lock.countDown(); 
-	    // Wait on all thread
-	    completeCounter.await(); 
-
-	    executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(0, executedItems.size());
-	    interruptThreads(threads);
+		assertEquals(20, items.getSize(ProvisioningEventType.UPDATE, start + 20, PERIOD));
+		assertEquals(Long.valueOf(20), items.getDiffBetweenActualAndFirst(ProvisioningEventType.UPDATE, start + 20, PERIOD));
+		//
+		// items in the next bucket
+		items.addItem(ProvisioningEventType.UPDATE, start + bucketWidth, PERIOD);
+		items.addItem(ProvisioningEventType.UPDATE, start + bucketWidth + 1, PERIOD);
+		assertEquals(22, items.getSize(ProvisioningEventType.UPDATE, start + bucketWidth + 1, PERIOD));
+		//
+		// the first bucket is out of window
+		assertEquals(2, items.getSize(ProvisioningEventType.UPDATE, start + PERIOD + bucketWidth, PERIOD));
+		// all buckets are out of window
+		assertEquals(0, items.getSize(ProvisioningEventType.UPDATE, start + 2 * PERIOD + bucketWidth, PERIOD));
+		assertNull(items.getDiffBetweenActualAndFirst(ProvisioningEventType.UPDATE, start + 2 * PERIOD + bucketWidth, PERIOD));
+		//
+		// bucket from the previous window is reused, the next bucket is still in window
+		items.addItem(ProvisioningEventType.UPDATE, start + PERIOD, PERIOD);
+		assertEquals(3, items.getSize(ProvisioningEventType.UPDATE, start + PERIOD, PERIOD));
+		//
+		// period is changed => counter is reset
+		assertEquals(0, items.getSize(ProvisioningEventType.UPDATE, start + PERIOD, PERIOD * 2));
+		items.addItem(ProvisioningEventType.UPDATE, start + PERIOD, PERIOD * 2);
+		assertEquals(1, items.getSize(ProvisioningEventType.UPDATE, start + PERIOD, PERIOD * 2));
 	}
 
 	@Test
@@ -116,10 +109,10 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	    SysProvisioningBreakItems items = new SysProvisioningBreakItems();
 	    
 	    for (int index = 0; index < maximumIteration; index++) {
-	    	items.addItem(ProvisioningEventType.UPDATE, Long.valueOf(1000 + index));
+	    	items.addItem(ProvisioningEventType.UPDATE, Long.valueOf(1000 + index), PERIOD);
 		}
 	    
-	    for (int index = 0; index < 1000; index++) {
+	    for (int index = 0; index < maximumIteration; index++) {
 			Thread thread = new Thread(new ItemsWorker(readyCounter, lock, completeCounter, new Callable<Void>() {
 				@Override
 				public Void call() throws Exception {
@@ -132,8 +125,7 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 			threads.add(thread);
 		}
 	    
-	    List<Long> executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(maximumIteration, executedItems.size());
+	    assertEquals(maximumIteration, items.getSize(ProvisioningEventType.UPDATE, 2000, PERIOD));
 
 	    // Wait on all thread
 	    readyCounter.await();
@@ -142,8 +134,8 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	    // Wait on all thread
 	    completeCounter.await(); 
 
-	    executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(0, executedItems.size());
+	    assertEquals(0, items.getSize(ProvisioningEventType.UPDATE, 2000, PERIOD));
+	    interruptThreads(threads);
 	}
 
 	/**
@@ -0,0 +1,172 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.ResultsHandler;
+import org.identityconnectors.framework.common.objects.SearchResult;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
+import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
+import eu.bcvsolutions.idm.ic.connid.service.impl.ConnIdIcConnectorService;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorConfigurationImpl;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorInstanceImpl;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorKeyImpl;
+import eu.bcvsolutions.idm.ic.impl.IcObjectClassImpl;
+import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacade;
+import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * ConnId search - objects are read in reader thread.
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class ConnIdIcConnectorServiceUnitTest extends AbstractUnitTest {
+
+	private ConnectorFacade connectorFacade;
+	private ConnIdIcConnectorService connectorService;
+	private IcConnectorInstance connectorInstance;
+
+	@Before
+	public void init() {
+		connectorFacade = mock(ConnectorFacade.class);
+		IcConnectorFacade connectorAggregator = mock(IcConnectorFacade.class);
+		when(connectorAggregator.getIcConnectors()).thenReturn(new HashMap<>());
+		IcConnectorFacadeFactory facadeFactory = mock(IcConnectorFacadeFactory.class);
+		when(facadeFactory.getConnectorFacade(any(), any())).thenReturn(connectorFacade);
+		//
+		connectorService = new ConnIdIcConnectorService(connectorAggregator, facadeFactory);
+		connectorInstance = new IcConnectorInstanceImpl(null, new IcConnectorKeyImpl("connId", "test", "1.0", "test"), false);
+	}
+
+	@After
+	public void destroy() {
+		connectorService.destroy();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void testSearchAllPages() {
+		Authentication authentication = new TestingAuthenticationToken("test", null);
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+		List<OperationOptions> pageOptions = new ArrayList<>();
+		List<Authentication> readerAuthentications = new ArrayList<>();
+		when(connectorFacade.search(any(ObjectClass.class), any(), any(ResultsHandler.class), any(OperationOptions.class))).thenAnswer(invocation -> {
+			ResultsHandler handler = invocation.getArgument(2);
+			OperationOptions options = invocation.getArgument(3);
+			pageOptions.add(options);
+			readerAuthentications.add(SecurityContextHolder.getContext().getAuthentication());
+			//
+			if (options.getPagedResultsCookie() == null) {
+				handler.handle(createConnectorObject("one"));
+				handler.handle(createConnectorObject("two"));
+				return new SearchResult("next", 1);
+			}
+			handler.handle(createConnectorObject("three"));
+			return new SearchResult(null, 0);
+		});
+		//
+		List<String> uids = new ArrayList<>();
+		connectorService.search(connectorInstance, createConfiguration(), new IcObjectClassImpl(ObjectClass.ACCOUNT_NAME), null, connectorObject -> {
+			uids.add(connectorObject.getUidValue());
+			return true;
+		});
+		//
+		Assert.assertEquals(3, uids.size());
+		Assert.assertEquals("one", uids.get(0));
+		Assert.assertEquals("three", uids.get(2));
+		Assert.assertEquals(2, pageOptions.size());
+		Assert.assertEquals("next", pageOptions.get(1).getPagedResultsCookie());
+		Assert.assertEquals(Integer.valueOf(2), pageOptions.get(1).getPagedResultsOffset());
+		// security context is propagated into reader
+		Assert.assertSame(authentication, readerAuthentications.get(0));
+	}
+
+	@Test(expected = ConnectorException.class)
+	public void testReaderExceptionIsPropagated() {
+		when(connectorFacade.search(any(ObjectClass.class), any(), any(ResultsHandler.class), any(OperationOptions.class))).thenAnswer(invocation -> {
+			ResultsHandler handler = invocation.getArgument(2);
+			handler.handle(createConnectorObject("one"));
+			throw new ConnectorException("Target system is not available (test).");
+		});
+		//
+		connectorService.search(connectorInstance, createConfiguration(), new IcObjectClassImpl(ObjectClass.ACCOUNT_NAME), null, connectorObject -> {
+			return true;
+		});
+	}
+
+	@Test
+	public void testStopSearchByHandler() {
+		AtomicBoolean readerFinished = new AtomicBoolean(false);
+		List<Boolean> handled = new ArrayList<>();
+		when(connectorFacade.search(any(ObjectClass.class), any(), any(ResultsHandler.class), any(OperationOptions.class))).thenAnswer(invocation -> {
+			ResultsHandler handler = invocation.getArgument(2);
+			try {
+				// more objects than queue capacity - reader is blocked until search is stopped
+				for (int i = 0; i < 5000; i++) {
+					boolean result = handler.handle(createConnectorObject(String.valueOf(i)));
+					handled.add(result);
+					if (!result) {
+						break;
+					}
+				}
+				// next page is available
+				return new SearchResult("next", 1);
+			} finally {
+				readerFinished.set(true);
+			}
+		});
+		//
+		List<String> uids = new ArrayList<>();
+		connectorService.search(connectorInstance, createConfiguration(), new IcObjectClassImpl(ObjectClass.ACCOUNT_NAME), null, connectorObject -> {
+			uids.add(connectorObject.getUidValue());
+			return uids.size() < 2;
+		});
+		//
+		Assert.assertEquals(2, uids.size());
+		// reader is finished, when search ends
+		Assert.assertTrue(readerFinished.get());
+		Assert.assertFalse(handled.get(handled.size() - 1));
+		Assert.assertTrue(handled.size() < 5000);
+	}
+
+	private IcConnectorConfiguration createConfiguration() {
+		Map<String, Object> operationOptions = new HashMap<>();
+		operationOptions.put(OperationOptions.OP_PAGE_SIZE, 2);
+		operationOptions.put(OperationOptions.OP_PAGED_RESULTS_OFFSET, 1);
+		IcConnectorConfigurationImpl configuration = new IcConnectorConfigurationImpl();
+		configuration.setOperationOptions(operationOptions);
+		//
+		return configuration;
+	}
+
+	private ConnectorObject createConnectorObject(String uid) {
+		return new ConnectorObjectBuilder()
+				.setObjectClass(ObjectClass.ACCOUNT)
+				.setUid(uid)
+				.setName(uid)
+				.build();
+	}
+}
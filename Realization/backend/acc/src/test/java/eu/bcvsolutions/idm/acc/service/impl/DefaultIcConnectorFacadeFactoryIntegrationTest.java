@@ -0,0 +1,190 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+import eu.bcvsolutions.idm.acc.TestHelper;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.ic.api.IcConfigurationProperty;
+import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
+import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
+import eu.bcvsolutions.idm.ic.connid.service.impl.DefaultIcConnectorFacadeFactory;
+import eu.bcvsolutions.idm.ic.impl.IcConfigurationPropertyImpl;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * Connector facade cache tests.
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class DefaultIcConnectorFacadeFactoryIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private ApplicationContext context;
+	@Autowired private SysSystemService systemService;
+
+	@Test
+	public void testCachedFacadeIsUsed() {
+		TestConnectorFacadeFactory facadeFactory = createFacadeFactory(10, Duration.ofHours(1));
+		SysSystemDto system = getHelper().createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		//
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		//
+		Assert.assertNotNull(facade);
+		Assert.assertSame(facade, facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+		Assert.assertTrue(facadeFactory.getDisposed().isEmpty());
+	}
+
+	@Test
+	public void testChangedConfigurationCreatesNewFacade() {
+		TestConnectorFacadeFactory facadeFactory = createFacadeFactory(10, Duration.ofHours(1));
+		SysSystemDto system = getHelper().createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		//
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		// confidential property is changed
+		IcConnectorConfiguration changedConfiguration = systemService.getConnectorConfiguration(system);
+		setPropertyValue(changedConfiguration, "password", new GuardedString(getHelper().createName()));
+		ConnectorFacade changedFacade = facadeFactory.getConnectorFacade(connectorInstance, changedConfiguration);
+		//
+		Assert.assertNotNull(changedFacade);
+		Assert.assertNotSame(facade, changedFacade);
+		Assert.assertSame(facade, facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+	}
+
+	@Test
+	public void testEvictedFacadeIsDisposed() {
+		TestConnectorFacadeFactory facadeFactory = createFacadeFactory(1, Duration.ofHours(1));
+		SysSystemDto system = getHelper().createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		//
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(facade);
+		Assert.assertTrue(facadeFactory.getDisposed().isEmpty());
+		// cache size is exceeded => previous facade is evicted
+		IcConnectorConfiguration changedConfiguration = systemService.getConnectorConfiguration(system);
+		setPropertyValue(changedConfiguration, "password", new GuardedString(getHelper().createName()));
+		facadeFactory.getConnectorFacade(connectorInstance, changedConfiguration);
+		//
+		Assert.assertEquals(1, facadeFactory.getDisposed().size());
+		Assert.assertSame(facade, facadeFactory.getDisposed().get(0));
+	}
+
+	@Test
+	public void testIdleFacadeIsDisposed() throws Exception {
+		TestConnectorFacadeFactory facadeFactory = createFacadeFactory(10, Duration.ofMillis(10));
+		SysSystemDto system = getHelper().createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		//
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(facade);
+		Thread.sleep(50);
+		// expired facade is evicted and disposed, new facade is validated
+		Assert.assertNotNull(facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+		//
+		Assert.assertEquals(1, facadeFactory.getDisposed().size());
+		Assert.assertSame(facade, facadeFactory.getDisposed().get(0));
+	}
+
+	@Test
+	public void testUsedFacadeIsDisposedAfterRelease() {
+		TestConnectorFacadeFactory facadeFactory = createFacadeFactory(1, Duration.ofHours(1));
+		SysSystemDto system = getHelper().createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		//
+		// facade is used e.g. by long running search
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		IcConnectorConfiguration changedConfiguration = systemService.getConnectorConfiguration(system);
+		setPropertyValue(changedConfiguration, "password", new GuardedString(getHelper().createName()));
+		ConnectorFacade changedFacade = facadeFactory.getConnectorFacade(connectorInstance, changedConfiguration);
+		facadeFactory.releaseConnectorFacade(changedFacade);
+		// evicted facade is still used => not disposed
+		Assert.assertTrue(facadeFactory.getDisposed().isEmpty());
+		//
+		facadeFactory.releaseConnectorFacade(facade);
+		//
+		Assert.assertEquals(1, facadeFactory.getDisposed().size());
+		Assert.assertSame(facade, facadeFactory.getDisposed().get(0));
+		// released twice
+		facadeFactory.releaseConnectorFacade(facade);
+		Assert.assertEquals(1, facadeFactory.getDisposed().size());
+	}
+	
+	@Test
+	public void testArrayValueContentIsHashed() {
+		TestConnectorFacadeFactory facadeFactory = createFacadeFactory(10, Duration.ofHours(1));
+		SysSystemDto system = getHelper().createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		IcConnectorConfiguration configuration = systemService.getConnectorConfiguration(system);
+		//
+		setPropertyValue(configuration, "password", new GuardedString[] { new GuardedString("one") });
+		String cacheKey = facadeFactory.getCacheKey(connectorInstance, configuration);
+		setPropertyValue(configuration, "password", new GuardedString[] { new GuardedString("one") });
+		Assert.assertEquals(cacheKey, facadeFactory.getCacheKey(connectorInstance, configuration));
+		setPropertyValue(configuration, "password", new GuardedString[] { new GuardedString("two") });
+		Assert.assertNotEquals(cacheKey, facadeFactory.getCacheKey(connectorInstance, configuration));
+		setPropertyValue(configuration, "password", new org.identityconnectors.common.security.GuardedString("one".toCharArray()));
+		cacheKey = facadeFactory.getCacheKey(connectorInstance, configuration);
+		setPropertyValue(configuration, "password", new org.identityconnectors.common.security.GuardedString("two".toCharArray()));
+		Assert.assertNotEquals(cacheKey, facadeFactory.getCacheKey(connectorInstance, configuration));
+	}
+
+	private TestConnectorFacadeFactory createFacadeFactory(long cacheSize, Duration cacheIdleTime) {
+		TestConnectorFacadeFactory facadeFactory = new TestConnectorFacadeFactory(cacheSize, cacheIdleTime);
+		context.getAutowireCapableBeanFactory().autowireBean(facadeFactory);
+		//
+		return facadeFactory;
+	}
+
+	private void setPropertyValue(IcConnectorConfiguration configuration, String name, Object value) {
+		for (IcConfigurationProperty property : configuration.getConfigurationProperties().getProperties()) {
+			if (property.getName().equals(name)) {
+				((IcConfigurationPropertyImpl) property).setValue(value);
+				return;
+			}
+		}
+		Assert.fail(String.format("Configuration property [%s] not found.", name));
+	}
+
+	@Override
+	protected TestHelper getHelper() {
+		return (TestHelper) super.getHelper();
+	}
+
+	/**
+	 * Records disposed facades.
+	 */
+	private static class TestConnectorFacadeFactory extends DefaultIcConnectorFacadeFactory {
+
+		private final List<ConnectorFacade> disposed = new ArrayList<>();
+
+		public TestConnectorFacadeFactory(long cacheSize, Duration cacheIdleTime) {
+			super(cacheSize, cacheIdleTime);
+		}
+
+		@Override
+		protected void dispose(ConnectorFacade facade) {
+			disposed.add(facade);
+			super.dispose(facade);
+		}
+
+		public List<ConnectorFacade> getDisposed() {
+			return disposed;
+		}
+		
+		@Override
+		protected String getCacheKey(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
+			return super.getCacheKey(connectorInstance, connectorConfiguration);
+		}
+	}
+}
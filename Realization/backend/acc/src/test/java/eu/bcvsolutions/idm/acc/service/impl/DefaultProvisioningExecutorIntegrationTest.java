@@ -8,16 +8,23 @@ import static org.junit.Assert.assertTrue;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +34,7 @@ import org.springframework.data.domain.Sort.Direction;
 import com.zaxxer.hikari.HikariDataSource;
 
 import eu.bcvsolutions.idm.acc.TestHelper;
+import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningContext;
@@ -70,6 +78,7 @@ import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.notification.api.service.NotificationManager;
 import eu.bcvsolutions.idm.core.scheduler.api.config.SchedulerConfiguration;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.CronTaskTrigger;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.IdmLongRunningTaskDto;
@@ -77,6 +86,7 @@ import eu.bcvsolutions.idm.core.scheduler.api.dto.Task;
 import eu.bcvsolutions.idm.core.scheduler.api.service.LongRunningTaskManager;
 import eu.bcvsolutions.idm.core.scheduler.api.service.SchedulerManager;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
 import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
 import eu.bcvsolutions.idm.ic.api.IcObjectClass;
 import eu.bcvsolutions.idm.ic.api.IcUidAttribute;
@@ -978,6 +988,112 @@ public class DefaultProvisioningExecutorIntegrationTest extends AbstractIntegrat
 	 * @param systemEntity
 	 * @return
 	 */
+
+	@Test
+	public void testAbortBatchWhenClaimIsTakenOverByOtherInstance() {
+		SysProvisioningBatchService batchService = Mockito.mock(SysProvisioningBatchService.class);
+		SysProvisioningOperationService operationService = Mockito.mock(SysProvisioningOperationService.class);
+		DefaultProvisioningExecutor executor = createLaneTestExecutor(batchService, operationService, 1);
+		SysSystemDto system = createLaneTestSystem();
+		SysProvisioningBatchDto batch = createLaneTestBatch(batchService, operationService, system, 2);
+		List<UUID> executedOperations = new ArrayList<>();
+		Mockito.doAnswer(invocation -> {
+			SysProvisioningOperationDto operation = invocation.getArgument(0);
+			executedOperations.add(operation.getId());
+			operation.setResult(new OperationResult(OperationState.EXECUTED));
+			return operation;
+		}).when(executor).executeInternal(Mockito.any());
+		// claimed, renewed before the first operation, taken over by other instance before the second operation
+		Mockito.when(batchService.claimBatch(Mockito.eq(batch.getId()), Mockito.anyLong())).thenReturn(true, true, false);
+		//
+		OperationResult result = executor.execute(batch);
+		//
+		Assert.assertEquals(OperationState.NOT_EXECUTED, result.getState());
+		Assert.assertEquals(AccResultCode.PROVISIONING_BATCH_CLAIMED.getCode(), result.getCode());
+		Assert.assertEquals(1, executedOperations.size());
+		Mockito.verify(executor, Mockito.times(1)).executeInternal(Mockito.any());
+	}
+	
+	@Test
+	public void testQueueBatchIntoSystemLane() throws Exception {
+		SysProvisioningBatchService batchService = Mockito.mock(SysProvisioningBatchService.class);
+		SysProvisioningOperationService operationService = Mockito.mock(SysProvisioningOperationService.class);
+		DefaultProvisioningExecutor executor = createLaneTestExecutor(batchService, operationService, 1);
+		SysSystemDto system = createLaneTestSystem();
+		SysProvisioningBatchDto batchOne = createLaneTestBatch(batchService, operationService, system, 1);
+		SysProvisioningBatchDto batchTwo = createLaneTestBatch(batchService, operationService, system, 1);
+		Mockito.when(batchService.claimBatch(Mockito.any(), Mockito.anyLong())).thenReturn(true);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		List<String> executedBy = Collections.synchronizedList(new ArrayList<>());
+		Mockito.doAnswer(invocation -> {
+			SysProvisioningOperationDto operation = invocation.getArgument(0);
+			executedBy.add(Thread.currentThread().getName());
+			started.countDown();
+			Assert.assertTrue(proceed.await(30, TimeUnit.SECONDS));
+			operation.setResult(new OperationResult(OperationState.EXECUTED));
+			return operation;
+		}).when(executor).executeInternal(Mockito.any());
+		//
+		ExecutorService worker = Executors.newSingleThreadExecutor();
+		try {
+			Future<OperationResult> resultOne = worker.submit(() -> executor.execute(batchOne));
+			Assert.assertTrue(started.await(30, TimeUnit.SECONDS));
+			// system concurrency is exceeded => batch is queued in system lane, caller is not blocked
+			OperationResult resultTwo = executor.execute(batchTwo);
+			Assert.assertEquals(OperationState.RUNNING, resultTwo.getState());
+			Assert.assertEquals(AccResultCode.PROVISIONING_SYSTEM_CONCURRENCY_EXCEEDED.getCode(), resultTwo.getCode());
+			//
+			proceed.countDown();
+			Assert.assertEquals(OperationState.EXECUTED, resultOne.get(30, TimeUnit.SECONDS).getState());
+			// queued batch was executed by the lane worker
+			Assert.assertEquals(2, executedBy.size());
+			Assert.assertEquals(executedBy.get(0), executedBy.get(1));
+			Assert.assertNotEquals(Thread.currentThread().getName(), executedBy.get(1));
+		} finally {
+			proceed.countDown();
+			worker.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void testExecuteBatchesForDifferentSystemsConcurrently() throws Exception {
+		SysProvisioningBatchService batchService = Mockito.mock(SysProvisioningBatchService.class);
+		SysProvisioningOperationService operationService = Mockito.mock(SysProvisioningOperationService.class);
+		DefaultProvisioningExecutor executor = createLaneTestExecutor(batchService, operationService, 1);
+		SysSystemDto systemOne = createLaneTestSystem();
+		SysSystemDto systemTwo = createLaneTestSystem();
+		SysProvisioningBatchDto batchOne = createLaneTestBatch(batchService, operationService, systemOne, 1);
+		SysProvisioningBatchDto batchTwo = createLaneTestBatch(batchService, operationService, systemTwo, 1);
+		UUID blockedOperationId = operationService.getByTimelineAndBatchId(batchOne.getId()).get(0).getId();
+		Mockito.when(batchService.claimBatch(Mockito.any(), Mockito.anyLong())).thenReturn(true);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		Mockito.doAnswer(invocation -> {
+			SysProvisioningOperationDto operation = invocation.getArgument(0);
+			if (operation.getId().equals(blockedOperationId)) {
+				started.countDown();
+				Assert.assertTrue(proceed.await(30, TimeUnit.SECONDS));
+			}
+			operation.setResult(new OperationResult(OperationState.EXECUTED));
+			return operation;
+		}).when(executor).executeInternal(Mockito.any());
+		//
+		ExecutorService worker = Executors.newSingleThreadExecutor();
+		try {
+			Future<OperationResult> resultOne = worker.submit(() -> executor.execute(batchOne));
+			Assert.assertTrue(started.await(30, TimeUnit.SECONDS));
+			// other system lane is free
+			Assert.assertEquals(OperationState.EXECUTED, executor.execute(batchTwo).getState());
+			//
+			proceed.countDown();
+			Assert.assertEquals(OperationState.EXECUTED, resultOne.get(30, TimeUnit.SECONDS).getState());
+		} finally {
+			proceed.countDown();
+			worker.shutdownNow();
+		}
+	}
+
 	private Map<ProvisioningAttributeDto, Object> createAccountObject(SysSystemEntityDto systemEntity, String firstname) {
 		ProvisioningAttributeDto nameAttribute = getProvisioningAttribute(TestHelper.ATTRIBUTE_MAPPING_NAME);
 		ProvisioningAttributeDto firstNameAttribute = getProvisioningAttribute(TestHelper.ATTRIBUTE_MAPPING_FIRSTNAME);
@@ -1047,6 +1163,60 @@ public class DefaultProvisioningExecutorIntegrationTest extends AbstractIntegrat
 		return new ProvisioningAttributeDto(getHelper().getSchemaColumnName(name), AttributeMappingStrategyType.SET);
 	}
 	
+	private DefaultProvisioningExecutor createLaneTestExecutor(
+			SysProvisioningBatchService batchService,
+			SysProvisioningOperationService operationService,
+			int systemConcurrency) {
+		ProvisioningConfiguration provisioningConfiguration = Mockito.mock(ProvisioningConfiguration.class);
+		Mockito.when(provisioningConfiguration.getTimeout()).thenReturn(60000L);
+		Mockito.when(provisioningConfiguration.getSystemConcurrency(Mockito.any())).thenReturn(systemConcurrency);
+		//
+		return Mockito.spy(new DefaultProvisioningExecutor(
+				null,
+				entityEventManager,
+				operationService,
+				batchService,
+				context.getBean(NotificationManager.class),
+				systemService,
+				context.getBean(SecurityService.class),
+				provisioningConfiguration,
+				systemEntityService));
+	}
+	
+	private SysSystemDto createLaneTestSystem() {
+		SysSystemDto system = new SysSystemDto();
+		system.setId(UUID.randomUUID());
+		system.setCode(getHelper().createName());
+		//
+		return system;
+	}
+	
+	private SysProvisioningBatchDto createLaneTestBatch(
+			SysProvisioningBatchService batchService,
+			SysProvisioningOperationService operationService,
+			SysSystemDto system,
+			int operationsCount) {
+		SysProvisioningBatchDto batch = new SysProvisioningBatchDto();
+		batch.setId(UUID.randomUUID());
+		batch.setSystemEntity(UUID.randomUUID());
+		List<SysProvisioningOperationDto> operations = new ArrayList<>();
+		for (int i = 0; i < operationsCount; i++) {
+			SysProvisioningOperationDto operation = new SysProvisioningOperationDto();
+			operation.setId(UUID.randomUUID());
+			operation.setBatch(batch.getId());
+			operation.setSystem(system.getId());
+			operation.setSystemEntity(batch.getSystemEntity());
+			operation.setSystemEntityUid(getHelper().createName());
+			operation.setResult(new OperationResult(OperationState.CREATED));
+			operation.getEmbedded().put(SysProvisioningOperation_.system.getName(), system);
+			operations.add(operation);
+		}
+		Mockito.when(batchService.get(batch.getId())).thenReturn(batch);
+		Mockito.when(operationService.getByTimelineAndBatchId(batch.getId())).thenReturn(operations);
+		//
+		return batch;
+	}
+	
 	public eu.bcvsolutions.idm.acc.TestHelper getHelper() {
 		return (eu.bcvsolutions.idm.acc.TestHelper) super.getHelper();
 	}
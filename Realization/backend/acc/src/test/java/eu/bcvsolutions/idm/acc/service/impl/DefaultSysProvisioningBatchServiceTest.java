@@ -2,12 +2,14 @@ package eu.bcvsolutions.idm.acc.service.impl;
 
 import static org.junit.Assert.assertTrue;
 
+import java.time.ZonedDateTime;
 import java.util.UUID;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import eu.bcvsolutions.idm.acc.TestHelper;
@@ -19,8 +21,10 @@ import eu.bcvsolutions.idm.acc.dto.SysProvisioningOperationDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
 import eu.bcvsolutions.idm.acc.entity.TestResource;
+import eu.bcvsolutions.idm.acc.repository.SysProvisioningBatchRepository;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningBatchService;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningOperationService;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.dto.filter.EmptyFilter;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
@@ -39,6 +43,8 @@ public class DefaultSysProvisioningBatchServiceTest extends AbstractIntegrationT
 
 	@Autowired private SysProvisioningOperationService operationService;
 	@Autowired private SysProvisioningBatchService batchService;
+	@Autowired private SysSystemService systemService;
+	@Autowired private SysProvisioningBatchRepository batchRepository;
 
 	@Test
 	public void emptyFilterTest() {
@@ -93,6 +99,60 @@ public class DefaultSysProvisioningBatchServiceTest extends AbstractIntegrationT
 		return (TestHelper) super.getHelper();
 	}
 	
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void testClaimBatch() {
+		// claim is committed in new transaction => batch has to be committed before
+		SysSystemDto system = getHelper().createSystem(TestResource.TABLE_NAME);
+		SysSystemEntityDto systemEntity = getHelper().createSystemEntity(system);
+		SysProvisioningBatchDto batch = new SysProvisioningBatchDto();
+		batch.setSystemEntity(systemEntity.getId());
+		batch = batchService.save(batch);
+		try {
+			Assert.assertTrue(batchService.claimBatch(batch.getId(), 60000));
+			// the same instance can renew claim
+			Assert.assertTrue(batchService.claimBatch(batch.getId(), 60000));
+			//
+			batchService.releaseBatch(batch.getId());
+			Assert.assertTrue(batchService.claimBatch(batch.getId(), 60000));
+			batchService.releaseBatch(batch.getId());
+		} finally {
+			batchService.delete(batch);
+			systemService.delete(system);
+		}
+	}
+	
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void testClaimBatchTakenOverByOtherInstance() throws Exception {
+		SysSystemDto system = getHelper().createSystem(TestResource.TABLE_NAME);
+		SysSystemEntityDto systemEntity = getHelper().createSystemEntity(system);
+		SysProvisioningBatchDto batch = new SysProvisioningBatchDto();
+		batch.setSystemEntity(systemEntity.getId());
+		batch = batchService.save(batch);
+		UUID batchId = batch.getId();
+		String otherInstanceId = getHelper().createName();
+		try {
+			// claim with short lease - e.g. current instance is stuck in operation
+			Assert.assertTrue(batchService.claimBatch(batchId, 1));
+			// other instance cannot claim batch before lease expires
+			Assert.assertFalse(claimByOtherInstance(batchId, otherInstanceId, ZonedDateTime.now().minusMinutes(1)));
+			Thread.sleep(10);
+			// lease expired - other instance takes batch over
+			Assert.assertTrue(claimByOtherInstance(batchId, otherInstanceId, ZonedDateTime.now()));
+			//
+			// current instance cannot renew claim => current holder has to abort batch execution
+			Assert.assertFalse(batchService.claimBatch(batchId, 60000));
+			// current instance cannot release claim of other instance
+			batchService.releaseBatch(batchId);
+			Assert.assertFalse(batchService.claimBatch(batchId, 60000));
+			Assert.assertTrue(claimByOtherInstance(batchId, otherInstanceId, ZonedDateTime.now()));
+		} finally {
+			batchService.delete(batch);
+			systemService.delete(system);
+		}
+	}
+	
 	private SysProvisioningOperationDto createOperation(SysSystemEntityDto systemEntity, SysProvisioningBatchDto batch) {
 		SysProvisioningOperationDto operation = new SysProvisioningOperationDto();
 		operation.setBatch(batch.getId());
@@ -105,4 +165,10 @@ public class DefaultSysProvisioningBatchServiceTest extends AbstractIntegrationT
 		//
 		return operationService.save(operation);
 	}
+	
+	private boolean claimByOtherInstance(UUID batchId, String instanceId, ZonedDateTime now) {
+		return getTransactionTemplate().execute(status -> {
+			return batchRepository.claim(batchId, instanceId, now.plusMinutes(1), now) > 0;
+		});
+	}
 }
@@ -0,0 +1,74 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.acc.TestHelper;
+import eu.bcvsolutions.idm.acc.domain.AccountType;
+import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
+import eu.bcvsolutions.idm.acc.dto.AccAccountDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.service.api.AccAccountService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncReconciliationUidService;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * Staged reconciliation uids - find missing accounts.
+ * 
+ * @author Radek Tomiška
+ */
+@Transactional
+public class DefaultSysSyncReconciliationUidServiceIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private TestHelper helper;
+	@Autowired private AccAccountService accountService;
+	@Autowired private SysSyncReconciliationUidService service;
+	
+	@Test
+	public void testFindMissingAccounts() {
+		SysSystemDto system = helper.createSystem(getHelper().createName());
+		AccAccountDto accountOne = createAccount(system, "one");
+		AccAccountDto accountTwo = createAccount(system, "two");
+		AccAccountDto accountThree = createAccount(system, "three");
+		UUID syncLogId = UUID.randomUUID();
+		//
+		service.saveUids(syncLogId, Lists.newArrayList("one", "four"));
+		// other reconciliation run
+		service.saveUids(UUID.randomUUID(), Lists.newArrayList("two", "three"));
+		//
+		List<UUID> missingAccounts = service.findMissingAccounts(syncLogId, system.getId(), null, 10);
+		Assert.assertEquals(2, missingAccounts.size());
+		Assert.assertFalse(missingAccounts.contains(accountOne.getId()));
+		Assert.assertTrue(missingAccounts.contains(accountTwo.getId()));
+		Assert.assertTrue(missingAccounts.contains(accountThree.getId()));
+		//
+		// keyset pagination
+		List<UUID> firstPage = service.findMissingAccounts(syncLogId, system.getId(), null, 1);
+		Assert.assertEquals(1, firstPage.size());
+		Assert.assertEquals(missingAccounts.get(0), firstPage.get(0));
+		List<UUID> nextPage = service.findMissingAccounts(syncLogId, system.getId(), firstPage.get(0), 1);
+		Assert.assertEquals(1, nextPage.size());
+		Assert.assertEquals(missingAccounts.get(1), nextPage.get(0));
+		Assert.assertTrue(service.findMissingAccounts(syncLogId, system.getId(), nextPage.get(0), 1).isEmpty());
+		//
+		Assert.assertEquals(2, service.deleteUids(syncLogId));
+		Assert.assertEquals(3, service.findMissingAccounts(syncLogId, system.getId(), null, 10).size());
+	}
+	
+	private AccAccountDto createAccount(SysSystemDto system, String uid) {
+		AccAccountDto account = new AccAccountDto();
+		account.setEntityType(SystemEntityType.IDENTITY);
+		account.setSystem(system.getId());
+		account.setAccountType(AccountType.PERSONAL);
+		account.setUid(uid);
+		//
+		return accountService.save(account);
+	}
+}
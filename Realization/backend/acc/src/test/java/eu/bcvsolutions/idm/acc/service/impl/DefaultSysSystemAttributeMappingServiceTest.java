@@ -3,6 +3,8 @@ package eu.bcvsolutions.idm.acc.service.impl;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import eu.bcvsolutions.idm.acc.TestHelper;
 import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
+import eu.bcvsolutions.idm.acc.domain.MappingContext;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.domain.SystemOperationType;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
@@ -39,7 +42,10 @@ import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.domain.IdmBasePermission;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
@@ -382,6 +388,44 @@ public class DefaultSysSystemAttributeMappingServiceTest extends AbstractIntegra
 
 	}
 	
+	@Test
+	public void testShareFormInstanceInMappingContext() {
+		SysSystemDto system = testHelper.createSystem(TestResource.TABLE_NAME);
+		SysSystemMappingDto mapping = testHelper.createMapping(system);
+		SysSchemaAttributeFilter schemaAttributeFilter = new SysSchemaAttributeFilter();
+		schemaAttributeFilter.setSystemId(system.getId());
+		SysSchemaAttributeDto descriptionSchemaAttribute = attributeService.find(schemaAttributeFilter, null)
+				.getContent() //
+				.stream() //
+				.filter(schemaAttribute -> TestHelper.ATTRIBUTE_MAPPING_DESCRIPTION.equalsIgnoreCase(schemaAttribute.getName())) //
+				.findFirst() //
+				.get(); //
+		IdmFormAttributeDto formAttributeOne = testHelper.createEavAttribute(testHelper.createName(), IdmIdentity.class, PersistentType.SHORTTEXT);
+		IdmFormAttributeDto formAttributeTwo = testHelper.createEavAttribute(testHelper.createName(), IdmIdentity.class, PersistentType.SHORTTEXT);
+		IdmIdentityDto identityOne = testHelper.createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = testHelper.createIdentity((GuardedString) null);
+		testHelper.setEavValue(identityOne, formAttributeOne, IdmIdentity.class, "one-one", PersistentType.SHORTTEXT);
+		testHelper.setEavValue(identityOne, formAttributeTwo, IdmIdentity.class, "one-two", PersistentType.SHORTTEXT);
+		testHelper.setEavValue(identityTwo, formAttributeOne, IdmIdentity.class, "two-one", PersistentType.SHORTTEXT);
+		SysSystemAttributeMappingDto attributeMappingOne = createExtendedAttributeMapping(mapping, descriptionSchemaAttribute, formAttributeOne);
+		SysSystemAttributeMappingDto attributeMappingTwo = createExtendedAttributeMapping(mapping, descriptionSchemaAttribute, formAttributeTwo);
+		//
+		MappingContext mappingContext = new MappingContext();
+		assertEquals("one-one", attributeMappingService.getAttributeValue(null, identityOne, attributeMappingOne, mappingContext));
+		IdmFormInstanceDto formInstance = mappingContext.getFormInstance();
+		assertNotNull(formInstance);
+		assertEquals(identityOne.getId(), formInstance.getOwnerId());
+		// form instance is shared by all extended attributes
+		assertEquals("one-two", attributeMappingService.getAttributeValue(null, identityOne, attributeMappingTwo, mappingContext));
+		assertSame(formInstance, mappingContext.getFormInstance());
+		// other owner => form instance is reloaded
+		assertEquals("two-one", attributeMappingService.getAttributeValue(null, identityTwo, attributeMappingOne, mappingContext));
+		assertNull(attributeMappingService.getAttributeValue(null, identityTwo, attributeMappingTwo, mappingContext));
+		assertEquals(identityTwo.getId(), mappingContext.getFormInstance().getOwnerId());
+		// without context
+		assertEquals("one-two", attributeMappingService.getAttributeValue(null, identityOne, attributeMappingTwo, null));
+	}
+	
 	@Test
 	public void transformationFromScriptFailure() {
 		SysSystemDto system = createSystem();
@@ -446,6 +490,21 @@ public class DefaultSysSystemAttributeMappingServiceTest extends AbstractIntegra
 		}
 	}
 
+	private SysSystemAttributeMappingDto createExtendedAttributeMapping(
+			SysSystemMappingDto mapping, 
+			SysSchemaAttributeDto schemaAttribute,
+			IdmFormAttributeDto formAttribute) {
+		SysSystemAttributeMappingDto attributeMapping = new SysSystemAttributeMappingDto();
+		attributeMapping.setExtendedAttribute(true);
+		attributeMapping.setEntityAttribute(false);
+		attributeMapping.setName(formAttribute.getCode());
+		attributeMapping.setIdmPropertyName(formAttribute.getCode());
+		attributeMapping.setSchemaAttribute(schemaAttribute.getId());
+		attributeMapping.setSystemMapping(mapping.getId());
+		//
+		return attributeMapping;
+	}
+	
 	private SysSystemDto createSystem() {
 		SysSystemDto system = new SysSystemDto();
 		system.setName("system_" + UUID.randomUUID());
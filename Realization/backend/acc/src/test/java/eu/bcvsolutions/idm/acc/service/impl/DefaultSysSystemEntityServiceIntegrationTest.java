@@ -1,11 +1,15 @@
 package eu.bcvsolutions.idm.acc.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
 import eu.bcvsolutions.idm.acc.domain.AccountType;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.dto.AccAccountDto;
@@ -15,7 +19,16 @@ import eu.bcvsolutions.idm.acc.entity.AccAccount_;
 import eu.bcvsolutions.idm.acc.service.api.AccAccountService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemEntityService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
+import eu.bcvsolutions.idm.ic.api.IcObjectClass;
+import eu.bcvsolutions.idm.ic.api.IcObjectClassInfo;
+import eu.bcvsolutions.idm.ic.impl.IcAttributeImpl;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorObjectImpl;
+import eu.bcvsolutions.idm.ic.impl.IcObjectClassImpl;
+import eu.bcvsolutions.idm.ic.impl.IcPasswordAttributeImpl;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
 
 /**
@@ -29,6 +42,7 @@ public class DefaultSysSystemEntityServiceIntegrationTest extends AbstractIntegr
 	@Autowired private SysSystemService systemService;
 	@Autowired private AccAccountService accountService;
 	@Autowired private SysSystemEntityService systemEntityService;
+	@Autowired private ConfigurationService configurationService;
 	
 	@Test
 	public void testReferentialIntegrity() {
@@ -59,4 +73,101 @@ public class DefaultSysSystemEntityServiceIntegrationTest extends AbstractIntegr
 		
 		assertNull(accountService.get(account.getId()).getSystemEntity());		
 	}
+	
+	@Test
+	public void testSaveProvisionedState() {
+		SysSystemDto system = new SysSystemDto();
+		system.setName(getHelper().createName());
+		system = systemService.save(system);
+		SysSystemEntityDto systemEntity = new SysSystemEntityDto();
+		systemEntity.setSystem(system.getId());
+		systemEntity.setEntityType(SystemEntityType.IDENTITY);
+		systemEntity.setUid(getHelper().createName());
+		systemEntity = systemEntityService.save(systemEntity);
+		//
+		IcObjectClass objectClass = new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT);
+		IcConnectorObject created = new IcConnectorObjectImpl(systemEntity.getUid(), objectClass, Lists.newArrayList(
+				new IcAttributeImpl("firstname", "one"),
+				new IcAttributeImpl("lastname", "two"),
+				new IcPasswordAttributeImpl("__PASSWORD__", new GuardedString("secret"))));
+		systemEntityService.saveProvisionedState(systemEntity, created, false);
+		//
+		IcConnectorObject state = systemEntityService.getProvisionedState(systemEntity);
+		assertNotNull(state);
+		assertEquals(2, state.getAttributes().size());
+		assertNull(state.getAttributeByName("__PASSWORD__"));
+		//
+		// merge updated attributes
+		IcConnectorObject updated = new IcConnectorObjectImpl(systemEntity.getUid(), objectClass, Lists.newArrayList(
+				new IcAttributeImpl("lastname", "three")));
+		systemEntityService.saveProvisionedState(systemEntity, updated, true);
+		state = systemEntityService.getProvisionedState(systemEntity);
+		assertEquals(2, state.getAttributes().size());
+		assertEquals("one", state.getAttributeByName("firstname").getValue());
+		assertEquals("three", state.getAttributeByName("lastname").getValue());
+		//
+		// clear
+		systemEntityService.saveProvisionedState(systemEntity, null, false);
+		assertNull(systemEntityService.getProvisionedState(systemEntity));
+		// clear without state
+		systemEntityService.saveProvisionedState(systemEntity, null, false);
+		assertNull(systemEntityService.getProvisionedState(systemEntity));
+	}
+	
+	@Test
+	public void testDeleteProvisionedStateWithSystemEntity() {
+		SysSystemDto system = new SysSystemDto();
+		system.setName(getHelper().createName());
+		system = systemService.save(system);
+		SysSystemEntityDto systemEntity = new SysSystemEntityDto();
+		systemEntity.setSystem(system.getId());
+		systemEntity.setEntityType(SystemEntityType.IDENTITY);
+		systemEntity.setUid(getHelper().createName());
+		systemEntity = systemEntityService.save(systemEntity);
+		IcConnectorObject created = new IcConnectorObjectImpl(systemEntity.getUid(), new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT), 
+				Lists.newArrayList(new IcAttributeImpl("firstname", "one")));
+		systemEntityService.saveProvisionedState(systemEntity, created, false);
+		assertNotNull(systemEntityService.getProvisionedState(systemEntity));
+		//
+		systemEntityService.delete(systemEntity);
+		//
+		assertNull(systemEntityService.get(systemEntity));
+		assertNull(systemEntityService.getProvisionedState(systemEntity));
+	}
+	
+	@Test
+	public void testClearProvisionedStatesWhenSkipReadIsChanged() {
+		SysSystemDto system = new SysSystemDto();
+		system.setName(getHelper().createName());
+		system = systemService.save(system);
+		SysSystemDto otherSystem = new SysSystemDto();
+		otherSystem.setName(getHelper().createName());
+		otherSystem = systemService.save(otherSystem);
+		SysSystemEntityDto systemEntity = createSystemEntityWithState(system);
+		SysSystemEntityDto otherSystemEntity = createSystemEntityWithState(otherSystem);
+		String property = String.format("%s.%s", ProvisioningConfiguration.PROPERTY_SYSTEM_SKIP_READ, system.getCode());
+		//
+		try {
+			configurationService.setBooleanValue(property, false);
+			//
+			assertNull(systemEntityService.getProvisionedState(systemEntity));
+			assertNotNull(systemEntityService.getProvisionedState(otherSystemEntity));
+		} finally {
+			configurationService.deleteValue(property);
+		}
+	}
+	
+	private SysSystemEntityDto createSystemEntityWithState(SysSystemDto system) {
+		SysSystemEntityDto systemEntity = new SysSystemEntityDto();
+		systemEntity.setSystem(system.getId());
+		systemEntity.setEntityType(SystemEntityType.IDENTITY);
+		systemEntity.setUid(getHelper().createName());
+		systemEntity = systemEntityService.save(systemEntity);
+		IcConnectorObject created = new IcConnectorObjectImpl(systemEntity.getUid(), new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT), 
+				Lists.newArrayList(new IcAttributeImpl("firstname", "one")));
+		systemEntityService.saveProvisionedState(systemEntity, created, false);
+		assertNotNull(systemEntityService.getProvisionedState(systemEntity));
+		//
+		return systemEntity;
+	}
 }
@@ -80,6 +80,7 @@ import eu.bcvsolutions.idm.core.api.dto.OperationResultDto;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.ConfidentialStorage;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmPasswordPolicyService;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
@@ -99,6 +100,7 @@ import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
 import eu.bcvsolutions.idm.ic.api.IcConnectorKey;
 import eu.bcvsolutions.idm.ic.api.IcObjectPoolConfiguration;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorConfigurationImpl;
 import eu.bcvsolutions.idm.ic.impl.IcConnectorInstanceImpl;
 import eu.bcvsolutions.idm.ic.impl.IcConnectorKeyImpl;
 import eu.bcvsolutions.idm.ic.service.api.IcConfigurationFacade;
@@ -140,6 +142,7 @@ public class DefaultSysSystemServiceIntegrationTest extends AbstractIntegrationT
 	@Autowired private SysSystemController systemController;
 	@Autowired private IdmPasswordPolicyService passwordPolicyService;
 	@Autowired private ConfidentialStorage confidentialStorage;
+	@Autowired private IdmCacheManager cacheManager;
 	//
 	private DefaultSysSystemService systemService;
 	
@@ -749,6 +752,37 @@ public class DefaultSysSystemServiceIntegrationTest extends AbstractIntegrationT
 		Assert.assertEquals(555, poolConfiguration.getMinEvictableIdleTimeMillis());
 	}
 	
+	@Test
+	public void testConnectorConfigurationCache() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorConfiguration connectorConfiguration = systemService.getConnectorConfiguration(system);
+		Assert.assertNotNull(connectorConfiguration);
+		Assert.assertFalse(connectorConfiguration.isConnectorPoolingSupported());
+		// cached
+		Assert.assertNotNull(cacheManager.getValue(SysSystemService.CONNECTOR_CONFIGURATION_CACHE_NAME, system.getId()));
+		// cached configuration is not shared
+		((IcConnectorConfigurationImpl) connectorConfiguration).setConnectorPoolingSupported(true);
+		connectorConfiguration.getConfigurationProperties().getProperties().clear();
+		IcConnectorConfiguration cachedConfiguration = systemService.getConnectorConfiguration(system);
+		Assert.assertNotSame(connectorConfiguration, cachedConfiguration);
+		Assert.assertFalse(cachedConfiguration.isConnectorPoolingSupported());
+		Assert.assertFalse(cachedConfiguration.getConfigurationProperties().getProperties().isEmpty());
+		//
+		// change form value => cache is evicted
+		IdmFormDefinitionDto formDefinition = systemService.getPoolingConnectorFormDefinition(system);
+		IdmFormValueDto formValueDto = new IdmFormValueDto(formService.getAttribute(formDefinition, SysSystemService.POOLING_SUPPORTED_PROPERTY));
+		formValueDto.setValue(true);
+		formService.saveValues(system, formDefinition, Lists.newArrayList(formValueDto));
+		//
+		IcConnectorConfiguration changedConfiguration = systemService.getConnectorConfiguration(system);
+		Assert.assertTrue(changedConfiguration.isConnectorPoolingSupported());
+		//
+		// save system => cache is evicted
+		Assert.assertNotNull(cacheManager.getValue(SysSystemService.CONNECTOR_CONFIGURATION_CACHE_NAME, system.getId()));
+		systemService.save(system);
+		Assert.assertNull(cacheManager.getValue(SysSystemService.CONNECTOR_CONFIGURATION_CACHE_NAME, system.getId()));
+	}
+	
 	@Test
 	public void testExecuteDeferredResultOnCreateSyncItemLog() {
 		DefaultLongPollingManager defaultPollingManager = (DefaultLongPollingManager) longPollingManager;
@@ -17,10 +17,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.acc.TestHelper;
 import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
+import eu.bcvsolutions.idm.acc.domain.MappingContext;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningContext;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningOperationType;
 import eu.bcvsolutions.idm.acc.dto.ProvisioningAttributeDto;
 import eu.bcvsolutions.idm.acc.dto.SysAttributeControlledValueDto;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningArchiveDto;
@@ -30,6 +34,7 @@ import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaObjectClassDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemMappingDto;
 import eu.bcvsolutions.idm.acc.dto.filter.SysAttributeControlledValueFilter;
 import eu.bcvsolutions.idm.acc.dto.filter.SysProvisioningOperationFilter;
@@ -60,6 +65,7 @@ public class ProvisioningMergeTest extends AbstractIntegrationTest {
 	private static final String RIGHTS_ATTRIBUTE = "RIGHTS";
 	private static final String ONE_VALUE = "ONE";
 	private static final String TWO_VALUE = "TWO";
+	private static final String THREE_VALUE = "THREE";
 
 	@Autowired
 	private SysSystemAttributeMappingService attributeMappingService;
@@ -81,6 +87,8 @@ public class ProvisioningMergeTest extends AbstractIntegrationTest {
 	private IdmIdentityContractService identityContractService;
 	@Autowired
 	private IdmIdentityService identityService;
+	@Autowired
+	private IdentityProvisioningExecutor identityProvisioningExecutor;
 
 	@Test
 	public void testAttribteControlledValues() {
@@ -151,6 +159,52 @@ public class ProvisioningMergeTest extends AbstractIntegrationTest {
 		assertTrue(controlledAttributeValues.contains(TWO_VALUE));
 	}
 
+	@Test
+	public void testMergeAttributesGroupedBySchemaAttributeAndStrategy() {
+		SysSystemDto system = helper.createSystem("test_resource");
+		SysSystemMappingDto mapping = helper.createMapping(system);
+		SysSystemEntityDto systemEntity = helper.createSystemEntity(system);
+		IdmIdentityDto identity = this.getHelper().createIdentity();
+
+		SysSchemaAttributeDto rightsSchemaAttribute = new SysSchemaAttributeDto();
+		rightsSchemaAttribute.setObjectClass(mapping.getObjectClass());
+		rightsSchemaAttribute.setName(RIGHTS_ATTRIBUTE);
+		rightsSchemaAttribute.setMultivalued(true);
+		rightsSchemaAttribute.setClassType(String.class.getName());
+		rightsSchemaAttribute.setReadable(true);
+		rightsSchemaAttribute.setUpdateable(true);
+		rightsSchemaAttribute = schemaAttributeService.save(rightsSchemaAttribute);
+
+		SysSystemAttributeMappingDto rightsAttribute = new SysSystemAttributeMappingDto();
+		rightsAttribute.setSchemaAttribute(rightsSchemaAttribute.getId());
+		rightsAttribute.setSystemMapping(mapping.getId());
+		rightsAttribute.setName(RIGHTS_ATTRIBUTE);
+		rightsAttribute.setStrategyType(AttributeMappingStrategyType.MERGE);
+		rightsAttribute = attributeMappingService.save(rightsAttribute);
+
+		List<SysRoleSystemAttributeDto> attributes = Lists.newArrayList(
+				createRoleAttribute(rightsAttribute, AttributeMappingStrategyType.MERGE, ONE_VALUE),
+				createRoleAttribute(rightsAttribute, AttributeMappingStrategyType.AUTHORITATIVE_MERGE, THREE_VALUE),
+				createRoleAttribute(rightsAttribute, AttributeMappingStrategyType.MERGE, TWO_VALUE),
+				createRoleAttribute(rightsAttribute, AttributeMappingStrategyType.MERGE, ONE_VALUE)); // duplicate value
+		//
+		Map<ProvisioningAttributeDto, Object> accountObject = identityProvisioningExecutor.prepareMappedAttributesValues(
+				identity, ProvisioningOperationType.UPDATE, systemEntity, attributes, new MappingContext());
+		//
+		// attributes are grouped by schema attribute and strategy
+		assertEquals(2, accountObject.size());
+		List<?> mergeValues = (List<?>) accountObject.get(
+				new ProvisioningAttributeDto(RIGHTS_ATTRIBUTE, AttributeMappingStrategyType.MERGE));
+		assertEquals(Lists.newArrayList(ONE_VALUE, TWO_VALUE), mergeValues);
+		List<?> authoritativeMergeValues = (List<?>) accountObject.get(
+				new ProvisioningAttributeDto(RIGHTS_ATTRIBUTE, AttributeMappingStrategyType.AUTHORITATIVE_MERGE));
+		assertEquals(Lists.newArrayList(THREE_VALUE), authoritativeMergeValues);
+		// given attributes are not changed - can be shared
+		attributes.forEach(attribute -> {
+			assertTrue(attribute.getEmbedded().isEmpty());
+		});
+	}
+
 	@Test
 	public void testChangeValueDefinition() {
 		SysSystemDto system = helper.createSystem("test_resource");
@@ -1331,4 +1385,19 @@ public class ProvisioningMergeTest extends AbstractIntegrationTest {
 		values = (List<?>) attributeEntry.getValue();
 		assertEquals(2, values.size());
 	}
+
+	private SysRoleSystemAttributeDto createRoleAttribute(
+			SysSystemAttributeMappingDto systemAttribute,
+			AttributeMappingStrategyType strategyType,
+			String value) {
+		SysRoleSystemAttributeDto roleAttribute = new SysRoleSystemAttributeDto();
+		roleAttribute.setName(systemAttribute.getName());
+		roleAttribute.setEntityAttribute(false);
+		roleAttribute.setExtendedAttribute(false);
+		roleAttribute.setStrategyType(strategyType);
+		roleAttribute.setSystemAttributeMapping(systemAttribute.getId());
+		roleAttribute.setTransformToResourceScript("return '" + value + "';");
+		//
+		return roleAttribute;
+	}
 }
@@ -10,6 +10,7 @@ import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +30,7 @@ import com.beust.jcommander.internal.Lists;
 
 import eu.bcvsolutions.idm.acc.TestHelper;
 import eu.bcvsolutions.idm.acc.config.domain.ProvisioningConfiguration;
+import eu.bcvsolutions.idm.acc.config.domain.SynchronizationConfiguration;
 import eu.bcvsolutions.idm.acc.domain.OperationResultType;
 import eu.bcvsolutions.idm.acc.domain.ReconciliationMissingAccountActionType;
 import eu.bcvsolutions.idm.acc.domain.SynchronizationActionType;
@@ -178,6 +180,8 @@ public class IdentitySyncTest extends AbstractIntegrationTest {
 	@Autowired
 	private TestIdentityProcessor testIdentityProcessor;
 	@Autowired
+	private TestSynchronizationCheckpointProcessor testSynchronizationCheckpointProcessor;
+	@Autowired
 	private FormService formService;
 	@Autowired
 	private DefaultSchedulerManager manager;
@@ -1305,6 +1309,125 @@ public class IdentitySyncTest extends AbstractIntegrationTest {
 		assertEquals(testLastName, updatedIdentity3.getLastName());
 	}
 
+	@Test
+	public void testPipelinedSynchronization() {
+		SysSystemDto system = initData();
+		Assert.assertNotNull(system);
+		SysSyncIdentityConfigDto config = doCreateSyncConfig(system);
+		//
+		this.getBean().deleteAllResourceData();
+		List<String> usernames = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			String username = getHelper().createName();
+			usernames.add(username);
+			this.getBean().setTestData(username, username, username);
+		}
+		//
+		try {
+			getHelper().setConfigurationValue(SynchronizationConfiguration.PROPERTY_WORKERS, "3");
+			//
+			helper.startSynchronization(config);
+			//
+			SysSyncLogDto log = checkSyncLog(config, SynchronizationActionType.CREATE_ENTITY, 7,
+					OperationResultType.SUCCESS);
+			Assert.assertFalse(log.isRunning());
+			Assert.assertFalse(log.isContainsError());
+			usernames.forEach(username -> {
+				Assert.assertNotNull(identityService.getByUsername(username));
+			});
+			//
+			// second run - all identities are linked
+			helper.startSynchronization(config);
+			//
+			log = checkSyncLog(config, SynchronizationActionType.UPDATE_ENTITY, 7, OperationResultType.SUCCESS);
+			Assert.assertFalse(log.isRunning());
+			Assert.assertFalse(log.isContainsError());
+			//
+			// Delete log
+			syncLogService.delete(log);
+			syncConfigService.delete(config);
+		} finally {
+			getHelper().setConfigurationValue(SynchronizationConfiguration.PROPERTY_WORKERS, String.valueOf(SynchronizationConfiguration.DEFAULT_WORKERS));
+		}
+	}
+
+	@Test
+	public void testSynchronizationCheckpoint() {
+		SysSystemDto system = initData();
+		Assert.assertNotNull(system);
+		SysSyncIdentityConfigDto config = doCreateSyncConfig(system);
+		// synchronization by token - uid is used as token
+		config.setReconciliation(false);
+		config.setCustomFilter(true);
+		config.setTokenAttribute(config.getCorrelationAttribute());
+		config = (SysSyncIdentityConfigDto) syncConfigService.save(config);
+		//
+		this.getBean().deleteAllResourceData();
+		List<String> usernames = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			String username = getHelper().createName();
+			usernames.add(username);
+			this.getBean().setTestData(username, username, username);
+		}
+		//
+		try {
+			// checkpoint after each 3 items, the last checkpoint is made, when synchronization ends
+			getHelper().setConfigurationValue(SynchronizationConfiguration.PROPERTY_CHECKPOINT_ITEMS, "3");
+			// the fifth item fails
+			testSynchronizationCheckpointProcessor.enable(config.getId(), 5);
+			//
+			helper.startSynchronization(config);
+			//
+			List<String> processedUsernames = testSynchronizationCheckpointProcessor.getUsernames();
+			List<String> tokens = testSynchronizationCheckpointProcessor.getTokens();
+			List<Integer> operationCounts = testSynchronizationCheckpointProcessor.getOperationCounts();
+			Assert.assertEquals(7, processedUsernames.size());
+			Assert.assertTrue(processedUsernames.containsAll(usernames));
+			// nothing is saved before the first checkpoint
+			for (int i = 0; i < 3; i++) {
+				Assert.assertNull(tokens.get(i));
+				Assert.assertEquals(0, operationCounts.get(i).intValue());
+			}
+			// the first checkpoint - token and action logs of the first three items
+			String firstCheckpointToken = processedUsernames.subList(0, 3).stream().max(String::compareTo).get();
+			for (int i = 3; i < 6; i++) {
+				Assert.assertEquals(firstCheckpointToken, tokens.get(i));
+				Assert.assertEquals(3, operationCounts.get(i).intValue());
+			}
+			// the second checkpoint - failed item is included
+			String secondCheckpointToken = processedUsernames.subList(0, 6).stream().max(String::compareTo).get();
+			Assert.assertEquals(secondCheckpointToken, tokens.get(6));
+			Assert.assertEquals(6, operationCounts.get(6).intValue());
+			//
+			// the last checkpoint, when synchronization ends
+			SysSyncLogDto log = checkSyncLog(config, SynchronizationActionType.CREATE_ENTITY, 6,
+					OperationResultType.SUCCESS);
+			Assert.assertFalse(log.isRunning());
+			Assert.assertTrue(log.isContainsError());
+			Assert.assertEquals(
+					usernames.stream().max(String::compareTo).get(), 
+					syncConfigService.get(config.getId()).getToken());
+			SysSyncActionLogFilter actionLogFilter = new SysSyncActionLogFilter();
+			actionLogFilter.setSynchronizationLogId(log.getId());
+			Assert.assertEquals(7, syncActionLogService
+					.find(actionLogFilter, null)
+					.stream()
+					.mapToInt(SysSyncActionLogDto::getOperationCount)
+					.sum());
+			usernames.stream().filter(username -> !username.equals(processedUsernames.get(4))).forEach(username -> {
+				Assert.assertNotNull(identityService.getByUsername(username));
+			});
+			//
+			// Delete log
+			syncLogService.delete(log);
+			syncConfigService.delete(config);
+		} finally {
+			testSynchronizationCheckpointProcessor.disable();
+			getHelper().setConfigurationValue(SynchronizationConfiguration.PROPERTY_CHECKPOINT_ITEMS, 
+					String.valueOf(SynchronizationConfiguration.DEFAULT_CHECKPOINT_ITEMS));
+		}
+	}
+
 	@Test
 	public void testTaskExecution() throws InterruptedException {
 		getHelper().setConfigurationValue(SchedulerConfiguration.PROPERTY_TASK_ASYNCHRONOUS_ENABLED, true);
@@ -0,0 +1,135 @@
+package eu.bcvsolutions.idm.acc.sync;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.acc.dto.SysSyncActionLogDto;
+import eu.bcvsolutions.idm.acc.dto.SysSyncLogDto;
+import eu.bcvsolutions.idm.acc.dto.filter.SysSyncActionLogFilter;
+import eu.bcvsolutions.idm.acc.dto.filter.SysSyncLogFilter;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncActionLogService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncConfigService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncLogService;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.IdentityProcessor;
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.core.model.event.IdentityEvent.IdentityEventType;
+
+/**
+ * Processor records persisted synchronization state (token and count of operations in action logs),
+ * when identity is created by synchronization.
+ * The behavior is used for check synchronization checkpoints.
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component
+@Description("Record persisted synchronization state, when identity is created.")
+public class TestSynchronizationCheckpointProcessor extends CoreEventProcessor<IdmIdentityDto> implements IdentityProcessor {
+
+	@Autowired private SysSyncConfigService syncConfigService;
+	@Autowired private SysSyncLogService syncLogService;
+	@Autowired private SysSyncActionLogService syncActionLogService;
+	//
+	private UUID synchronizationConfigId = null;
+	private int failItem = 0;
+	private final List<String> usernames = new ArrayList<>();
+	private final List<String> tokens = new ArrayList<>();
+	private final List<Integer> operationCounts = new ArrayList<>();
+
+	public TestSynchronizationCheckpointProcessor() {
+		super(IdentityEventType.CREATE);
+	}
+
+	@Override
+	public EventResult<IdmIdentityDto> process(EntityEvent<IdmIdentityDto> event) {
+		if (synchronizationConfigId != null) {
+			usernames.add(event.getContent().getUsername());
+			tokens.add(syncConfigService.get(synchronizationConfigId).getToken());
+			operationCounts.add(countOperations());
+			//
+			if (usernames.size() == failItem) {
+				throw new CoreException("Synchronization item failed (test).");
+			}
+		}
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+
+	@Override
+	public int getOrder() {
+		// end
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Enable recording for given synchronization.
+	 *
+	 * @param synchronizationConfigId synchronization
+	 * @param failItem processing of item with given order fails (1 - the first item), 0 - no item fails
+	 */
+	public void enable(UUID synchronizationConfigId, int failItem) {
+		disable();
+		this.synchronizationConfigId = synchronizationConfigId;
+		this.failItem = failItem;
+	}
+
+	public void disable() {
+		this.synchronizationConfigId = null;
+		this.failItem = 0;
+		usernames.clear();
+		tokens.clear();
+		operationCounts.clear();
+	}
+
+	/**
+	 * Created usernames in processing order.
+	 *
+	 * @return
+	 */
+	public List<String> getUsernames() {
+		return usernames;
+	}
+
+	/**
+	 * Persisted token, when identity was created.
+	 *
+	 * @return
+	 */
+	public List<String> getTokens() {
+		return tokens;
+	}
+
+	/**
+	 * Count of operations in persisted action logs, when identity was created.
+	 *
+	 * @return
+	 */
+	public List<Integer> getOperationCounts() {
+		return operationCounts;
+	}
+
+	private int countOperations() {
+		SysSyncLogFilter logFilter = new SysSyncLogFilter();
+		logFilter.setSynchronizationConfigId(synchronizationConfigId);
+		logFilter.setRunning(Boolean.TRUE);
+		int count = 0;
+		for (SysSyncLogDto log : syncLogService.find(logFilter, null)) {
+			SysSyncActionLogFilter actionLogFilter = new SysSyncActionLogFilter();
+			actionLogFilter.setSynchronizationLogId(log.getId());
+			for (SysSyncActionLogDto actionLog : syncActionLogService.find(actionLogFilter, null)) {
+				count += actionLog.getOperationCount() == null ? 0 : actionLog.getOperationCount();
+			}
+		}
+		return count;
+	}
+}
@@ -36,6 +36,33 @@ public interface EventConfiguration extends Configurable {
 			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.batchSize";
 	int DEFAULT_EVENT_BATCH_SIZE = 15;
 	
+	/**
+	 * Asynchronous events will be executed in partitions (worker lanes) - events are distributed into partitions by owner (or super owner) hash.
+	 * Events for the same owner are executed in the same partition sequentially, events for different owners are executed in parallel.
+	 * Each partition holds {@link #PROPERTY_EVENT_ASYNCHRONOUS_BATCH_SIZE} events at most.
+	 * Partitioned processing is disabled by default (0) - events are executed in single batch.
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_COUNT = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.partitionCount";
+	int DEFAULT_EVENT_PARTITION_COUNT = 0;
+	
+	/**
+	 * Asynchronous event queue is processed, when new event is created (pushed) - event queue is not polled on each scheduling
+	 * (see 'scheduler.event.queue.process'), when no event was created. Instances are notified by database, if it's supported (PostgreSQL).
+	 * Event queue is polled periodically as a fallback (see {@link #PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL}).
+	 * Disabled by default - event queue is polled on each scheduling.
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_ENABLED = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.notify.enabled";
+	boolean DEFAULT_EVENT_ASYNCHRONOUS_NOTIFY_ENABLED = false;
+	
+	/**
+	 * Asynchronous event queue is polled periodically as a fallback, when notification is enabled (ms).
+	 * Delayed events (with execute date) are processed with this period at worst.
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.notify.pollingInterval";
+	long DEFAULT_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL = 60000L; // 1 minute
 	
 	@Override
 	default String getConfigurableType() {
@@ -90,5 +117,30 @@ public interface EventConfiguration extends Configurable {
 	 * @return
 	 */
 	int getBatchSize();
+	
+	/**
+	 * Asynchronous events will be executed in partitions (worker lanes) - events are distributed into partitions by owner (or super owner) hash.
+	 * Partitioned processing is disabled, if zero is returned.
+	 * 
+	 * @return partition count
+	 * @since 11.0.0
+	 */
+	int getPartitionCount();
+	
+	/**
+	 * Asynchronous event queue is processed, when new event is created (pushed).
+	 * 
+	 * @return true - notification is enabled, false - event queue is polled on each scheduling
+	 * @since 11.0.0
+	 */
+	boolean isNotifyEnabled();
+	
+	/**
+	 * Asynchronous event queue is polled periodically as a fallback, when notification is enabled.
+	 * 
+	 * @return polling interval (ms)
+	 * @since 11.0.0
+	 */
+	long getNotifyPollingInterval();
 
 }
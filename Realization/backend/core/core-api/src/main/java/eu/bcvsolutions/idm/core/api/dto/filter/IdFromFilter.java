@@ -0,0 +1,33 @@
+package eu.bcvsolutions.idm.core.api.dto.filter;
+
+import java.util.UUID;
+
+/**
+ * Filter for filtering entities with identifier greater than given identifier (id > idFrom).
+ * Usable for keyset pagination - entities has to be sorted by identifier.
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface IdFromFilter extends BaseDataFilter {
+
+	String PARAMETER_ID_FROM = "idFrom"; 
+
+	/**
+	 * Get identifier for filtering entities with greater identifier (id > idFrom).
+	 *
+	 * @return
+	 */
+	default UUID getIdFrom() {
+		return getParameterConverter().toUuid(getData(), PARAMETER_ID_FROM);
+	}
+
+	/**
+	 * Set identifier for filtering entities with greater identifier (id > idFrom).
+	 *
+	 * @param idFrom
+	 */
+	default void setIdFrom(UUID idFrom) {
+		set(PARAMETER_ID_FROM, idFrom);
+	}
+}
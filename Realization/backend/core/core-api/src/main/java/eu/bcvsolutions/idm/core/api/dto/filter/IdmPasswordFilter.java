@@ -19,6 +19,7 @@ public class IdmPasswordFilter extends QuickFilter {
     private String identityUsername;
     private Boolean mustChange;
     private Boolean identityDisabled;
+    private UUID idFrom; // keyset pagination
 
     public LocalDate getValidTill() {
         return validTill;
@@ -75,4 +76,24 @@ public class IdmPasswordFilter extends QuickFilter {
 	public void setIdentityUsername(String identityUsername) {
 		this.identityUsername = identityUsername;
 	}
+	
+	/**
+	 * Passwords with identifier greater than given identifier (id > idFrom) - usable for keyset pagination.
+	 * 
+	 * @return identifier
+	 * @since 11.0.0
+	 */
+	public UUID getIdFrom() {
+		return idFrom;
+	}
+	
+	/**
+	 * Passwords with identifier greater than given identifier (id > idFrom) - usable for keyset pagination.
+	 * 
+	 * @param idFrom identifier
+	 * @since 11.0.0
+	 */
+	public void setIdFrom(UUID idFrom) {
+		this.idFrom = idFrom;
+	}
 }
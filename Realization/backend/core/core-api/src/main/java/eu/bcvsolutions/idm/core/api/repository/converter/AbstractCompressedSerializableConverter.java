@@ -0,0 +1,88 @@
+package eu.bcvsolutions.idm.core.api.repository.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.persistence.AttributeConverter;
+
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+
+/**
+ * Serializable to byte[] converter - serialized value is compressed (GZIP), when exceeds configured threshold.
+ * Small values are persisted without compression - compression header will be bigger than saved bytes.
+ * 
+ * Uncompressed values (e.g. persisted before converter was used) are read as standard serialized values,
+ * compressed values are recognized by GZIP magic header => columns persisted as serializable can be converted without data migration.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ * @param <T> serializable attribute type
+ */
+public abstract class AbstractCompressedSerializableConverter<T extends Serializable> implements AttributeConverter<T, byte[]> {
+
+	public static final int DEFAULT_COMPRESSION_THRESHOLD = 512; // bytes
+	
+	@Override
+	public byte[] convertToDatabaseColumn(T attribute) {
+		if (attribute == null) {
+			return null;
+		}
+		byte[] serialized = SerializationUtils.serialize(attribute);
+		if (serialized.length <= getCompressionThreshold()) {
+			return serialized;
+		}
+		//
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(serialized.length / 2);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(serialized);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+		//
+		return compressed.toByteArray();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T convertToEntityAttribute(byte[] data) {
+		if (data == null || data.length == 0) {
+			return null;
+		}
+		if (!isCompressed(data)) {
+			return (T) SerializationUtils.deserialize(data);
+		}
+		//
+		try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+			return (T) SerializationUtils.deserialize(gzip);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+	
+	/**
+	 * Serialized value bigger than threshold will be compressed.
+	 * 
+	 * @return threshold in bytes
+	 */
+	protected int getCompressionThreshold() {
+		return DEFAULT_COMPRESSION_THRESHOLD;
+	}
+	
+	/**
+	 * Compressed data starts with GZIP magic header (serialized data starts with different stream magic header).
+	 * 
+	 * @param data persisted data
+	 * @return true - data are compressed
+	 */
+	protected boolean isCompressed(byte[] data) {
+		return data.length > 2
+				&& (data[0] & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+				&& (data[1] & 0xff) == ((GZIPInputStream.GZIP_MAGIC >> 8) & 0xff);
+	}
+}
@@ -0,0 +1,16 @@
+package eu.bcvsolutions.idm.core.api.repository.converter;
+
+import javax.persistence.Converter;
+
+import eu.bcvsolutions.idm.core.api.domain.ConfigurationMap;
+
+/**
+ * Configuration map (e.g. event properties) to compressed byte[] converter.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Converter
+public class ConfigurationMapToByteArrayConverter extends AbstractCompressedSerializableConverter<ConfigurationMap> {
+
+}
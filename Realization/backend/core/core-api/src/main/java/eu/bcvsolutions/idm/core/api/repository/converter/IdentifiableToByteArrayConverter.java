@@ -0,0 +1,16 @@
+package eu.bcvsolutions.idm.core.api.repository.converter;
+
+import javax.persistence.Converter;
+
+import eu.bcvsolutions.idm.core.api.domain.Identifiable;
+
+/**
+ * Identifiable (e.g. event content) to compressed byte[] converter.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Converter
+public class IdentifiableToByteArrayConverter extends AbstractCompressedSerializableConverter<Identifiable> {
+
+}
@@ -6,6 +6,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -216,8 +217,20 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 	@Override
 	@Transactional(readOnly = true)
 	public Page<DTO> find(final F filter, Pageable pageable, BasePermission... permission) {
-		Page<DTO> results = toDtoPage(findEntities(filter, pageable, permission), filter);
+		Page<E> entities = findEntities(filter, pageable, permission);
+		Page<DTO> results = toDtoPage(entities, filter);
 		//
+		// evaluate permissions for the whole page together
+		if (filter instanceof PermissionContext 
+				&& ((PermissionContext) filter).getAddPermissions()
+				&& entities.hasContent()) {
+			Map<Serializable, Set<String>> permissions = getPermissions(entities.getContent());
+			results.getContent().forEach(dto -> {
+				if (dto instanceof AbstractDto) {
+					((AbstractDto) dto).setPermissions(permissions.get(dto.getId()));
+				}
+			});
+		}
 		results.getContent().forEach(dto -> {
 			// apply context on each loaded dto
 			applyContext(dto, filter, permission);
@@ -479,6 +492,10 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 		if (!((PermissionContext) context).getAddPermissions()) {
 			return dto;
 		}
+		// permissions are already loaded (e.g. for the whole page)
+		if (((AbstractDto) dto).getPermissions() != null) {
+			return dto;
+		}
 		// load permissions
 		((AbstractDto) dto).setPermissions(getPermissions(dto));
 		//
@@ -523,6 +540,19 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 		//
 		return getAuthorizationManager().getPermissions(entity);
 	}
+	
+	/**
+	 * Returns permissions for given entities evaluated together (e.g. for the whole loaded page).
+	 * 
+	 * @param entities persisted entities
+	 * @return permissions by entity identifier
+	 * @since 11.0.0
+	 */
+	protected Map<Serializable, Set<String>> getPermissions(List<E> entities) {
+		Assert.notNull(entities, "Entities are required get permissions.");
+		//
+		return getAuthorizationManager().getPermissions(entities);
+	}
 
 	/**
 	 *
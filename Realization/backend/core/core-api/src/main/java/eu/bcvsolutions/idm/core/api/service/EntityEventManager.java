@@ -64,6 +64,14 @@ public interface EntityEventManager extends ScriptEnabled {
 	 */
 	String TRANSACTION_EVENT_CACHE_NAME = String.format("%s:transaction-event-cache", CoreModule.MODULE_ID);
 	
+	/**
+	 * Enabled processors by event content type and event type - sorted processor chains (local cache).
+	 * Cache is evicted, when processor or module configuration is changed.
+	 * 
+	 * @since 11.0.0
+	 */
+	String PROCESSOR_CACHE_NAME = String.format("%s:processor-cache", CoreModule.MODULE_ID);
+	
 	/**
 	 * Cancel all previously ran events
 	 */
@@ -399,6 +407,15 @@ public interface EntityEventManager extends ScriptEnabled {
 	 */
 	boolean isAsynchronous();
 	
+	/**
+	 * Notify asynchronous event queue processing on current server instance - new events are waiting to be processed.
+	 * Event queue will be processed as soon as possible (without waiting to next polling), if notification is enabled.
+	 * 
+	 * @see EventConfiguration#isNotifyEnabled()
+	 * @since 11.0.0
+	 */
+	void notifyEventQueue();
+	
 	/**
 	 * Propagate properties from parent to child event.
 	 * Properties need for internal event processing are ignored (see {@link EntityEvent} properties). 
@@ -0,0 +1,41 @@
+package eu.bcvsolutions.idm.core.api.service;
+
+import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
+
+/**
+ * Notify asynchronous event queue processing on server instances - new events were created.
+ * Notification is propagated to other server instances by database, if it's supported by used database (PostgreSQL LISTEN / NOTIFY).
+ * Event queue is polled periodically as a fallback otherwise.
+ * 
+ * @see EventConfiguration#isNotifyEnabled()
+ * @see EntityEventManager#notifyEventQueue()
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface EntityEventQueueNotifier {
+
+	/**
+	 * Database notification channel.
+	 */
+	String CHANNEL_NAME = "idm_entity_event";
+	
+	/**
+	 * Start listening notifications from other server instances, if it's supported by used database.
+	 */
+	void init();
+	
+	/**
+	 * Returns true, when notification between server instances is supported by used database.
+	 * 
+	 * @return
+	 */
+	boolean isSupported();
+	
+	/**
+	 * Notify given server instance - new events are waiting to be processed.
+	 * Notification is sent in current transaction, if transaction is active (=> notification is delivered after transaction is committed).
+	 * 
+	 * @param instanceId server instance, where events will be processed
+	 */
+	void notifyInstance(String instanceId);
+}
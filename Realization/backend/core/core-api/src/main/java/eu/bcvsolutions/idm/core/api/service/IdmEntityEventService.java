@@ -1,7 +1,9 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -60,4 +62,25 @@ public interface IdmEntityEventService extends
 	 * @since 8.1.4
 	 */
 	void deleteAll();
+	
+	/**
+	 * Returns identifiers of the given events, which are used as parent by other (child) events.
+	 * 
+	 * @param eventIds event identifiers
+	 * @return identifiers of events with children
+	 * @since 11.0.0
+	 */
+	Set<UUID> findParentIds(Collection<UUID> eventIds);
+	
+	/**
+	 * Delete given events and their states in batch - one query for all events is used.
+	 * Events are deleted without publishing delete event and child events are not deleted 
+	 * - use {@link #findParentIds(Collection)} to exclude events with children.
+	 * 
+	 * Use {@link EntityEventManager#deleteEvent(IdmEntityEventDto)} - removes running event from application cache too. 
+	 * 
+	 * @param eventIds event identifiers
+	 * @since 11.0.0
+	 */
+	void deleteAllById(Collection<UUID> eventIds);
 }
@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import java.time.LocalDate;
@@ -109,6 +110,17 @@ public interface IdmIdentityRoleService extends
 	 * @return
 	 */
 	IdmFormInstanceDto getRoleAttributeValues(IdmIdentityRoleDto dto);
+	
+	/**
+	 * Get form instances for given identity roles. Form values of all given identity roles are loaded together
+	 * (by role attribute definition).
+	 * 
+	 * @param identityRoles identity roles
+	 * @return form instances by identity role identifier (identity roles without role attribute definition are not included)
+	 * @see #getRoleAttributeValues(IdmIdentityRoleDto)
+	 * @since 11.0.0
+	 */
+	Map<UUID, IdmFormInstanceDto> getRoleAttributeValues(List<IdmIdentityRoleDto> identityRoles);
 
 	/**
 	 * Validate form attributes for given identityRole
@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.time.ZonedDateTime;
+import java.util.UUID;
 
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.dto.IdmTokenDto;
@@ -40,4 +41,18 @@ public interface IdmTokenService extends
 	 * @param olderThan - [optional] - with expiration older than given, all otherwise
 	 */
 	void purgeTokens(String tokenType, ZonedDateTime olderThan);
+	
+	/**
+	 * Prolong expiration of active token. Token is not prolonged, if token is disabled (e.g. logout) or persisted expiration 
+	 * is the same or longer than given expiration - conditions are evaluated together with update in one statement, 
+	 * so concurrently disabled token is not prolonged.
+	 * Token is evicted from token cache, when expiration is prolonged.
+	 * 
+	 * @param tokenId token identifier
+	 * @param expiration new expiration
+	 * @param token token hash computed with new expiration
+	 * @return true - expiration was prolonged
+	 * @since 11.0.0
+	 */
+	boolean prolongExpiration(UUID tokenId, ZonedDateTime expiration, String token);
 }
@@ -27,6 +27,7 @@ public class IdmFormValueFilter<O extends FormableEntity> extends DataFilter {
 	public static final String PARAMETER_ATTRIBUTE_ID = "attributeId"; // list - OR
 	public static final String PARAMETER_DEFINITION_ID = "definitionId";
 	public static final String PARAMETER_OWNER = "owner";
+	public static final String PARAMETER_OWNER_ID = "ownerId"; // list - OR
 	public static final String PARAMETER_PERSISTENT_TYPE = "persistentType";
 	public static final String PARAMETER_STRING_VALUE = "stringValue"; // equals
 	public static final String PARAMETER_SHORT_TEXT_VALUE = "shortTextValue"; // equals
@@ -97,6 +98,26 @@ public class IdmFormValueFilter<O extends FormableEntity> extends DataFilter {
 		set(PARAMETER_OWNER, owner);
 	}
 
+	/**
+	 * Values of multiple owners can be find - OR.
+	 * 
+	 * @return
+	 * @since 11.0.0
+	 */
+	public List<UUID> getOwnerIds() {
+		return getParameterConverter().toUuids(getData(), PARAMETER_OWNER_ID);
+	}
+	
+	/**
+	 * Values of multiple owners can be find - OR.
+	 * 
+	 * @param ownerIds
+	 * @since 11.0.0
+	 */
+	public void setOwnerIds(List<UUID> ownerIds) {
+		put(PARAMETER_OWNER_ID, ownerIds);
+	}
+
 	public PersistentType getPersistentType() {
 		return getParameterConverter().toEnum(getData(), PARAMETER_PERSISTENT_TYPE, PersistentType.class);
 	}
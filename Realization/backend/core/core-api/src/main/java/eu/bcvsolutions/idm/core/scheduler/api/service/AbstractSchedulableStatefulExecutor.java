@@ -6,9 +6,18 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 
@@ -16,6 +25,7 @@ import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,6 +50,9 @@ import eu.bcvsolutions.idm.core.api.dto.DefaultResultModel;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
+import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
+import eu.bcvsolutions.idm.core.scheduler.api.config.SchedulerConfiguration;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.IdmLongRunningTaskDto;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.IdmProcessedTaskItemDto;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.filter.IdmProcessedTaskItemFilter;
@@ -65,12 +78,43 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractSchedulableStatefulExecutor.class);
 	private static final int DEFAULT_PAGE_SIZE = 100;
+	private static final int DEFAULT_PARALLELISM = 1;
+	private static final long DEFAULT_UPDATE_STATE_INTERVAL = 1000L; // 1s
+	private static final int MAX_IN_CLAUSE_SIZE = 500; // prevent to exceed IN limit sql clause
 	private boolean continueOnException = false; 
 	private boolean requireNewTransaction = false;
+	private int parallelism = DEFAULT_PARALLELISM;
+	private final Object counterLock = new Object(); // counters are updated from worker threads, when items are processed in parallel
+	private volatile boolean processCanceled = false; // task state is updated by LRT thread only, when items are processed in parallel
 	//
 	@Autowired private IdmProcessedTaskItemService itemService;
 	@Autowired private PlatformTransactionManager platformTransactionManager;
 	@Autowired private EntityManager entityManager;
+	@Autowired(required = false)
+	@Qualifier(SchedulerConfiguration.TASK_EXECUTOR_NAME)
+	private Executor executor;
+
+	/**
+	 * Parallelism can be configured by task parameter {@link #PARAMETER_PARALLELISM}.
+	 */
+	@Override
+	public void init(Map<String, Object> properties) {
+		super.init(properties);
+		//
+		if (properties != null && properties.get(PARAMETER_PARALLELISM) != null) {
+			setParallelism(getParameterConverter().toInteger(properties, PARAMETER_PARALLELISM, DEFAULT_PARALLELISM));
+		}
+	}
+	
+	@Override
+	public Map<String, Object> getProperties() {
+		Map<String, Object> properties = super.getProperties();
+		if (parallelism > DEFAULT_PARALLELISM) {
+			// configured programmatically
+			properties.put(PARAMETER_PARALLELISM, parallelism);
+		}
+		return properties;
+	}
 
 	@Override
 	public Boolean process() {
@@ -185,6 +229,67 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	public void setRequireNewTransaction(boolean requireNewTransaction) {
 		this.requireNewTransaction = requireNewTransaction;
 	}
+	
+	/**
+	 * Task processes item parts in own new transactions (e.g. one transaction per processed contract) => 
+	 * item is not wrapped in new transaction, even if {@link #requireNewTransaction()} is set, 
+	 * and items can be processed in parallel.
+	 * 
+	 * Returns {@code false} by default.
+	 * 
+	 * @return true - task manages item transactions itself
+	 * @since 11.0.0
+	 */
+	protected boolean isItemTransactionManaged() {
+		return false;
+	}
+	
+	/**
+	 * Task was canceled or interrupted, when items are processed in parallel. 
+	 * Task state is updated by LRT thread only (see {@link #getUpdateStateInterval()}) - 
+	 * worker threads can use this flag to end long running item processing.
+	 * 
+	 * @return true - task was canceled
+	 * @since 11.0.0
+	 */
+	protected boolean isProcessCanceled() {
+		return processCanceled;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Returns {@code 1} by default (items are processed sequentially).
+	 * @since 11.0.0
+	 */
+	@Override
+	public int getParallelism() {
+		return parallelism;
+	}
+	
+	@Override
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism has to be greater than zero.");
+		//
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Form attribute for configure parallelism by task parameter {@link #PARAMETER_PARALLELISM}.
+	 * Task, which supports processing items in parallel, can add this attribute into its form attributes.
+	 * 
+	 * @return parallelism form attribute
+	 * @since 11.0.0
+	 */
+	protected IdmFormAttributeDto getParallelismAttribute() {
+		IdmFormAttributeDto parallelismAttribute = new IdmFormAttributeDto(
+				PARAMETER_PARALLELISM,
+				PARAMETER_PARALLELISM, 
+				PersistentType.INT);
+		parallelismAttribute.setDefaultValue(String.valueOf(DEFAULT_PARALLELISM));
+		//
+		return parallelismAttribute;
+	}
 
 	/**
 	 * Process long running task.
@@ -192,11 +297,15 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	 * @return true - completed, false - not complete
 	 */
 	private boolean executeProcess() {
-		Set<UUID> processedRefs = new HashSet<>();
+		Set<UUID> processedRefs = ConcurrentHashMap.newKeySet(); // items can be processed in parallel
 		//
 		boolean canContinue = true;
 		boolean updateStateSucceed = true;
 		boolean dryRun = longRunningTaskService.get(this.getLongRunningTaskId()).isDryRun();
+		boolean keysetPagination = supportsKeysetPagination();
+		boolean parallel = isParallel();
+		UUID lastId = null; // keyset pagination
+		long lastUpdateState = System.currentTimeMillis();
 		Pageable pageable = PageRequest.of(
 				0, 
 				getPageSize(),
@@ -204,36 +313,55 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		);
 		//
 		do {
-			Page<DTO> candidates = this.getItemsToProcess(pageable);
+			Page<DTO> candidates = keysetPagination ? this.getItemsToProcess(pageable, lastId) : this.getItemsToProcess(pageable);
 			//
 			if (count == null) {
 				count = candidates.getTotalElements();
 			}
+			// keyset pagination - processed queue is loaded for the whole page at once
+			Set<UUID> queuedRefs = keysetPagination ? getProcessedItemRefsFromQueue(candidates.getContent()) : null;
 			//
-			for (Iterator<DTO> i = candidates.iterator(); i.hasNext() && canContinue;) {
-				DTO candidate = i.next();
-				Assert.notNull(candidate, "DTO candidate is required for LRT processing.");
-				Assert.notNull(candidate.getId(), "DTO candidate has to be persisted for LRT processing.");
-				//
-				Optional<OperationResult> result = processCandidate(candidate, dryRun);
-				if (!result.isPresent() 
-						|| result.get().getState().isSuccessful() // executed
-						|| result.get().getState().isRunnable()) { // running (e.q. asynchronously)
-					if (supportsQueue()) {
-						processedRefs.add(candidate.getId());
-					}					
-				}
-				updateStateSucceed = this.updateState();
+			if (parallel) {
+				// page candidates are processed in parallel, state is updated by time cadence inside page
+				updateStateSucceed = processCandidatesInParallel(candidates.getContent(), dryRun, queuedRefs, processedRefs);
 				canContinue &= updateStateSucceed;
- 				//
- 				// flush and clear session - if LRT is wrapped in parent transaction, we need to clear it
- 				if (getHibernateSession().isOpen()) {
- 					getHibernateSession().flush();
- 					getHibernateSession().clear();
- 				}
+				if (candidates.hasContent()) {
+					lastId = candidates.getContent().get(candidates.getNumberOfElements() - 1).getId();
+				}
+				lastUpdateState = System.currentTimeMillis();
+			} else {
+				for (Iterator<DTO> i = candidates.iterator(); i.hasNext() && canContinue;) {
+					DTO candidate = i.next();
+					processCandidate(candidate, dryRun, queuedRefs, processedRefs);
+					lastId = candidate.getId();
+					//
+					if (!keysetPagination) {
+						updateStateSucceed = this.updateState();
+						canContinue &= updateStateSucceed;
+						//
+						// flush and clear session - if LRT is wrapped in parent transaction, we need to clear it
+						clearSession();
+					} else if (System.currentTimeMillis() - lastUpdateState >= getUpdateStateInterval()) {
+						// keyset pagination - state is updated by time cadence inside page
+						updateStateSucceed = this.updateState();
+						canContinue &= updateStateSucceed;
+						lastUpdateState = System.currentTimeMillis();
+					}
+				}
+			}
+			if (keysetPagination || parallel) {
+				// keyset pagination or parallel processing - page is processed as one chunk => update state and clear session after page is processed
+				if (canContinue) {
+					updateStateSucceed = this.updateState();
+					canContinue &= updateStateSucceed;
+					lastUpdateState = System.currentTimeMillis();
+				}
+				clearSession();
+			}
+			if (!keysetPagination) {
+				pageable = candidates.nextPageable();
 			}
-			canContinue &= candidates.hasNext();			
-			pageable = candidates.nextPageable();
+			canContinue &= candidates.hasNext();
 			//
 		} while (canContinue);
 		//
@@ -257,15 +385,187 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		return updateStateSucceed;
 	}
 	
+	/**
+	 * Items are processed in parallel, if parallelism is configured and each item (or item part) is processed in new transaction.
+	 * 
+	 * @return true - items will be processed in parallel
+	 */
+	private boolean isParallel() {
+		int parallelism = getParallelism();
+		if (parallelism <= 1) {
+			return false;
+		}
+		if (!requireNewTransaction() && !isItemTransactionManaged()) {
+			LOG.warn("Statefull process [{}] configured parallelism [{}] is ignored - items can be processed in parallel, "
+					+ "only if each item is processed in new transaction.", getClass().getSimpleName(), parallelism);
+			return false;
+		}
+		if (executor == null) {
+			LOG.warn("Statefull process [{}] configured parallelism [{}] is ignored - task executor is not available.",
+					getClass().getSimpleName(), parallelism);
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Process given candidates in parallel - candidates are processed by worker threads from task executor
+	 * (security and transaction context is propagated by executor) and by the current thread too.
+	 * Worker, which is not started before the current thread processes all candidates, is not used at all 
+	 * => task ends even if task executor is exhausted.
+	 * Task state is updated by the current thread by time cadence (see {@link #getUpdateStateInterval()}) - 
+	 * when task is canceled, workers ends after processing their current item.
+	 * 
+	 * @param candidates candidates to process
+	 * @param dryRun dry run mode
+	 * @param queuedRefs candidates in processed queue already (keyset pagination), {@code null} => evaluated for each candidate.
+	 * @param processedRefs thread safe set of processed candidate identifiers
+	 * @return true - processing can continue, false - task was canceled or interrupted
+	 */
+	private boolean processCandidatesInParallel(List<DTO> candidates, boolean dryRun, Set<UUID> queuedRefs, Set<UUID> processedRefs) {
+		Queue<DTO> queue = new ConcurrentLinkedQueue<>(candidates);
+		AtomicBoolean canContinue = new AtomicBoolean(true);
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		ParallelWorkers workers = new ParallelWorkers();
+		Runnable worker = () -> {
+			DTO candidate;
+			while (canContinue.get() && (candidate = queue.poll()) != null) {
+				try {
+					processCandidate(candidate, dryRun, queuedRefs, processedRefs);
+				} catch (RuntimeException ex) {
+					// the first exception is thrown after all workers ends
+					failure.compareAndSet(null, ex);
+					canContinue.set(false);
+				}
+			}
+		};
+		// current thread is used too => one worker less
+		for (int i = 1; i < getParallelism() && i < candidates.size(); i++) {
+			try {
+				executor.execute(() -> {
+					if (!workers.start()) {
+						// all candidates are processed already
+						return;
+					}
+					try {
+						worker.run();
+					} finally {
+						workers.end();
+					}
+				});
+			} catch (RejectedExecutionException ex) {
+				LOG.debug("Statefull process [{}] worker was rejected by task executor, items will be processed by [{}] threads.",
+						getClass().getSimpleName(), i, ex);
+				break;
+			}
+		}
+		// process candidates by current thread too
+		long lastUpdateState = System.currentTimeMillis();
+		DTO candidate;
+		while (canContinue.get() && (candidate = queue.poll()) != null) {
+			try {
+				processCandidate(candidate, dryRun, queuedRefs, processedRefs);
+			} catch (RuntimeException ex) {
+				failure.compareAndSet(null, ex);
+				canContinue.set(false);
+			}
+			if (canContinue.get() && System.currentTimeMillis() - lastUpdateState >= getUpdateStateInterval()) {
+				// task can be canceled => workers ends after their current item is processed
+				canContinue.compareAndSet(true, this.updateState());
+				processCanceled = !canContinue.get();
+				lastUpdateState = System.currentTimeMillis();
+			}
+		}
+		// wait for running workers - task can be canceled, while workers process their last items
+		try {
+			while (!workers.close(getUpdateStateInterval())) {
+				if (canContinue.get()) {
+					canContinue.compareAndSet(true, this.updateState());
+					processCanceled = !canContinue.get();
+				}
+			}
+		} catch (InterruptedException ex) {
+			LOG.warn("Statefull process [{}] was interrupted, running workers ends after their current item is processed.",
+					getClass().getSimpleName(), ex);
+			canContinue.set(false);
+			processCanceled = true;
+			Thread.currentThread().interrupt();
+		}
+		//
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+		return canContinue.get();
+	}
+	
+	/**
+	 * Process candidate and register successfully processed candidate into processed references.
+	 */
+	private void processCandidate(DTO candidate, boolean dryRun, Set<UUID> queuedRefs, Set<UUID> processedRefs) {
+		Assert.notNull(candidate, "DTO candidate is required for LRT processing.");
+		Assert.notNull(candidate.getId(), "DTO candidate has to be persisted for LRT processing.");
+		//
+		boolean inProcessedQueue = queuedRefs != null ? queuedRefs.contains(candidate.getId()) : isInProcessedQueue(candidate);
+		Optional<OperationResult> result = processCandidate(candidate, dryRun, inProcessedQueue);
+		if (!result.isPresent() 
+				|| result.get().getState().isSuccessful() // executed
+				|| result.get().getState().isRunnable()) { // running (e.q. asynchronously)
+			if (supportsQueue()) {
+				processedRefs.add(candidate.getId());
+			}					
+		}
+	}
+	
+	/**
+	 * Flush and clear session - if LRT is wrapped in parent transaction, we need to clear it.
+	 */
+	private void clearSession() {
+		if (getHibernateSession().isOpen()) {
+			getHibernateSession().flush();
+			getHibernateSession().clear();
+		}
+	}
+	
+	/**
+	 * Returns referenced entities, which are in processed queue already - one query for all given candidates.
+	 * 
+	 * @param candidates candidates to process
+	 * @return candidate identifiers in processed queue
+	 */
+	private Set<UUID> getProcessedItemRefsFromQueue(List<DTO> candidates) {
+		Set<UUID> queuedRefs = new HashSet<>();
+		if (!supportsQueue() || candidates.isEmpty()) {
+			return queuedRefs;
+		}
+		UUID scheduledTaskId = this.getScheduledTaskId();
+		if (scheduledTaskId == null) {
+			LOG.debug("Running stateful tasks outside scheduler programatically.");
+			//
+			return queuedRefs;
+		}
+		List<UUID> candidateIds = candidates
+				.stream()
+				.map(DTO::getId)
+				.collect(Collectors.toList());
+		// prevent to exceed IN limit sql clause
+		Lists.partition(candidateIds, MAX_IN_CLAUSE_SIZE).forEach(ids -> {
+			queuedRefs.addAll(itemService.findAllRefEntityIdsInQueueByScheduledTaskId(scheduledTaskId, ids));
+		});
+		//
+		return queuedRefs;
+	}
+	
 	private Session getHibernateSession() {
 		return (Session) this.entityManager.getDelegate();
 	}
 
-	private Optional<OperationResult> processCandidate(DTO candidate, boolean dryRun) {
-		if (isInProcessedQueue(candidate)) {
+	private Optional<OperationResult> processCandidate(DTO candidate, boolean dryRun, boolean inProcessedQueue) {
+		if (inProcessedQueue) {
 			// item was processed earlier - just drop the count by one
 			// FIXME: this is confusing => task ends with 0 count, if all items are skipped (processed before)
-			--count;
+			synchronized (counterLock) {
+				--count;
+			}
 			return Optional.empty();
 		}
 		// Is not possible to get real cause from UnexpectedRollbackException,
@@ -281,7 +581,7 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 					.Builder(OperationState.NOT_EXECUTED)
 					.setModel(new DefaultResultModel(CoreResultCode.DRY_RUN))
 					.build()));
-		} else if (requireNewTransaction()) {
+		} else if (requireNewTransaction() && !isItemTransactionManaged()) {
 			TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
 			template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
 			//
@@ -302,7 +602,9 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 			results.add(this.processItemInternal(candidate));
 		}
 		//
-		++counter;
+		synchronized (counterLock) {
+			++counter;
+		}
 		Optional<OperationResult> result;
 		if (!results.isEmpty()) {
 			result = results.get(0);
@@ -385,6 +687,52 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		return p;
 	}
 	
+	/**
+	 * Workers processing one page candidates in parallel.
+	 * Worker, which is not started before page is closed, will not process any candidate.
+	 */
+	private static class ParallelWorkers {
+		
+		private int running = 0;
+		private boolean closed = false;
+		
+		/**
+		 * Register started worker.
+		 * 
+		 * @return false - page is closed, worker should end
+		 */
+		synchronized boolean start() {
+			if (closed) {
+				return false;
+			}
+			running++;
+			return true;
+		}
+		
+		synchronized void end() {
+			running--;
+			notifyAll();
+		}
+		
+		/**
+		 * Close page and wait for running workers.
+		 * 
+		 * @param timeout maximum time to wait (ms)
+		 * @return true - all workers ended
+		 * @throws InterruptedException
+		 */
+		synchronized boolean close(long timeout) throws InterruptedException {
+			closed = true;
+			long deadline = System.currentTimeMillis() + timeout;
+			long remaining = timeout;
+			while (running > 0 && remaining > 0) {
+				wait(remaining);
+				remaining = deadline - System.currentTimeMillis();
+			}
+			return running == 0;
+		}
+	}
+	
 	/**
 	 * Persists LRT items
 	 * 
@@ -403,4 +751,47 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	protected int getPageSize() {
 		return DEFAULT_PAGE_SIZE;
 	}
+	
+	/**
+	 * Returns true, when task supports keyset pagination - items to process are loaded by {@link #getItemsToProcess(Pageable, UUID)}.
+	 * Keyset pagination is faster than offset pagination on large tables. 
+	 * Processed queue is loaded for the whole page at once (=> {@link #isInProcessedQueue(AbstractDto)} is not called), 
+	 * page is processed as one chunk (session is flushed after page is processed) 
+	 * and task state (counter) is updated by time cadence (see {@link #getUpdateStateInterval()}).
+	 * 
+	 * Returns {@code false} by default (backward compatibility - offset pagination is used).
+	 * 
+	 * @return true - keyset pagination is supported
+	 * @since 11.0.0
+	 */
+	protected boolean supportsKeysetPagination() {
+		return false;
+	}
+	
+	/**
+	 * Returns items to process with identifier greater than given identifier (keyset pagination).
+	 * Items has to be sorted by identifier (given pageable contains sort by identifier) - the first page is always given.
+	 * Has to be overridden, when {@link #supportsKeysetPagination()} returns {@code true}.
+	 * 
+	 * @param pageable the first page sorted by identifier
+	 * @param idFrom identifier of the last processed item, {@code null} for the first page
+	 * @return items to process
+	 * @see eu.bcvsolutions.idm.core.api.dto.filter.IdFromFilter
+	 * @since 11.0.0
+	 */
+	protected Page<DTO> getItemsToProcess(Pageable pageable, UUID idFrom) {
+		throw new UnsupportedOperationException(String.format("Task [%s] does not support keyset pagination.", getClass().getSimpleName()));
+	}
+	
+	/**
+	 * Task state (counter) is updated after given interval, when keyset pagination is used. 
+	 * State is updated after each page is processed too.
+	 * 
+	 * @return interval in milliseconds. {@value #DEFAULT_UPDATE_STATE_INTERVAL} by default.
+	 * @see #supportsKeysetPagination()
+	 * @since 11.0.0
+	 */
+	protected long getUpdateStateInterval() {
+		return DEFAULT_UPDATE_STATE_INTERVAL;
+	}
 }
@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.scheduler.api.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -53,6 +54,16 @@ public interface IdmProcessedTaskItemService extends
 	 */
 	List<UUID> findAllRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId);
 	
+	/**
+	 * Find referenced entity identifiers by scheduled tasks - only given referenced entities are returned, when they are in queue.
+	 * 
+	 * @param scheduledTaskId scheduled task
+	 * @param referencedEntityIds referenced entities
+	 * @return referenced entities in queue
+	 * @since 11.0.0
+	 */
+	List<UUID> findAllRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId, Collection<UUID> referencedEntityIds);
+	
 	/**
 	 * Find all queue items of given scheduled tasks.
 	 * @param scheduledTask
@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import eu.bcvsolutions.idm.core.api.CoreModule;
 import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.IdmProcessedTaskItemDto;
@@ -30,6 +31,14 @@ public interface SchedulableStatefulExecutor<DTO extends AbstractDto, V> extends
 	 */
 	String OPERATION_RESULT_VAR = "operationResult";
 	
+	/**
+	 * Count of threads used for processing items in parallel - task parameter.
+	 * Task has to support parallel processing, see {@link #setParallelism(int)}.
+	 * 
+	 * @since 11.0.0
+	 */
+	String PARAMETER_PARALLELISM = String.format("%s:parallelism", CoreModule.MODULE_ID);
+	
 	/**
 	 * Returns a pageable result set of DTOs the task should process.
 	 * @param pageable
@@ -79,6 +88,25 @@ public interface SchedulableStatefulExecutor<DTO extends AbstractDto, V> extends
 	 */
 	void setContinueOnException(boolean continueOnException);
 	
+	/**
+	 * Count of threads used for processing items in parallel. 
+	 * Items are processed in parallel, only if each item is processed in new transaction (see {@link #requireNewTransaction()}).
+	 * 
+	 * @return 1 - items are processed sequentially
+	 * @since 11.0.0
+	 */
+	int getParallelism();
+	
+	/**
+	 * Count of threads used for processing items in parallel.
+	 * Items are processed in parallel, only if each item is processed in new transaction (see {@link #requireNewTransaction()}).
+	 * Processing of items ({@link #processItem(AbstractDto)}) has to be thread safe, if parallelism is greater than 1.
+	 * 
+	 * @param parallelism 1 - items are processed sequentially
+	 * @since 11.0.0
+	 */
+	void setParallelism(int parallelism);
+	
 	/**
 	 * Returns true, when task uses queue for checking already processed items.
 	 * Returns {@code true} by default.
@@ -0,0 +1,82 @@
+package eu.bcvsolutions.idm.core.security.api.domain;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
+
+/**
+ * Key of cached logged identity permissions for one entity.
+ * Key contains identity permission cache version - all permissions cached for the identity
+ * are evicted together by evicting the version.
+ *
+ * @see AuthorizationManager#PERMISSION_CACHE_NAME
+ * @see AuthorizationManager#PERMISSION_ENTRY_CACHE_NAME
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public final class PermissionCacheKey implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	//
+	private final UUID identityId;
+	private final UUID version;
+	private final String entityType;
+	private final Serializable entityId;
+
+	public PermissionCacheKey(UUID identityId, UUID version, Class<?> entityType, Serializable entityId) {
+		Assert.notNull(identityId, "Identity identifier is required.");
+		Assert.notNull(version, "Cache version is required.");
+		Assert.notNull(entityType, "Entity type is required.");
+		Assert.notNull(entityId, "Entity identifier is required.");
+		//
+		this.identityId = identityId;
+		this.version = version;
+		this.entityType = entityType.getName();
+		this.entityId = entityId;
+	}
+
+	public UUID getIdentityId() {
+		return identityId;
+	}
+
+	public UUID getVersion() {
+		return version;
+	}
+
+	public String getEntityType() {
+		return entityType;
+	}
+
+	public Serializable getEntityId() {
+		return entityId;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(identityId, version, entityType, entityId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PermissionCacheKey)) {
+			return false;
+		}
+		PermissionCacheKey other = (PermissionCacheKey) obj;
+		return identityId.equals(other.identityId)
+				&& version.equals(other.version)
+				&& entityType.equals(other.entityType)
+				&& entityId.equals(other.entityId);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s:%s:%s:%s", identityId, version, entityType, entityId);
+	}
+}
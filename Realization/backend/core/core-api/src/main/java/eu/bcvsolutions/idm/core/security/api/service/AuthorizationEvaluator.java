@@ -1,7 +1,10 @@
 package eu.bcvsolutions.idm.core.security.api.service;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -84,6 +87,25 @@ public interface AuthorizationEvaluator<E extends Identifiable> extends Ordered,
 	 */
 	Set<String> getPermissions(E authorizable, AuthorizationPolicy policy);
 	
+	/**
+	 * Returns base permissions - what logged user could do with given authorizable objects by given policy.
+	 * Used for evaluate permissions for the whole loaded page together. 
+	 * Permissions are evaluated for each authorizable object by default - override, if permissions can be evaluated together 
+	 * (e.g. by one query).
+	 * 
+	 * @param authorizables objects with identifier
+	 * @param policy
+	 * @return set of {@link BasePermission}s by authorizable object identifier 
+	 * @since 11.0.0
+	 */
+	default Map<Serializable, Set<String>> getPermissions(List<E> authorizables, AuthorizationPolicy policy) {
+		Map<Serializable, Set<String>> results = new HashMap<>(authorizables.size());
+		for (E authorizable : authorizables) {
+			results.put(authorizable.getId(), getPermissions(authorizable, policy));
+		}
+		return results;
+	}
+	
 	/**
 	 * Returns base authorities configured for given policy. Authorities are used as "what given identity" could do - without entity is defined.
 	 * 
@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.core.security.api.service;
 
+import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -14,6 +16,7 @@ import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.security.api.domain.AuthorizationPolicy;
 import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
+import eu.bcvsolutions.idm.core.security.api.domain.PermissionCacheKey;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizationEvaluatorDto;
 
@@ -25,9 +28,16 @@ import eu.bcvsolutions.idm.core.security.api.dto.AuthorizationEvaluatorDto;
 public interface AuthorizationManager {
 	
 	/**
-	 * Logged identity permissions for shown record.
+	 * Logged identity permission cache version (identity uuid -> version uuid).
+	 * Evict value by identity uuid => all cached permissions of the identity are evicted (other identities are preserved).
 	 */
 	String PERMISSION_CACHE_NAME = String.format("%s:permission-cache", CoreModule.MODULE_ID);
+	/**
+	 * Logged identity permissions for shown record ({@link PermissionCacheKey} -> permissions).
+	 * 
+	 * @since 11.0.0
+	 */
+	String PERMISSION_ENTRY_CACHE_NAME = String.format("%s:permission-entry-cache", CoreModule.MODULE_ID);
 	/**
 	 * Logged identity authorization policies (as uuid).
 	 * 
@@ -61,6 +71,16 @@ public interface AuthorizationManager {
 	 */
 	<E extends Identifiable> Set<String> getPermissions(E entity);
 	
+	/**
+	 * Returns, what logged user could do with given entities - permissions are evaluated together 
+	 * (e.g. for the whole loaded page).
+	 * 
+	 * @param entities persisted entities (with identifier)
+	 * @return permissions by entity identifier
+	 * @since 11.0.0
+	 */
+	<E extends Identifiable> Map<Serializable, Set<String>> getPermissions(List<E> entities);
+	
 	/**
 	 * Returns, what logged user could do with given entity by given policy
 	 * 
@@ -27,6 +27,7 @@ import eu.bcvsolutions.idm.core.api.rest.lookup.DtoLookupByExample;
 import eu.bcvsolutions.idm.core.api.rest.lookup.EntityLookup;
 import eu.bcvsolutions.idm.core.api.service.ConfidentialStorage;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.EntityEventQueueNotifier;
 import eu.bcvsolutions.idm.core.api.service.EntityStateManager;
 import eu.bcvsolutions.idm.core.api.service.IdmAuthorizationPolicyService;
 import eu.bcvsolutions.idm.core.api.service.IdmAutomaticRoleAttributeRuleService;
@@ -124,6 +125,7 @@ import eu.bcvsolutions.idm.core.model.repository.filter.DefaultFilterManager;
 import eu.bcvsolutions.idm.core.model.repository.thin.IdmIdentityRoleThinRepository;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultConfigurationService;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultEntityEventManager;
+import eu.bcvsolutions.idm.core.model.service.impl.DefaultEntityEventQueueNotifier;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultEntityStateManager;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultIdmAuthorizationPolicyService;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultIdmAutomaticRoleAttributeRuleService;
@@ -331,6 +333,18 @@ public class IdmServiceConfiguration {
 		return new DefaultEntityEventManager();
 	}
 	
+	/**
+	 * Notify asynchronous event queue processing on server instances.
+	 * 
+	 * @return
+	 * @since 11.0.0
+	 */
+	@Bean
+	@ConditionalOnMissingBean(EntityEventQueueNotifier.class)
+	public EntityEventQueueNotifier entityEventQueueNotifier() {
+		return new DefaultEntityEventQueueNotifier();
+	}
+	
 	/**
 	 * State manager for entities.
 	 * 
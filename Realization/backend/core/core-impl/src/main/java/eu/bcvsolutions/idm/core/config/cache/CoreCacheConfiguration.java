@@ -20,6 +20,7 @@ import eu.bcvsolutions.idm.core.eav.api.domain.FormDefinitionCache;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultConfigurationService;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultGroovyScriptService;
+import eu.bcvsolutions.idm.core.security.api.domain.PermissionCacheKey;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
 import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
 import groovy.lang.Script;
@@ -49,33 +50,69 @@ public class CoreCacheConfiguration {
 
 	/**
 	 * Define local only cache for {@link DefaultGroovyScriptService}. The reason, why we use local only cache
-	 * is {@link Script} class, which this service caches, is not {@link java.io.Serializable} so it cannot
+	 * is compiled {@link Script} class, which this service caches, is loaded by local groovy class loader so it cannot
 	 * be shared in distributed cache.
 	 *
 	 * @return IdMCacheConfiguration for {@link DefaultGroovyScriptService}
 	 */
 	@Bean
+	@SuppressWarnings("rawtypes")
 	public IdMCacheConfiguration groovyScriptCacheConfiguration() {
-		return LocalIdMCacheConfiguration.<String, Script>builder()
+		return LocalIdMCacheConfiguration.<String, Class>builder()
 				.withName(DefaultGroovyScriptService.CACHE_NAME)
 				.withKeyType(String.class)
-				.withValueType(Script.class)
+				.withValueType(Class.class)
 				.build();
 	}
 	
 	/**
-	 * Define distributed cache for {@link AuthorizationManager} - logged identity permissions for entities.
+	 * Define local only cache for {@link EntityEventManager} - sorted enabled processors by event content type and event type.
+	 * Processors (spring beans) are not {@link java.io.Serializable}, so they cannot be shared in distributed cache.
+	 *
+	 * @return processor chain cache
+	 * @since 11.0.0
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public IdMCacheConfiguration processorCacheConfiguration() {
+		return LocalIdMCacheConfiguration.<String, ArrayList> builder()
+				.withName(EntityEventManager.PROCESSOR_CACHE_NAME)
+				.withKeyType(String.class) // content type + event type
+				.withValueType(ArrayList.class) // sorted processors
+				.withTtl(Duration.ofMinutes(5)) // processor configuration changed on another instance is reflected after ttl
+				.build();
+	}
+	
+	/**
+	 * Define distributed cache for {@link AuthorizationManager} - logged identity permission cache version.
 	 *
 	 * @return permission cache
 	 * @since 10.4.1
 	 */
 	@Bean
-	@SuppressWarnings("rawtypes")
 	public IdMCacheConfiguration permissionCacheConfiguration() {
-		return DistributedIdMCacheConfiguration.<UUID, HashMap> builder()
+		return DistributedIdMCacheConfiguration.<UUID, UUID> builder()
 			.withName(AuthorizationManager.PERMISSION_CACHE_NAME)
 				.withKeyType(UUID.class) // identity uuid ~ logged users
-				.withValueType(HashMap.class)
+				.withValueType(UUID.class) // version
+				.withTtl(Duration.ofHours(2)) // Depends on identity is logged out - cached permissions expire by ttl.
+				.build();
+	}
+	
+	/**
+	 * Define distributed cache for {@link AuthorizationManager} - logged identity permissions for entities.
+	 *
+	 * @return permission entry cache
+	 * @since 11.0.0
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public IdMCacheConfiguration permissionEntryCacheConfiguration() {
+		return DistributedIdMCacheConfiguration.<PermissionCacheKey, HashSet> builder()
+			.withName(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME)
+				.withKeyType(PermissionCacheKey.class) // identity + version + entity
+				.withValueType(HashSet.class)
+				.witchCacheSize(100000) // entries of evicted versions are not reachable => are removed by ttl or size
 				.withTtl(Duration.ofMinutes(1)) // permissions are based on data structure => cache should be effective short time (one request)
 				.build();
 	}
@@ -93,7 +130,7 @@ public class CoreCacheConfiguration {
 			.withName(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME)
 				.withKeyType(UUID.class)
 				.withValueType(HashMap.class)
-				.withTtl(Duration.ofHours(2)) // Depends on identity is logged out. TODO: clear cache function (keys for logged identity only).
+				.withTtl(Duration.ofHours(2)) // Depends on identity is logged out. Keys of identities with changed role policies are evicted only.
 				.build();
 	}
 	
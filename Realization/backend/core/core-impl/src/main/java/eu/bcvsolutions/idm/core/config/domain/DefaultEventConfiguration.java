@@ -48,4 +48,21 @@ public class DefaultEventConfiguration extends AbstractConfiguration implements
 	public int getBatchSize() {
 		return getConfigurationService().getIntegerValue(PROPERTY_EVENT_ASYNCHRONOUS_BATCH_SIZE, DEFAULT_EVENT_BATCH_SIZE);
 	}
+	
+	@Override
+	public int getPartitionCount() {
+		int partitionCount = getConfigurationService().getIntegerValue(PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_COUNT, DEFAULT_EVENT_PARTITION_COUNT);
+		//
+		return partitionCount < 0 ? DEFAULT_EVENT_PARTITION_COUNT : partitionCount;
+	}
+	
+	@Override
+	public boolean isNotifyEnabled() {
+		return getConfigurationService().getBooleanValue(PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_ENABLED, DEFAULT_EVENT_ASYNCHRONOUS_NOTIFY_ENABLED);
+	}
+	
+	@Override
+	public long getNotifyPollingInterval() {
+		return getConfigurationService().getLongValue(PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL, DEFAULT_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL);
+	}
 }
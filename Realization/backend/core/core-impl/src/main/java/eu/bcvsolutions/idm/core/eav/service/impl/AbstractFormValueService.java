@@ -238,6 +238,10 @@ public abstract class AbstractFormValueService<O extends FormableEntity, E exten
 				predicates.add(builder.equal(root.get(FormValueService.PROPERTY_OWNER).get(BaseEntity.PROPERTY_ID), ownerId));
 			}
 		}
+		List<UUID> ownerIds = filter.getOwnerIds();
+		if (CollectionUtils.isNotEmpty(ownerIds)) {
+			predicates.add(root.get(FormValueService.PROPERTY_OWNER).get(BaseEntity.PROPERTY_ID).in(ownerIds));
+		}
 		//
 		String stringValue = filter.getStringValue();
 		if (StringUtils.isNotEmpty(stringValue)) {
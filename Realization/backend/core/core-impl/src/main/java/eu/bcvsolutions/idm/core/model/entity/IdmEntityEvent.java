@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import javax.persistence.Column;
 import javax.persistence.ConstraintMode;
+import javax.persistence.Convert;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -24,6 +25,8 @@ import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.domain.PriorityType;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
+import eu.bcvsolutions.idm.core.api.repository.converter.ConfigurationMapToByteArrayConverter;
+import eu.bcvsolutions.idm.core.api.repository.converter.IdentifiableToByteArrayConverter;
 
 /**
  * Persisted entity event
@@ -63,12 +66,15 @@ public class IdmEntityEvent extends AbstractEntity {
 	private String eventType; // event type
 	
 	@Column(name = "properties", length = Integer.MAX_VALUE)
+	@Convert(converter = ConfigurationMapToByteArrayConverter.class)
 	private ConfigurationMap properties;
 	
 	@Column(name = "content", length = Integer.MAX_VALUE)
+	@Convert(converter = IdentifiableToByteArrayConverter.class)
 	private Identifiable content; // content - in current processing
 	
 	@Column(name = "original_source", length = Integer.MAX_VALUE)
+	@Convert(converter = IdentifiableToByteArrayConverter.class)
 	private Identifiable originalSource; // persisted content - before event starts
 	
 	@Column(name = "processed_order")
@@ -0,0 +1,173 @@
+package eu.bcvsolutions.idm.core.model.entity;
+
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
+
+/**
+ * Materialized relation between manager and subordinate contract:
+ * - manager from tree structure - manager contract is on parent tree node of subordinate contract work position
+ * - manager as contract guarantee
+ *
+ * Only structural relation is persisted - validity of contracts (and identities) is evaluated in queries,
+ * which use this relation (~ relation is not changed in time).
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Entity
+@Table(name = "idm_manager_subordinate", indexes = {
+		@Index(name = "idx_idm_man_sub_manager", columnList = "manager_id"),
+		@Index(name = "idx_idm_man_sub_man_contr", columnList = "manager_contract_id"),
+		@Index(name = "idx_idm_man_sub_guarantee", columnList = "contract_guarantee_id"),
+		@Index(name = "idx_idm_man_sub_subordinate", columnList = "subordinate_id"),
+		@Index(name = "idx_idm_man_sub_sub_contr", columnList = "subordinate_contract_id")
+		})
+public class IdmManagerSubordinate extends AbstractEntity {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotNull
+	@Column(name = "manager_id", length = 16, nullable = false)
+	private UUID managerId;
+
+	@Column(name = "manager_contract_id", length = 16)
+	private UUID managerContractId;
+
+	@Column(name = "contract_guarantee_id", length = 16)
+	private UUID contractGuaranteeId;
+
+	@Column(name = "tree_type_id", length = 16)
+	private UUID treeTypeId;
+
+	@NotNull
+	@Column(name = "subordinate_id", length = 16, nullable = false)
+	private UUID subordinateId;
+
+	@NotNull
+	@Column(name = "subordinate_contract_id", length = 16, nullable = false)
+	private UUID subordinateContractId;
+
+	public IdmManagerSubordinate() {
+	}
+
+	/**
+	 * Manager from tree structure.
+	 *
+	 * @param managerContract manager contract on parent tree node
+	 * @param subordinateContract subordinate contract
+	 * @return relation
+	 */
+	public static IdmManagerSubordinate ofManagerContract(IdmIdentityContract managerContract, IdmIdentityContract subordinateContract) {
+		IdmManagerSubordinate relation = new IdmManagerSubordinate();
+		relation.setManagerId(managerContract.getIdentity().getId());
+		relation.setManagerContractId(managerContract.getId());
+		relation.setTreeTypeId(managerContract.getWorkPosition().getTreeType().getId());
+		relation.setSubordinateId(subordinateContract.getIdentity().getId());
+		relation.setSubordinateContractId(subordinateContract.getId());
+		//
+		return relation;
+	}
+
+	/**
+	 * Manager as contract guarantee.
+	 *
+	 * @param contractGuarantee contract guarantee
+	 * @return relation
+	 */
+	public static IdmManagerSubordinate ofContractGuarantee(IdmContractGuarantee contractGuarantee) {
+		IdmIdentityContract subordinateContract = contractGuarantee.getIdentityContract();
+		//
+		IdmManagerSubordinate relation = new IdmManagerSubordinate();
+		relation.setManagerId(contractGuarantee.getGuarantee().getId());
+		relation.setContractGuaranteeId(contractGuarantee.getId());
+		relation.setSubordinateId(subordinateContract.getIdentity().getId());
+		relation.setSubordinateContractId(subordinateContract.getId());
+		//
+		return relation;
+	}
+
+	/**
+	 * Manager identity.
+	 *
+	 * @return
+	 */
+	public UUID getManagerId() {
+		return managerId;
+	}
+
+	public void setManagerId(UUID managerId) {
+		this.managerId = managerId;
+	}
+
+	/**
+	 * Manager contract - filled for manager from tree structure.
+	 *
+	 * @return
+	 */
+	public UUID getManagerContractId() {
+		return managerContractId;
+	}
+
+	public void setManagerContractId(UUID managerContractId) {
+		this.managerContractId = managerContractId;
+	}
+
+	/**
+	 * Contract guarantee - filled for manager as contract guarantee.
+	 *
+	 * @return
+	 */
+	public UUID getContractGuaranteeId() {
+		return contractGuaranteeId;
+	}
+
+	public void setContractGuaranteeId(UUID contractGuaranteeId) {
+		this.contractGuaranteeId = contractGuaranteeId;
+	}
+
+	/**
+	 * Tree type of manager contract work position - filled for manager from tree structure.
+	 *
+	 * @return
+	 */
+	public UUID getTreeTypeId() {
+		return treeTypeId;
+	}
+
+	public void setTreeTypeId(UUID treeTypeId) {
+		this.treeTypeId = treeTypeId;
+	}
+
+	/**
+	 * Subordinate identity.
+	 *
+	 * @return
+	 */
+	public UUID getSubordinateId() {
+		return subordinateId;
+	}
+
+	public void setSubordinateId(UUID subordinateId) {
+		this.subordinateId = subordinateId;
+	}
+
+	/**
+	 * Subordinate contract.
+	 *
+	 * @return
+	 */
+	public UUID getSubordinateContractId() {
+		return subordinateContractId;
+	}
+
+	public void setSubordinateContractId(UUID subordinateContractId) {
+		this.subordinateContractId = subordinateContractId;
+	}
+}
@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.core.model.event.processor.configuration;
 
+import java.util.Objects;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
@@ -18,6 +20,7 @@ import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
 
 /**
  * When default role is changed, then authorization policy caches have to be evicted.
+ * Caches are not evicted, when configured default role is not changed.
  * 
  * @author Radek Tomiška
  * @since 10.5.0
@@ -48,6 +51,14 @@ public class ConfigurationChangeDefaultRoleProcessor
 
 	@Override
 	public EventResult<IdmConfigurationDto> process(EntityEvent<IdmConfigurationDto> event) {
+		IdmConfigurationDto previousConfiguration = event.getOriginalSource();
+		if (event.hasType(ConfigurationEventType.UPDATE)
+				&& previousConfiguration != null
+				&& Objects.equals(previousConfiguration.getValue(), event.getContent().getValue())) {
+			// default role is not changed (e.g. description only) => caches are still valid
+			return new DefaultEventResult<>(event, this);
+		}
+		// default role policies are added to all identities => whole caches have to be evicted
 		// cached permissions
 		cacheManager.evictCache(AuthorizationManager.PERMISSION_CACHE_NAME);
 		// cached identity authorization policies
@@ -0,0 +1,67 @@
+package eu.bcvsolutions.idm.core.model.event.processor.configuration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmConfigurationDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.ConfigurationProcessor;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+import eu.bcvsolutions.idm.core.model.event.ConfigurationEvent.ConfigurationEventType;
+
+/**
+ * When processor or module configuration is changed (enabled, event types), then processor chains cache has to be evicted.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(ConfigurationEvictProcessorCacheProcessor.PROCESSOR_NAME)
+@Description("When processor or module configuration is changed (enabled, event types), then processor chains cache has to be evicted.")
+public class ConfigurationEvictProcessorCacheProcessor
+		extends CoreEventProcessor<IdmConfigurationDto> 
+		implements ConfigurationProcessor {
+	
+	public static final String PROCESSOR_NAME = "core-configuration-evict-processor-cache-processor";
+	private static final String PROCESSOR_PROPERTY_PART = ConfigurationService.PROPERTY_SEPARATOR + "processor" + ConfigurationService.PROPERTY_SEPARATOR;
+	private static final String ENABLED_PROPERTY_SUFFIX = ConfigurationService.PROPERTY_SEPARATOR + ConfigurationService.PROPERTY_ENABLED;
+	//
+	@Autowired private IdmCacheManager cacheManager;
+	
+	public ConfigurationEvictProcessorCacheProcessor() {
+		super(ConfigurationEventType.UPDATE, ConfigurationEventType.CREATE, ConfigurationEventType.DELETE);
+	}
+	
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+	
+	@Override
+	public boolean conditional(EntityEvent<IdmConfigurationDto> event) {
+		if (!super.conditional(event)) {
+			return false;
+		}
+		String propertyName = event.getContent().getName();
+		// processor configuration or module is enabled / disabled
+		return propertyName.contains(PROCESSOR_PROPERTY_PART) || propertyName.endsWith(ENABLED_PROPERTY_SUFFIX);
+	}
+
+	@Override
+	public EventResult<IdmConfigurationDto> process(EntityEvent<IdmConfigurationDto> event) {
+		cacheManager.evictCache(EntityEventManager.PROCESSOR_CACHE_NAME);
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
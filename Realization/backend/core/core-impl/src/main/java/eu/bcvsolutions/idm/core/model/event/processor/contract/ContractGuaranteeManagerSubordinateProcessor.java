@@ -0,0 +1,57 @@
+package eu.bcvsolutions.idm.core.model.event.processor.contract;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmContractGuaranteeDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.model.event.ContractGuaranteeEvent.ContractGuaranteeEventType;
+import eu.bcvsolutions.idm.core.model.service.api.IdmManagerSubordinateService;
+
+/**
+ * Recount materialized relation between manager (as contract guarantee) and subordinate contract.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(ContractGuaranteeManagerSubordinateProcessor.PROCESSOR_NAME)
+@Description("Recount materialized relation between manager (as contract guarantee) and subordinate contract.")
+public class ContractGuaranteeManagerSubordinateProcessor extends CoreEventProcessor<IdmContractGuaranteeDto> {
+
+	public static final String PROCESSOR_NAME = "core-contract-guarantee-manager-subordinate-processor";
+	//
+	@Autowired private IdmManagerSubordinateService managerSubordinateService;
+
+	public ContractGuaranteeManagerSubordinateProcessor() {
+		super(ContractGuaranteeEventType.CREATE, ContractGuaranteeEventType.UPDATE, ContractGuaranteeEventType.DELETE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public EventResult<IdmContractGuaranteeDto> process(EntityEvent<IdmContractGuaranteeDto> event) {
+		IdmContractGuaranteeDto contractGuarantee = event.getContent();
+		//
+		if (event.hasType(ContractGuaranteeEventType.DELETE)) {
+			managerSubordinateService.deleteContractGuarantee(contractGuarantee.getId());
+		} else {
+			managerSubordinateService.recountContractGuarantee(contractGuarantee.getId());
+		}
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		// after contract guarantee is saved / deleted
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
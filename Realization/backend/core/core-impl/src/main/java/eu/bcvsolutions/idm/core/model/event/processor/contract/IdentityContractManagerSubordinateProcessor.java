@@ -0,0 +1,80 @@
+package eu.bcvsolutions.idm.core.model.event.processor.contract;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.IdentityContractProcessor;
+import eu.bcvsolutions.idm.core.model.event.IdentityContractEvent.IdentityContractEventType;
+import eu.bcvsolutions.idm.core.model.service.api.IdmManagerSubordinateService;
+
+/**
+ * Recount materialized relations between manager and subordinate contracts, when contract is created, deleted 
+ * or contract work position (or owner) is changed.
+ * Validity of contract is not persisted in relation => other changes are not needed to be processed.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(IdentityContractManagerSubordinateProcessor.PROCESSOR_NAME)
+@Description("Recount materialized relations between manager and subordinate contracts, when contract is changed.")
+public class IdentityContractManagerSubordinateProcessor 
+		extends CoreEventProcessor<IdmIdentityContractDto> 
+		implements IdentityContractProcessor {
+
+	public static final String PROCESSOR_NAME = "core-identity-contract-manager-subordinate-processor";
+	//
+	@Autowired private IdmManagerSubordinateService managerSubordinateService;
+
+	public IdentityContractManagerSubordinateProcessor() {
+		super(IdentityContractEventType.CREATE, IdentityContractEventType.UPDATE, IdentityContractEventType.DELETE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+	
+	@Override
+	public boolean conditional(EntityEvent<IdmIdentityContractDto> event) {
+		if (!super.conditional(event)) {
+			return false;
+		}
+		if (!event.hasType(IdentityContractEventType.UPDATE)) {
+			return true;
+		}
+		IdmIdentityContractDto previousContract = event.getOriginalSource();
+		IdmIdentityContractDto contract = event.getContent();
+		//
+		return previousContract == null
+				|| !Objects.equals(previousContract.getWorkPosition(), contract.getWorkPosition())
+				|| !Objects.equals(previousContract.getIdentity(), contract.getIdentity());
+	}
+
+	@Override
+	public EventResult<IdmIdentityContractDto> process(EntityEvent<IdmIdentityContractDto> event) {
+		IdmIdentityContractDto contract = event.getContent();
+		//
+		if (event.hasType(IdentityContractEventType.DELETE)) {
+			managerSubordinateService.deleteContract(contract.getId());
+		} else {
+			managerSubordinateService.recountContract(contract.getId());
+		}
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		// after contract is saved / deleted
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
@@ -1,9 +1,14 @@
 package eu.bcvsolutions.idm.core.model.event.processor.policy;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
 
+import eu.bcvsolutions.idm.core.api.config.domain.RoleConfiguration;
 import eu.bcvsolutions.idm.core.api.dto.IdmAuthorizationPolicyDto;
 import eu.bcvsolutions.idm.core.api.event.CoreEvent;
 import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
@@ -11,11 +16,17 @@ import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
 import eu.bcvsolutions.idm.core.api.event.EntityEvent;
 import eu.bcvsolutions.idm.core.api.event.EventResult;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.model.event.AuthorizationPolicyEvent.AuthorizationPolicyEventType;
+import eu.bcvsolutions.idm.core.model.repository.IdmIdentityRoleRepository;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
 
 /**
  * Clear authorization policy caches, when authorization policies are changed (CUD).
+ * Caches are evicted for identities with assigned policy role (or superior role by role composition) only.
+ * Whole caches are evicted, when default role (or its sub role) policy is changed - all identities are affected.
+ * Whole caches are evicted, when count of affected identities exceeds threshold too - 
+ * evicting values one by one (e.g. in distributed cache) is more expensive than evicting whole caches.
  * 
  * @author Radek Tomiška
  * @since 10.4.1
@@ -25,8 +36,14 @@ import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
 public class AuthorizationPolicyEvictCacheProcessor extends CoreEventProcessor<IdmAuthorizationPolicyDto> {
 
 	public static final String PROCESSOR_NAME = "core-authorization-policy-evict-cache-processor";
+	public static final int DEFAULT_EVICT_CACHE_THRESHOLD = 500; // whole caches are evicted for more affected identities
 	//
 	@Autowired private IdmCacheManager cacheManager;
+	@Autowired private RoleConfiguration roleConfiguration;
+	@Autowired private IdmRoleCompositionService roleCompositionService;
+	@Autowired private IdmIdentityRoleRepository identityRoleRepository;
+	//
+	private int evictCacheThreshold = DEFAULT_EVICT_CACHE_THRESHOLD;
 
 	public AuthorizationPolicyEvictCacheProcessor() {
 		super(AuthorizationPolicyEventType.CREATE, AuthorizationPolicyEventType.UPDATE, AuthorizationPolicyEventType.DELETE);
@@ -39,12 +56,54 @@ public class AuthorizationPolicyEvictCacheProcessor extends CoreEventProcessor<I
 
 	@Override
 	public EventResult<IdmAuthorizationPolicyDto> process(EntityEvent<IdmAuthorizationPolicyDto> event) {
-		// cached permissions
-		cacheManager.evictCache(AuthorizationManager.PERMISSION_CACHE_NAME);
-		// cached configured authorization policies
-		cacheManager.evictCache(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME);
-		// cached identity authorization policies
-		cacheManager.evictCache(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME);
+		IdmAuthorizationPolicyDto policy = event.getContent();
+		IdmAuthorizationPolicyDto previousPolicy = event.getOriginalSource();
+		//
+		// cached configured authorization policy
+		cacheManager.evictValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, policy.getId());
+		//
+		// policy role can be changed => identities with previous role are affected too
+		Set<UUID> roleIds = new HashSet<>();
+		roleIds.add(policy.getRole());
+		if (previousPolicy != null) {
+			roleIds.add(previousPolicy.getRole());
+		}
+		// superior roles - policies are inherited by role composition
+		new HashSet<>(roleIds).forEach(roleId -> {
+			roleCompositionService
+				.findAllSuperiorRoles(roleId)
+				.forEach(roleComposition -> {
+					roleIds.add(roleComposition.getSuperior());
+				});
+		});
+		//
+		UUID defaultRoleId = roleConfiguration.getDefaultRoleId();
+		if (defaultRoleId != null && roleIds.contains(defaultRoleId)) {
+			// default role policies are added to all identities
+			cacheManager.evictCache(AuthorizationManager.PERMISSION_CACHE_NAME);
+			cacheManager.evictCache(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME);
+			//
+			return new DefaultEventResult<>(event, this);
+		}
+		//
+		// evict caches for identities with assigned role only
+		Set<UUID> identityIds = new HashSet<>();
+		for (UUID roleId : roleIds) {
+			identityIds.addAll(identityRoleRepository.findDistinctIdentityIdsByRoleId(roleId));
+			if (identityIds.size() > evictCacheThreshold) {
+				// widely assigned role => whole caches are evicted at once
+				cacheManager.evictCache(AuthorizationManager.PERMISSION_CACHE_NAME);
+				cacheManager.evictCache(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME);
+				//
+				return new DefaultEventResult<>(event, this);
+			}
+		}
+		identityIds.forEach(identityId -> {
+			// cached permissions
+			cacheManager.evictValue(AuthorizationManager.PERMISSION_CACHE_NAME, identityId);
+			// cached identity authorization policies
+			cacheManager.evictValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, identityId);
+		});
 		//
 		return new DefaultEventResult<>(event, this);
 	}
@@ -0,0 +1,65 @@
+package eu.bcvsolutions.idm.core.model.event.processor.tree;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmTreeNodeDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.model.event.TreeNodeEvent.TreeNodeEventType;
+import eu.bcvsolutions.idm.core.model.service.api.IdmManagerSubordinateService;
+
+/**
+ * Recount materialized relations between manager and subordinate contracts, when tree node is moved 
+ * - managers of contracts on moved tree node are changed.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(TreeNodeManagerSubordinateProcessor.PROCESSOR_NAME)
+@Description("Recount materialized relations between manager and subordinate contracts, when tree node is moved.")
+public class TreeNodeManagerSubordinateProcessor extends CoreEventProcessor<IdmTreeNodeDto> {
+
+	public static final String PROCESSOR_NAME = "core-tree-node-manager-subordinate-processor";
+	//
+	@Autowired private IdmManagerSubordinateService managerSubordinateService;
+
+	public TreeNodeManagerSubordinateProcessor() {
+		// Update only. When new tree node is created, then contract cannot exist before.
+		super(TreeNodeEventType.UPDATE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+	
+	@Override
+	public boolean conditional(EntityEvent<IdmTreeNodeDto> event) {
+		IdmTreeNodeDto originalSource = event.getOriginalSource();
+		IdmTreeNodeDto content = event.getContent();
+		//
+		return super.conditional(event)
+				&& originalSource != null
+				&& !Objects.equals(originalSource.getParent(), content.getParent());
+	}
+
+	@Override
+	public EventResult<IdmTreeNodeDto> process(EntityEvent<IdmTreeNodeDto> event) {
+		managerSubordinateService.recountTreeNode(event.getContent().getId());
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		// after tree node is saved
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
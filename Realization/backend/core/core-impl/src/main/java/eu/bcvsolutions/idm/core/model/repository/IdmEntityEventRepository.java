@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -97,6 +98,27 @@ public interface IdmEntityEventRepository extends AbstractEntityRepository<IdmEn
 	 */
 	int countByParentId(UUID parentId);
 	
+	/**
+	 * Returns identifiers of the given parent events, which have children.
+	 * 
+	 * @param parentIds parent event identifiers
+	 * @return
+	 * @since 11.0.0
+	 */
+	@Query("select distinct e.parent.id from #{#entityName} e where e.parent.id in (:parentIds)")
+	List<UUID> findParentIds(@Param("parentIds") Collection<UUID> parentIds);
+	
+	/**
+	 * Delete events by identifiers
+	 * 
+	 * @param ids event identifiers
+	 * @return deleted events count
+	 * @since 11.0.0
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.id in (:ids)")
+	int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+	
 	/**
 	 * Delete all events
 	 */
@@ -52,6 +52,17 @@ public interface IdmIdentityRoleRepository extends AbstractEntityRepository<IdmI
 	 */
 	Long countByRole_Id(UUID roleId);
 	
+	/**
+	 * Identities with assigned given role - on any contract, validity is ignored.
+	 * 
+	 * @param roleId assigned role identifier
+	 * @return identity identifiers
+	 * @since 11.0.0
+	 */
+	@Query(value = "select distinct ic.identity.id from #{#entityName} e join e.identityContract ic"
+			+ " where e.role.id = :roleId")
+	List<UUID> findDistinctIdentityIdsByRoleId(@Param("roleId") UUID roleId);
+	
 	/**
 	 * Assigned roles by role identifier.
 	 * 
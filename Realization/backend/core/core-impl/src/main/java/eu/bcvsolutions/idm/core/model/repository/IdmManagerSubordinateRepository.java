@@ -0,0 +1,113 @@
+package eu.bcvsolutions.idm.core.model.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
+import eu.bcvsolutions.idm.core.model.entity.IdmContractGuarantee;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract;
+import eu.bcvsolutions.idm.core.model.entity.IdmManagerSubordinate;
+
+/**
+ * Materialized relation between manager and subordinate contract.
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface IdmManagerSubordinateRepository extends AbstractEntityRepository<IdmManagerSubordinate> {
+
+	/**
+	 * Manager contracts from tree structure - contracts on parent tree node of given contract work position.
+	 *
+	 * @param contractId subordinate contract identifier
+	 * @return manager contracts
+	 */
+	@Query("select m from IdmIdentityContract m, IdmIdentityContract s"
+			+ " where s.id = :contractId and m.workPosition = s.workPosition.parent")
+	List<IdmIdentityContract> findManagerContracts(@Param("contractId") UUID contractId);
+
+	/**
+	 * Subordinate contracts from tree structure - contracts on child tree nodes of given contract work position.
+	 *
+	 * @param contractId manager contract identifier
+	 * @return subordinate contracts
+	 */
+	@Query("select s from IdmIdentityContract s, IdmIdentityContract m"
+			+ " where m.id = :contractId and s.workPosition.parent = m.workPosition")
+	List<IdmIdentityContract> findSubordinateContracts(@Param("contractId") UUID contractId);
+
+	/**
+	 * Guarantees of given contract.
+	 *
+	 * @param contractId subordinate contract identifier
+	 * @return contract guarantees
+	 */
+	@Query("select g from IdmContractGuarantee g where g.identityContract.id = :contractId")
+	List<IdmContractGuarantee> findContractGuarantees(@Param("contractId") UUID contractId);
+
+	/**
+	 * Contracts on given work position.
+	 *
+	 * @param treeNodeId tree node identifier
+	 * @return contract identifiers
+	 */
+	@Query("select c.id from IdmIdentityContract c where c.workPosition.id = :treeNodeId")
+	List<UUID> findContractIdsByWorkPosition(@Param("treeNodeId") UUID treeNodeId);
+
+	/**
+	 * All contracts - used for rebuild relations.
+	 *
+	 * @param pageable page
+	 * @return contract identifiers
+	 */
+	@Query(value = "select c.id from IdmIdentityContract c", countQuery = "select count(c.id) from IdmIdentityContract c")
+	Page<UUID> findContractIds(Pageable pageable);
+
+	/**
+	 * Delete relations, where given contract is subordinate contract.
+	 *
+	 * @param contractId subordinate contract identifier
+	 * @return count of deleted relations
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.subordinateContractId = :contractId")
+	int deleteBySubordinateContractId(@Param("contractId") UUID contractId);
+
+	/**
+	 * Delete relations, where given contract is manager contract.
+	 *
+	 * @param contractId manager contract identifier
+	 * @return count of deleted relations
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.managerContractId = :contractId")
+	int deleteByManagerContractId(@Param("contractId") UUID contractId);
+
+	/**
+	 * Delete relation by given contract guarantee.
+	 *
+	 * @param contractGuaranteeId contract guarantee identifier
+	 * @return count of deleted relations
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.contractGuaranteeId = :contractGuaranteeId")
+	int deleteByContractGuaranteeId(@Param("contractGuaranteeId") UUID contractGuaranteeId);
+
+	/**
+	 * Delete relations of removed contracts.
+	 *
+	 * @return count of deleted relations
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where"
+			+ " not exists (select c.id from IdmIdentityContract c where c.id = e.subordinateContractId)"
+			+ " or (e.managerContractId is not null and not exists (select c.id from IdmIdentityContract c where c.id = e.managerContractId))"
+			+ " or (e.contractGuaranteeId is not null and not exists (select g.id from IdmContractGuarantee g where g.id = e.contractGuaranteeId))")
+	int deleteOrphans();
+}
@@ -1,6 +1,11 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
 import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
 import eu.bcvsolutions.idm.core.model.entity.IdmToken;
@@ -37,4 +42,19 @@ public interface IdmTokenRepository extends AbstractEntityRepository<IdmToken> {
 	 * @return
 	 */
 	long deleteByTokenTypeAndExpirationLessThan(String tokenType, ZonedDateTime olderThan);
+	
+	/**
+	 * Prolong expiration of active token. Token is updated in one statement, only if token is not disabled 
+	 * and persisted expiration is before given expiration => concurrently disabled (~ logged out) token is not prolonged.
+	 * 
+	 * @param id token identifier
+	 * @param expiration new expiration
+	 * @param token token hash computed with new expiration
+	 * @return count of updated tokens (0 or 1)
+	 * @since 11.0.0
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update #{#entityName} e set e.expiration = :expiration, e.token = :token"
+			+ " where e.id = :id and e.disabled = false and e.expiration < :expiration")
+	int prolongExpiration(@Param("id") UUID id, @Param("expiration") ZonedDateTime expiration, @Param("token") String token);
 }
@@ -0,0 +1,50 @@
+package eu.bcvsolutions.idm.core.model.repository.filter;
+
+import java.util.UUID;
+
+import javax.persistence.criteria.AbstractQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.filter.DataFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdFromFilter;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
+import eu.bcvsolutions.idm.core.api.repository.filter.BaseFilterBuilder;
+
+/**
+ * Filter for filtering entities with identifier greater than given identifier (id > idFrom).
+ * Usable for keyset pagination - entities has to be sorted by identifier.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component
+public class IdFromFilterBuilder<E extends AbstractEntity> extends BaseFilterBuilder<E, DataFilter> {
+
+	@Override
+	public String getName() {
+		return IdFromFilter.PARAMETER_ID_FROM;
+	}
+
+	@Override
+	public Predicate getPredicate(Root<E> root, AbstractQuery<?> query, CriteriaBuilder builder, DataFilter filter) {
+		UUID idFrom = filter.getIdFrom();
+		
+		if (idFrom == null) {
+			return null;
+		}
+
+		return builder.greaterThan(root.get(AbstractEntity_.id), idFrom);
+	}
+
+	@Override
+	public Page<E> find(DataFilter filter, Pageable pageable) {
+		throw new UnsupportedOperationException("Find by id from only is not supported, use concrete service instead.");
+	}
+}
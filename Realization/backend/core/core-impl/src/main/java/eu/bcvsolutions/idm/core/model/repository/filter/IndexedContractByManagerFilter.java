@@ -0,0 +1,105 @@
+package eu.bcvsolutions.idm.core.model.repository.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.criteria.AbstractQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityContractFilter;
+import eu.bcvsolutions.idm.core.api.repository.filter.AbstractFilterBuilder;
+import eu.bcvsolutions.idm.core.api.utils.RepositoryUtils;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract_;
+import eu.bcvsolutions.idm.core.model.entity.IdmManagerSubordinate;
+import eu.bcvsolutions.idm.core.model.entity.IdmManagerSubordinate_;
+import eu.bcvsolutions.idm.core.model.repository.IdmIdentityContractRepository;
+
+/**
+ * Subordinate contracts criteria builder:
+ * - by guarantee and tree structure - uses materialized relation between manager and subordinate contract
+ * (the same result as {@link DefaultContractByManagerFilter}, tree structure is not searched in query).
+ * - relations are recounted by contract, contract guarantee and tree node processors,
+ * all relations can be rebuilt by long running task (e.g. after relations are enabled).
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(IndexedContractByManagerFilter.FILTER_NAME)
+@Description("Filter for find subordinate contracts for given identity. "
+		+ "Supports subordinates by guarantee and tree structure - uses materialized relation between manager and subordinate contract. "
+		+ "Rebuild relations by long running task before filter is used.")
+public class IndexedContractByManagerFilter extends AbstractFilterBuilder<IdmIdentityContract, IdmIdentityContractFilter> {
+
+	public static final String FILTER_NAME = "indexed-contract-by-manager-filter";
+
+	@Override
+	public String getName() {
+		return IdmIdentityContractFilter.PARAMETER_SUBORDINATES_FOR;
+	}
+
+	@Autowired
+	public IndexedContractByManagerFilter(IdmIdentityContractRepository repository) {
+		super(repository);
+	}
+
+	@Override
+	public Predicate getPredicate(
+			Root<IdmIdentityContract> root,
+			AbstractQuery<?> query,
+			CriteriaBuilder builder,
+			IdmIdentityContractFilter filter) {
+		if (filter.getSubordinatesFor() == null) {
+			return null;
+		}
+		//
+		Subquery<IdmManagerSubordinate> subquery = query.subquery(IdmManagerSubordinate.class);
+		Root<IdmManagerSubordinate> subRoot = subquery.from(IdmManagerSubordinate.class);
+		subquery.select(subRoot);
+		//
+		List<Predicate> subPredicates = new ArrayList<>();
+		if (filter.getSubordinatesByTreeType() == null && filter.isIncludeGuarantees()) {
+			// manager as guarantee
+			subPredicates.add(builder.isNotNull(subRoot.get(IdmManagerSubordinate_.contractGuaranteeId)));
+		}
+		//
+		// managers from tree structure - manager contract has to be valid
+		Subquery<IdmIdentityContract> subqueryManagerContract = query.subquery(IdmIdentityContract.class);
+		Root<IdmIdentityContract> subqueryManagerContractRoot = subqueryManagerContract.from(IdmIdentityContract.class);
+		subqueryManagerContract.select(subqueryManagerContractRoot);
+		subqueryManagerContract.where(builder.and(
+				builder.equal(subqueryManagerContractRoot.get(IdmIdentityContract_.id), subRoot.get(IdmManagerSubordinate_.managerContractId)),
+				// future valid contract only
+				RepositoryUtils.getValidNowOrInFuturePredicate(subqueryManagerContractRoot, builder),
+				builder.equal(subqueryManagerContractRoot.get(IdmIdentityContract_.disabled), Boolean.FALSE)
+				));
+		subPredicates.add(builder.and(
+				builder.isNotNull(subRoot.get(IdmManagerSubordinate_.managerContractId)),
+				(filter.getSubordinatesByTreeType() == null) // only id tree type is specified
+					? builder.conjunction()
+					: builder.equal(subRoot.get(IdmManagerSubordinate_.treeTypeId), filter.getSubordinatesByTreeType()),
+				builder.exists(subqueryManagerContract)
+				));
+		//
+		subquery.where(
+                builder.and(
+                		builder.equal(subRoot.get(IdmManagerSubordinate_.subordinateContractId), root.get(IdmIdentityContract_.id)), // correlation attr
+                		builder.equal(subRoot.get(IdmManagerSubordinate_.managerId), filter.getSubordinatesFor()),
+                		builder.or(subPredicates.toArray(new Predicate[subPredicates.size()]))
+                		)
+        );
+		//
+		return builder.and(
+				// future valid contract only
+				RepositoryUtils.getValidNowOrInFuturePredicate(root, builder),
+				builder.exists(subquery)
+				);
+	}
+}
@@ -0,0 +1,122 @@
+package eu.bcvsolutions.idm.core.model.repository.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.criteria.AbstractQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.domain.ContractState;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
+import eu.bcvsolutions.idm.core.api.repository.filter.AbstractFilterBuilder;
+import eu.bcvsolutions.idm.core.api.utils.RepositoryUtils;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract_;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity_;
+import eu.bcvsolutions.idm.core.model.entity.IdmManagerSubordinate;
+import eu.bcvsolutions.idm.core.model.entity.IdmManagerSubordinate_;
+import eu.bcvsolutions.idm.core.model.repository.IdmIdentityRepository;
+
+/**
+ * Managers criteria builder:
+ * - by guarantee and tree structure - uses materialized relation between manager and subordinate contract
+ * (the same result as {@link DefaultManagersFilter}, tree structure is not searched in query).
+ * - manager from tree structure - only direct managers are supported now
+ * - only "valid" identity can be manager
+ * - only valid or valid in future contracts can have managers
+ * - additional filter parameter - IdmIdentityFilter.PARAMETER_VALID_CONTRACT_MANAGERS
+ * - relations are recounted by contract, contract guarantee and tree node processors,
+ * all relations can be rebuilt by long running task (e.g. after relations are enabled).
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(IndexedManagersFilter.FILTER_NAME)
+@Description("Filter for find managers for given identity. "
+		+ "Supports managers by guarantee and tree structure - uses materialized relation between manager and subordinate contract. "
+		+ "Manager from tree structure - only direct managers are supported now. "
+		+ "Only valid identity can be manager. "
+		+ "Rebuild relations by long running task before filter is used.")
+public class IndexedManagersFilter
+		extends AbstractFilterBuilder<IdmIdentity, IdmIdentityFilter> {
+
+	public static final String FILTER_NAME = "indexedManagersFilter";
+	//
+	@Autowired private GuaranteeManagersFilter guaranteeManagersFilter;
+
+	@Override
+	public String getName() {
+		return IdmIdentityFilter.PARAMETER_MANAGERS_FOR;
+	}
+
+	@Autowired
+	public IndexedManagersFilter(IdmIdentityRepository repository) {
+		super(repository);
+	}
+
+	@Override
+	public Predicate getPredicate(Root<IdmIdentity> root, AbstractQuery<?> query, CriteriaBuilder builder, IdmIdentityFilter filter) {
+		if (filter.getManagersFor() == null) {
+			return null;
+		}
+		//
+		// manager contract and subordinate contract are joined by materialized relation
+		Subquery<IdmManagerSubordinate> subquery = query.subquery(IdmManagerSubordinate.class);
+		Root<IdmManagerSubordinate> subRoot = subquery.from(IdmManagerSubordinate.class);
+		Root<IdmIdentityContract> managerContract = subquery.from(IdmIdentityContract.class);
+		Root<IdmIdentityContract> subordinateContract = subquery.from(IdmIdentityContract.class);
+		subquery.select(subRoot);
+		//
+		List<Predicate> subPredicates = new ArrayList<>();
+		if (filter.getManagersByTreeType() == null && filter.isIncludeGuarantees()) {
+			// manager as guarantee - manager has to have valid contract
+			subPredicates.add(builder.isNotNull(subRoot.get(IdmManagerSubordinate_.contractGuaranteeId)));
+		}
+		// manager from tree structure - only direct managers are supported now
+		subPredicates.add(builder.and(
+				builder.equal(subRoot.get(IdmManagerSubordinate_.managerContractId), managerContract.get(IdmIdentityContract_.id)),
+				// by tree type structure
+				filter.getManagersByTreeType() != null
+					? builder.equal(subRoot.get(IdmManagerSubordinate_.treeTypeId), filter.getManagersByTreeType())
+					: builder.conjunction()
+				));
+		//
+		subquery.where(builder.and(
+				//
+				// valid identity only
+				builder.equal(root.get(IdmIdentity_.disabled), Boolean.FALSE),
+				//
+				builder.equal(subRoot.get(IdmManagerSubordinate_.managerId), root.get(IdmIdentity_.id)), // correlation attr
+				builder.equal(subRoot.get(IdmManagerSubordinate_.subordinateId), filter.getManagersFor()),
+				//
+				// subordinate contract
+				builder.equal(subordinateContract.get(IdmIdentityContract_.id), subRoot.get(IdmManagerSubordinate_.subordinateContractId)),
+				guaranteeManagersFilter.getValidNowOrInFuturePredicate(subordinateContract, builder, filter),
+				filter.getManagersByContract() != null // concrete contract id only
+					? builder.equal(subordinateContract.get(IdmIdentityContract_.id), filter.getManagersByContract())
+					: builder.conjunction(),
+				//
+				// manager contract - future valid contract only
+				builder.equal(managerContract.get(IdmIdentityContract_.identity), root),
+				RepositoryUtils.getValidNowOrInFuturePredicate(managerContract, builder),
+				//
+				// not disabled, not excluded contract
+				builder.equal(managerContract.get(IdmIdentityContract_.disabled), Boolean.FALSE),
+				builder.or(
+						builder.notEqual(managerContract.get(IdmIdentityContract_.state), ContractState.EXCLUDED),
+						builder.isNull(managerContract.get(IdmIdentityContract_.state))
+				),
+				builder.or(subPredicates.toArray(new Predicate[subPredicates.size()]))
+				));
+		//
+		return builder.exists(subquery);
+	}
+}
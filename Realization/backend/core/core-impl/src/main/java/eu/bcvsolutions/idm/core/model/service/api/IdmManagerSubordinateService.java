@@ -0,0 +1,66 @@
+package eu.bcvsolutions.idm.core.model.service.api;
+
+import java.util.UUID;
+
+import eu.bcvsolutions.idm.core.model.entity.IdmManagerSubordinate;
+
+/**
+ * Maintains materialized relation between manager and subordinate contract.
+ * Relations are recounted by contract, contract guarantee and tree node processors,
+ * all relations can be rebuilt by long running task.
+ *
+ * @see IdmManagerSubordinate
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface IdmManagerSubordinateService {
+
+	/**
+	 * Recount relations, where given contract is subordinate or manager contract (e.g. after contract is created or work position is changed).
+	 *
+	 * @param contractId contract identifier
+	 */
+	void recountContract(UUID contractId);
+
+	/**
+	 * Recount relations, where given contract is subordinate contract.
+	 *
+	 * @param contractId subordinate contract identifier
+	 */
+	void recountSubordinateContract(UUID contractId);
+
+	/**
+	 * Recount relations of contracts on given tree node (e.g. after tree node is moved).
+	 *
+	 * @param treeNodeId tree node identifier
+	 */
+	void recountTreeNode(UUID treeNodeId);
+
+	/**
+	 * Recount relation by given contract guarantee.
+	 *
+	 * @param contractGuaranteeId contract guarantee identifier
+	 */
+	void recountContractGuarantee(UUID contractGuaranteeId);
+
+	/**
+	 * Delete relations, where given contract is subordinate or manager contract.
+	 *
+	 * @param contractId contract identifier
+	 */
+	void deleteContract(UUID contractId);
+
+	/**
+	 * Delete relation by given contract guarantee.
+	 *
+	 * @param contractGuaranteeId contract guarantee identifier
+	 */
+	void deleteContractGuarantee(UUID contractGuaranteeId);
+
+	/**
+	 * Delete relations of removed contracts and contract guarantees.
+	 *
+	 * @return count of deleted relations
+	 */
+	int deleteOrphans();
+}
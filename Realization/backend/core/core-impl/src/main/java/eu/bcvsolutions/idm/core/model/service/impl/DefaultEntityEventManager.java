@@ -11,10 +11,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -33,6 +37,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -81,6 +87,7 @@ import eu.bcvsolutions.idm.core.api.exception.EventContentDeletedException;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.EntityEventQueueNotifier;
 import eu.bcvsolutions.idm.core.api.service.EntityStateManager;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmEntityEventService;
@@ -114,6 +121,11 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	private static final ConcurrentHashMap<UUID, UUID> runningOwnerEvents = new ConcurrentHashMap<>();
 	private static final ConcurrentHashMap<UUID, List<LongRunningTaskExecutor<?>>> lrts = new ConcurrentHashMap<>();
 	private static final ConcurrentHashMap<UUID, Boolean> notifiedLrts = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<Integer, EventPartition> partitions = new ConcurrentHashMap<>();
+	private static final ReentrantLock processCreatedLock = new ReentrantLock();
+	private static final AtomicBoolean eventQueueNotified = new AtomicBoolean(true); // the first processing is not skipped
+	private static final AtomicBoolean eventQueueWakeUpScheduled = new AtomicBoolean(false);
+	private static volatile long lastProcessCreated = 0L;
 	//
 	@Autowired private ApplicationContext context;
 	@Autowired private ApplicationEventPublisher publisher;
@@ -129,6 +141,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	@Autowired @Lazy private EventConfiguration eventConfiguration;
 	@Autowired @Lazy private LookupService lookupService;
 	@Autowired @Lazy private ConfigurationService configurationService;
+	@Autowired @Lazy private EntityEventQueueNotifier entityEventQueueNotifier;
 	
 	/**
 	 * Cancel all previously ran events
@@ -169,6 +182,9 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		});
 		//
 		cacheManager.evictCache(TRANSACTION_EVENT_CACHE_NAME);
+		//
+		// listen event queue notifications from other instances
+		entityEventQueueNotifier.init();
 	}
 
 	@Override
@@ -433,7 +449,8 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	}
 	
 	/**
-	 * Spring schedule new task after previous task ended (don't run concurrently)
+	 * Spring schedule new task after previous task ended (don't run concurrently).
+	 * Event queue is processed when notified only (or after polling interval elapsed), if event queue notification is enabled. 
 	 */
 	@Scheduled(fixedDelayString = "${" + SchedulerConfiguration.PROPERTY_EVENT_QUEUE_PROCESS + ":" + SchedulerConfiguration.DEFAULT_EVENT_QUEUE_PROCESS + "}")
 	public void scheduleProcessCreated() {
@@ -442,13 +459,59 @@ public class DefaultEntityEventManager implements EntityEventManager {
 			// prevent to debug some messages into log - usable for devs
 			return;
 		}
-		// check running events queue is full already
-		if (runningOwnerEvents.size() > eventConfiguration.getBatchSize()) {
-			LOG.trace("Asynchronous running events queue is full, waiting for complete running events.");
+		// event queue can be processed by notification (wake up) concurrently
+		if (!processCreatedLock.tryLock()) {
+			LOG.trace("Asynchronous events queue is processed already.");
 			return;
 		}
+		try {
+			boolean notifyEnabled = eventConfiguration.isNotifyEnabled();
+			if (notifyEnabled
+					&& !eventQueueNotified.getAndSet(false)
+					&& System.currentTimeMillis() - lastProcessCreated < eventConfiguration.getNotifyPollingInterval()) {
+				LOG.trace("Asynchronous events queue was not notified, waiting for notification or polling interval.");
+				return;
+			}
+			// check running events queue is full already
+			int partitionCount = eventConfiguration.getPartitionCount();
+			int batchSize = eventConfiguration.getBatchSize();
+			if (runningOwnerEvents.size() > (partitionCount > 0 ? partitionCount * batchSize : batchSize)) {
+				LOG.trace("Asynchronous running events queue is full, waiting for complete running events.");
+				// process queue after running events are completed
+				eventQueueNotified.set(true);
+				return;
+			}
+			//
+			lastProcessCreated = System.currentTimeMillis();
+			if (processCreated() > 0 && notifyEnabled) {
+				// next events can wait in queue - queue will be processed in next scheduling 
+				eventQueueNotified.set(true);
+			}
+		} finally {
+			processCreatedLock.unlock();
+		}
+	}
+	
+	@Override
+	public void notifyEventQueue() {
+		eventQueueNotified.set(true);
 		//
-		processCreated();
+		if (!eventConfiguration.isAsynchronous() || !eventConfiguration.isNotifyEnabled()) {
+			return;
+		}
+		// wake up event queue processing - at most one wake up is waiting
+		if (!eventQueueWakeUpScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			eventConfiguration.getExecutor().execute(() -> {
+				eventQueueWakeUpScheduled.set(false);
+				scheduleProcessCreated();
+			});
+		} catch (RejectedExecutionException ex) {
+			// thread pool queue is full - event queue will be processed in next scheduling
+			eventQueueWakeUpScheduled.set(false);
+		}
 	}
 	
 	/**
@@ -459,6 +522,10 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	protected int processCreated() {
 		// calculate events to process
 		String instanceId = configurationService.getInstanceId();
+		int partitionCount = eventConfiguration.getPartitionCount();
+		if (partitionCount > 0) {
+			return processCreated(instanceId, partitionCount);
+		}
 		List<IdmEntityEventDto> events = getCreatedEvents(instanceId);
 		LOG.trace("Events to process [{}] on instance [{}].", events.size(), instanceId);
 		for (IdmEntityEventDto event : events) {
@@ -468,6 +535,41 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		return events.size();
 	}
 	
+	/**
+	 * Process created events from event queue in partitions (worker lanes).
+	 * Events are distributed into partitions by owner (or super owner) hash - events in the same partition are executed sequentially,
+	 * partitions are executed in parallel in event executor.
+	 * 
+	 * @param instanceId server instance
+	 * @param partitionCount partition count
+	 * @return count of events queued into partitions
+	 * @since 11.0.0
+	 */
+	protected int processCreated(String instanceId, int partitionCount) {
+		Assert.isTrue(partitionCount > 0, "Partition count has to be positive number.");
+		//
+		int queuedCount = 0;
+		int capacity = partitionCount * eventConfiguration.getBatchSize() - runningOwnerEvents.size();
+		if (capacity > 0) {
+			List<IdmEntityEventDto> events = getCreatedEvents(instanceId, capacity);
+			LOG.trace("Events to process [{}] on instance [{}] in [{}] partitions.", events.size(), instanceId, partitionCount);
+			for (IdmEntityEventDto event : events) {
+				// owner is registered as running, when event is queued => new events for the same owner
+				// will be loaded after the queued event is executed => preserve order for owner
+				if (!addRunningEvent(event)) {
+					// event will be processed in another scheduling
+					continue;
+				}
+				getPartition(event, partitionCount).getEvents().add(event);
+				queuedCount++;
+			}
+		}
+		// schedule all partitions with waiting events (events rejected by executor previously included)
+		partitions.values().forEach(this::schedulePartition);
+		//
+		return queuedCount;
+	}
+	
 	@Override
 	public IdmEntityEventDto getEvent(EntityEvent<? extends Serializable> event) {
 		Assert.notNull(event, "Event is required to be trasformed to DTO.");
@@ -572,96 +674,13 @@ public class DefaultEntityEventManager implements EntityEventManager {
 			return;
 		}
 		//
-		if (runningOwnerEvents.putIfAbsent(event.getOwnerId(), event.getId()) != null) {
-			LOG.debug("Previous event [{}] for owner with id [{}] is currently processed.", 
-					runningOwnerEvents.get(event.getOwnerId()), event.getOwnerId());
-			// event will be processed in another scheduling			
+		if (!addRunningEvent(event)) {
+			// event will be processed in another scheduling
 			return;
 		}
-		// check super owner is not processed
-		UUID superOwnerId = event.getSuperOwnerId();
-		if (superOwnerId != null && !superOwnerId.equals(event.getOwnerId())) {			
-			if (runningOwnerEvents.putIfAbsent(superOwnerId, event.getId()) != null) {
-				LOG.debug("Previous event [{}] for super owner with id [{}] is currently processed.", 
-						runningOwnerEvents.get(superOwnerId), superOwnerId);
-				runningOwnerEvents.remove(event.getOwnerId());
-				// event will be processed in another scheduling		
-				return;
-			}
-		}
 		// execute event in new thread asynchronously
 		try {
-			eventConfiguration.getExecutor().execute(new Runnable() {
-				
-				@Override
-				@SuppressWarnings("unchecked")
-				public void run() {
-					// run as event creator
-					securityService.setAuthentication(new IdmJwtAuthentication(
-							new IdmIdentityDto(event.getCreatorId(), event.getCreator()),
-							new IdmIdentityDto(event.getOriginalCreatorId(), event.getOriginalCreator()),
-							null,
-							ZonedDateTime.now(),
-							Lists.newArrayList(IdmAuthorityUtils.getAdminAuthority()),
-							null));
-					// run under original transaction id - asynchronous processing continue the "user" transaction
-					TransactionContextHolder.setContext(new TransactionContext(event.getTransactionId()));
-					//
-					LOG.debug("Executing event under user [{}] (admin authorities) and transaction [{}]", 
-							securityService.getUsername(),
-							TransactionContextHolder.getContext().getTransactionId());
-					//
-					try {
-						process(new CoreEvent<>(EntityEventType.EXECUTE, event));
-					} catch (Exception ex) {
-						// all processor should persist their own entity state (see AbstractEntityEventProcessor)
-						// event result is persisted here
-						OperationState resultState = OperationState.EXCEPTION;
-						ResultModel resultModel;
-						if (ex instanceof ResultCodeException) {
-							ResultCodeException resultCodeException = (ResultCodeException) ex;
-							resultModel = resultCodeException.getError().getError();
-							if (resultCodeException.getStatus() == HttpStatus.ACCEPTED) {
-								resultState = OperationState.EXECUTED; // => concrete information is preserved in model to know, what happen
-							}
-						} else {
-							resultModel = new DefaultResultModel(
-									CoreResultCode.EVENT_EXECUTE_FAILED, 
-									ImmutableMap.of(
-											"eventId", event.getId(), 
-											"eventType", String.valueOf(event.getEventType()),
-											"ownerId", String.valueOf(event.getOwnerId()),
-											"instanceId", String.valueOf(event.getInstanceId())));
-						}		
-						saveResult(event.getId(), new OperationResultDto
-										.Builder(resultState)
-										.setCause(ex)
-										.setModel(resultModel)
-										.build());
-						//
-						ExceptionUtils.log(LOG, resultModel, ex);
-						//
-						// Sometimes should be the exception processed within owner service (for audit purpose in some request).
-						// We check if owner service supports this feature (implements ExceptionProcessable).
-						try {
-							Class<?> ownerClass = Class.forName(event.getOwnerType());
-							ReadDtoService<?, ?> dtoService = lookupService.getDtoService((Class<? extends Identifiable>) ownerClass);
-							if (dtoService instanceof ExceptionProcessable) {
-								ExceptionProcessable<?> exceptionProcessable = (ExceptionProcessable<?>) dtoService;
-								// Propagate the exception
-								exceptionProcessable.processException(event.getOwnerId(), ex);
-							}
-						} catch (ClassNotFoundException e) {
-							// Only to the log
-							LOG.error(e.getLocalizedMessage(), e);
-						}
-						
-					} finally {
-						LOG.trace("Event [{}] ends for owner with id [{}].", event.getId(), event.getOwnerId());
-						removeRunningEvent(event);
-					}
-				}
-			});
+			eventConfiguration.getExecutor().execute(() -> executeEventInternal(event));
 			//
 			LOG.trace("Running event [{}] for owner with id [{}].", event.getId(), event.getOwnerId());
 		} catch (RejectedExecutionException ex) {
@@ -691,7 +710,10 @@ public class DefaultEntityEventManager implements EntityEventManager {
 			entityEvent.setPriority(PriorityType.NORMAL);
 		}
 		//
-		return entityEventService.save(entityEvent);
+		entityEvent = entityEventService.save(entityEvent);
+		notifyEventQueue(entityEvent);
+		//
+		return entityEvent;
 	}
 	
 	@Override
@@ -716,6 +738,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	@Override
 	public synchronized void deleteAllEvents() {
 		entityEventService.deleteAll();
+		partitions.values().forEach(partition -> partition.getEvents().clear());
 		runningOwnerEvents.clear();
 	}
 	
@@ -810,14 +833,13 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public List<EntityEventProcessor> getEnabledProcessors(EntityEvent<?> event) {
-		return context
-				.getBeansOfType(EntityEventProcessor.class)
-				.values()
+		Assert.notNull(event, "Event is required.");
+		Assert.notNull(event.getContent(), "Entity event does not contain content, content is required!");
+		//
+		// supports is evaluated for each event - processor can support event by content
+		return getProcessorChain(event.getContent().getClass(), event.getType().name())
 				.stream()
-				.filter(enabledEvaluator::isEnabled)
-				.filter(processor -> !processor.isDisabled())
 				.filter(processor -> processor.supports(event))
-				.sorted(new AnnotationAwareOrderComparator())
 				.collect(Collectors.toList());
 	}
 	
@@ -952,6 +974,18 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	 * @return
 	 */
 	protected List<IdmEntityEventDto> getCreatedEvents(String instanceId) {
+		return getCreatedEvents(instanceId, eventConfiguration.getBatchSize());
+	}
+	
+	/**
+	 * Returns events to process sorted by priority 7 / 3 (high / normal). 
+	 * 
+	 * @param instanceId
+	 * @param batchSize maximum count of returned events
+	 * @return
+	 * @since 11.0.0
+	 */
+	protected List<IdmEntityEventDto> getCreatedEvents(String instanceId, int batchSize) {
 		Assert.notNull(instanceId, "Server instance identifier is required.");
 		//
 		// already running owners are excluded (super owner is excluded too)
@@ -965,14 +999,14 @@ public class DefaultEntityEventManager implements EntityEventManager {
 				executeDate,
 				PriorityType.HIGH,
 				exceptOwnerIds,
-				PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+				PageRequest.of(0, batchSize, new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
 		// load created events - low priority
 		Page<IdmEntityEventDto> normalEvents = entityEventService.findToExecute(
 				instanceId,
 				executeDate,
 				PriorityType.NORMAL,
 				exceptOwnerIds,
-				PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+				PageRequest.of(0, batchSize, new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
 		// merge events
 		List<IdmEntityEventDto> events = new ArrayList<>();
 		events.addAll(highEvents.getContent());
@@ -982,7 +1016,8 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		//
 		// cancel duplicates - by owner => properties has to be the same
 		// execute the first event for each owner only - preserve events order
-		Map<UUID, IdmEntityEventDto> distinctEvents = new LinkedHashMap<>();	
+		Map<UUID, IdmEntityEventDto> distinctEvents = new LinkedHashMap<>();
+		List<IdmEntityEventDto> duplicateEvents = new ArrayList<>();
 		events.forEach(event -> {
 			if (!distinctEvents.containsKey(event.getOwnerId())) {
 				// the first event
@@ -1006,14 +1041,11 @@ public class DefaultEntityEventManager implements EntityEventManager {
 									"instanceId", String.valueOf(olderEvent.getInstanceId()),
 									"neverEventId", event.getId())).toString());
 					//
-					IdmEntityEventFilter eventFilter = new IdmEntityEventFilter();
-					eventFilter.setParentId(olderEvent.getId());
-					if (entityEventService.find(eventFilter, PageRequest.of(0, 1)).getTotalElements() == 0) {
-						deleteEvent(olderEvent);
-					}
+					duplicateEvents.add(olderEvent);
 				}
 			}
 		});
+		cancelDuplicates(duplicateEvents);
 		// 
 		// sort by priority
 		events = distinctEvents
@@ -1024,11 +1056,11 @@ public class DefaultEntityEventManager implements EntityEventManager {
 				})
 				.collect(Collectors.toList());
 		int normalCount = events.stream().filter(e -> e.getPriority() == PriorityType.NORMAL).collect(Collectors.toList()).size();
-		int maxNormalCount = eventConfiguration.getBatchSize() / 3;
+		int maxNormalCount = batchSize / 3;
 		
 		int highMaximum = normalCount > maxNormalCount
-				? (eventConfiguration.getBatchSize() - maxNormalCount)
-				: (eventConfiguration.getBatchSize() - normalCount);
+				? (batchSize - maxNormalCount)
+				: (batchSize - normalCount);
 		// evaluate priority => high 70 / low 30
 		int highCounter = 0;
 		List<IdmEntityEventDto> prioritizedEvents = new ArrayList<>();
@@ -1040,7 +1072,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 				}
 			} else {
 				// normal priority remains only
-				if (prioritizedEvents.size() >= eventConfiguration.getBatchSize()) {
+				if (prioritizedEvents.size() >= batchSize) {
 					break;
 				}
 				prioritizedEvents.add(event);
@@ -1050,6 +1082,44 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		return prioritizedEvents;
 	}
 	
+	/**
+	 * Cancel (delete) duplicate events in batch - events with children are preserved.
+	 * 
+	 * @param duplicateEvents duplicate events
+	 * @since 11.0.0
+	 */
+	protected void cancelDuplicates(List<IdmEntityEventDto> duplicateEvents) {
+		if (duplicateEvents.isEmpty()) {
+			return;
+		}
+		// events with children are preserved - one query for all events
+		Set<UUID> parentIds = entityEventService.findParentIds(
+				duplicateEvents
+					.stream()
+					.map(IdmEntityEventDto::getId)
+					.collect(Collectors.toList()));
+		List<IdmEntityEventDto> deleteEvents = duplicateEvents
+				.stream()
+				.filter(event -> !parentIds.contains(event.getId()))
+				.collect(Collectors.toList());
+		if (deleteEvents.isEmpty()) {
+			return;
+		}
+		// batch delete
+		entityEventService.deleteAllById(
+				deleteEvents
+					.stream()
+					.map(IdmEntityEventDto::getId)
+					.collect(Collectors.toList()));
+		// clear waiting LRTs - created events only are canceled
+		deleteEvents.forEach(event -> {
+			if (event.getResult() != null && event.getResult().getState().isRunnable()) {
+				completeEvent(event.getId(), event.getTransactionId());
+			}
+		});
+		LOG.debug("Duplicate events [{}] were canceled.", deleteEvents.size());
+	}
+	
 	/**
 	 * Returns true, when events are duplicates
 	 * - event type, parent event type, properties and original source is compared => all properties, which can be used in processors. 
@@ -1107,18 +1177,234 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		}
 	}
 	
+	/**
+	 * Register running event for owner and super owner.
+	 * 
+	 * @param event
+	 * @return true - event can be executed, false - previous event for the same owner or super owner is currently processed
+	 */
+	private boolean addRunningEvent(IdmEntityEventDto event) {
+		if (runningOwnerEvents.putIfAbsent(event.getOwnerId(), event.getId()) != null) {
+			LOG.debug("Previous event [{}] for owner with id [{}] is currently processed.", 
+					runningOwnerEvents.get(event.getOwnerId()), event.getOwnerId());
+			return false;
+		}
+		// check super owner is not processed
+		UUID superOwnerId = event.getSuperOwnerId();
+		if (superOwnerId != null && !superOwnerId.equals(event.getOwnerId())) {			
+			if (runningOwnerEvents.putIfAbsent(superOwnerId, event.getId()) != null) {
+				LOG.debug("Previous event [{}] for super owner with id [{}] is currently processed.", 
+						runningOwnerEvents.get(superOwnerId), superOwnerId);
+				runningOwnerEvents.remove(event.getOwnerId());
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	private void removeRunningEvent(IdmEntityEventDto event) {
 		runningOwnerEvents.remove(event.getOwnerId());
 		UUID superOwnerId = event.getSuperOwnerId();
 		if (superOwnerId != null) {
 			runningOwnerEvents.remove(superOwnerId);
 		}
+		// next events for the same owner can wait in queue
+		eventQueueNotified.set(true);
+	}
+	
+	/**
+	 * Notify event queue processing on the event's server instance, after current transaction is committed.
+	 * 
+	 * @param entityEvent persisted event
+	 */
+	private void notifyEventQueue(IdmEntityEventDto entityEvent) {
+		if (!eventConfiguration.isNotifyEnabled()) {
+			return;
+		}
+		String instanceId = entityEvent.getInstanceId();
+		if (instanceId != null && !instanceId.equals(configurationService.getInstanceId())) {
+			// other server instance - notification is sent in current transaction => delivered after commit
+			entityEventQueueNotifier.notifyInstance(instanceId);
+			return;
+		}
+		// current server instance
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			notifyEventQueue();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			
+			@Override
+			public void afterCommit() {
+				notifyEventQueue();
+			}
+		});
+	}
+	
+	/**
+	 * Execute registered running event in current thread - running event is removed after event is processed.
+	 * 
+	 * @param event
+	 */
+	@SuppressWarnings("unchecked")
+	private void executeEventInternal(IdmEntityEventDto event) {
+		// run as event creator
+		securityService.setAuthentication(new IdmJwtAuthentication(
+				new IdmIdentityDto(event.getCreatorId(), event.getCreator()),
+				new IdmIdentityDto(event.getOriginalCreatorId(), event.getOriginalCreator()),
+				null,
+				ZonedDateTime.now(),
+				Lists.newArrayList(IdmAuthorityUtils.getAdminAuthority()),
+				null));
+		// run under original transaction id - asynchronous processing continue the "user" transaction
+		TransactionContextHolder.setContext(new TransactionContext(event.getTransactionId()));
+		//
+		LOG.debug("Executing event under user [{}] (admin authorities) and transaction [{}]", 
+				securityService.getUsername(),
+				TransactionContextHolder.getContext().getTransactionId());
+		//
+		try {
+			process(new CoreEvent<>(EntityEventType.EXECUTE, event));
+		} catch (Exception ex) {
+			// all processor should persist their own entity state (see AbstractEntityEventProcessor)
+			// event result is persisted here
+			OperationState resultState = OperationState.EXCEPTION;
+			ResultModel resultModel;
+			if (ex instanceof ResultCodeException) {
+				ResultCodeException resultCodeException = (ResultCodeException) ex;
+				resultModel = resultCodeException.getError().getError();
+				if (resultCodeException.getStatus() == HttpStatus.ACCEPTED) {
+					resultState = OperationState.EXECUTED; // => concrete information is preserved in model to know, what happen
+				}
+			} else {
+				resultModel = new DefaultResultModel(
+						CoreResultCode.EVENT_EXECUTE_FAILED, 
+						ImmutableMap.of(
+								"eventId", event.getId(), 
+								"eventType", String.valueOf(event.getEventType()),
+								"ownerId", String.valueOf(event.getOwnerId()),
+								"instanceId", String.valueOf(event.getInstanceId())));
+			}		
+			saveResult(event.getId(), new OperationResultDto
+							.Builder(resultState)
+							.setCause(ex)
+							.setModel(resultModel)
+							.build());
+			//
+			ExceptionUtils.log(LOG, resultModel, ex);
+			//
+			// Sometimes should be the exception processed within owner service (for audit purpose in some request).
+			// We check if owner service supports this feature (implements ExceptionProcessable).
+			try {
+				Class<?> ownerClass = Class.forName(event.getOwnerType());
+				ReadDtoService<?, ?> dtoService = lookupService.getDtoService((Class<? extends Identifiable>) ownerClass);
+				if (dtoService instanceof ExceptionProcessable) {
+					ExceptionProcessable<?> exceptionProcessable = (ExceptionProcessable<?>) dtoService;
+					// Propagate the exception
+					exceptionProcessable.processException(event.getOwnerId(), ex);
+				}
+			} catch (ClassNotFoundException e) {
+				// Only to the log
+				LOG.error(e.getLocalizedMessage(), e);
+			}
+			
+		} finally {
+			LOG.trace("Event [{}] ends for owner with id [{}].", event.getId(), event.getOwnerId());
+			removeRunningEvent(event);
+		}
+	}
+	
+	/**
+	 * Returns partition for given event - event owner (or super owner) hash is used.
+	 * 
+	 * @param event
+	 * @param partitionCount
+	 * @return
+	 */
+	private EventPartition getPartition(IdmEntityEventDto event, int partitionCount) {
+		UUID partitionKey = event.getSuperOwnerId() != null ? event.getSuperOwnerId() : event.getOwnerId();
+		int partitionIndex = Math.floorMod(partitionKey.hashCode(), partitionCount);
+		//
+		return partitions.computeIfAbsent(partitionIndex, index -> new EventPartition());
+	}
+	
+	/**
+	 * Schedule partition processing in event executor, if partition contains waiting events and is not processed already.
+	 * 
+	 * @param partition
+	 */
+	private void schedulePartition(EventPartition partition) {
+		if (partition.getEvents().isEmpty() || !partition.getScheduled().compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			eventConfiguration.getExecutor().execute(() -> processPartition(partition));
+		} catch (RejectedExecutionException ex) {
+			// thread pool queue is full - partition will be scheduled in next processing
+			partition.getScheduled().set(false);
+		}
+	}
+	
+	/**
+	 * Execute all waiting events in given partition sequentially.
+	 * 
+	 * @param partition
+	 */
+	private void processPartition(EventPartition partition) {
+		try {
+			IdmEntityEventDto event;
+			while ((event = partition.getEvents().poll()) != null) {
+				LOG.trace("Running event [{}] for owner with id [{}] in partition.", event.getId(), event.getOwnerId());
+				executeEventInternal(event);
+			}
+		} finally {
+			partition.getScheduled().set(false);
+		}
+		// event could be queued after partition was drained, but before partition was released
+		schedulePartition(partition);
 	}
 	
 	private void setEnabled(EntityEventProcessor<?> processor, boolean enabled) {
 		String enabledPropertyName = processor.getConfigurationPropertyName(ConfigurationService.PROPERTY_ENABLED);
 		//
 		configurationService.setBooleanValue(enabledPropertyName, enabled);
+		cacheManager.evictCache(PROCESSOR_CACHE_NAME);
+	}
+	
+	/**
+	 * Returns enabled processors, which supports given content type and event type, sorted by order.
+	 * Processor chains are cached by content type and event type - cache is evicted, when processor or module is enabled / disabled.
+	 * 
+	 * @param contentType event content type
+	 * @param eventType event type
+	 * @return sorted processors
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<EntityEventProcessor> getProcessorChain(Class<?> contentType, String eventType) {
+		String cacheKey = String.format("%s:%s", contentType.getName(), eventType);
+		ValueWrapper value = cacheManager.getValue(PROCESSOR_CACHE_NAME, cacheKey);
+		if (value != null) {
+			return (List<EntityEventProcessor>) value.get();
+		}
+		//
+		List<EntityEventProcessor> processorChain = context
+				.getBeansOfType(EntityEventProcessor.class)
+				.values()
+				.stream()
+				.filter(enabledEvaluator::isEnabled)
+				.filter(processor -> !processor.isDisabled())
+				.filter(processor -> processor.getEntityClass().isAssignableFrom(contentType))
+				.filter(processor -> {
+					String[] processorEventTypes = processor.getEventTypes();
+					//
+					return processorEventTypes.length == 0 || Lists.newArrayList(processorEventTypes).contains(eventType);
+				})
+				.sorted(new AnnotationAwareOrderComparator())
+				.collect(Collectors.toCollection(ArrayList::new));
+		//
+		cacheManager.cacheValue(PROCESSOR_CACHE_NAME, cacheKey, processorChain);
+		//
+		return processorChain;
 	}
 	
 	/**
@@ -1218,6 +1504,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		// persist event - asynchronous processing
 		entityEvent = entityEventService.save(entityEvent);
 		addEventCache(entityEvent.getId(), entityEvent.getTransactionId());
+		notifyEventQueue(entityEvent);
 		// not processed - persisted into queue
 		return null;
 	}
@@ -1496,4 +1783,23 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		cacheManager.evictValue(TRANSACTION_EVENT_CACHE_NAME, transactionId);
 		return true; // => asynchronous transaction is processed completely
 	}
+	
+	/**
+	 * Worker lane for partitioned event processing - events in the same partition are executed sequentially.
+	 * 
+	 * @since 11.0.0
+	 */
+	private static class EventPartition {
+		
+		private final Queue<IdmEntityEventDto> events = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean scheduled = new AtomicBoolean(false);
+		
+		public Queue<IdmEntityEventDto> getEvents() {
+			return events;
+		}
+		
+		public AtomicBoolean getScheduled() {
+			return scheduled;
+		}
+	}
 }
@@ -0,0 +1,165 @@
+package eu.bcvsolutions.idm.core.model.service.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
+import eu.bcvsolutions.idm.core.api.config.flyway.IdmFlywayMigrationStrategy;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.EntityEventQueueNotifier;
+import eu.bcvsolutions.idm.core.config.DelegatingTransactionContextRunnable;
+
+/**
+ * Notify asynchronous event queue processing on server instances.
+ * PostgreSQL LISTEN / NOTIFY is used for notify other server instances.
+ * Other databases (H2, MSSQL) are not supported - event queue is polled periodically as a fallback.
+ *
+ * Listener is started, when notification is enabled only (restart is needed after notification is enabled).
+ *
+ * Look out: one database connection is held by listener for the whole application run (PostgreSQL only).
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class DefaultEntityEventQueueNotifier implements EntityEventQueueNotifier {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultEntityEventQueueNotifier.class);
+	private static final int LISTEN_TIMEOUT = 10000; // 10s
+	//
+	@Autowired private DataSource dataSource;
+	@Autowired private EventConfiguration eventConfiguration;
+	@Autowired private ConfigurationService configurationService;
+	@Autowired @Lazy private EntityEventManager entityEventManager;
+	//
+	private volatile boolean supported = false;
+	private volatile boolean running = false;
+	private Thread listener;
+
+	@Override
+	public synchronized void init() {
+		if (listener != null) {
+			LOG.debug("Event queue listener is running already.");
+			return;
+		}
+		if (!eventConfiguration.isNotifyEnabled()) {
+			LOG.debug("Event queue notification is disabled, event queue listener will not be started.");
+			return;
+		}
+		supported = IdmFlywayMigrationStrategy.POSTGRESQL_DBNAME.equals(resolveDatabaseName());
+		if (!supported) {
+			LOG.info("Event queue notification between server instances is not supported by used database, "
+					+ "event queue will be polled periodically, when notification is enabled.");
+			return;
+		}
+		//
+		running = true;
+		// security and transaction context is delegated - see AsyncConfig
+		listener = new Thread(
+				new DelegatingSecurityContextRunnable(new DelegatingTransactionContextRunnable(this::listen)), 
+				"event-queue-listener");
+		listener.setDaemon(true);
+		listener.start();
+		//
+		LOG.info("Event queue listener is initialized for channel [{}].", CHANNEL_NAME);
+	}
+
+	@PreDestroy
+	public synchronized void destroy() {
+		running = false;
+		if (listener != null) {
+			listener.interrupt();
+			listener = null;
+		}
+	}
+
+	@Override
+	public boolean isSupported() {
+		return supported;
+	}
+
+	@Override
+	public void notifyInstance(String instanceId) {
+		Assert.hasLength(instanceId, "Server instance identifier is required.");
+		//
+		if (!supported || !eventConfiguration.isNotifyEnabled()) {
+			return;
+		}
+		// connection bound to current transaction is used => notification is delivered after commit
+		new JdbcTemplate(dataSource).execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) statement -> {
+			statement.setString(1, CHANNEL_NAME);
+			statement.setString(2, instanceId);
+			return statement.execute();
+		});
+	}
+
+	/**
+	 * Listen notifications from other server instances - notification with current server instance identifier
+	 * wakes up event queue processing.
+	 */
+	private void listen() {
+		while (running) {
+			try (Connection connection = dataSource.getConnection()) {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + CHANNEL_NAME);
+				}
+				PGConnection pgConnection = connection.unwrap(PGConnection.class);
+				//
+				while (running) {
+					PGNotification[] notifications = pgConnection.getNotifications(LISTEN_TIMEOUT);
+					if (notifications == null) {
+						continue;
+					}
+					String instanceId = configurationService.getInstanceId();
+					for (PGNotification notification : notifications) {
+						if (instanceId.equals(notification.getParameter())) {
+							LOG.trace("Event queue on instance [{}] was notified.", instanceId);
+							//
+							entityEventManager.notifyEventQueue();
+							break;
+						}
+					}
+				}
+			} catch (Exception ex) {
+				if (!running) {
+					break;
+				}
+				LOG.warn("Listening event queue notifications failed, listener will be restarted.", ex);
+				try {
+					TimeUnit.MILLISECONDS.sleep(LISTEN_TIMEOUT);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		LOG.info("Event queue listener ends.");
+	}
+
+	private String resolveDatabaseName() {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try {
+			return connection.getMetaData().getDatabaseProductName().toLowerCase().replace(" ", "");
+		} catch (SQLException ex) {
+			LOG.warn("Error while determining database product name, event queue notification is not supported.", ex);
+			return null;
+		} finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -9,8 +10,8 @@ import org.codehaus.groovy.control.CompilationFailedException;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
 import org.codehaus.groovy.control.messages.SyntaxErrorMessage;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.syntax.SyntaxException;
-import org.kohsuke.groovy.sandbox.GroovyInterceptor;
 import org.kohsuke.groovy.sandbox.SandboxTransformer;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 
 import eu.bcvsolutions.idm.core.CoreModuleDescriptor;
 import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
@@ -32,7 +34,8 @@ import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 
 /**
- * Service for evaluate groovy scripts
+ * Service for evaluate groovy scripts.
+ * Compiled script classes are cached - new script instance is created for each evaluation => scripts can be evaluated concurrently.
  * 
  * @author svandav
  *
@@ -67,24 +70,18 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 		GroovySandboxFilter sandboxFilter = null;
 		//
 		try {
-			// if groovy filter exist add extraAllowedClasses, into this filter, otherwise create new
-			if (!GroovyInterceptor.getApplicableInterceptors().isEmpty()) {
-				// exists only one goovy filter
-				sandboxFilter = (GroovySandboxFilter) GroovyInterceptor.getApplicableInterceptors().get(0);
+			// if groovy filter exist (registered for the current thread) add extraAllowedClasses, into this filter, otherwise create new
+			sandboxFilter = GroovySandboxFilter.getRegisteredFilter();
+			if (sandboxFilter != null) {
 				sandboxFilter.addCustomTypes(allowedVariableClass);
 			} else {
 				sandboxFilter = new GroovySandboxFilter(allowedVariableClass);
 				sandboxFilter.register();
 			}
 			
-			// Get script and fill it with variables
-			Script scriptObj = getScript(script);
-			
-			// Scripts aren't thread safe
-			synchronized(scriptObj) {
-				scriptObj.setBinding(binding);
-				return scriptObj.run();
-			}
+			// Create script instance filled with variables - script instances aren't thread safe
+			Script scriptObj = InvokerHelper.createScript(getScriptClass(script), binding);
+			return scriptObj.run();
 			
 		} catch (SecurityException | IdmSecurityException ex) {
 			LOG.error("SecurityException [{}]", ex.getLocalizedMessage());
@@ -166,25 +163,31 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 		}
 	}
 
-	private Script getScript(String source) {
-		// TODO: consider hashing source in order to not waste so much space
-		ValueWrapper value = cacheManager.getValue(CACHE_NAME, source);
+	/**
+	 * Compiled script class - cache key is source hash.
+	 * 
+	 * @param source script source
+	 * @return compiled script class
+	 */
+	private Class<?> getScriptClass(String source) {
+		String sourceHash = Hashing.sha256().hashString(source, StandardCharsets.UTF_8).toString();
+		ValueWrapper value = cacheManager.getValue(CACHE_NAME, sourceHash);
 		if (value == null) {
-			Script script = buildScript(source);
-			cacheManager.cacheValue(CACHE_NAME, source, script);
-			return script;
+			Class<?> scriptClass = buildScriptClass(source);
+			cacheManager.cacheValue(CACHE_NAME, sourceHash, scriptClass);
+			return scriptClass;
 		}
-		return (Script) value.get();
+		return (Class<?>) value.get();
 	}
 
-	private Script buildScript(String source) {
+	private Class<?> buildScriptClass(String source) {
 		CompilerConfiguration compilerConfiguration = new CompilerConfiguration();
 		compilerConfiguration.setVerbose(false);
 		compilerConfiguration.setDebug(false);
 		compilerConfiguration.addCompilationCustomizers(new SandboxTransformer());
 		//
 		GroovyShell shell = new GroovyShell(compilerConfiguration);
-		return shell.parse(source);
+		return shell.parse(source).getClass();
 	}
 	
 }
@@ -2,7 +2,10 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
@@ -18,6 +21,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.core.api.domain.ConfigurationMap;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.domain.PriorityType;
@@ -49,6 +54,7 @@ public class DefaultIdmEntityEventService
 		implements IdmEntityEventService {
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultIdmEntityEventService.class);
+	private static final int MAX_BATCH_SIZE = 500; // sql in clause size
 	private final IdmEntityEventRepository repository;
 	//
 	@Autowired private IdmEntityStateService entityStateService;
@@ -162,6 +168,34 @@ public class DefaultIdmEntityEventService
 		LOG.warn("Entity events were truncated by identity [{}].", securityService.getCurrentId());
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Set<UUID> findParentIds(Collection<UUID> eventIds) {
+		Set<UUID> parentIds = new HashSet<>();
+		if (CollectionUtils.isEmpty(eventIds)) {
+			return parentIds;
+		}
+		Lists.partition(new ArrayList<>(eventIds), MAX_BATCH_SIZE).forEach(batch -> {
+			parentIds.addAll(repository.findParentIds(batch));
+		});
+		//
+		return parentIds;
+	}
+	
+	@Override
+	@Transactional
+	public void deleteAllById(Collection<UUID> eventIds) {
+		if (CollectionUtils.isEmpty(eventIds)) {
+			return;
+		}
+		Lists.partition(new ArrayList<>(eventIds), MAX_BATCH_SIZE).forEach(batch -> {
+			entityStateRepository.deleteByEventIds(batch);
+			int deleted = repository.deleteByIdIn(batch);
+			//
+			LOG.debug("Entity events [{}] were deleted.", deleted);
+		});
+	}
+	
 	@Override
 	protected List<Predicate> toPredicates(Root<IdmEntityEvent> root, CriteriaQuery<?> query, CriteriaBuilder builder,
 			IdmEntityEventFilter filter) {
@@ -1,7 +1,9 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -19,6 +21,7 @@ import org.apache.commons.lang3.BooleanUtils;
 import java.time.LocalDate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,8 +48,11 @@ import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.InvalidFormAttributeDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.filter.IdmFormValueFilter;
 import eu.bcvsolutions.idm.core.eav.api.service.AbstractFormableService;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.eav.api.service.FormValueService;
+import eu.bcvsolutions.idm.core.eav.entity.AbstractFormValue_;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
 import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRole;
 import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRoleAttribute;
@@ -76,6 +82,8 @@ public class DefaultIdmIdentityRoleService
 		extends AbstractFormableService<IdmIdentityRoleDto, IdmIdentityRole, IdmIdentityRoleFilter>
 		implements IdmIdentityRoleService {
 
+	private static final int OWNER_IDS_PARTITION_SIZE = 500; // prevent to exceed the maximum count of query parameters
+	//
 	private final IdmIdentityRoleRepository repository;
 	//
 	@Autowired private LookupService lookupService;
@@ -120,6 +128,70 @@ public class DefaultIdmIdentityRoleService
 		return null;
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<UUID, IdmFormInstanceDto> getRoleAttributeValues(List<IdmIdentityRoleDto> identityRoles) {
+		Assert.notNull(identityRoles, "Identity roles are required.");
+		Map<UUID, IdmFormInstanceDto> results = new HashMap<>(identityRoles.size());
+		//
+		// sub definitions by role and identity roles by definition
+		Map<UUID, IdmFormDefinitionDto> subdefinitions = new HashMap<>();
+		Map<UUID, List<IdmIdentityRoleDto>> identityRolesByDefinition = new HashMap<>();
+		for (IdmIdentityRoleDto identityRole : identityRoles) {
+			// If given identity-role contains one formInstance, then will be returned
+			List<IdmFormInstanceDto> eavs = identityRole.getEavs();
+			if (eavs != null && eavs.size() == 1) {
+				if (eavs.get(0) != null) {
+					results.put(identityRole.getId(), eavs.get(0));
+				}
+				continue;
+			}
+			UUID roleId = identityRole.getRole();
+			if (roleId == null || identityRole.getId() == null) {
+				continue;
+			}
+			if (!subdefinitions.containsKey(roleId)) {
+				IdmRoleDto role = DtoUtils.getEmbedded(identityRole, IdmIdentityRole_.role, IdmRoleDto.class, null);
+				if (role == null) {
+					role = roleService.get(roleId);
+				}
+				// Has role filled attribute definition?
+				subdefinitions.put(roleId, role == null ? null : roleService.getFormAttributeSubdefinition(role));
+			}
+			IdmFormDefinitionDto subdefinition = subdefinitions.get(roleId);
+			if (subdefinition != null) {
+				identityRolesByDefinition
+					.computeIfAbsent(subdefinition.getId(), definitionId -> new ArrayList<>())
+					.add(identityRole);
+			}
+		}
+		//
+		// load values of all identity roles with the same definition together
+		FormValueService<IdmIdentityRole> formValueService = getFormService().getFormValueService(getEntityClass());
+		identityRolesByDefinition.forEach((definitionId, definitionIdentityRoles) -> {
+			Map<Serializable, List<IdmFormValueDto>> valuesByOwner = new HashMap<>(definitionIdentityRoles.size());
+			for (List<IdmIdentityRoleDto> partition : Lists.partition(definitionIdentityRoles, OWNER_IDS_PARTITION_SIZE)) {
+				IdmFormValueFilter<IdmIdentityRole> valueFilter = new IdmFormValueFilter<>();
+				valueFilter.setDefinitionId(definitionId);
+				valueFilter.setOwnerIds(partition.stream().map(IdmIdentityRoleDto::getId).collect(Collectors.toList()));
+				formValueService
+					.find(valueFilter, PageRequest.of(0, Integer.MAX_VALUE, Sort.by(AbstractFormValue_.seq.getName())))
+					.forEach(value -> valuesByOwner.computeIfAbsent(value.getOwnerId(), ownerId -> new ArrayList<>()).add(value));
+			}
+			//
+			for (IdmIdentityRoleDto identityRole : definitionIdentityRoles) {
+				IdmFormInstanceDto formInstance = new IdmFormInstanceDto(
+						identityRole,
+						subdefinitions.get(identityRole.getRole()),
+						valuesByOwner.getOrDefault(identityRole.getId(), new ArrayList<>()));
+				formInstance.setOwnerType(getEntityClass());
+				results.put(identityRole.getId(), formInstance);
+			}
+		});
+		//
+		return results;
+	}
+	
 	@Override
 	public List<InvalidFormAttributeDto> validateFormAttributes(IdmIdentityRoleDto identityRole) {
 		IdmFormInstanceDto formInstanceDto = this.getRoleAttributeValues(identityRole);
@@ -0,0 +1,149 @@
+package eu.bcvsolutions.idm.core.model.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.model.entity.IdmContractGuarantee;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract;
+import eu.bcvsolutions.idm.core.model.entity.IdmManagerSubordinate;
+import eu.bcvsolutions.idm.core.model.repository.IdmContractGuaranteeRepository;
+import eu.bcvsolutions.idm.core.model.repository.IdmIdentityContractRepository;
+import eu.bcvsolutions.idm.core.model.repository.IdmManagerSubordinateRepository;
+import eu.bcvsolutions.idm.core.model.service.api.IdmManagerSubordinateService;
+
+/**
+ * Maintains materialized relation between manager and subordinate contract.
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Service
+public class DefaultIdmManagerSubordinateService implements IdmManagerSubordinateService {
+
+	private final IdmManagerSubordinateRepository repository;
+	private final IdmIdentityContractRepository contractRepository;
+	private final IdmContractGuaranteeRepository contractGuaranteeRepository;
+
+	@Autowired
+	public DefaultIdmManagerSubordinateService(
+			IdmManagerSubordinateRepository repository,
+			IdmIdentityContractRepository contractRepository,
+			IdmContractGuaranteeRepository contractGuaranteeRepository) {
+		Assert.notNull(repository, "Repository is required.");
+		Assert.notNull(contractRepository, "Contract repository is required.");
+		Assert.notNull(contractGuaranteeRepository, "Contract guarantee repository is required.");
+		//
+		this.repository = repository;
+		this.contractRepository = contractRepository;
+		this.contractGuaranteeRepository = contractGuaranteeRepository;
+	}
+
+	@Override
+	@Transactional
+	public void recountContract(UUID contractId) {
+		Assert.notNull(contractId, "Contract identifier is required.");
+		//
+		deleteContract(contractId);
+		IdmIdentityContract contract = contractRepository.findById(contractId).orElse(null);
+		if (contract == null) {
+			return;
+		}
+		List<IdmManagerSubordinate> relations = getSubordinateRelations(contract);
+		// contract as manager contract
+		repository
+			.findSubordinateContracts(contractId)
+			.forEach(subordinateContract -> {
+				relations.add(IdmManagerSubordinate.ofManagerContract(contract, subordinateContract));
+			});
+		repository.saveAll(relations);
+	}
+
+	@Override
+	@Transactional
+	public void recountSubordinateContract(UUID contractId) {
+		Assert.notNull(contractId, "Contract identifier is required.");
+		//
+		repository.deleteBySubordinateContractId(contractId);
+		IdmIdentityContract contract = contractRepository.findById(contractId).orElse(null);
+		if (contract == null) {
+			return;
+		}
+		repository.saveAll(getSubordinateRelations(contract));
+	}
+
+	@Override
+	@Transactional
+	public void recountTreeNode(UUID treeNodeId) {
+		Assert.notNull(treeNodeId, "Tree node identifier is required.");
+		//
+		// managers of contracts on moved tree node are changed only - contracts on children nodes have the same managers
+		repository
+			.findContractIdsByWorkPosition(treeNodeId)
+			.forEach(this::recountSubordinateContract);
+	}
+
+	@Override
+	@Transactional
+	public void recountContractGuarantee(UUID contractGuaranteeId) {
+		Assert.notNull(contractGuaranteeId, "Contract guarantee identifier is required.");
+		//
+		repository.deleteByContractGuaranteeId(contractGuaranteeId);
+		IdmContractGuarantee contractGuarantee = contractGuaranteeRepository.findById(contractGuaranteeId).orElse(null);
+		if (contractGuarantee == null) {
+			return;
+		}
+		repository.save(IdmManagerSubordinate.ofContractGuarantee(contractGuarantee));
+	}
+
+	@Override
+	@Transactional
+	public void deleteContract(UUID contractId) {
+		Assert.notNull(contractId, "Contract identifier is required.");
+		//
+		repository.deleteBySubordinateContractId(contractId);
+		repository.deleteByManagerContractId(contractId);
+	}
+
+	@Override
+	@Transactional
+	public void deleteContractGuarantee(UUID contractGuaranteeId) {
+		Assert.notNull(contractGuaranteeId, "Contract guarantee identifier is required.");
+		//
+		repository.deleteByContractGuaranteeId(contractGuaranteeId);
+	}
+
+	@Override
+	@Transactional
+	public int deleteOrphans() {
+		return repository.deleteOrphans();
+	}
+
+	/**
+	 * Managers of given contract - from tree structure and contract guarantees.
+	 *
+	 * @param contract subordinate contract
+	 * @return relations
+	 */
+	private List<IdmManagerSubordinate> getSubordinateRelations(IdmIdentityContract contract) {
+		List<IdmManagerSubordinate> relations = new ArrayList<>();
+		//
+		repository
+			.findManagerContracts(contract.getId())
+			.forEach(managerContract -> {
+				relations.add(IdmManagerSubordinate.ofManagerContract(managerContract, contract));
+			});
+		repository
+			.findContractGuarantees(contract.getId())
+			.forEach(contractGuarantee -> {
+				relations.add(IdmManagerSubordinate.ofContractGuarantee(contractGuarantee));
+			});
+		//
+		return relations;
+	}
+}
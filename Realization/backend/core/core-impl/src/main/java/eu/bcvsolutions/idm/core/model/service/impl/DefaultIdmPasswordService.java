@@ -102,6 +102,10 @@ public class DefaultIdmPasswordService
 			predicates.add(builder.lessThanOrEqualTo(root.get(IdmPassword_.validTill), filter.getValidTill()));
 		}
 		//
+		if (filter.getIdFrom() != null) {
+			predicates.add(builder.greaterThan(root.get(IdmPassword_.id), filter.getIdFrom()));
+		}
+		//
 		if (StringUtils.isNotEmpty(filter.getText())) {
 			throw new UnsupportedOperationException("Filter by text is not supported");
 		}
@@ -12,6 +12,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -906,38 +907,44 @@ public class DefaultIdmRoleRequestService
 		// Check duplicates between concepts
 		markDuplicatesInConcepts(concepts);
 
-		// Split by role UUID
-		Map<UUID, List<IdmIdentityRoleDto>> identityRolesByRole = allByIdentity
-		.stream() //
-		.collect( //
-				Collectors.groupingBy( // Group identity roles by role
-						IdmIdentityRoleDto::getRole) //
-				); //
+		// Only identity roles with the same role as some concept can be duplicated
+		Set<UUID> conceptRoles = concepts
+				.stream() //
+				.filter(concept -> concept.getOperation() != ConceptRoleRequestOperation.REMOVE) //
+				.map(IdmConceptRoleRequestDto::getRole) //
+				.filter(roleId -> roleId != null) //
+				.collect(Collectors.toSet());
+		List<IdmIdentityRoleDto> identityRoles = allByIdentity
+				.stream() //
+				.filter(identityRole -> conceptRoles.contains(identityRole.getRole())) //
+				.collect(Collectors.toList());
+		if (identityRoles.isEmpty()) {
+			return concepts;
+		}
+		// Load eavs of all identity roles together
+		setRoleAttributeValues(identityRoles, false);
+		//
+		// Index identity roles by role, contract and eavs => candidates for duplicates
+		Map<List<Object>, List<IdmIdentityRoleDto>> identityRolesByKey = identityRoles
+				.stream() //
+				.collect(Collectors.groupingBy(this::getDuplicateKey));
 
-		// TODO: create hashMap with used roles (simple cache)
 		for (IdmConceptRoleRequestDto concept : concepts) {
 			// Only add or modification will be processed
 			if (concept.getOperation() == ConceptRoleRequestOperation.REMOVE) {
 				continue;
 			}
-			UUID roleId = concept.getRole();
+			// Create temporary identity role
+			IdmIdentityRoleDto tempIdentityRole = createTempIdentityRole(concept);
 
-			// Get all identity roles by role
-			List<IdmIdentityRoleDto> identityRoles = identityRolesByRole.get(roleId);
-			if (identityRoles == null) {
+			// Get all identity roles with the same role, contract and eavs
+			List<IdmIdentityRoleDto> candidates = identityRolesByKey.get(getDuplicateKey(tempIdentityRole));
+			if (candidates == null) {
 				continue;
 			}
 
-			// Create temporary identity role
-			IdmIdentityRoleDto tempIdentityRole = createTempIdentityRole(concept);
-
-			// Iterate over all identity roles, but only with same roles.
-			for (IdmIdentityRoleDto identityRole : identityRoles) {
-				// We must get eavs by service. This is expensive operation. But we need it.
-				IdmFormInstanceDto instanceDto = identityRoleService.getRoleAttributeValues(identityRole);
-				if (instanceDto != null) {
-					identityRole.setEavs(Lists.newArrayList(instanceDto));
-				}
+			// Iterate over candidates only, validity is compared in memory.
+			for (IdmIdentityRoleDto identityRole : candidates) {
 				IdmIdentityRoleDto duplicated = identityRoleService.getDuplicated(tempIdentityRole, identityRole, Boolean.FALSE);
 
 				// Duplicated founded. Add UUID from identity role
@@ -1348,6 +1355,7 @@ public class DefaultIdmRoleRequestService
 	 */
 	private List<IdmConceptRoleRequestDto> removeDuplicitiesSubRole(List<IdmConceptRoleRequestDto> concepts, List<IdmIdentityRoleDto> allByIdentity) {
 		List<IdmConceptRoleRequestDto> conceptsToRemove = new ArrayList<>();
+		boolean eavsLoaded = false;
 		for (IdmConceptRoleRequestDto concept : concepts) {
 			// Only add or modification
 			if (concept.getOperation() != ConceptRoleRequestOperation.ADD &&
@@ -1364,6 +1372,11 @@ public class DefaultIdmRoleRequestService
 
 			// Find all sub roles for role.
 			List<IdmRoleCompositionDto> subRoles = roleCompositionService.findAllSubRoles(roleId);
+			if (!subRoles.isEmpty() && !eavsLoaded) {
+				// Get identity role eavs - all identity roles are loaded together
+				setRoleAttributeValues(allByIdentity, true);
+				eavsLoaded = true;
+			}
 			for (IdmRoleCompositionDto subRoleComposition : subRoles) {
 				IdmRoleDto subRole = DtoUtils.getEmbedded(subRoleComposition, IdmRoleComposition_.sub, IdmRoleDto.class, null);
 				IdmIdentityRoleDto tempIdentityRoleSub = new IdmIdentityRoleDto();
@@ -1378,8 +1391,6 @@ public class DefaultIdmRoleRequestService
 				tempIdentityRoleSub = valueGeneratorManager.generate(tempIdentityRoleSub);
 
 				for (IdmIdentityRoleDto identityRole : allByIdentity) {
-					// Get identity role eavs. This is also expensive operation.
-					identityRole.setEavs(Lists.newArrayList(identityRoleService.getRoleAttributeValues(identityRole)));
 					IdmIdentityRoleDto duplicated = identityRoleService.getDuplicated(tempIdentityRoleSub, identityRole, Boolean.FALSE);
 
 					// Duplication founded, create request
@@ -1441,44 +1452,52 @@ public class DefaultIdmRoleRequestService
 	}
 
 	private void markDuplicatesInConcepts(List<IdmConceptRoleRequestDto> concepts) {
-		// Mark duplicates with concepts
-		// Compare conceptOne with conceptTwo
-		for (IdmConceptRoleRequestDto conceptOne : concepts) {
+		// Concepts grouped by role, contract and eavs - only concepts in the same group can be duplicated
+		// There must be compare by == not by equals. Because equals is overridden in concept.
+		Map<IdmConceptRoleRequestDto, IdmIdentityRoleDto> tempIdentityRoles = new IdentityHashMap<>(concepts.size());
+		Map<IdmConceptRoleRequestDto, List<IdmConceptRoleRequestDto>> conceptGroups = new IdentityHashMap<>(concepts.size());
+		Map<List<Object>, List<IdmConceptRoleRequestDto>> conceptsByKey = new HashMap<>();
+		for (IdmConceptRoleRequestDto concept : concepts) {
 			// Only add or modification will be processed
-			if (conceptOne.getOperation() == ConceptRoleRequestOperation.REMOVE) {
-				conceptOne.setDuplicate(Boolean.FALSE); // REMOVE concept can't be duplicated
+			if (concept.getOperation() == ConceptRoleRequestOperation.REMOVE) {
+				concept.setDuplicate(Boolean.FALSE); // REMOVE concept can't be duplicated
 				continue;
 			}
 			// role and contract can be removed in the mean time
-			if (conceptOne.getRole() == null || conceptOne.getIdentityContract() == null) {
-				conceptOne.setDuplicate(Boolean.FALSE);
+			if (concept.getRole() == null || concept.getIdentityContract() == null) {
+				concept.setDuplicate(Boolean.FALSE);
+				continue;
+			}
+			IdmIdentityRoleDto tempIdentityRole = this.createTempIdentityRole(concept);
+			List<IdmConceptRoleRequestDto> conceptGroup = conceptsByKey.computeIfAbsent(
+					getDuplicateKey(tempIdentityRole), 
+					key -> new ArrayList<>());
+			conceptGroup.add(concept); // original order is preserved
+			tempIdentityRoles.put(concept, tempIdentityRole);
+			conceptGroups.put(concept, conceptGroup);
+		}
+		//
+		// Mark duplicates with concepts
+		// Compare conceptOne with conceptTwo
+		for (IdmConceptRoleRequestDto conceptOne : concepts) {
+			IdmIdentityRoleDto identityRoleOne = tempIdentityRoles.get(conceptOne);
+			if (identityRoleOne == null) {
+				// concept cannot be duplicated
 				continue;
 			}
-
 			if (BooleanUtils.isTrue(conceptOne.getDuplicate())) {
 				continue;
 			}
 
-			IdmIdentityRoleDto identityRoleOne = this.createTempIdentityRole(conceptOne);
-
-			// check duplicates for concept
-			for (IdmConceptRoleRequestDto conceptTwo : concepts) {
-				// Only add or modification will be processed
-				if (conceptTwo.getOperation() == ConceptRoleRequestOperation.REMOVE) {
-					conceptTwo.setDuplicate(Boolean.FALSE); // REMOVE concept can be duplicated
+			// check duplicates for concept - concepts in the same group only
+			for (IdmConceptRoleRequestDto conceptTwo : conceptGroups.get(conceptOne)) {
+				if (conceptOne == conceptTwo) {
 					continue;
 				}
-
 				if (BooleanUtils.isTrue(conceptTwo.getDuplicate())) {
 					continue;
 				}
-
-				// There must be compare by == not by equals. Because equals is overridden in
-				// concept.
-				if (conceptOne == conceptTwo) {
-					continue;
-				}
-				IdmIdentityRoleDto identityRoleTwo = this.createTempIdentityRole(conceptTwo);
+				IdmIdentityRoleDto identityRoleTwo = tempIdentityRoles.get(conceptTwo);
 
 				// Get duplicated must be quick, because the method doesn't made query to
 				// database
@@ -1505,6 +1524,45 @@ public class DefaultIdmRoleRequestService
 		}
 	}
 	
+	/**
+	 * Set eavs to given identity roles. Eavs of all identity roles are loaded together.
+	 * 
+	 * @param identityRoles identity roles
+	 * @param includeEmpty set empty form instance ({@code null}), if identity role has no eavs
+	 */
+	private void setRoleAttributeValues(List<IdmIdentityRoleDto> identityRoles, boolean includeEmpty) {
+		Map<UUID, IdmFormInstanceDto> formInstances = identityRoleService.getRoleAttributeValues(identityRoles);
+		for (IdmIdentityRoleDto identityRole : identityRoles) {
+			IdmFormInstanceDto formInstance = formInstances.get(identityRole.getId());
+			if (formInstance != null) {
+				identityRole.setEavs(Lists.newArrayList(formInstance));
+			} else if (includeEmpty && identityRole.getEavs().size() != 1) {
+				identityRole.setEavs(Lists.newArrayList((IdmFormInstanceDto) null));
+			}
+		}
+	}
+	
+	/**
+	 * Key for duplicate candidates - role, contract and hash of eavs.
+	 * Identity roles with different keys cannot be duplicated (eavs are compared as collections
+	 * of values => hash doesn't depend on value order). Validity is compared with interval, so
+	 * it's not a part of the key.
+	 * 
+	 * @param identityRole identity role or temporary identity role (concept)
+	 * @return key
+	 */
+	private List<Object> getDuplicateKey(IdmIdentityRoleDto identityRole) {
+		List<IdmFormInstanceDto> eavs = identityRole.getEavs();
+		int eavsHash = 0;
+		if (!eavs.isEmpty() && eavs.get(0) != null) {
+			for (IdmFormValueDto value : eavs.get(0).getValues()) {
+				Serializable persistentValue = value.getValue();
+				eavsHash += persistentValue == null ? 0 : persistentValue.hashCode();
+			}
+		}
+		return Lists.newArrayList(identityRole.getRole(), identityRole.getIdentityContract(), eavs.size(), eavsHash);
+	}
+	
 	/**
 	 * Check and cancel invalid concept => concept is canceled, when required entities as role, contract
 	 * or assigned role is removed in the mean time in other session.
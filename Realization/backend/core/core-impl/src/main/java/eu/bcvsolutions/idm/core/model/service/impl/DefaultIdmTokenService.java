@@ -13,12 +13,14 @@ import org.apache.commons.lang3.StringUtils;
 import java.time.ZonedDateTime;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.dto.IdmTokenDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmTokenFilter;
 import eu.bcvsolutions.idm.core.api.service.AbstractEventableDtoService;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmTokenService;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
@@ -26,6 +28,7 @@ import eu.bcvsolutions.idm.core.model.entity.IdmToken;
 import eu.bcvsolutions.idm.core.model.entity.IdmToken_;
 import eu.bcvsolutions.idm.core.model.repository.IdmTokenRepository;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
+import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
 
 /**
  * Persisted tokens
@@ -41,6 +44,7 @@ public class DefaultIdmTokenService
 	private final IdmTokenRepository repository;
 	//
 	@Autowired private LookupService lookupService;
+	@Autowired private IdmCacheManager cacheManager;
 	
 	@Autowired
 	public DefaultIdmTokenService(IdmTokenRepository repository, EntityEventManager entityEventManager) {
@@ -77,6 +81,22 @@ public class DefaultIdmTokenService
 		LOG.info("Purged [{}] tokens, which expired before [{}].", purged, olderThan);
 	}
 	
+	@Override
+	@Transactional
+	public boolean prolongExpiration(UUID tokenId, ZonedDateTime expiration, String token) {
+		Assert.notNull(tokenId, "Token identifier is required.");
+		Assert.notNull(expiration, "Expiration is required.");
+		//
+		if (repository.prolongExpiration(tokenId, expiration, token) == 0) {
+			LOG.trace("Token with id [{}] is disabled, removed or has the same or longer expiration, expiration will not be prolonged.", tokenId);
+			return false;
+		}
+		// token is updated without event => evict token cache as token evict cache processor does
+		cacheManager.evictValue(TokenManager.TOKEN_CACHE_NAME, tokenId);
+		//
+		return true;
+	}
+	
 	@Override
 	protected List<Predicate> toPredicates(Root<IdmToken> root, CriteriaQuery<?> query, CriteriaBuilder builder, IdmTokenFilter filter) {
 		List<Predicate> predicates = super.toPredicates(root, query, builder, filter);
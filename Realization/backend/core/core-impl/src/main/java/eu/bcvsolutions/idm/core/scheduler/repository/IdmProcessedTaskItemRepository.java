@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.scheduler.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,5 +37,11 @@ public interface IdmProcessedTaskItemRepository extends AbstractEntityRepository
 	
 	@Query("select e.referencedEntityId from #{#entityName} e where e.scheduledTaskQueueOwner.id = :stId")
 	List<UUID> findAllRefEntityIdsByScheduledTaskId(@Param("stId") UUID id);
+	
+	@Query("select e.referencedEntityId from #{#entityName} e where e.scheduledTaskQueueOwner.id = :stId"
+			+ " and e.referencedEntityId in (:referencedEntityIds)")
+	List<UUID> findAllRefEntityIdsByScheduledTaskId(
+			@Param("stId") UUID id, 
+			@Param("referencedEntityIds") Collection<UUID> referencedEntityIds);
 
 }
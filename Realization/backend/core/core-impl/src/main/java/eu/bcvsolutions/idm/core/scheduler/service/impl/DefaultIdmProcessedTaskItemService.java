@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.core.scheduler.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,6 +10,7 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -142,6 +145,17 @@ public class DefaultIdmProcessedTaskItemService
 		//
 		return repository.findAllRefEntityIdsByScheduledTaskId(scheduledTaskId);
 	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<UUID> findAllRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId, Collection<UUID> referencedEntityIds) {
+		Assert.notNull(scheduledTaskId, "Scheduled task identifier is required.");
+		if (CollectionUtils.isEmpty(referencedEntityIds)) {
+			return new ArrayList<>();
+		}
+		//
+		return repository.findAllRefEntityIdsByScheduledTaskId(scheduledTaskId, referencedEntityIds);
+	}
 
 	@Override
 	@Transactional(readOnly = true)
@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.core.scheduler.task.impl;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,11 +55,22 @@ public class NotifyIdentityTaskExecutor extends AbstractSchedulableStatefulExecu
 	
 	@Override
 	public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable) {
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	protected Page<IdmIdentityDto> getItemsToProcess(Pageable pageable, UUID idFrom) {
 		IdmIdentityFilter filter = new IdmIdentityFilter();
 		filter.setText(text);
+		filter.setIdFrom(idFrom);
 		//
 		return identityService.find(filter, pageable);
 	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
+	}
 
 	@Override
 	public Optional<OperationResult> processItem(IdmIdentityDto dto) {
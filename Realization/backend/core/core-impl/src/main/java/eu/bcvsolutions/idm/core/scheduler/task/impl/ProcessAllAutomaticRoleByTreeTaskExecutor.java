@@ -1,7 +1,6 @@
 package eu.bcvsolutions.idm.core.scheduler.task.impl;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -126,7 +125,7 @@ public class ProcessAllAutomaticRoleByTreeTaskExecutor extends ProcessAutomaticR
 	
 	@Override
 	public List<IdmFormAttributeDto> getFormAttributes() {
-		// all => not configurable
-		return new ArrayList<>();
+		// all => automatic roles are not configurable, parallelism only
+		return Lists.newArrayList(getParallelismAttribute());
 	}
 }
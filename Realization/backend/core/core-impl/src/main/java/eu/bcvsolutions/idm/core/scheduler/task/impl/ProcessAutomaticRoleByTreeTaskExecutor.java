@@ -9,6 +9,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections.CollectionUtils;
@@ -33,6 +35,7 @@ import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
 
 import eu.bcvsolutions.idm.core.api.domain.ConceptRoleRequestOperation;
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
@@ -94,6 +97,7 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(ProcessAutomaticRoleByTreeTaskExecutor.class);
 	public static final String TASK_NAME = "core-process-automatic-role-tree-long-running-task";
+	private static final int IDENTITY_LOCK_STRIPES = 1024;
 	//
 	@Autowired private IdmIdentityContractService identityContractService;
 	@Autowired private IdmContractPositionService contractPositionService;
@@ -106,7 +110,10 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 	//
 	private List<UUID> automaticRoles = null;
 	private boolean continueOnException = true; // change default to true
-	private Set<UUID> processedRoleRequests = new HashSet<>(); // all processed role requests or assigned roles - invalid role removal is solved, after all automatic roles are assigned (prevent drop and create target account)
+	private Set<UUID> processedRoleRequests = ConcurrentHashMap.newKeySet(); // automatic roles can be processed in parallel, all processed role requests or assigned roles - invalid role removal is solved, after all automatic roles are assigned (prevent drop and create target account)
+	// role requests for the same identity are not executed concurrently, when automatic roles are processed in parallel
+	// (stripe is chosen by identity hash)
+	private final Striped<Lock> identityLocks = Striped.lazyWeakLock(IDENTITY_LOCK_STRIPES);
 	private boolean removeNotProcessedIdentityRoles = true; // true - invalid role removal is solved, after all automatic roles are assigned (prevent drop and create target account)
 	
 	@Override
@@ -124,6 +131,16 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
     	return true;
     }
 	
+	/**
+	 * Contracts, positions and assigned roles are processed in new transaction, when new transaction is required
+	 * or when automatic roles are processed in parallel => automatic role itself is not wrapped in new transaction
+	 * (prevent to hold two connections by each worker).
+	 */
+	@Override
+	protected boolean isItemTransactionManaged() {
+		return requireNewTransaction() || getParallelism() > 1;
+	}
+	
 	@Override
 	public boolean continueOnException() {
 		return continueOnException;
@@ -313,12 +330,14 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 				IdmIdentityContractDto contract = i.next();
 				UUID contractId = contract.getId();
 				//
-				if (!requireNewTransaction()) {
+				if (!isItemTransactionManaged()) {
 					processedRoleRequests.addAll(processContract(contract, automaticRole));
 				} else {
 					TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
 					template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
 					//
+					Lock identityLock = identityLocks.get(contract.getIdentity());
+					identityLock.lock();
 					try {
 						template.execute(new TransactionCallbackWithoutResult() {
 							
@@ -331,10 +350,12 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 						// Just log for sure ... exception solved in new transaction, but this lower transaction is marked as roll-back.
 						LOG.debug("Statefull process [{}] processed contract [{}] failed",
 								getClass().getSimpleName(), contractId, ex);
-					}	
+					} finally {
+						identityLock.unlock();
+					}
 				}
 				//
-				if (!this.updateState()) {
+				if (!canContinue()) {
 					LOG.debug("Task [{}] was canceled.", getLongRunningTaskId());
 					// return null => not continue with role removal
 					return null;
@@ -369,12 +390,15 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 				IdmContractPositionDto position = i.next();
 				UUID contractId = position.getId();
 				//
-				if (!requireNewTransaction()) {
+				if (!isItemTransactionManaged()) {
 					processedRoles.addAll(processPosition(position, automaticRole));
 				} else {
 					TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
 					template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
 					//
+					IdmIdentityContractDto contract = getLookupService().lookupEmbeddedDto(position, IdmContractPosition_.identityContract);
+					Lock identityLock = identityLocks.get(contract.getIdentity());
+					identityLock.lock();
 					try {
 						template.execute(new TransactionCallbackWithoutResult() {
 							
@@ -387,10 +411,12 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 						// Just log for sure ... exception solved in new transaction, but this lower transaction is marked as roll-back.
 						LOG.debug("Statefull process [{}] processed contract [{}] failed",
 								getClass().getSimpleName(), contractId, ex);
-					}	
+					} finally {
+						identityLock.unlock();
+					}
 				}
 				//
-				if (!this.updateState()) {
+				if (!canContinue()) {
 					LOG.debug("Task [{}] was canceled.", getLongRunningTaskId());
 					// return null => not continue with role removal
 					return null;
@@ -404,6 +430,18 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 		return processedRoles;
 	}
 	
+	/**
+	 * Task can continue - task state is updated by LRT thread only, when automatic roles are processed in parallel.
+	 * 
+	 * @return false - task was canceled
+	 */
+	private boolean canContinue() {
+		if (getParallelism() > 1) {
+			return !isProcessCanceled();
+		}
+		return updateState();
+	}
+	
 	protected void processIdentityRoles(Set<UUID> processedIdentityRoles, UUID automaticRole) {
 		Assert.notNull(automaticRole, "Automatic role is required.");
 		//
@@ -425,7 +463,7 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 				IdmIdentityRoleDto identityRole = i.next();
 				UUID identityRoleId = identityRole.getId();
 				//
-				if (!requireNewTransaction()) {
+				if (!isItemTransactionManaged()) {
 					checkProcessedIdentityRole(processedIdentityRoles, identityRole, automaticRole);
 				} else {
 					TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
@@ -677,6 +715,7 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 	public List<String> getPropertyNames() {
 		List<String> propertyNames = super.getPropertyNames();
 		propertyNames.add(AbstractAutomaticRoleTaskExecutor.PARAMETER_ROLE_TREE_NODE);
+		propertyNames.add(PARAMETER_PARALLELISM);
 		return propertyNames;
 	}
 	
@@ -690,7 +729,7 @@ public class ProcessAutomaticRoleByTreeTaskExecutor extends AbstractSchedulableS
 		automaticRoleAttribute.setRequired(true);
 		automaticRoleAttribute.setMultiple(true);
 		//
-		return Lists.newArrayList(automaticRoleAttribute);
+		return Lists.newArrayList(automaticRoleAttribute, getParallelismAttribute());
 	}
 	
 	public void setAutomaticRoles(List<UUID> automaticRoles) {
@@ -0,0 +1,89 @@
+package eu.bcvsolutions.idm.core.scheduler.task.impl;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
+import eu.bcvsolutions.idm.core.model.repository.IdmManagerSubordinateRepository;
+import eu.bcvsolutions.idm.core.model.repository.filter.IndexedContractByManagerFilter;
+import eu.bcvsolutions.idm.core.model.repository.filter.IndexedManagersFilter;
+import eu.bcvsolutions.idm.core.model.service.api.IdmManagerSubordinateService;
+import eu.bcvsolutions.idm.core.scheduler.api.service.AbstractSchedulableTaskExecutor;
+
+/**
+ * Rebuild materialized relations between manager and subordinate contracts.
+ * Relations are recounted for each contract (~ subordinate contract), relations of removed contracts are deleted at end.
+ * Relations are available during rebuild (relations are not dropped at start).
+ *
+ * Run task before {@link IndexedContractByManagerFilter} and {@link IndexedManagersFilter} are configured to be used.
+ *
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Component(RebuildManagerSubordinateTaskExecutor.TASK_NAME)
+public class RebuildManagerSubordinateTaskExecutor extends AbstractSchedulableTaskExecutor<Boolean> {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(RebuildManagerSubordinateTaskExecutor.class);
+	public static final String TASK_NAME = "core-rebuild-manager-subordinate-long-running-task";
+	private static final int PAGE_SIZE = 100;
+	//
+	@Autowired private IdmManagerSubordinateRepository repository;
+	@Autowired private IdmManagerSubordinateService managerSubordinateService;
+
+	@Override
+	public String getName() {
+		return TASK_NAME;
+	}
+
+	@Override
+	public Boolean process() {
+		LOG.info("Starting rebuilding relations between manager and subordinate contracts.");
+		//
+		counter = 0L;
+		boolean canContinue = true;
+		Page<UUID> contractIds = repository.findContractIds(
+				PageRequest.of(
+						0,
+						PAGE_SIZE,
+						new Sort(Direction.ASC, AbstractEntity_.id.getName())
+				)
+		);
+		count = contractIds.getTotalElements();
+		while (canContinue) {
+			for (UUID contractId : contractIds) {
+				managerSubordinateService.recountSubordinateContract(contractId);
+				//
+				counter++;
+				canContinue = updateState();
+				if (!canContinue) {
+					break;
+				}
+			}
+			if (!canContinue || !contractIds.hasNext()) {
+				break;
+			}
+			contractIds = repository.findContractIds(contractIds.nextPageable());
+		}
+		if (!canContinue) {
+			LOG.warn("Rebuilding relations between manager and subordinate contracts was canceled (processed contracts [{}]).", counter);
+			return Boolean.FALSE;
+		}
+		//
+		int deleted = managerSubordinateService.deleteOrphans();
+		LOG.info("Relations between manager and subordinate contracts were successfully rebuilt (processed contracts [{}], removed orphan relations [{}]).",
+				counter, deleted);
+		//
+		return Boolean.TRUE;
+	}
+
+	@Override
+    public boolean isRecoverable() {
+    	return true;
+    }
+}
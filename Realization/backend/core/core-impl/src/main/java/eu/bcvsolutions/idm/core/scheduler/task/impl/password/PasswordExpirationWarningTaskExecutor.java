@@ -6,6 +6,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -76,12 +77,23 @@ public class PasswordExpirationWarningTaskExecutor extends AbstractSchedulableSt
 
 	@Override
 	public Page<IdmPasswordDto> getItemsToProcess(Pageable pageable) {
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	protected Page<IdmPasswordDto> getItemsToProcess(Pageable pageable, UUID idFrom) {
 		IdmPasswordFilter filter = new IdmPasswordFilter();
 		filter.setValidTill(expiration);
 		filter.setIdentityDisabled(Boolean.FALSE);
+		filter.setIdFrom(idFrom);
 		Page<IdmPasswordDto> result =  passwordService.find(filter, pageable);
 		return result;
 	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
+	}
 
 	@Override
 	public Optional<OperationResult> processItem(IdmPasswordDto dto) {
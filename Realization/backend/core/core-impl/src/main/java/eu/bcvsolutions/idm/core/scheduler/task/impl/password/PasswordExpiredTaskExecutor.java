@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.core.scheduler.task.impl.password;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,12 +57,23 @@ public class PasswordExpiredTaskExecutor extends AbstractSchedulableStatefulExec
 
 	@Override
 	public Page<IdmPasswordDto> getItemsToProcess(Pageable pageable) {
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	protected Page<IdmPasswordDto> getItemsToProcess(Pageable pageable, UUID idFrom) {
 		IdmPasswordFilter filter = new IdmPasswordFilter();
 		filter.setValidTill(expiration); // valid till filter <=
 		filter.setIdentityDisabled(Boolean.FALSE);
+		filter.setIdFrom(idFrom);
 		//
 		return passwordService.find(filter, pageable);
 	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
+	}
 
 	@Override
 	public Optional<OperationResult> processItem(IdmPasswordDto dto) {
@@ -18,19 +18,21 @@ import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.runtime.GStringImpl;
+import org.kohsuke.groovy.sandbox.GroovyInterceptor;
 import org.kohsuke.groovy.sandbox.GroovyValueFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +41,9 @@ import org.springframework.aop.support.AopUtils;
 /**
  * This {@link org.kohsuke.groovy.sandbox.GroovyInterceptor} implements a
  * security check.
+ * 
+ * Filter is registered for the current thread only (see {@link #register()}) => custom types are not shared between threads.
+ * Filter is re-entrant - script called from another script adds its custom types and removes them after evaluation.
  *
  * @author Svanda
  * @author Ondrej Kopr <kopr@xyxy.cz>
@@ -55,7 +60,17 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 			ch.qos.logback.classic.Logger.class, GString.class, GStringImpl.class, MessageFormat.class, Arrays.class,
 			Collections.class, DtoUtils.class, StringUtils.class, Collection.class);
 
-	private final LinkedList<Set<Class<?>>> allowedCustomTypes = new LinkedList<>();
+	// resolved target classes assignable to allowed types - shared between threads, 
+	// value is stored with the class => classes (and their class loaders) are not held by the cache
+	private static final ClassValue<Boolean> ASSIGNABLE_TO_ALLOWED_TYPES = new ClassValue<Boolean>() {
+		
+		@Override
+		protected Boolean computeValue(Class<?> targetClass) {
+			return isAssignableToAllowedTypes(targetClass);
+		}
+	};
+	//
+	private final Deque<Set<Class<?>>> allowedCustomTypes = new ArrayDeque<>();
 
 	public GroovySandboxFilter() {
 	}
@@ -66,6 +81,21 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 		}
 	}
 
+	/**
+	 * Returns filter registered for the current thread.
+	 * 
+	 * @return registered filter, {@code null} if no filter is registered for the current thread
+	 * @since 11.0.0
+	 */
+	public static GroovySandboxFilter getRegisteredFilter() {
+		for (GroovyInterceptor interceptor : GroovyInterceptor.getApplicableInterceptors()) {
+			if (interceptor instanceof GroovySandboxFilter) {
+				return (GroovySandboxFilter) interceptor;
+			}
+		}
+		return null;
+	}
+
 	public void addCustomTypes(Set<Class<?>> allowedTypes) {
 		if (allowedTypes != null) {
 			allowedCustomTypes.add(allowedTypes);
@@ -73,6 +103,9 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 	}
 
 	protected Collection<Class<?>> getCustomTypes() {
+		if (allowedCustomTypes.isEmpty()) {
+			return Collections.emptySet();
+		}
 		return allowedCustomTypes.getLast();
 	}
 
@@ -110,15 +143,15 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 			return o;
 		}
 
-		Class<?> finalTargetClass = targetClass;
-		if (ALLOWED_TYPES.stream()
-				.filter(allowedType -> !Object.class.equals(allowedType)) // Access directly via Object is not allowed.
-				.filter(allowedType -> allowedType.isAssignableFrom(finalTargetClass))
-				.findFirst()
-				.isPresent()) {
+		if (o instanceof Script || o instanceof Closure) {
+			return o; // access to properties of compiled groovy script
+		}
+		// compiled script classes are not resolved above => resolved classes can be cached
+		if (ASSIGNABLE_TO_ALLOWED_TYPES.get(targetClass)) {
 			return o;
 		}
 
+		Class<?> finalTargetClass = targetClass;
 		if (getCustomTypes().stream()
 				.filter(allowedType -> !Object.class.equals(allowedType)) // Access directly via Object is not allowed.
 				.filter(allowedType -> allowedType.isAssignableFrom(finalTargetClass))
@@ -127,9 +160,6 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 			return o;
 		}
 
-		if (o instanceof Script || o instanceof Closure) {
-			return o; // access to properties of compiled groovy script
-		}
 		// check for exceptions
 		if (Throwable.class.isAssignableFrom(targetClass)) {
 			return o; // access for all exception
@@ -137,5 +167,11 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 		throw new SecurityException(
 				MessageFormat.format("Script wants to use unauthorized class: [{0}] ", targetClass));
 	}
+	
+	private static boolean isAssignableToAllowedTypes(Class<?> targetClass) {
+		return ALLOWED_TYPES.stream()
+				.filter(allowedType -> !Object.class.equals(allowedType)) // Access directly via Object is not allowed.
+				.anyMatch(allowedType -> allowedType.isAssignableFrom(targetClass));
+	}
 
 }
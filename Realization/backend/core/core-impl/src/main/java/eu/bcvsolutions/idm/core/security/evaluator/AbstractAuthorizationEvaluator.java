@@ -1,12 +1,18 @@
 package eu.bcvsolutions.idm.core.security.evaluator;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
@@ -17,6 +23,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.util.Assert;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
@@ -37,11 +45,15 @@ public abstract class AbstractAuthorizationEvaluator<E extends Identifiable> imp
 		AuthorizationEvaluator<E>,
 		BeanNameAware {
 
+	private static final int ID_PARTITION_SIZE = 500; // max count of identifiers used in one "in" clause
+	//
 	private final Class<E> entityClass;
 	private String beanName; // spring bean name - used as id
 	//
 	@Autowired(required = false)
 	private ConfigurationService configurationService; // optional internal dependency - checks for processor is enabled
+	@Autowired
+	private EntityManager entityManager;
 
 	@SuppressWarnings({ "unchecked" })
 	public AbstractAuthorizationEvaluator() {
@@ -97,6 +109,47 @@ public abstract class AbstractAuthorizationEvaluator<E extends Identifiable> imp
 		return new HashSet<>();
 	}
 	
+	/**
+	 * Returns permissions for given authorizable objects evaluated by {@link #getPredicate(Root, CriteriaQuery, CriteriaBuilder, AuthorizationPolicy, BasePermission...)}
+	 * - all configured policy permissions are returned for authorizable object, which meets the predicate.
+	 * Can be used by evaluators, which predicate has the same semantics as {@link #getPermissions(Identifiable, AuthorizationPolicy)} 
+	 * => one query is executed for the whole page instead of query for each authorizable object.
+	 * 
+	 * @param authorizables persisted objects with identifier
+	 * @param policy
+	 * @return permissions by authorizable object identifier
+	 * @since 11.0.0
+	 */
+	protected Map<Serializable, Set<String>> getPermissionsByPredicate(List<E> authorizables, AuthorizationPolicy policy) {
+		Assert.notNull(policy, "Policy is required.");
+		//
+		Map<Serializable, Set<String>> results = new HashMap<>(authorizables.size());
+		authorizables.forEach(authorizable -> results.put(authorizable.getId(), new HashSet<>()));
+		if (results.isEmpty()) {
+			return results;
+		}
+		BasePermission[] permissions = PermissionUtils
+				.toPermissions(policy.getPermissions())
+				.toArray(new BasePermission[] {});
+		for (List<Serializable> ids : Lists.partition(new ArrayList<>(results.keySet()), ID_PARTITION_SIZE)) {
+			CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+			CriteriaQuery<Object> query = builder.createQuery(Object.class);
+			Root<E> root = query.from(entityClass);
+			Predicate predicate = getPredicate(root, query, builder, policy, permissions);
+			if (predicate == null) {
+				// evaluator doesn't grant anything
+				return results;
+			}
+			query.select(root.get(BaseEntity.PROPERTY_ID));
+			query.where(builder.and(root.get(BaseEntity.PROPERTY_ID).in(ids), predicate));
+			//
+			for (Object id : entityManager.createQuery(query).getResultList()) {
+				results.get(id).addAll(policy.getPermissions());
+			}
+		}
+		return results;
+	}
+	
 	/**
 	 * Returns configured policy permissions
 	 */
@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.core.security.evaluator.identity;
 
+import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -109,6 +111,16 @@ public class IdentityByTreeNodeEvaluator extends AbstractAuthorizationEvaluator<
 
 		return permissions;
 	}
+	
+	/**
+	 * Identities are evaluated by one query with evaluator predicate.
+	 * 
+	 * @since 11.0.0
+	 */
+	@Override
+	public Map<Serializable, Set<String>> getPermissions(List<IdmIdentity> authorizables, AuthorizationPolicy policy) {
+		return getPermissionsByPredicate(authorizables, policy);
+	}
 
 	@Override
 	public List<IdmFormAttributeDto> getFormAttributes() {
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +36,7 @@ import eu.bcvsolutions.idm.core.api.utils.AutowireHelper;
 import eu.bcvsolutions.idm.core.security.api.domain.AuthorizationPolicy;
 import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
 import eu.bcvsolutions.idm.core.security.api.domain.IdmGroupPermission;
+import eu.bcvsolutions.idm.core.security.api.domain.PermissionCacheKey;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizationEvaluatorDto;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizableService;
@@ -106,7 +108,7 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@SuppressWarnings("unchecked")
 	public <E extends Identifiable> Set<String> getPermissions(E entity) {
 		Assert.notNull(entity, "Entity is required.");
 		final Set<String> permissions = new HashSet<>();
@@ -118,34 +120,82 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 		}
 		// try to get cached permissions
 		Serializable entityId = entity.getId();
-		Map<Serializable, Set<String>> cachedPermissions = null;
+		PermissionCacheKey cacheKey = null;
 		if (entityId != null) { // TODO: support cache for newly created entities without id
-			ValueWrapper value = cacheManager.getValue(PERMISSION_CACHE_NAME, loggedIdentityId);
+			cacheKey = new PermissionCacheKey(loggedIdentityId, getPermissionCacheVersion(loggedIdentityId), entity.getClass(), entityId);
+			ValueWrapper value = cacheManager.getValue(PERMISSION_ENTRY_CACHE_NAME, cacheKey);
 			if (value != null) {
 				// cache value is never null
-				cachedPermissions = new HashMap<>((Map) value.get());
-				//
-				if (cachedPermissions.containsKey(entityId)) {
-					return cachedPermissions.get(entityId);
-				}
-			}		
+				return (Set<String>) value.get();
+			}
 		}
 		// load policies and get permissions
 		getEnabledDistinctPolicies(loggedIdentityId, entity.getClass()).forEach(policy -> {				
 			permissions.addAll(getPermissions(entity, policy));
 		});
 		// cache permissions 
-		if (entityId != null) {
-			if (cachedPermissions == null) {
-				cachedPermissions = new HashMap<>();
-			}
-			cachedPermissions.put(entityId, permissions);
-			cacheManager.cacheValue(PERMISSION_CACHE_NAME, loggedIdentityId, cachedPermissions);
+		if (cacheKey != null) {
+			cacheManager.cacheValue(PERMISSION_ENTRY_CACHE_NAME, cacheKey, permissions);
 		}
 		//
 		return permissions;
 	}
 	
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E extends Identifiable> Map<Serializable, Set<String>> getPermissions(List<E> entities) {
+		Assert.notNull(entities, "Entities are required.");
+		final Map<Serializable, Set<String>> results = new HashMap<>(entities.size());
+		//
+		UUID loggedIdentityId = securityService.getCurrentId();
+		if (loggedIdentityId == null) {
+			// TODO: support setting policies to not logged user - e.g. public endpoints.
+			entities.forEach(entity -> results.put(entity.getId(), new HashSet<>()));
+			return results;
+		}
+		// try to get cached permissions, not cached entities are evaluated together by entity type
+		UUID version = getPermissionCacheVersion(loggedIdentityId);
+		Map<Class<? extends Identifiable>, List<E>> notCachedEntities = new LinkedHashMap<>();
+		for (E entity : entities) {
+			Assert.notNull(entity, "Entity is required.");
+			Assert.notNull(entity.getId(), "Entity identifier is required.");
+			//
+			ValueWrapper value = cacheManager.getValue(
+					PERMISSION_ENTRY_CACHE_NAME, 
+					new PermissionCacheKey(loggedIdentityId, version, entity.getClass(), entity.getId()));
+			if (value != null) {
+				// cache value is never null
+				results.put(entity.getId(), (Set<String>) value.get());
+			} else {
+				notCachedEntities.computeIfAbsent(entity.getClass(), entityType -> new ArrayList<>()).add(entity);
+			}
+		}
+		// load policies and get permissions
+		notCachedEntities.forEach((entityType, typedEntities) -> {
+			Map<Serializable, Set<String>> permissions = new HashMap<>(typedEntities.size());
+			typedEntities.forEach(entity -> permissions.put(entity.getId(), new HashSet<>()));
+			//
+			getEnabledDistinctPolicies(loggedIdentityId, entityType).forEach(policy -> {
+				getPermissions(typedEntities, policy).forEach((entityId, policyPermissions) -> {
+					Set<String> entityPermissions = permissions.get(entityId);
+					if (entityPermissions != null && policyPermissions != null) {
+						entityPermissions.addAll(policyPermissions);
+					}
+				});
+			});
+			// cache permissions
+			permissions.forEach((entityId, entityPermissions) -> {
+				cacheManager.cacheValue(
+						PERMISSION_ENTRY_CACHE_NAME, 
+						new PermissionCacheKey(loggedIdentityId, version, entityType, entityId), 
+						entityPermissions);
+				results.put(entityId, entityPermissions);
+			});
+		});
+		//
+		return results;
+	}
+	
 	@Override
 	public <E extends Identifiable> Set<String> getPermissions(E entity, AuthorizationPolicy policy) {
 		Assert.notNull(policy, "Policy is required.");
@@ -169,6 +219,30 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 		return permissions;
 	}
 	
+	/**
+	 * Returns, what logged user could do with given entities (the same type) by given policy.
+	 * 
+	 * @param entities
+	 * @param policy
+	 * @return permissions by entity identifier
+	 */
+	private <E extends Identifiable> Map<Serializable, Set<String>> getPermissions(List<E> entities, AuthorizationPolicy policy) {
+		AuthorizationEvaluator<E> evaluator = getEvaluator(policy);
+		if (evaluator == null) {
+			LOG.warn("Authorization evaluator for given policy [{}] not exists", policy.getId());
+			return new HashMap<>();
+		}
+		Class<?> authorizableClass = resolveAuthorizableClass(entities.get(0), policy);
+		if (authorizableClass != null && !evaluator.supports(authorizableClass)) {
+			LOG.debug("Authorization evaluator [{}] not supports given authorizable type [{}]", 
+					evaluator.getClass().getCanonicalName(), 
+					authorizableClass.getClass().getCanonicalName());
+			return new HashMap<>();
+		}
+		// evaluate permissions
+		return evaluator.getPermissions(entities, policy);
+	}
+	
 	@Override
 	public <E extends Identifiable> Set<String> getAuthorities(UUID identityId, Class<E> authorizableType) {
 		Assert.notNull(authorizableType, "Authorizable type is required.");
@@ -415,6 +489,25 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 		return enabledDistinctPolicies;
 	}
 	
+	/**
+	 * Get or create logged identity permission cache version. Permissions are cached by version => 
+	 * all cached identity permissions are evicted, when version is evicted (permission entries expire by ttl).
+	 * 
+	 * @param identityId logged identity
+	 * @return version
+	 * @since 11.0.0
+	 */
+	private UUID getPermissionCacheVersion(UUID identityId) {
+		ValueWrapper value = cacheManager.getValue(PERMISSION_CACHE_NAME, identityId);
+		if (value != null && value.get() instanceof UUID) {
+			return (UUID) value.get();
+		}
+		UUID version = UUID.randomUUID();
+		cacheManager.cacheValue(PERMISSION_CACHE_NAME, identityId, version);
+		//
+		return version;
+	}
+	
 	/**
 	 * Resolve duplicate policies => policies with the same configuration can be ignored.
 	 *  
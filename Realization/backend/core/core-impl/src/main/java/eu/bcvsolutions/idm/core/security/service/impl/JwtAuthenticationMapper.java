@@ -7,13 +7,19 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.jwt.Jwt;
@@ -24,15 +30,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 import com.google.common.hash.Hashing;
 
 import eu.bcvsolutions.idm.core.api.domain.ConfigurationMap;
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmTokenDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmTokenFilter;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+import eu.bcvsolutions.idm.core.api.service.IdmTokenService;
 import eu.bcvsolutions.idm.core.security.api.domain.DefaultGrantedAuthority;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.domain.IdmJwtAuthentication;
@@ -66,12 +75,25 @@ public class JwtAuthenticationMapper {
 	public static final String PROPERTY_ORIGINAL_IDENTITY_ID = "originalIdentityId";
 	// @since 10.8.0 - Token expiration can be preset by caller
 	public static final String PROPERTY_PRESERVE_EXPIRATION = "core:token-preserve-expiration";
+	// @since 11.0.0 - Token expiration is prolonged, when remaining token lifetime drops below given percentage of expiration timeout only.
+	public static final String PROPERTY_EXTEND_EXPIRATION_THRESHOLD = "idm.sec.security.jwt.token.extend.threshold";
+	public static final int DEFAULT_EXTEND_EXPIRATION_THRESHOLD = 50; // half of expiration timeout
+	// @since 11.0.0 - Prolonged token expirations are persisted periodically (ms).
+	public static final String PROPERTY_EXTEND_EXPIRATION_FLUSH = "idm.sec.security.jwt.token.extend.flush";
+	public static final long DEFAULT_EXTEND_EXPIRATION_FLUSH = 10000; // ten seconds
+	private static final int EXTEND_EXPIRATION_FLUSH_BATCH_SIZE = 500; // tokens loaded and saved together
 	//
 	@Lazy
 	@Autowired private ObjectMapper mapper;
 	@Autowired private ConfigurationService configurationService;
 	@Autowired private TokenManager tokenManager;
+	@Autowired private IdmTokenService tokenService;
 	@Autowired private GrantedAuthoritiesFactory grantedAuthoritiesFactory;
+	@Value("${" + PROPERTY_EXTEND_EXPIRATION_FLUSH + ":" + DEFAULT_EXTEND_EXPIRATION_FLUSH + "}")
+	private long extendExpirationFlush;
+	//
+	// prolonged token expirations, which will be persisted (token id -> latest expiration)
+	private final Map<UUID, ZonedDateTime> prolongedExpirations = new ConcurrentHashMap<>();
 
 	/**
 	 * Reads {@link IdmJwtAuthentication} from given token
@@ -144,11 +166,7 @@ public class JwtAuthenticationMapper {
 	 * @return
 	 */
 	public ZonedDateTime getNewExpiration() {
-		Integer timeoutMillis = configurationService.getIntegerValue(
-				LoginService.PROPERTY_EXPIRATION_TIMEOUT,
-				LoginService.DEFAULT_EXPIRATION_TIMEOUT);
-		//
-		return ZonedDateTime.now().plus(timeoutMillis, ChronoField.MILLI_OF_DAY.getBaseUnit());
+		return ZonedDateTime.now().plus(getExpirationTimeout(), ChronoField.MILLI_OF_DAY.getBaseUnit());
 	}
 
 	/**
@@ -317,11 +335,14 @@ public class JwtAuthenticationMapper {
 	}
 
 	/**
-	 * Prolong authentication expiration - but only if difference from old expiration is greater than one minute.
-	 * If persistent token for given authentication is found, then persisted token is updated
+	 * Prolong authentication expiration - but only if remaining token lifetime drops below configured threshold
+	 * (half of expiration timeout by default) => active token is not updated on each request.
+	 * Persisted token is not updated immediately - latest expiration is registered and persisted periodically (write behind).
+	 * Persisted token is updated immediately, when current token expires sooner than registered expirations are persisted.
 	 *
-	 * @param tokenId
+	 * @param authenticationDto current authentication
 	 * @return returns actual token
+	 * @see #flushProlongedExpirations()
 	 */
 	public IdmJwtAuthenticationDto prolongExpiration(IdmJwtAuthenticationDto authenticationDto) {
 		if (authenticationDto == null || authenticationDto.getId() == null) {
@@ -334,35 +355,176 @@ public class JwtAuthenticationMapper {
 			LOG.trace("Authentication token with id [{}] has unlimited expiration (e.g. system token), expiration will not be changed.", authenticationDto.getId());
 			return authenticationDto;
 		}
-		// TODO: #1198
-		long seconds = ChronoUnit.SECONDS.between(authenticationDto.getExpiration(), newExpiration);
-		if (seconds < 60) {
-			LOG.trace("Authentication [{}] expiration will not be prolonged - expiration differs by [{}]s only.", authenticationDto.getId(), seconds);
+		long remainingMillis = ChronoUnit.MILLIS.between(ZonedDateTime.now(), oldExpiration);
+		long thresholdMillis = getExpirationTimeout() * getExtendExpirationThreshold() / 100;
+		if (remainingMillis >= thresholdMillis) {
+			LOG.trace("Authentication [{}] expiration will not be prolonged - token expires in [{}]ms.", authenticationDto.getId(), remainingMillis);
 			return authenticationDto;
 		}
 		//
 		authenticationDto.setExpiration(newExpiration);
-		IdmTokenDto token = tokenManager.getToken(authenticationDto.getId());
-		if (token == null) {
-			LOG.trace("Persisted token for authentication with id [{}] not found, persisted token expiration will not be prolonged.", authenticationDto.getId());
+		if (oldExpiration.isAfter(ZonedDateTime.now().plus(extendExpirationFlush * 2, ChronoUnit.MILLIS))) {
+			// persisted token is still valid, when registered expirations are persisted
+			prolongedExpirations.merge(
+					authenticationDto.getId(), 
+					newExpiration, 
+					(previous, current) -> previous.isAfter(current) ? previous : current);
+			//
 			return authenticationDto;
 		}
-		if (token.getExpiration() == null) {
-			LOG.trace("Persisted token with id [{}] has unlimited expiration (e.g. system token), expiration will not be changed.", token.getId());
+		// token is near to expire => persist prolonged expiration immediately
+		IdmTokenDto token = prolongExpiration(authenticationDto.getId(), newExpiration);
+		if (token == null) {
 			return authenticationDto;
 		}
 		//
-		// expiration and token attribute has to be updated
-		token.setExpiration(newExpiration);
-		token.setToken(getTokenHash(token));
-		token = tokenManager.saveToken(new IdmIdentityDto(token.getOwnerId()), token);
-		//
 		return toDto(token);
 	}
+	
+	/**
+	 * Persist registered prolonged token expirations.
+	 * Tokens are loaded together in batches, expiration is persisted by conditional update.
+	 * Disabled (~ logged out, even concurrently) and removed tokens are not prolonged.
+	 * 
+	 * @since 11.0.0
+	 */
+	@Scheduled(fixedDelayString = "${" + PROPERTY_EXTEND_EXPIRATION_FLUSH + ":" + DEFAULT_EXTEND_EXPIRATION_FLUSH + "}")
+	public void flushProlongedExpirations() {
+		if (prolongedExpirations.isEmpty()) {
+			return;
+		}
+		//
+		Map<UUID, ZonedDateTime> expirations = new HashMap<>();
+		for (UUID tokenId : new HashSet<>(prolongedExpirations.keySet())) {
+			ZonedDateTime expiration = prolongedExpirations.remove(tokenId);
+			if (expiration != null) { // null ~ concurrently persisted or token was disabled
+				expirations.put(tokenId, expiration);
+			}
+		}
+		//
+		int counter = 0;
+		for (List<UUID> tokenIds : Lists.partition(new ArrayList<>(expirations.keySet()), EXTEND_EXPIRATION_FLUSH_BATCH_SIZE)) {
+			try {
+				counter += prolongExpirations(tokenIds, expirations);
+			} catch (Exception ex) {
+				LOG.warn("Prolonged expiration of tokens [{}] cannot be persisted.", tokenIds, ex);
+			}
+		}
+		LOG.debug("Prolonged expiration of [{}] tokens was persisted.", counter);
+	}
 
 	public void disableToken(UUID tokenId) {
+		prolongedExpirations.remove(tokenId);
+		//
 		tokenManager.disableToken(tokenId);
 	}
+	
+	/**
+	 * Configured threshold for prolong token expiration - percentage of expiration timeout.
+	 * 
+	 * @return threshold
+	 * @since 11.0.0
+	 */
+	protected int getExtendExpirationThreshold() {
+		return configurationService.getIntegerValue(PROPERTY_EXTEND_EXPIRATION_THRESHOLD, DEFAULT_EXTEND_EXPIRATION_THRESHOLD);
+	}
+	
+	/**
+	 * Configured token expiration timeout (ms).
+	 * 
+	 * @return timeout
+	 */
+	private long getExpirationTimeout() {
+		return configurationService.getIntegerValue(
+				LoginService.PROPERTY_EXPIRATION_TIMEOUT,
+				LoginService.DEFAULT_EXPIRATION_TIMEOUT);
+	}
+	
+	/**
+	 * Update persisted token expiration. Token expiration is not shortened.
+	 * 
+	 * @param tokenId persisted token identifier
+	 * @param expiration new expiration
+	 * @return updated token, {@code null} if token was not updated
+	 */
+	private IdmTokenDto prolongExpiration(UUID tokenId, ZonedDateTime expiration) {
+		IdmTokenDto token = tokenManager.getToken(tokenId);
+		if (token == null) {
+			LOG.trace("Persisted token with id [{}] not found, persisted token expiration will not be prolonged.", tokenId);
+			return null;
+		}
+		if (!canProlongExpiration(token, expiration)) {
+			return null;
+		}
+		//
+		// expiration and token attribute has to be updated
+		token.setExpiration(expiration);
+		token.setToken(getTokenHash(token));
+		// token can be disabled concurrently => conditional update
+		if (!tokenService.prolongExpiration(tokenId, expiration, token.getToken())) {
+			return null;
+		}
+		//
+		return token;
+	}
+	
+	/**
+	 * Update persisted tokens expiration. Tokens are loaded together, expiration is updated only if token is still active 
+	 * (disabled token is not prolonged). Token expiration is not shortened.
+	 * 
+	 * @param tokenIds persisted token identifiers
+	 * @param expirations new expirations
+	 * @return count of updated tokens
+	 */
+	private int prolongExpirations(List<UUID> tokenIds, Map<UUID, ZonedDateTime> expirations) {
+		IdmTokenFilter filter = new IdmTokenFilter();
+		filter.setIds(tokenIds);
+		List<IdmTokenDto> tokens = tokenService
+				.find(filter, null)
+				.getContent()
+				.stream()
+				.filter(token -> canProlongExpiration(token, expirations.get(token.getId())))
+				.collect(Collectors.toList());
+		if (tokens.isEmpty()) {
+			return 0;
+		}
+		//
+		int counter = 0;
+		for (IdmTokenDto token : tokens) {
+			// expiration and token attribute has to be updated
+			token.setExpiration(expirations.get(token.getId()));
+			token.setToken(getTokenHash(token));
+			// token can be disabled after tokens were loaded (e.g. logout on another node) => conditional update
+			if (tokenService.prolongExpiration(token.getId(), token.getExpiration(), token.getToken())) {
+				counter++;
+			}
+		}
+		//
+		return counter;
+	}
+	
+	/**
+	 * Disabled tokens and tokens with unlimited expiration are not prolonged. Token expiration is not shortened.
+	 * 
+	 * @param token persisted token
+	 * @param expiration new expiration
+	 * @return true - expiration can be prolonged
+	 */
+	private boolean canProlongExpiration(IdmTokenDto token, ZonedDateTime expiration) {
+		if (token.isDisabled()) {
+			LOG.trace("Persisted token with id [{}] is disabled, persisted token expiration will not be prolonged.", token.getId());
+			return false;
+		}
+		if (token.getExpiration() == null) {
+			LOG.trace("Persisted token with id [{}] has unlimited expiration (e.g. system token), expiration will not be changed.", token.getId());
+			return false;
+		}
+		if (!token.getExpiration().isBefore(expiration)) {
+			LOG.trace("Persisted token with id [{}] has the same or longer expiration, expiration will not be changed.", token.getId());
+			return false;
+		}
+		return true;
+	}
 
 	/**
 	 * Converts authentication.
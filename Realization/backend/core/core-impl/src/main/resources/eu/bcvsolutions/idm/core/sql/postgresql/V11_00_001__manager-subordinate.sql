@@ -0,0 +1,33 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Materialized relations between manager and subordinate contracts (used by indexed managers and subordinates filters)
+
+CREATE TABLE idm_manager_subordinate (
+	id bytea NOT NULL,
+	created timestamp NOT NULL,
+	creator varchar(255) NOT NULL,
+	creator_id bytea NULL,
+	modified timestamp NULL,
+	modifier varchar(255) NULL,
+	modifier_id bytea NULL,
+	original_creator varchar(255) NULL,
+	original_creator_id bytea NULL,
+	original_modifier varchar(255) NULL,
+	original_modifier_id bytea NULL,
+	realm_id bytea NULL,
+	transaction_id bytea NULL,
+	manager_id bytea NOT NULL,
+	manager_contract_id bytea NULL,
+	contract_guarantee_id bytea NULL,
+	tree_type_id bytea NULL,
+	subordinate_id bytea NOT NULL,
+	subordinate_contract_id bytea NOT NULL,
+	CONSTRAINT idm_manager_subordinate_pkey PRIMARY KEY (id)
+);
+CREATE INDEX idx_idm_man_sub_manager ON idm_manager_subordinate USING btree (manager_id);
+CREATE INDEX idx_idm_man_sub_man_contr ON idm_manager_subordinate USING btree (manager_contract_id);
+CREATE INDEX idx_idm_man_sub_guarantee ON idm_manager_subordinate USING btree (contract_guarantee_id);
+CREATE INDEX idx_idm_man_sub_subordinate ON idm_manager_subordinate USING btree (subordinate_id);
+CREATE INDEX idx_idm_man_sub_sub_contr ON idm_manager_subordinate USING btree (subordinate_contract_id);
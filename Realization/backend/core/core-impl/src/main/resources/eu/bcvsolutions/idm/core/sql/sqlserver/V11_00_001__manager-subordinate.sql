@@ -0,0 +1,33 @@
+--
+-- CzechIdM 11 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Materialized relations between manager and subordinate contracts (used by indexed managers and subordinates filters)
+
+CREATE TABLE idm_manager_subordinate (
+	id binary(16) NOT NULL,
+	created datetime2 NOT NULL,
+	creator nvarchar(255) NOT NULL,
+	creator_id binary(16) NULL,
+	modified datetime2 NULL,
+	modifier nvarchar(255) NULL,
+	modifier_id binary(16) NULL,
+	original_creator nvarchar(255) NULL,
+	original_creator_id binary(16) NULL,
+	original_modifier nvarchar(255) NULL,
+	original_modifier_id binary(16) NULL,
+	realm_id binary(16) NULL,
+	transaction_id binary(16) NULL,
+	manager_id binary(16) NOT NULL,
+	manager_contract_id binary(16) NULL,
+	contract_guarantee_id binary(16) NULL,
+	tree_type_id binary(16) NULL,
+	subordinate_id binary(16) NOT NULL,
+	subordinate_contract_id binary(16) NOT NULL,
+	CONSTRAINT idm_manager_subordinate_pkey PRIMARY KEY (id)
+);
+CREATE INDEX idx_idm_man_sub_manager ON idm_manager_subordinate (manager_id);
+CREATE INDEX idx_idm_man_sub_man_contr ON idm_manager_subordinate (manager_contract_id);
+CREATE INDEX idx_idm_man_sub_guarantee ON idm_manager_subordinate (contract_guarantee_id);
+CREATE INDEX idx_idm_man_sub_subordinate ON idm_manager_subordinate (subordinate_id);
+CREATE INDEX idx_idm_man_sub_sub_contr ON idm_manager_subordinate (subordinate_contract_id);
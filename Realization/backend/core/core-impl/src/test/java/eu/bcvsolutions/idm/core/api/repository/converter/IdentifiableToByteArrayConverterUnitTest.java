@@ -0,0 +1,70 @@
+package eu.bcvsolutions.idm.core.api.repository.converter;
+
+import java.util.UUID;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.core.api.domain.ConfigurationMap;
+import eu.bcvsolutions.idm.core.api.domain.Identifiable;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Compressed serializable converters unit tests.
+ * 
+ * @author Radek Tomiška
+ */
+public class IdentifiableToByteArrayConverterUnitTest extends AbstractUnitTest {
+
+	private final IdentifiableToByteArrayConverter converter = new IdentifiableToByteArrayConverter();
+	
+	@Test
+	public void testNull() {
+		Assert.assertNull(converter.convertToDatabaseColumn(null));
+		Assert.assertNull(converter.convertToEntityAttribute(null));
+		Assert.assertNull(converter.convertToEntityAttribute(new byte[] {}));
+	}
+	
+	@Test
+	public void testCompressedContent() {
+		IdmIdentityDto identity = new IdmIdentityDto(UUID.randomUUID(), "mock");
+		identity.setFirstName("mock");
+		identity.setLastName("mock");
+		identity.setDescription("mock");
+		//
+		byte[] serialized = SerializationUtils.serialize(identity);
+		Assert.assertTrue(serialized.length > AbstractCompressedSerializableConverter.DEFAULT_COMPRESSION_THRESHOLD);
+		byte[] data = converter.convertToDatabaseColumn(identity);
+		Assert.assertTrue(converter.isCompressed(data));
+		Assert.assertTrue(data.length < serialized.length);
+		//
+		IdmIdentityDto converted = (IdmIdentityDto) converter.convertToEntityAttribute(data);
+		Assert.assertEquals(identity.getId(), converted.getId());
+		Assert.assertEquals(identity.getUsername(), converted.getUsername());
+		Assert.assertEquals(identity.getFirstName(), converted.getFirstName());
+		Assert.assertEquals(identity.getDescription(), converted.getDescription());
+	}
+	
+	@Test
+	public void testReadUncompressedContent() {
+		IdmIdentityDto identity = new IdmIdentityDto(UUID.randomUUID(), "mock");
+		//
+		// persisted before converter was used
+		Identifiable converted = converter.convertToEntityAttribute(SerializationUtils.serialize(identity));
+		//
+		Assert.assertEquals(identity.getId(), converted.getId());
+	}
+	
+	@Test
+	public void testSmallValueIsNotCompressed() {
+		ConfigurationMapToByteArrayConverter propertiesConverter = new ConfigurationMapToByteArrayConverter();
+		ConfigurationMap properties = new ConfigurationMap();
+		properties.put("one", "one");
+		//
+		byte[] data = propertiesConverter.convertToDatabaseColumn(properties);
+		Assert.assertFalse(propertiesConverter.isCompressed(data));
+		Assert.assertEquals("one", propertiesConverter.convertToEntityAttribute(data).get("one"));
+	}
+}
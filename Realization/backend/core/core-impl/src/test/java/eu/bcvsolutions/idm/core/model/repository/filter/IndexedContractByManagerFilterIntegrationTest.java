@@ -0,0 +1,158 @@
+package eu.bcvsolutions.idm.core.model.repository.filter;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmTreeNodeDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmTreeTypeDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityContractFilter;
+import eu.bcvsolutions.idm.core.api.repository.filter.FilterBuilder;
+import eu.bcvsolutions.idm.core.api.service.IdmIdentityContractService;
+import eu.bcvsolutions.idm.core.api.service.IdmTreeNodeService;
+import eu.bcvsolutions.idm.core.api.utils.AutowireHelper;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityContract;
+import eu.bcvsolutions.idm.core.model.repository.IdmIdentityContractRepository;
+import eu.bcvsolutions.idm.core.model.repository.IdmManagerSubordinateRepository;
+import eu.bcvsolutions.idm.core.scheduler.api.service.LongRunningTaskManager;
+import eu.bcvsolutions.idm.core.scheduler.task.impl.RebuildManagerSubordinateTaskExecutor;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+
+/**
+ * Find subordinate contract by managers by materialized relation.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+@Transactional
+public class IndexedContractByManagerFilterIntegrationTest extends ContractByGuaranteeFilterIntegrationTest {
+	
+	@Autowired private IdmIdentityContractRepository repository;
+	@Autowired private IdmManagerSubordinateRepository managerSubordinateRepository;
+	@Autowired private IdmIdentityContractService contractService;
+	@Autowired private IdmTreeNodeService treeNodeService;
+	@Autowired private LongRunningTaskManager longRunningTaskManager;
+	private IndexedContractByManagerFilter builder;
+	
+	@Before
+	public void init() {
+		builder = AutowireHelper.autowireBean(new IndexedContractByManagerFilter(repository));
+	}
+	
+	@Override
+	protected FilterBuilder<IdmIdentityContract, IdmIdentityContractFilter> getBuilder() {
+		return builder;
+	}
+	
+	@Test
+	public void testFindSubordinateContractsByTree() {
+		// prepare data - one identity two contract but one manager
+		IdmIdentityDto subordinate = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto managerOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto managerTwo = getHelper().createIdentity((GuardedString) null);
+		// other contracts
+		IdmIdentityContractDto contractOther = getHelper().getPrimeContract(subordinate);
+		getHelper().createContractGuarantee(contractOther.getId(), managerOne.getId());
+		//
+		IdmTreeTypeDto structure = getHelper().createTreeType();
+		IdmTreeNodeDto managerOnePosition = getHelper().createTreeNode(structure, null); 
+		getHelper().createContract(managerOne, managerOnePosition);
+		IdmTreeNodeDto managerTwoPosition = getHelper().createTreeNode(structure, null); 
+		getHelper().createContract(managerTwo, managerTwoPosition);
+		//
+		IdmTreeNodeDto subordinateOnePositionOne = getHelper().createTreeNode(structure, managerOnePosition);
+		IdmTreeNodeDto subordinateOnePositionTwo = getHelper().createTreeNode(structure, managerTwoPosition);
+		IdmIdentityContractDto contractOne = getHelper().createContract(subordinate, subordinateOnePositionOne);
+		IdmIdentityContractDto contractTwo = getHelper().createContract(subordinate, subordinateOnePositionTwo);
+		//
+		IdmIdentityContractFilter filter = new IdmIdentityContractFilter();
+		filter.setIncludeGuarantees(false);
+		filter.setSubordinatesFor(managerOne.getId());
+		List<IdmIdentityContract> managedContracts = builder.find(filter, null).getContent();
+		Assert.assertEquals(1, managedContracts.size());
+		Assert.assertEquals(contractOne.getId(), managedContracts.get(0).getId());
+		//
+		filter.setSubordinatesFor(managerTwo.getId());
+		managedContracts = builder.find(filter, null).getContent();
+		Assert.assertEquals(1, managedContracts.size());
+		Assert.assertEquals(contractTwo.getId(), managedContracts.get(0).getId());
+		//
+		filter.setIncludeGuarantees(true);
+		filter.setSubordinatesFor(managerOne.getId());
+		managedContracts = builder.find(filter, null).getContent();
+		Assert.assertEquals(2, managedContracts.size());
+		Assert.assertTrue(managedContracts.stream().anyMatch(c -> c.getId().equals(contractOther.getId())));
+		Assert.assertTrue(managedContracts.stream().anyMatch(c -> c.getId().equals(contractOne.getId())));
+		//
+		// by tree type
+		filter.setSubordinatesByTreeType(structure.getId());
+		managedContracts = builder.find(filter, null).getContent();
+		Assert.assertEquals(1, managedContracts.size());
+		Assert.assertEquals(contractOne.getId(), managedContracts.get(0).getId());
+	}
+	
+	@Test
+	public void testRecountRelationsAfterStructureIsChanged() {
+		IdmIdentityDto subordinate = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto managerOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto managerTwo = getHelper().createIdentity((GuardedString) null);
+		IdmTreeTypeDto structure = getHelper().createTreeType();
+		IdmTreeNodeDto managerOnePosition = getHelper().createTreeNode(structure, null); 
+		IdmIdentityContractDto managerOneContract = getHelper().createContract(managerOne, managerOnePosition);
+		IdmTreeNodeDto managerTwoPosition = getHelper().createTreeNode(structure, null); 
+		getHelper().createContract(managerTwo, managerTwoPosition);
+		IdmTreeNodeDto subordinatePosition = getHelper().createTreeNode(structure, managerOnePosition);
+		IdmIdentityContractDto contract = getHelper().createContract(subordinate, subordinatePosition);
+		//
+		IdmIdentityContractFilter filter = new IdmIdentityContractFilter();
+		filter.setIncludeGuarantees(false);
+		filter.setSubordinatesFor(managerOne.getId());
+		Assert.assertEquals(contract.getId(), builder.find(filter, null).getContent().get(0).getId());
+		//
+		// move tree node
+		subordinatePosition.setParent(managerTwoPosition.getId());
+		subordinatePosition = treeNodeService.save(subordinatePosition);
+		Assert.assertTrue(builder.find(filter, null).getContent().isEmpty());
+		filter.setSubordinatesFor(managerTwo.getId());
+		Assert.assertEquals(contract.getId(), builder.find(filter, null).getContent().get(0).getId());
+		//
+		// change manager work position
+		managerOneContract.setWorkPosition(managerTwoPosition.getId());
+		contractService.save(managerOneContract);
+		filter.setSubordinatesFor(managerOne.getId());
+		Assert.assertEquals(contract.getId(), builder.find(filter, null).getContent().get(0).getId());
+		//
+		// delete subordinate contract
+		contractService.delete(contract);
+		Assert.assertTrue(builder.find(filter, null).getContent().isEmpty());
+		Assert.assertTrue(managerSubordinateRepository
+				.findAll()
+				.stream()
+				.noneMatch(r -> r.getSubordinateContractId().equals(contract.getId())));
+	}
+	
+	@Test
+	public void testRebuildRelations() {
+		IdmIdentityDto subordinate = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto manager = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityContractDto contract = getHelper().getPrimeContract(subordinate);
+		getHelper().createContractGuarantee(contract.getId(), manager.getId());
+		//
+		IdmIdentityContractFilter filter = new IdmIdentityContractFilter();
+		filter.setSubordinatesFor(manager.getId());
+		Assert.assertEquals(contract.getId(), builder.find(filter, null).getContent().get(0).getId());
+		//
+		// relations are lost (e.g. created before relations were introduced)
+		managerSubordinateRepository.deleteBySubordinateContractId(contract.getId());
+		Assert.assertTrue(builder.find(filter, null).getContent().isEmpty());
+		//
+		Assert.assertTrue(longRunningTaskManager.executeSync(AutowireHelper.createBean(RebuildManagerSubordinateTaskExecutor.class)));
+		Assert.assertEquals(contract.getId(), builder.find(filter, null).getContent().get(0).getId());
+	}
+}
@@ -0,0 +1,34 @@
+package eu.bcvsolutions.idm.core.model.repository.filter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import eu.bcvsolutions.idm.core.api.utils.AutowireHelper;
+import eu.bcvsolutions.idm.core.model.repository.IdmIdentityRepository;
+
+/**
+ * Find managers by materialized relation
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class IndexedManagersFilterBuilderIntegrationTest extends AbstractWorkingPositionFilterIntegrationTest {
+	
+	@Autowired private IdmIdentityRepository repository;
+	private IndexedManagersFilter builder;
+	
+	@Before
+	public void init() {
+		super.init();
+		builder = AutowireHelper.autowireBean(new IndexedManagersFilter(repository));
+	}
+	
+	@Test
+	@Transactional
+	public void testManagers() {
+		prepareData();
+		super.testManagersBuilder(builder);
+	}
+}
@@ -252,6 +252,31 @@ public class DefaultEntityEventManagerIntergationTest extends AbstractIntegratio
 		assertEquals(2, context2.getResults().size());
 	}
 	
+	@Test
+	public void testCachedProcessorChainEvictedAfterProcessorIsDisabled() {
+		String eventTypeName = getHelper().createName() + "_test_type";
+		EventType type = (EventType) () -> eventTypeName;
+		EntityEvent<TestContentTwo> event = new CoreEvent<>(type, new TestContentTwo());
+		Assert.assertTrue(manager.getEnabledProcessors(event).isEmpty());
+		//
+		String configPropName = testTwoEntityEventProcessorOne.getConfigurationPropertyName(EntityEventProcessor.PROPERTY_EVENT_TYPES);
+		try {
+			getHelper().setConfigurationValue(configPropName, eventTypeName);
+			Assert.assertTrue(manager.getEnabledProcessors(event).contains(testTwoEntityEventProcessorOne));
+			// cached chain is used
+			Assert.assertTrue(manager.getEnabledProcessors(event).contains(testTwoEntityEventProcessorOne));
+			//
+			manager.disable(testTwoEntityEventProcessorOne.getId());
+			Assert.assertFalse(manager.getEnabledProcessors(event).contains(testTwoEntityEventProcessorOne));
+			//
+			manager.enable(testTwoEntityEventProcessorOne.getId());
+			Assert.assertTrue(manager.getEnabledProcessors(event).contains(testTwoEntityEventProcessorOne));
+		} finally {
+			manager.enable(testTwoEntityEventProcessorOne.getId());
+			getHelper().setConfigurationValue(configPropName, (String) null);
+		}
+	}
+	
 	@Test
 	public void testConditionalProcessor() {
 		EntityEvent<ConditionalContent> event = new CoreEvent<>(CoreEventType.CREATE, new ConditionalContent(false));
@@ -319,6 +344,100 @@ public class DefaultEntityEventManagerIntergationTest extends AbstractIntegratio
 		}
 	}
 	
+	@Test
+	public void testMultiThreadEventProcessingInPartitions() {
+		List<IdmEntityEventDto> events = new ArrayList<>();
+		try {
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_ENABLED, false);
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_COUNT, "4");
+			int ownerCount = 50;
+			int ownerEventCount = 5;
+			//
+			// create events - more events for the same owner
+			String eventType = getHelper().createName();
+			for (int i = 0; i < ownerCount; i++) {
+				MockOwner mockOwner = new MockOwner();
+				for (int j = 0; j < ownerEventCount; j++) {
+					IdmEntityEventDto entityEvent = new IdmEntityEventDto();
+					entityEvent.setOwnerType(mockOwner.getClass().getCanonicalName());
+					entityEvent.setEventType(eventType);
+					entityEvent.setOwnerId((UUID) mockOwner.getId());
+					entityEvent.setContent(mockOwner);
+					entityEvent.getProperties().put("order", j); // prevent to remove duplicates
+					entityEvent.setInstanceId(eventConfiguration.getAsynchronousInstanceId());
+					entityEvent.setResult(new OperationResultDto(OperationState.CREATED));
+					entityEvent.setPriority(PriorityType.NORMAL);
+					events.add(entityEventService.save(entityEvent));
+				}
+			}
+			//
+			IdmEntityEventFilter filter = new IdmEntityEventFilter();
+			filter.setOwnerType(MockOwner.class.getCanonicalName());
+			filter.setEventType(eventType);
+			filter.setStates(Lists.newArrayList(OperationState.CREATED, OperationState.RUNNING));
+			Assert.assertEquals(ownerCount * ownerEventCount, entityEventService.find(filter, PageRequest.of(0, 1)).getTotalElements());
+			//
+			// execute
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_ENABLED, true);
+			//
+			// wait for executed events
+			getHelper().waitForResult(res -> {
+				return entityEventService.find(filter, PageRequest.of(0, 1)).getTotalElements() != 0;
+			}, 1000, 30);
+			//
+			// check what happened
+			filter.setStates(Lists.newArrayList(OperationState.EXECUTED));
+			Assert.assertEquals(ownerCount * ownerEventCount, entityEventService.find(filter, PageRequest.of(0, 1)).getTotalElements());			
+		} finally {
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_ENABLED, false);
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_COUNT, "0");
+			events.forEach(e -> entityEventService.delete(e));
+		}
+	}
+	
+	@Test
+	public void testNotifyEventQueue() {
+		List<IdmEntityEventDto> events = new ArrayList<>();
+		try {
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_ENABLED, true);
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_ENABLED, true);
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL, "3600000");
+			int count = 10;
+			//
+			// create events - event queue is notified
+			String eventType = getHelper().createName();
+			for (int i = 0; i < count; i++) {
+				MockOwner mockOwner = new MockOwner();
+				IdmEntityEventDto entityEvent = new IdmEntityEventDto();
+				entityEvent.setOwnerType(mockOwner.getClass().getCanonicalName());
+				entityEvent.setEventType(eventType);
+				entityEvent.setOwnerId((UUID) mockOwner.getId());
+				entityEvent.setContent(mockOwner);
+				entityEvent.setResult(new OperationResultDto(OperationState.CREATED));
+				events.add(manager.saveEvent(entityEvent));
+			}
+			//
+			// wait for executed events - polling interval is not reached
+			IdmEntityEventFilter filter = new IdmEntityEventFilter();
+			filter.setOwnerType(MockOwner.class.getCanonicalName());
+			filter.setEventType(eventType);
+			filter.setStates(Lists.newArrayList(OperationState.CREATED, OperationState.RUNNING));
+			getHelper().waitForResult(res -> {
+				return entityEventService.find(filter, PageRequest.of(0, 1)).getTotalElements() != 0;
+			}, 500, 20);
+			//
+			filter.setStates(Lists.newArrayList(OperationState.EXECUTED));
+			Assert.assertEquals(count, entityEventService.find(filter, PageRequest.of(0, 1)).getTotalElements());
+		} finally {
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_ENABLED, false);
+			getHelper().setConfigurationValue(EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_ENABLED, false);
+			getHelper().setConfigurationValue(
+					EventConfiguration.PROPERTY_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL, 
+					String.valueOf(EventConfiguration.DEFAULT_EVENT_ASYNCHRONOUS_NOTIFY_POLLING_INTERVAL));
+			events.forEach(e -> entityEventService.delete(e));
+		}
+	}
+	
 	@Test
 	public void testRemoveDuplicateEventsForTheSameOwner() {
 		List<IdmEntityEventDto> events = new ArrayList<>();
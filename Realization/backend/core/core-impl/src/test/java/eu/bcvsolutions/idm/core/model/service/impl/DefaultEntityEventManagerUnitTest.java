@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -24,7 +25,6 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
@@ -33,7 +33,6 @@ import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
 import eu.bcvsolutions.idm.core.api.domain.PriorityType;
 import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
-import eu.bcvsolutions.idm.core.api.dto.filter.IdmEntityEventFilter;
 import eu.bcvsolutions.idm.core.api.event.AbstractEntityEventProcessor;
 import eu.bcvsolutions.idm.core.api.event.AsyncEntityEventProcessor;
 import eu.bcvsolutions.idm.core.api.event.CoreEvent;
@@ -327,8 +326,8 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 				.thenReturn(new PageImpl<>(normalEvents));
 		//
 		when(entityEventService
-				.find(any(IdmEntityEventFilter.class), any(PageRequest.class)))
-				.thenReturn(new PageImpl<>(new ArrayList<>()));
+				.findParentIds(any()))
+				.thenReturn(new HashSet<>());
 		when(eventConfiguration.getBatchSize()).thenReturn(100);
 		//
 		List<IdmEntityEventDto> events = manager.getCreatedEvents("instance");
@@ -395,8 +394,8 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 						any()))
 				.thenReturn(new PageImpl<>(normalEvents));
 		when(entityEventService
-				.find(any(IdmEntityEventFilter.class), any(PageRequest.class)))
-				.thenReturn(new PageImpl<>(new ArrayList<>()));
+				.findParentIds(any()))
+				.thenReturn(new HashSet<>());
 		when(eventConfiguration.getBatchSize()).thenReturn(100);
 		//
 		List<IdmEntityEventDto> events = manager.getCreatedEvents("instance");
@@ -588,14 +587,14 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 				.thenReturn(new PageImpl<>(new ArrayList<>()));
 		//
 		when(entityEventService
-				.find(any(IdmEntityEventFilter.class), any(PageRequest.class)))
-				.thenReturn(new PageImpl<>(new ArrayList<>()));
+				.findParentIds(any()))
+				.thenReturn(new HashSet<>());
 		when(eventConfiguration.getBatchSize()).thenReturn(100);
 		//
 		List<IdmEntityEventDto> events = manager.getCreatedEvents("instance");
 		Assert.assertEquals(1, events.size());
 		Assert.assertTrue(events.stream().anyMatch(e -> e.getId().equals(highEventTwo.getId())));
-		verify(entityEventService).delete(highEventOne);
+		verify(entityEventService).deleteAllById(Lists.newArrayList(highEventOne.getId()));
 	}
 	
 	@Test
@@ -653,8 +652,8 @@ public class DefaultEntityEventManagerUnitTest extends AbstractUnitTest {
 				.thenReturn(new PageImpl<>(normalEvents));
 		//
 		when(entityEventService
-				.find(any(IdmEntityEventFilter.class), any(PageRequest.class)))
-				.thenReturn(new PageImpl<>(new ArrayList<>()));
+				.findParentIds(any()))
+				.thenReturn(new HashSet<>());
 		when(eventConfiguration.getBatchSize()).thenReturn(100);
 		//
 		List<IdmEntityEventDto> events = manager.getCreatedEvents("instance");
@@ -2,6 +2,13 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
 import org.junit.After;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -17,6 +24,7 @@ import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
+import eu.bcvsolutions.idm.core.security.domain.GroovySandboxFilter;
 import eu.bcvsolutions.idm.core.security.exception.IdmSecurityException;
 import eu.bcvsolutions.idm.test.api.AbstractVerifiableUnitTest;
 
@@ -160,5 +168,29 @@ public class DefaultGroovyScriptServiceTest extends AbstractVerifiableUnitTest {
 		groovyScriptService.validateScript(script);
 		groovyScriptService.evaluate(script, null);
 	}
-
+	
+	@Test
+	public void testConcurrentEvaluation() throws Exception {
+		String script = "return String.valueOf(value * 2);";
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<String>> evaluations = Lists.newArrayList();
+			for (int i = 0; i < 50; i++) {
+				long value = i;
+				evaluations.add(() -> {
+					String result = (String) groovyScriptService.evaluate(script, ImmutableMap.of("value", value));
+					// filter is unregistered after evaluation
+					Assert.assertNull(GroovySandboxFilter.getRegisteredFilter());
+					//
+					return result;
+				});
+			}
+			List<Future<String>> results = executor.invokeAll(evaluations);
+			for (int i = 0; i < 50; i++) {
+				assertEquals(String.valueOf(i * 2), results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
@@ -1,7 +1,9 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -282,6 +284,57 @@ public class DefaultIdmEntityEventServiceIntegrationTest extends AbstractIntegra
 		Assert.assertEquals(otherState.getId(), states.get(0).getId());
 	}
 	
+	@Test
+	@Transactional
+	public void testDeleteAllById() {
+		String mockOwnerType = getHelper().createName();
+		//
+		IdmEntityEventDto parentEvent = new IdmEntityEventDto();
+		parentEvent.setOwnerType(mockOwnerType);
+		parentEvent.setEventType("empty");
+		parentEvent.setOwnerId(UUID.randomUUID());
+		parentEvent.setInstanceId("empty");
+		parentEvent.setResult(new OperationResultDto(OperationState.CREATED));
+		parentEvent.setPriority(PriorityType.NORMAL);
+		parentEvent = entityEventService.save(parentEvent);
+		IdmEntityEventDto childEvent = new IdmEntityEventDto();
+		childEvent.setOwnerType(mockOwnerType);
+		childEvent.setEventType("empty");
+		childEvent.setOwnerId(UUID.randomUUID());
+		childEvent.setInstanceId("empty");
+		childEvent.setResult(new OperationResultDto(OperationState.CREATED));
+		childEvent.setPriority(PriorityType.NORMAL);
+		childEvent.setParent(parentEvent.getId());
+		childEvent = entityEventService.save(childEvent);
+		IdmEntityEventDto entityEvent = new IdmEntityEventDto();
+		entityEvent.setOwnerType(mockOwnerType);
+		entityEvent.setEventType("empty");
+		entityEvent.setOwnerId(UUID.randomUUID());
+		entityEvent.setInstanceId("empty");
+		entityEvent.setResult(new OperationResultDto(OperationState.CREATED));
+		entityEvent.setPriority(PriorityType.NORMAL);
+		entityEvent = entityEventService.save(entityEvent);
+		IdmEntityStateDto entityState = new IdmEntityStateDto(entityEvent);
+		entityState.setResult(new OperationResultDto(OperationState.BLOCKED));
+		entityStateService.save(entityState);
+		//
+		Set<UUID> parentIds = entityEventService.findParentIds(
+				Lists.newArrayList(parentEvent.getId(), childEvent.getId(), entityEvent.getId()));
+		Assert.assertEquals(1, parentIds.size());
+		Assert.assertTrue(parentIds.contains(parentEvent.getId()));
+		//
+		entityEventService.deleteAllById(Lists.newArrayList(entityEvent.getId()));
+		//
+		IdmEntityEventFilter eventFilter = new IdmEntityEventFilter();
+		eventFilter.setOwnerType(mockOwnerType);
+		List<IdmEntityEventDto> events = entityEventService.find(eventFilter, null).getContent();
+		Assert.assertEquals(2, events.size());
+		Assert.assertFalse(events.stream().map(IdmEntityEventDto::getId).collect(Collectors.toList()).contains(entityEvent.getId()));
+		IdmEntityStateFilter stateFilter = new IdmEntityStateFilter();
+		stateFilter.setOwnerType(mockOwnerType);
+		Assert.assertTrue(entityStateService.find(stateFilter, null).getContent().isEmpty());
+	}
+	
 	@Test
 	@Transactional
 	public void testExceptOwner() {
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertNull;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import java.time.LocalDate;
 import org.junit.Assert;
@@ -790,6 +792,33 @@ public class DefaultIdmRoleFormAttributeServiceIntegrationTest extends AbstractI
 		Assert.assertEquals(111, numberAttribute.getMax().intValue()); 
 	}
 	
+	@Test
+	public void testGetRoleAttributeValuesTogether() {
+		IdmRoleDto role = createRoleWithAttributes();
+		IdmRoleDto roleWithoutAttributes = getHelper().createRole();
+		IdmIdentityDto identity = getHelper().createIdentity();
+		IdmIdentityRoleDto identityRoleOne = getHelper().createIdentityRole(identity, role);
+		IdmIdentityRoleDto identityRoleTwo = getHelper().createIdentityRole(identity, role);
+		IdmIdentityRoleDto identityRoleThree = getHelper().createIdentityRole(identity, roleWithoutAttributes);
+		IdmFormDefinitionDto formAttributeSubdefinition = roleService.getFormAttributeSubdefinition(role);
+		formService.saveValues(identityRoleOne, formAttributeSubdefinition, NUMBER_OF_FINGERS, Lists.newArrayList(BigDecimal.TEN));
+		formService.saveValues(identityRoleTwo, formAttributeSubdefinition, NUMBER_OF_FINGERS, Lists.newArrayList(BigDecimal.ONE));
+		//
+		List<IdmIdentityRoleDto> identityRoles = identityRoleService.findAllByIdentity(identity.getId());
+		Assert.assertEquals(3, identityRoles.size());
+		Map<UUID, IdmFormInstanceDto> formInstances = identityRoleService.getRoleAttributeValues(identityRoles);
+		//
+		Assert.assertEquals(2, formInstances.size());
+		Assert.assertNull(formInstances.get(identityRoleThree.getId()));
+		IdmFormInstanceDto formInstance = formInstances.get(identityRoleOne.getId());
+		Assert.assertEquals(identityRoleOne.getId(), formInstance.getOwnerId());
+		Assert.assertEquals(1, formInstance.getValues().size());
+		Assert.assertEquals(BigDecimal.TEN.longValue(), ((BigDecimal) formInstance.toSinglePersistentValue(NUMBER_OF_FINGERS)).longValue());
+		formInstance = formInstances.get(identityRoleTwo.getId());
+		Assert.assertEquals(1, formInstance.getValues().size());
+		Assert.assertEquals(BigDecimal.ONE.longValue(), ((BigDecimal) formInstance.toSinglePersistentValue(NUMBER_OF_FINGERS)).longValue());
+	}
+	
 	@Test(expected = ResultCodeException.class)
 	public void testIntegrityDeleteAttributeDefinition() {
 
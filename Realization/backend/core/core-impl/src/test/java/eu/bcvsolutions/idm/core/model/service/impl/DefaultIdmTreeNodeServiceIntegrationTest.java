@@ -16,23 +16,27 @@ import eu.bcvsolutions.forest.index.service.api.ForestIndexService;
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.domain.RecursionType;
+import eu.bcvsolutions.idm.core.api.domain.RoleRequestState;
 import eu.bcvsolutions.idm.core.api.dto.DefaultResultModel;
 import eu.bcvsolutions.idm.core.api.dto.IdmEntityStateDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleRequestDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleTreeNodeDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmTreeNodeDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmTreeTypeDto;
 import eu.bcvsolutions.idm.core.api.dto.OperationResultDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmEntityStateFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmRoleRequestFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmTreeNodeFilter;
 import eu.bcvsolutions.idm.core.api.event.EntityEvent;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.AutomaticRoleManager;
 import eu.bcvsolutions.idm.core.api.service.EntityStateManager;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityRoleService;
+import eu.bcvsolutions.idm.core.api.service.IdmRoleRequestService;
 import eu.bcvsolutions.idm.core.api.utils.AutowireHelper;
 import eu.bcvsolutions.idm.core.exception.TreeNodeException;
 import eu.bcvsolutions.idm.core.model.entity.IdmForestIndexEntity;
@@ -63,6 +67,7 @@ public class DefaultIdmTreeNodeServiceIntegrationTest extends AbstractIntegratio
 	@Autowired private IdmTreeNodeForestContentService treeNodeForestContentService;
 	@Autowired private ForestIndexService<IdmForestIndexEntity, UUID> forestIndexService;
 	@Autowired private IdmIdentityRoleService identityRoleService;
+	@Autowired private IdmRoleRequestService roleRequestService;
 	@Autowired private LongRunningTaskManager longRunningTaskManager;
 	@Autowired private EntityStateManager entityStateManager;
 	//
@@ -724,4 +729,36 @@ public class DefaultIdmTreeNodeServiceIntegrationTest extends AbstractIntegratio
 		Assert.assertEquals(automaticRole.getId(), assignedRoles.get(0).getAutomaticRole());
 		Assert.assertEquals(0, entityStateManager.findStates(contract, null).getTotalElements());
 	}
+	
+	@Test
+	public void testRecountAutomaticRolesInParallelForTheSameIdentity() {
+		IdmTreeNodeDto node = getHelper().createTreeNode();
+		// two automatic roles for the same contract
+		IdmRoleDto roleOne = getHelper().createRole();
+		IdmRoleDto roleTwo = getHelper().createRole();
+		IdmRoleTreeNodeDto automaticRoleOne = getHelper().createRoleTreeNode(roleOne, node, RecursionType.NO, true);
+		IdmRoleTreeNodeDto automaticRoleTwo = getHelper().createRoleTreeNode(roleTwo, node, RecursionType.NO, true);
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
+		getHelper().createContract(identity, node);
+		Assert.assertTrue(identityRoleService.findAllByIdentity(identity.getId()).isEmpty());
+		//
+		ProcessAutomaticRoleByTreeTaskExecutor automaticRoleTask = AutowireHelper.createBean(ProcessAutomaticRoleByTreeTaskExecutor.class);
+		automaticRoleTask.setAutomaticRoles(Lists.newArrayList(automaticRoleOne.getId(), automaticRoleTwo.getId()));
+		automaticRoleTask.setParallelism(2);
+		LongRunningFutureTask<Boolean> executor = longRunningTaskManager.execute(automaticRoleTask);
+		//
+		IdmLongRunningTaskDto longRunningTask = longRunningTaskManager.getLongRunningTask(executor);
+		Assert.assertEquals(Long.valueOf(0), longRunningTask.getFailedItemCount());
+		// role requests for the same identity are executed one after another
+		IdmRoleRequestFilter requestFilter = new IdmRoleRequestFilter();
+		requestFilter.setApplicantId(identity.getId());
+		List<IdmRoleRequestDto> roleRequests = roleRequestService.find(requestFilter, null).getContent();
+		Assert.assertEquals(2, roleRequests.size());
+		Assert.assertTrue(roleRequests.stream().allMatch(request -> RoleRequestState.EXECUTED == request.getState()));
+		//
+		List<IdmIdentityRoleDto> assignedRoles = identityRoleService.findAllByIdentity(identity.getId());
+		Assert.assertEquals(2, assignedRoles.size());
+		Assert.assertTrue(assignedRoles.stream().anyMatch(ir -> automaticRoleOne.getId().equals(ir.getAutomaticRole())));
+		Assert.assertTrue(assignedRoles.stream().anyMatch(ir -> automaticRoleTwo.getId().equals(ir.getAutomaticRole())));
+	}
 }
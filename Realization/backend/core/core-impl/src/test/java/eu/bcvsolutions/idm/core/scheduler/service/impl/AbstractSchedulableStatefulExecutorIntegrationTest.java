@@ -4,10 +4,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -21,6 +26,7 @@ import org.springframework.transaction.support.TransactionCallback;
 
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
@@ -35,6 +41,7 @@ import eu.bcvsolutions.idm.core.scheduler.api.service.IdmLongRunningTaskService;
 import eu.bcvsolutions.idm.core.scheduler.api.service.IdmProcessedTaskItemService;
 import eu.bcvsolutions.idm.core.scheduler.api.service.IdmScheduledTaskService;
 import eu.bcvsolutions.idm.core.scheduler.api.service.LongRunningTaskManager;
+import eu.bcvsolutions.idm.core.scheduler.api.service.SchedulableStatefulExecutor;
 import eu.bcvsolutions.idm.core.scheduler.api.service.SchedulableTaskExecutor;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
@@ -140,6 +147,119 @@ public class AbstractSchedulableStatefulExecutorIntegrationTest extends Abstract
 		assertEquals(Long.valueOf(0), executor.getCounter());
 	}
 	
+	@Test
+	public void testExecuteWithKeysetPagination() throws Exception {
+		List<IdmIdentityDto> identities = createTestIdentities(5);
+		//
+		TestKeysetIdentityIntegrationExecutor executor = new TestKeysetIdentityIntegrationExecutor();
+		AutowireHelper.autowire(executor);
+		executor.identityIds = identities.stream().map(IdmIdentityDto::getId).collect(Collectors.toList());
+		IdmScheduledTaskDto scheduledTask = createIdmScheduledTask(UUID.randomUUID().toString());
+		IdmLongRunningTaskDto longRunningTask = createIdmLongRunningTask(scheduledTask, TestKeysetIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		//
+		Boolean result = executor.process();
+		Page<IdmProcessedTaskItemDto> queueItems = itemService.findQueueItems(scheduledTask, null);
+		Page<IdmProcessedTaskItemDto> logItems = itemService.findLogItems(longRunningTask, null);
+		//
+		assertTrue(result);
+		assertEquals(5, queueItems.getTotalElements());
+		assertEquals(5, logItems.getTotalElements());
+		assertEquals(Long.valueOf(5), executor.getCount());
+		assertEquals(Long.valueOf(5), executor.getCounter());
+		assertEquals(Long.valueOf(5), longRunningTaskService.get(longRunningTask.getId()).getCounter());
+		//
+		// second run - all items are in processed queue already
+		longRunningTask = createIdmLongRunningTask(scheduledTask, TestKeysetIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		//
+		result = executor.process();
+		queueItems = itemService.findQueueItems(scheduledTask, null);
+		logItems = itemService.findLogItems(longRunningTask, null);
+		//
+		assertTrue(result);
+		assertEquals(5, queueItems.getTotalElements());
+		assertEquals(0, logItems.getTotalElements());
+		assertEquals(Long.valueOf(0), executor.getCount());
+		assertEquals(Long.valueOf(0), executor.getCounter());
+	}
+	
+	@Test
+	public void testExecuteInParallel() throws Exception {
+		List<IdmIdentityDto> identities = createTestIdentities(7);
+		//
+		TestKeysetIdentityIntegrationExecutor executor = new TestKeysetIdentityIntegrationExecutor();
+		AutowireHelper.autowire(executor);
+		executor.identityIds = identities.stream().map(IdmIdentityDto::getId).collect(Collectors.toList());
+		executor.setRequireNewTransaction(true);
+		executor.setParallelism(3);
+		IdmScheduledTaskDto scheduledTask = createIdmScheduledTask(UUID.randomUUID().toString());
+		IdmLongRunningTaskDto longRunningTask = createIdmLongRunningTask(scheduledTask, TestKeysetIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		//
+		Boolean result = executor.process();
+		Page<IdmProcessedTaskItemDto> queueItems = itemService.findQueueItems(scheduledTask, null);
+		Page<IdmProcessedTaskItemDto> logItems = itemService.findLogItems(longRunningTask, null);
+		//
+		assertTrue(result);
+		assertEquals(7, queueItems.getTotalElements());
+		assertEquals(7, logItems.getTotalElements());
+		assertEquals(7, executor.processedIds.size());
+		assertTrue(executor.processedIds.containsAll(executor.identityIds));
+		assertEquals(Long.valueOf(7), executor.getCount());
+		assertEquals(Long.valueOf(7), executor.getCounter());
+		assertEquals(Long.valueOf(7), longRunningTaskService.get(longRunningTask.getId()).getCounter());
+		//
+		// second run - all items are in processed queue already
+		longRunningTask = createIdmLongRunningTask(scheduledTask, TestKeysetIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		executor.processedIds.clear();
+		//
+		result = executor.process();
+		logItems = itemService.findLogItems(longRunningTask, null);
+		//
+		assertTrue(result);
+		assertEquals(0, logItems.getTotalElements());
+		assertTrue(executor.processedIds.isEmpty());
+		assertEquals(Long.valueOf(0), executor.getCount());
+		assertEquals(Long.valueOf(0), executor.getCounter());
+	}
+	
+	@Test
+	public void testConfigureParallelismByTaskParameter() throws Exception {
+		List<IdmIdentityDto> identities = createTestIdentities(5);
+		//
+		TestKeysetIdentityIntegrationExecutor executor = new TestKeysetIdentityIntegrationExecutor();
+		AutowireHelper.autowire(executor);
+		executor.identityIds = identities.stream().map(IdmIdentityDto::getId).collect(Collectors.toList());
+		executor.setRequireNewTransaction(true);
+		Map<String, Object> properties = new HashMap<>();
+		properties.put(SchedulableStatefulExecutor.PARAMETER_PARALLELISM, "3");
+		executor.init(properties);
+		//
+		assertEquals(3, executor.getParallelism());
+		assertEquals(3, (int) Integer.valueOf(executor.getProperties().get(SchedulableStatefulExecutor.PARAMETER_PARALLELISM).toString()));
+		//
+		IdmScheduledTaskDto scheduledTask = createIdmScheduledTask(UUID.randomUUID().toString());
+		IdmLongRunningTaskDto longRunningTask = createIdmLongRunningTask(scheduledTask, TestKeysetIdentityIntegrationExecutor.class);
+		executor.setLongRunningTaskId(longRunningTask.getId());
+		//
+		Boolean result = executor.process();
+		Page<IdmProcessedTaskItemDto> logItems = itemService.findLogItems(longRunningTask, null);
+		//
+		assertTrue(result);
+		assertEquals(5, logItems.getTotalElements());
+		assertTrue(executor.processedIds.containsAll(executor.identityIds));
+		//
+		// parameter is not given => default is preserved
+		executor = new TestKeysetIdentityIntegrationExecutor();
+		AutowireHelper.autowire(executor);
+		executor.init(new HashMap<>());
+		//
+		assertEquals(1, executor.getParallelism());
+		Assert.assertFalse(executor.getProperties().containsKey(SchedulableStatefulExecutor.PARAMETER_PARALLELISM));
+	}
+	
 	@Test
 	public void testTransaction() throws Exception {
 		List<IdmIdentityDto> identities = createTestIdentities(3);
@@ -674,5 +794,44 @@ public class AbstractSchedulableStatefulExecutorIntegrationTest extends Abstract
 			}
 			return Optional.of(new OperationResult.Builder(OperationState.EXECUTED).build());
 		}	
-	}	
+	}
+	
+	private static class TestKeysetIdentityIntegrationExecutor extends AbstractSchedulableStatefulExecutor<IdmIdentityDto> {
+		
+		@Autowired private IdmIdentityService identityService;
+		//
+		private List<UUID> identityIds = null;
+		private Set<UUID> processedIds = ConcurrentHashMap.newKeySet();
+		
+		@Override
+		protected boolean supportsKeysetPagination() {
+			return true;
+		}
+		
+		@Override
+		protected int getPageSize() {
+			return 2;
+		}
+		
+		@Override
+		public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable) {
+			return getItemsToProcess(pageable, null);
+		}
+		
+		@Override
+		protected Page<IdmIdentityDto> getItemsToProcess(Pageable pageable, UUID idFrom) {
+			IdmIdentityFilter filter = new IdmIdentityFilter();
+			filter.setIds(identityIds);
+			filter.setIdFrom(idFrom);
+			//
+			return identityService.find(filter, pageable);
+		}
+
+		@Override
+		public Optional<OperationResult> processItem(IdmIdentityDto dto) {
+			Assert.assertTrue(processedIds.add(dto.getId())); // each item is processed once
+			//
+			return Optional.of(new OperationResult.Builder(OperationState.EXECUTED).build());
+		}	
+	}
 }
@@ -1,18 +1,28 @@
 package eu.bcvsolutions.idm.core.security.auth.filter;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.UUID;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.jwt.Jwt;
 import org.springframework.security.jwt.JwtHelper;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +32,7 @@ import eu.bcvsolutions.idm.core.api.service.IdmTokenService;
 import eu.bcvsolutions.idm.core.security.api.dto.IdmJwtAuthenticationDto;
 import eu.bcvsolutions.idm.core.security.api.dto.LoginDto;
 import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
+import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
 import eu.bcvsolutions.idm.core.security.service.impl.JwtAuthenticationMapper;
 import eu.bcvsolutions.idm.test.api.AbstractRestTest;
 import eu.bcvsolutions.idm.test.api.TestHelper;
@@ -38,9 +49,10 @@ public class ExtendExpirationFilterTest extends AbstractRestTest {
 	@Autowired private JwtAuthenticationMapper jwtMapper;
 	@Autowired private IdmTokenService tokenService; 
 	@Autowired private SecurityService securityService; 
+	@Autowired private TokenManager tokenManager;
 	
 	/**
-	 * Token is not prolonged in the same minute
+	 * Token is not prolonged, when remaining lifetime is above threshold
 	 * 
 	 * @throws Exception
 	 */
@@ -66,7 +78,7 @@ public class ExtendExpirationFilterTest extends AbstractRestTest {
 	}
 	
 	/**
-	 * Token is prolonged, when original expiration differs more than 60 seconds
+	 * Token is prolonged, when remaining lifetime drops below threshold
 	 * @throws Exception
 	 */
 	@Test
@@ -75,7 +87,7 @@ public class ExtendExpirationFilterTest extends AbstractRestTest {
 		securityService.logout();
 		//
 		IdmTokenDto originalToken = tokenService.get(login.getAuthentication().getId());
-		originalToken.setExpiration(originalToken.getExpiration().minusMinutes(2));
+		originalToken.setExpiration(ZonedDateTime.now().plusMinutes(2)); // remaining lifetime is below threshold
 		originalToken = tokenService.save(originalToken);
 		//
 		MvcResult result = getMockMvc().perform(get(getSelfPath(TestHelper.ADMIN_USERNAME))
@@ -96,6 +108,129 @@ public class ExtendExpirationFilterTest extends AbstractRestTest {
 				< extended.getExpiration().toInstant().toEpochMilli());
 	}
 
+	/**
+	 * Prolonged expiration is persisted periodically
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testPersistProlongedExpiration() throws Exception {
+		LoginDto login = getHelper().loginAdmin();
+		securityService.logout();
+		//
+		IdmTokenDto originalToken = tokenService.get(login.getAuthentication().getId());
+		originalToken.setExpiration(ZonedDateTime.now().plusMinutes(2)); // remaining lifetime is below threshold
+		originalToken = tokenService.save(originalToken);
+		//
+		MvcResult result = getMockMvc().perform(get(getSelfPath(TestHelper.ADMIN_USERNAME))
+				.header(JwtAuthenticationMapper.AUTHENTICATION_TOKEN_NAME, login.getToken())
+				.contentType(TestHelper.HAL_CONTENT_TYPE))
+			.andExpect(status().isOk())
+			.andReturn();
+		IdmJwtAuthenticationDto extended = getIdmJwtDto(result);
+		Assert.assertTrue(originalToken.getExpiration().isBefore(extended.getExpiration()));
+		//
+		jwtMapper.flushProlongedExpirations();
+		//
+		IdmTokenDto token = tokenService.get(originalToken.getId());
+		Assert.assertFalse(token.isDisabled());
+		Assert.assertTrue(originalToken.getExpiration().isBefore(token.getExpiration()));
+	}
+	
+	/**
+	 * Disabled token (e.g. logout) is not prolonged by registered expiration
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testDisabledTokenIsNotProlonged() throws Exception {
+		LoginDto login = getHelper().loginAdmin();
+		securityService.logout();
+		//
+		IdmTokenDto originalToken = tokenService.get(login.getAuthentication().getId());
+		originalToken.setExpiration(ZonedDateTime.now().plusMinutes(2)); // remaining lifetime is below threshold
+		originalToken = tokenService.save(originalToken);
+		//
+		getMockMvc().perform(get(getSelfPath(TestHelper.ADMIN_USERNAME))
+				.header(JwtAuthenticationMapper.AUTHENTICATION_TOKEN_NAME, login.getToken())
+				.contentType(TestHelper.HAL_CONTENT_TYPE))
+			.andExpect(status().isOk());
+		//
+		tokenManager.disableToken(originalToken.getId());
+		jwtMapper.flushProlongedExpirations();
+		//
+		IdmTokenDto token = tokenService.get(originalToken.getId());
+		Assert.assertTrue(token.isDisabled());
+		Assert.assertFalse(token.getExpiration().isAfter(ZonedDateTime.now()));
+	}
+
+	/**
+	 * Token disabled after registered expirations were loaded (e.g. logout on another node) is not prolonged
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testTokenDisabledConcurrentlyIsNotProlonged() throws Exception {
+		LoginDto login = getHelper().loginAdmin();
+		securityService.logout();
+		//
+		IdmTokenDto originalToken = tokenService.get(login.getAuthentication().getId());
+		originalToken.setExpiration(ZonedDateTime.now().plusMinutes(2)); // remaining lifetime is below threshold
+		originalToken = tokenService.save(originalToken);
+		UUID tokenId = originalToken.getId();
+		//
+		getMockMvc().perform(get(getSelfPath(TestHelper.ADMIN_USERNAME))
+				.header(JwtAuthenticationMapper.AUTHENTICATION_TOKEN_NAME, login.getToken())
+				.contentType(TestHelper.HAL_CONTENT_TYPE))
+			.andExpect(status().isOk());
+		//
+		// token is disabled between tokens are loaded and prolonged expiration is saved
+		JwtAuthenticationMapper mapperTarget = AopTestUtils.getTargetObject(jwtMapper);
+		IdmTokenService tokenServiceSpy = mock(IdmTokenService.class, delegatesTo(tokenService));
+		doAnswer(invocation -> {
+			tokenManager.disableToken(tokenId);
+			return tokenService.prolongExpiration(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+		}).when(tokenServiceSpy).prolongExpiration(eq(tokenId), any(), any());
+		ReflectionTestUtils.setField(mapperTarget, "tokenService", tokenServiceSpy);
+		try {
+			jwtMapper.flushProlongedExpirations();
+		} finally {
+			ReflectionTestUtils.setField(mapperTarget, "tokenService", tokenService);
+		}
+		//
+		verify(tokenServiceSpy).prolongExpiration(eq(tokenId), any(), any());
+		IdmTokenDto token = tokenService.get(tokenId);
+		Assert.assertTrue(token.isDisabled());
+		Assert.assertFalse(token.getExpiration().isAfter(ZonedDateTime.now()));
+	}
+
+	/**
+	 * Repeated requests with active token don't write token
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testRepeatedRequestsWithoutWrite() throws Exception {
+		LoginDto login = getHelper().loginAdmin();
+		securityService.logout();
+		IdmTokenDto originalToken = tokenService.get(login.getAuthentication().getId());
+		//
+		for (int i = 0; i < 3; i++) {
+			MvcResult result = getMockMvc().perform(get(getSelfPath(TestHelper.ADMIN_USERNAME))
+					.header(JwtAuthenticationMapper.AUTHENTICATION_TOKEN_NAME, login.getToken())
+					.contentType(TestHelper.HAL_CONTENT_TYPE))
+				.andExpect(status().isOk())
+				.andReturn();
+			Assert.assertEquals(login.getToken(), result.getResponse().getHeader(JwtAuthenticationMapper.AUTHENTICATION_TOKEN_NAME));
+		}
+		jwtMapper.flushProlongedExpirations();
+		//
+		IdmTokenDto token = tokenService.get(originalToken.getId());
+		Assert.assertEquals(originalToken.getExpiration().toInstant().toEpochMilli(), token.getExpiration().toInstant().toEpochMilli());
+		Assert.assertEquals(originalToken.getToken(), token.getToken());
+		Assert.assertEquals(originalToken.getModified(), token.getModified());
+	}
+
 	@Test
 	public void testSuccBasicAuthNoExtension() throws Exception {
 		String basicAuth = getBasicAuth(TestHelper.ADMIN_USERNAME, TestHelper.ADMIN_PASSWORD);
@@ -143,7 +278,7 @@ public class ExtendExpirationFilterTest extends AbstractRestTest {
 		String basicAuth = getBasicAuth(TestHelper.ADMIN_USERNAME, TestHelper.ADMIN_PASSWORD);
 		//
 		IdmTokenDto originalToken = tokenService.get(login.getAuthentication().getId());
-		originalToken.setExpiration(originalToken.getExpiration().minusMinutes(2));
+		originalToken.setExpiration(ZonedDateTime.now().plusMinutes(2)); // remaining lifetime is below threshold
 		originalToken = tokenService.save(originalToken);
 		//
 		MvcResult result = getMockMvc().perform(get(getSelfPath(TestHelper.ADMIN_USERNAME))
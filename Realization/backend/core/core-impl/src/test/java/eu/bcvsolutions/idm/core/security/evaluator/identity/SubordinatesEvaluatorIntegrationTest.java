@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.security.evaluator.identity;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -8,8 +9,15 @@ import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.core.api.domain.ContractState;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmTreeNodeDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
+import eu.bcvsolutions.idm.core.api.service.IdmIdentityContractService;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
 import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
@@ -26,6 +34,7 @@ import eu.bcvsolutions.idm.test.api.AbstractEvaluatorIntegrationTest;
 public class SubordinatesEvaluatorIntegrationTest extends AbstractEvaluatorIntegrationTest {
 
 	@Autowired private IdmIdentityService identityService;
+	@Autowired private IdmIdentityContractService contractService;
 	
 	@Test
 	public void testSubordinatesRead() {
@@ -119,4 +128,91 @@ public class SubordinatesEvaluatorIntegrationTest extends AbstractEvaluatorInteg
 			logout();
 		}
 	}
+	
+	@Test
+	public void testSubordinatesPermissionsForPage() {
+		IdmIdentityDto subordinateOne = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto subordinateTwo = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto other = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto manager = getHelper().createIdentity();
+		getHelper().createContractGuarantee(getHelper().getPrimeContract(subordinateOne), manager);
+		getHelper().createContractGuarantee(getHelper().getPrimeContract(subordinateTwo), manager);
+		IdmRoleDto role = getHelper().createRole();
+		getHelper().createIdentityRole(manager, role);
+		getHelper().createAuthorizationPolicy(
+				role.getId(),
+				CoreGroupPermission.IDENTITY,
+				IdmIdentity.class,
+				SubordinatesEvaluator.class,
+				IdmBasePermission.READ,
+				IdmBasePermission.UPDATE);
+		//
+		try {
+			getHelper().login(manager.getUsername(), manager.getPassword());
+			//
+			IdmIdentityFilter filter = new IdmIdentityFilter();
+			filter.setIds(Lists.newArrayList(subordinateOne.getId(), subordinateTwo.getId(), other.getId()));
+			filter.setAddPermissions(true);
+			List<IdmIdentityDto> identities = identityService.find(filter, null).getContent();
+			Assert.assertEquals(3, identities.size());
+			//
+			// permissions evaluated for the whole page are the same as evaluated for each identity
+			for (IdmIdentityDto identity : identities) {
+				Assert.assertNotNull(identity.getPermissions());
+				Assert.assertEquals(identityService.getPermissions(identity.getId()), identity.getPermissions());
+			}
+			Assert.assertEquals(2, identities.stream().filter(i -> i.getId().equals(subordinateOne.getId())).findFirst().get().getPermissions().size());
+			Assert.assertEquals(2, identities.stream().filter(i -> i.getId().equals(subordinateTwo.getId())).findFirst().get().getPermissions().size());
+			Assert.assertTrue(identities.stream().filter(i -> i.getId().equals(other.getId())).findFirst().get().getPermissions().isEmpty());
+		} finally {
+			logout();
+		}
+	}
+	
+	@Test
+	public void testSubordinatesPermissionsForPageWithInvalidContracts() {
+		IdmIdentityDto manager = getHelper().createIdentity();
+		IdmIdentityDto subordinate = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto futureSubordinate = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto excludedSubordinate = getHelper().createIdentity((GuardedString) null);
+		getHelper().createContractGuarantee(getHelper().getPrimeContract(subordinate), manager);
+		// subordinate contract is valid in future
+		IdmIdentityContractDto futureContract = getHelper().getPrimeContract(futureSubordinate);
+		futureContract.setValidFrom(LocalDate.now().plusDays(1));
+		futureContract = contractService.save(futureContract);
+		getHelper().createContractGuarantee(futureContract, manager);
+		// manager contract is excluded
+		IdmTreeNodeDto managerPosition = getHelper().createTreeNode();
+		IdmIdentityContractDto excludedContract = getHelper().createContract(manager, managerPosition);
+		excludedContract.setState(ContractState.EXCLUDED);
+		contractService.save(excludedContract);
+		getHelper().createContract(excludedSubordinate, getHelper().createTreeNode((String) null, managerPosition));
+		//
+		IdmRoleDto role = getHelper().createRole();
+		getHelper().createIdentityRole(manager, role);
+		getHelper().createAuthorizationPolicy(
+				role.getId(),
+				CoreGroupPermission.IDENTITY,
+				IdmIdentity.class,
+				SubordinatesEvaluator.class,
+				IdmBasePermission.READ,
+				IdmBasePermission.UPDATE);
+		//
+		try {
+			getHelper().login(manager.getUsername(), manager.getPassword());
+			//
+			IdmIdentityFilter filter = new IdmIdentityFilter();
+			filter.setIds(Lists.newArrayList(subordinate.getId(), futureSubordinate.getId(), excludedSubordinate.getId()));
+			filter.setAddPermissions(true);
+			List<IdmIdentityDto> identities = identityService.find(filter, null).getContent();
+			Assert.assertEquals(3, identities.size());
+			//
+			// permissions evaluated for the whole page - the same as evaluated for the single identity (valid contracts only)
+			Assert.assertEquals(2, identities.stream().filter(i -> i.getId().equals(subordinate.getId())).findFirst().get().getPermissions().size());
+			Assert.assertTrue(identities.stream().filter(i -> i.getId().equals(futureSubordinate.getId())).findFirst().get().getPermissions().isEmpty());
+			Assert.assertTrue(identities.stream().filter(i -> i.getId().equals(excludedSubordinate.getId())).findFirst().get().getPermissions().isEmpty());
+		} finally {
+			logout();
+		}
+	}
 }
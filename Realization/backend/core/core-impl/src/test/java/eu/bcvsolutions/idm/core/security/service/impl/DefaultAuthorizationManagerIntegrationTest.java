@@ -17,6 +17,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
@@ -38,8 +39,10 @@ import eu.bcvsolutions.idm.core.api.service.IdmRoleService;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
 import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
 import eu.bcvsolutions.idm.core.model.entity.IdmRole;
+import eu.bcvsolutions.idm.core.model.event.processor.policy.AuthorizationPolicyEvictCacheProcessor;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.domain.IdmBasePermission;
+import eu.bcvsolutions.idm.core.security.api.domain.PermissionCacheKey;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizationEvaluatorDto;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
@@ -305,7 +308,7 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 		Assert.assertNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
 		//
 		cacheManager.cacheValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity, new HashMap<>());
-		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity, new HashMap<>());
+		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity, UUID.randomUUID());
 		Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity));
 		Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
 		//
@@ -346,22 +349,21 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 					((IdmAuthorizationPolicyDto) cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, 
 							cachedPolicies.get(0)).get()).getEvaluatorType());
 			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
-			permissions = (Set) ((Map) cacheValue.get()).get(role.getId());
+			PermissionCacheKey permissionCacheKey = new PermissionCacheKey(identity.getId(), (UUID) cacheValue.get(), role.getClass(), role.getId());
+			permissions = (Set) cacheManager.getValue(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, permissionCacheKey).get();
 			Assert.assertEquals(2, permissions.size());
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.READ.getName())));
 			//
-			// change policy => evict whole cache
+			// change policy => evict cache for identities with assigned role only
 			policy.setPermissions(IdmBasePermission.AUTOCOMPLETE, IdmBasePermission.READ, IdmBasePermission.UPDATE);
 			authorizationPolicyService.save(policy);
 			Assert.assertNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, policy.getId()));
 			Assert.assertNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, identity.getId()));
 			Assert.assertNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()));
-			Assert.assertNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity));
-			Assert.assertNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
+			Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity));
+			Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
 			//
-			cacheManager.cacheValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity, new HashMap<>());
-			cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity, new HashMap<>());
 			permissions = manager.getPermissions(role);
 			Assert.assertEquals(3, permissions.size());
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
@@ -379,6 +381,59 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 		Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
 	}
 	
+	@Test
+	@Transactional
+	public void testEvictCacheForIdentitiesWithSubRoleOnly() {
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto otherIdentity = getHelper().createIdentity((GuardedString) null);
+		IdmRoleDto superiorRole = getHelper().createRole();
+		IdmRoleDto subRole = getHelper().createRole();
+		getHelper().createRoleComposition(superiorRole, subRole);
+		getHelper().createIdentityRole(identity, superiorRole);
+		//
+		cacheManager.cacheValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, identity.getId(), new HashMap<>());
+		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId(), UUID.randomUUID());
+		cacheManager.cacheValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, otherIdentity.getId(), new HashMap<>());
+		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, otherIdentity.getId(), UUID.randomUUID());
+		//
+		// change sub role policies => evict cache for identity with superior role only
+		getHelper().createBasePolicy(subRole.getId(), IdmBasePermission.AUTOCOMPLETE);
+		//
+		Assert.assertNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, identity.getId()));
+		Assert.assertNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()));
+		Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, otherIdentity.getId()));
+		Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, otherIdentity.getId()));
+		//
+		cacheManager.evictValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, otherIdentity.getId());
+		cacheManager.evictValue(AuthorizationManager.PERMISSION_CACHE_NAME, otherIdentity.getId());
+	}
+	
+	@Test
+	@Transactional
+	public void testEvictWholeCacheForWidelyAssignedRole() {
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto otherIdentity = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto unrelatedIdentity = getHelper().createIdentity((GuardedString) null);
+		IdmRoleDto role = getHelper().createRole();
+		getHelper().createIdentityRole(identity, role);
+		getHelper().createIdentityRole(otherIdentity, role);
+		//
+		cacheManager.cacheValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, unrelatedIdentity.getId(), new HashMap<>());
+		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, unrelatedIdentity.getId(), UUID.randomUUID());
+		//
+		AuthorizationPolicyEvictCacheProcessor processor = context.getBean(AuthorizationPolicyEvictCacheProcessor.class);
+		try {
+			ReflectionTestUtils.setField(processor, "evictCacheThreshold", 1);
+			// threshold is exceeded => whole caches are evicted
+			getHelper().createBasePolicy(role.getId(), IdmBasePermission.AUTOCOMPLETE);
+			//
+			Assert.assertNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, unrelatedIdentity.getId()));
+			Assert.assertNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, unrelatedIdentity.getId()));
+		} finally {
+			ReflectionTestUtils.setField(processor, "evictCacheThreshold", AuthorizationPolicyEvictCacheProcessor.DEFAULT_EVICT_CACHE_THRESHOLD);
+		}
+	}
+	
 	@Test
 	@Transactional
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -397,7 +452,7 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 		Assert.assertNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
 		//
 		cacheManager.cacheValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity, new HashMap<>());
-		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity, new HashMap<>());
+		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity, UUID.randomUUID());
 		Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity));
 		Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
 		//
@@ -437,7 +492,8 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 					((IdmAuthorizationPolicyDto) cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, 
 							cachedPolicies.get(0)).get()).getEvaluatorType());
 			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
-			permissions = (Set) ((Map) cacheValue.get()).get(role.getId());
+			PermissionCacheKey permissionCacheKey = new PermissionCacheKey(identity.getId(), (UUID) cacheValue.get(), role.getClass(), role.getId());
+			permissions = (Set) cacheManager.getValue(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, permissionCacheKey).get();
 			Assert.assertEquals(2, permissions.size());
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.READ.getName())));
@@ -455,6 +511,48 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 		}
 	}
 	
+	@Test
+	@Transactional
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void testCachePermissionEntries() {
+		IdmIdentityDto identity = getHelper().createIdentity();
+		IdmRoleDto role = getHelper().createRole();
+		IdmRoleDto roleTwo = getHelper().createRole();
+		getHelper().createBasePolicy(role.getId(), IdmBasePermission.AUTOCOMPLETE, IdmBasePermission.READ);
+		getHelper().createIdentityRole(identity, role);
+		//
+		try {
+			getHelper().login(identity);
+			//
+			Set<String> permissions = manager.getPermissions(role);
+			Assert.assertEquals(2, permissions.size());
+			permissions = manager.getPermissions(roleTwo);
+			Assert.assertEquals(2, permissions.size());
+			UUID version = (UUID) cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()).get();
+			Assert.assertNotNull(version);
+			// entry for each entity
+			PermissionCacheKey keyOne = new PermissionCacheKey(identity.getId(), version, role.getClass(), role.getId());
+			PermissionCacheKey keyTwo = new PermissionCacheKey(identity.getId(), version, roleTwo.getClass(), roleTwo.getId());
+			Assert.assertEquals(2, ((Set) cacheManager.getValue(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, keyOne).get()).size());
+			Assert.assertEquals(2, ((Set) cacheManager.getValue(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, keyTwo).get()).size());
+			//
+			// evict identity permissions => new version is used
+			cacheManager.evictValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
+			permissions = manager.getPermissions(role);
+			Assert.assertEquals(2, permissions.size());
+			UUID newVersion = (UUID) cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()).get();
+			Assert.assertNotEquals(version, newVersion);
+			Assert.assertNotNull(cacheManager.getValue(
+					AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, 
+					new PermissionCacheKey(identity.getId(), newVersion, role.getClass(), role.getId())));
+			Assert.assertNull(cacheManager.getValue(
+					AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, 
+					new PermissionCacheKey(identity.getId(), newVersion, roleTwo.getClass(), roleTwo.getId())));
+		} finally {
+			logout();
+		}
+	}
+	
 	@Test
 	@Transactional
 	public void testDistictPolicies() {
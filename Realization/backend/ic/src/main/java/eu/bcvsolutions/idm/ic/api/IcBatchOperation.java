@@ -0,0 +1,43 @@
+package eu.bcvsolutions.idm.ic.api;
+
+import java.io.Serializable;
+import java.util.List;
+
+import eu.bcvsolutions.idm.ic.domain.IcBatchOperationType;
+
+/**
+ * Write operation (create / update / delete) executed in batch on connector.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface IcBatchOperation extends Serializable {
+
+	/**
+	 * Operation type.
+	 * 
+	 * @return create / update / delete
+	 */
+	IcBatchOperationType getOperationType();
+	
+	/**
+	 * Type or category of connector object.
+	 * 
+	 * @return object class
+	 */
+	IcObjectClass getObjectClass();
+	
+	/**
+	 * Identification of object in resource - required for update and delete operation.
+	 * 
+	 * @return uid
+	 */
+	IcUidAttribute getUid();
+	
+	/**
+	 * Attributes for new object (create) or attributes to replace in resource object (update).
+	 * 
+	 * @return attributes
+	 */
+	List<IcAttribute> getAttributes();
+}
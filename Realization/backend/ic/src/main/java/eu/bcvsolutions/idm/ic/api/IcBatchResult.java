@@ -0,0 +1,40 @@
+package eu.bcvsolutions.idm.ic.api;
+
+/**
+ * Result of one write operation executed in batch.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface IcBatchResult {
+
+	/**
+	 * Executed operation.
+	 * 
+	 * @return operation
+	 */
+	IcBatchOperation getOperation();
+	
+	/**
+	 * Uid of created / updated object. 
+	 * 
+	 * @return uid - can be {@code null} (e.g. delete operation or connector does not return uid)
+	 */
+	IcUidAttribute getUid();
+	
+	/**
+	 * Operation failure.
+	 * 
+	 * @return exception, {@code null} if operation was executed successfully
+	 */
+	Exception getException();
+	
+	/**
+	 * Operation was executed successfully.
+	 * 
+	 * @return true - operation was executed successfully
+	 */
+	default boolean isSuccess() {
+		return getException() == null;
+	}
+}
@@ -0,0 +1,24 @@
+package eu.bcvsolutions.idm.ic.api.operation;
+
+import java.util.List;
+
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
+
+/**
+ * Connector witch implements this interface supports executing more write operations (create / update / delete) together.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public interface IcCanBatch {
+
+	/**
+	 * Execute given operations by connector. Operation failure does not stop processing other operations - 
+	 * failure is returned in result of given operation.
+	 * 
+	 * @param operations operations in execution order
+	 * @return result for each given operation (in the same order)
+	 */
+	List<IcBatchResult> batch(List<IcBatchOperation> operations);
+}
@@ -134,7 +134,8 @@ public class ConnIdIcConfigurationService implements IcConfigurationService {
 	}
 
 	private List<ConnectorInfo> getAllRemoteConnectors(IcConnectorServer server) {
-		ConnectorInfoManager remoteInfoManager = findRemoteConnectorManager(server);
+		// available connectors are loaded from the connector server
+		ConnectorInfoManager remoteInfoManager = findRemoteConnectorManager(server, true);
 		//
 		return remoteInfoManager.getConnectorInfos();
 	}
@@ -182,7 +183,17 @@ public class ConnIdIcConfigurationService implements IcConfigurationService {
 	private ConnectorInfo getRemoteConnIdConnectorInfo(IcConnectorInstance connectorInstance) {
 		Assert.notNull(connectorInstance.getConnectorKey(), "Connector key is required.");
 		Assert.notNull(connectorInstance.getConnectorServer(), "Connector server is required.");
-		ConnectorInfoManager remoteInfoManager = findRemoteConnectorManager(connectorInstance.getConnectorServer());
+		// cached remote manager is used
+		ConnectorInfo info = getRemoteConnIdConnectorInfo(connectorInstance, false);
+		if (info != null) {
+			return info;
+		}
+		// connector can be deployed on connector server in the meantime
+		return getRemoteConnIdConnectorInfo(connectorInstance, true);
+	}
+	
+	private ConnectorInfo getRemoteConnIdConnectorInfo(IcConnectorInstance connectorInstance, boolean refresh) {
+		ConnectorInfoManager remoteInfoManager = findRemoteConnectorManager(connectorInstance.getConnectorServer(), refresh);
 
 		for (ConnectorInfo info : remoteInfoManager.getConnectorInfos()) {
 			ConnectorKey connectorKey = info.getConnectorKey();
@@ -260,7 +271,14 @@ public class ConnIdIcConfigurationService implements IcConfigurationService {
 		return ConnIdIcConvertUtil.convertConnIdSchema(schema);
 	}
 
-	private ConnectorInfoManager findRemoteConnectorManager(IcConnectorServer server) {
+	/**
+	 * Remote connector manager.
+	 * 
+	 * @param server connector server
+	 * @param refresh true - flush remote cache, connectors will be reloaded from connector server
+	 * @return remote manager
+	 */
+	private ConnectorInfoManager findRemoteConnectorManager(IcConnectorServer server, boolean refresh) {
 		// get all saved remote connector servers
 		ConnectorInfoManager manager = null;
 		try {
@@ -271,9 +289,11 @@ public class ConnIdIcConfigurationService implements IcConfigurationService {
 		RemoteFrameworkConnectionInfo info = new RemoteFrameworkConnectionInfo(server.getHost(), server.getPort(),
 				new org.identityconnectors.common.security.GuardedString(pass.asString().toCharArray()),
 				server.isUseSsl(), null, server.getTimeout());
-			// flush remote cache
 			ConnectorInfoManagerFactory instance = ConnectorInfoManagerFactory.getInstance();
-			instance.clearRemoteCache();
+			if (refresh) {
+				// flush remote cache
+				instance.clearRemoteCache();
+			}
 			manager = instance.getRemoteManager(info);
 		} catch (InvalidCredentialException e) {
 			throw new IcInvalidCredentialException(server.getHost(), server.getPort(), e);
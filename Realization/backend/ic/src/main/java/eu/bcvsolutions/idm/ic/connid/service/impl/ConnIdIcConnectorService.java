@@ -1,9 +1,21 @@
 package eu.bcvsolutions.idm.ic.connid.service.impl;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
 
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.common.exceptions.InvalidCredentialException;
@@ -20,12 +32,17 @@ import org.identityconnectors.framework.common.objects.Uid;
 import org.identityconnectors.framework.common.objects.filter.Filter;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
+import eu.bcvsolutions.idm.core.config.DelegatingTransactionContextRunnable;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
 import eu.bcvsolutions.idm.ic.api.IcConnector;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
@@ -39,6 +56,7 @@ import eu.bcvsolutions.idm.ic.domain.IcResultCode;
 import eu.bcvsolutions.idm.ic.exception.IcException;
 import eu.bcvsolutions.idm.ic.filter.api.IcFilter;
 import eu.bcvsolutions.idm.ic.filter.api.IcResultsHandler;
+import eu.bcvsolutions.idm.ic.impl.IcBatchResultImpl;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacade;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorService;
@@ -48,7 +66,13 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(ConnIdIcConnectorService.class);
 
+	private static final int SEARCH_QUEUE_CAPACITY = 1000; // read objects waiting for processing
+	private static final long SEARCH_QUEUE_TIMEOUT = 100; // ms
+	private static final long SEARCH_READER_TIMEOUT = 60; // s - reader has to finish after search is stopped
+	private static final Object END_OF_SEARCH = new Object();
+	//
 	private final IcConnectorFacadeFactory facadeFactory;
+	private final ThreadPoolTaskExecutor searchExecutor;
 
 	@Autowired
 	public ConnIdIcConnectorService(IcConnectorFacade icConnectorAggregator,
@@ -62,6 +86,32 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		}
 		icConnectorAggregator.getIcConnectors().put(IMPLEMENTATION_TYPE, this);
 		this.facadeFactory = facadeFactory;
+		this.searchExecutor = createSearchExecutor();
+	}
+	
+	/**
+	 * Executor for search readers. Common task executor is not reused - search is called from long running tasks
+	 * (e.g. synchronization) executed in the common pool, reader queued in the same (full) pool would never start.
+	 * Threads are reused, pool grows with count of concurrently running searches.
+	 * 
+	 * @return executor
+	 */
+	private ThreadPoolTaskExecutor createSearchExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(0);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("connid-search-reader-");
+		executor.setDaemon(true);
+		// Beware, you have to wrap every new Thread to this delegate objects (wrappers) - see AsyncConfig.
+		executor.setTaskDecorator(runnable -> new DelegatingSecurityContextRunnable(new DelegatingTransactionContextRunnable(runnable)));
+		executor.initialize();
+		//
+		return executor;
+	}
+	
+	@PreDestroy
+	public void destroy() {
+		searchExecutor.shutdown();
 	}
 
 	final private static String IMPLEMENTATION_TYPE = "connId";
@@ -81,18 +131,22 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Create object - ConnId ({} {})", connectorInstance.getConnectorKey().toString(), attributes.toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-		Set<Attribute> connIdAttributes = new HashSet<>(attributes.size());
-		for (IcAttribute icAttribute : attributes) {
-			connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
-		}
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			Set<Attribute> connIdAttributes = new HashSet<>(attributes.size());
+			for (IcAttribute icAttribute : attributes) {
+				connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
+			}
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		Uid uid = conn.create(objectClassConnId, connIdAttributes, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Created object - ConnId ({} {}) Uid= {}", connectorInstance.getConnectorKey().toString(), attributes.toString(), uid);
-		return ConnIdIcConvertUtil.convertConnIdUid(uid);
+			Uid uid = conn.create(objectClassConnId, connIdAttributes, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Created object - ConnId ({} {}) Uid= {}", connectorInstance.getConnectorKey().toString(), attributes.toString(), uid);
+			return ConnIdIcConvertUtil.convertConnIdUid(uid);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
 	}
 
 	@Override
@@ -107,19 +161,23 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Update object - ConnId (Uid= {} {} {})", uid, connectorInstance.getConnectorKey().toString(), replaceAttributes.toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-		Set<Attribute> connIdAttributes = new HashSet<>(replaceAttributes.size());
-		for (IcAttribute icAttribute : replaceAttributes) {
-			connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
-		}
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			Set<Attribute> connIdAttributes = new HashSet<>(replaceAttributes.size());
+			for (IcAttribute icAttribute : replaceAttributes) {
+				connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
+			}
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		Uid updatedUid = conn.update(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), connIdAttributes,
-				new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Updated object - ConnId ({} {}) Uid= {})", connectorInstance.getConnectorKey().toString(), replaceAttributes.toString(), updatedUid);
-		return ConnIdIcConvertUtil.convertConnIdUid(updatedUid);
+			Uid updatedUid = conn.update(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), connIdAttributes,
+					new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Updated object - ConnId ({} {}) Uid= {})", connectorInstance.getConnectorKey().toString(), replaceAttributes.toString(), updatedUid);
+			return ConnIdIcConvertUtil.convertConnIdUid(updatedUid);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
 	}
 
 	@Override
@@ -132,14 +190,17 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Delete object - ConnId (Uid= {} {})", uid, connectorInstance.getConnectorKey().toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
+			conn.delete(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Deleted object - ConnId ({}) Uid= {}", connectorInstance.getConnectorKey().toString(), uid);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
 		}
-
-		conn.delete(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Deleted object - ConnId ({}) Uid= {}", connectorInstance.getConnectorKey().toString(), uid);
 	}
 
 	@Override
@@ -152,16 +213,19 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Read object - ConnId (Uid= {} {})", uid, connectorInstance.getConnectorKey().toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
+			ConnectorObject connObject = conn.getObject(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid),
+					new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Readed object - ConnId ({}) Uid= {}", connObject, uid);
+			return ConnIdIcConvertUtil.convertConnIdConnectorObject(connObject);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
 		}
-
-		ConnectorObject connObject = conn.getObject(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid),
-				new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Readed object - ConnId ({}) Uid= {}", connObject, uid);
-		return ConnIdIcConvertUtil.convertConnIdConnectorObject(connObject);
 	}
 
 	@Override
@@ -174,21 +238,23 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Authenticate object - ConnId (username= {} {})", username, connectorInstance.getConnectorKey().toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
 		try {
-			IcUidAttribute uid = ConnIdIcConvertUtil.convertConnIdUid(conn.authenticate(objectClassConnId, username,
-					new org.identityconnectors.common.security.GuardedString(password.asString().toCharArray()),
-					new OperationOptions(connectorConfiguration.getSystemOperationOptions())));
-			LOG.debug("Authenticated object - ConnId (Uid= {})", uid);
-			return uid;
-		} catch (InvalidCredentialException ex) {
-			throw new ResultCodeException(IcResultCode.AUTH_FAILED, ex);
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
+			try {
+				IcUidAttribute uid = ConnIdIcConvertUtil.convertConnIdUid(conn.authenticate(objectClassConnId, username,
+						new org.identityconnectors.common.security.GuardedString(password.asString().toCharArray()),
+						new OperationOptions(connectorConfiguration.getSystemOperationOptions())));
+				LOG.debug("Authenticated object - ConnId (Uid= {})", uid);
+				return uid;
+			} catch (InvalidCredentialException ex) {
+				throw new ResultCodeException(IcResultCode.AUTH_FAILED, ex);
+			}
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
 		}
-
 	}
 
 	@Override
@@ -202,25 +268,27 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Start synchronization for connector {} and objectClass {} - ConnId", connectorInstance.getConnectorKey().toString(), objectClass.getDisplayName());
 		
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 		
-		SyncToken syncToken = ConnIdIcConvertUtil.convertIcSyncToken(token);
+			SyncToken syncToken = ConnIdIcConvertUtil.convertIcSyncToken(token);
 		
-		SyncResultsHandler handlerConnId = new SyncResultsHandler() {
+			SyncResultsHandler handlerConnId = new SyncResultsHandler() {
 			
-			@Override
-			public boolean handle(SyncDelta delta) {
-				return handler.handle(ConnIdIcConvertUtil.convertConnIdSyncDelta(delta));
-			}
-		};
+				@Override
+				public boolean handle(SyncDelta delta) {
+					return handler.handle(ConnIdIcConvertUtil.convertConnIdSyncDelta(delta));
+				}
+			};
 		
-		SyncToken resultToken =  conn.sync(objectClassConnId, syncToken, handlerConnId, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		return ConnIdIcConvertUtil.convertConnIdSyncToken(resultToken);
-
+			SyncToken resultToken =  conn.sync(objectClassConnId, syncToken, handlerConnId, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			return ConnIdIcConvertUtil.convertConnIdSyncToken(resultToken);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
 	}
 
 	@Override
@@ -234,18 +302,40 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		
 		LOG.debug("Start search for connector {} and objectClass {} and filter {} - ConnId", connectorInstance.getConnectorKey().toString(), objectClass.getDisplayName(), filter);
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 		
+			Filter filterConnId = ConnIdIcConvertUtil.convertIcFilter(filter);
+	    	
+			this.streamSearch(conn, objectClassConnId, filterConnId, handler, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
+	}
+	
+	/**
+	 * Connector objects are read (all pages) in reader thread and handed over to the calling thread through bounded queue =>
+	 * conversion and processing of read objects (e.g. synchronization) overlaps with reading next objects (and pages) from the connector.
+	 * Given handler is called in the calling thread (transaction and security context of the caller is preserved).
+	 * 
+	 * @param conn connector
+	 * @param objectClass object class
+	 * @param filter search filter
+	 * @param handler handler is called for every found object
+	 * @param options operation options (paging)
+	 */
+	private void streamSearch(ConnectorFacade conn, ObjectClass objectClass, Filter filter, IcResultsHandler handler, OperationOptions options) {
+		BlockingQueue<Object> queue = new ArrayBlockingQueue<>(SEARCH_QUEUE_CAPACITY);
+		AtomicBoolean stopped = new AtomicBoolean(false);
+		//
 		final SearchResultsHandler handlerConnId = new SearchResultsHandler() {
 			
 			@Override
 			public boolean handle(ConnectorObject connectorObject) {
-				
-				return handler.handle(ConnIdIcConvertUtil.convertConnIdConnectorObject(connectorObject));
+				return handOver(queue, connectorObject, stopped);
 			}
 
 			@Override
@@ -254,25 +344,159 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 				LOG.debug("SearchResul was returned (pagination): cookie: {}  --- remaining paged results: {}", result.getPagedResultsCookie(), result.getRemainingPagedResults());
 			}
 		};
-		Filter filterConnId = ConnIdIcConvertUtil.convertIcFilter(filter);
-	    	
-		this.pageSearch(conn, objectClassConnId, filterConnId, handlerConnId, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+		Future<?> reader = searchExecutor.submit(() -> {
+			try {
+				this.pageSearch(conn, objectClass, filter, handlerConnId, options, stopped);
+			} finally {
+				handOver(queue, END_OF_SEARCH, stopped);
+			}
+		});
+		//
+		Throwable failure = null;
+		try {
+			while (true) {
+				Object item = queue.take();
+				if (item == END_OF_SEARCH) {
+					break;
+				}
+				if (!handler.handle(ConnIdIcConvertUtil.convertConnIdConnectorObject((ConnectorObject) item))) {
+					LOG.debug("Search was stopped by handler.");
+					break;
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IcException("Search was interrupted.", ex);
+		} finally {
+			// stop reader and release reader blocked by full queue
+			stopped.set(true);
+			queue.clear();
+			// connector facade is shared - reader cannot continue, when search ends
+			failure = joinReader(reader);
+		}
+		//
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		if (failure != null) {
+			throw new IcException(failure);
+		}
 	}
 	
+	/**
+	 * Wait for stopped reader.
+	 * 
+	 * @param reader reader
+	 * @return reader failure or {@code null}
+	 */
+	private Throwable joinReader(Future<?> reader) {
+		try {
+			reader.get(SEARCH_READER_TIMEOUT, TimeUnit.SECONDS);
+		} catch (ExecutionException ex) {
+			return ex.getCause();
+		} catch (TimeoutException ex) {
+			LOG.warn("Search reader was not finished in [{}]s after search was stopped, reader will be interrupted.", SEARCH_READER_TIMEOUT);
+			reader.cancel(true);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			reader.cancel(true);
+		}
+		return null;
+	}
+	
+	/**
+	 * Hand over connector object to consumer. Waits, when queue is full.
+	 * 
+	 * @return false - consumer stopped the search
+	 */
+	private boolean handOver(BlockingQueue<Object> queue, Object item, AtomicBoolean stopped) {
+		try {
+			while (!stopped.get()) {
+				if (queue.offer(item, SEARCH_QUEUE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+	
+	/**
+	 * Search all pages iteratively (one page after another, linked by paged results cookie).
+	 */
 	private void pageSearch(ConnectorFacade conn, ObjectClass objectClass, Filter filter,
-            ResultsHandler handler, OperationOptions options){
-		SearchResult searchResutl = conn.search(objectClass, filter, handler, options);
-		// For all my tests was search result Null.
-		if(searchResutl != null){
-			LOG.debug("SearchResul was returned (pagination): cookie: {}  --- offset: {}", options.getPagedResultsCookie(), options.getPagedResultsOffset());
-			String cookie = searchResutl.getPagedResultsCookie();
-			int remainingResult = searchResutl.getRemainingPagedResults();
-			if(remainingResult > 0 && cookie != null){
-				options.getOptions().put(OperationOptions.OP_PAGED_RESULTS_COOKIE, cookie);
-				options.getOptions().put(OperationOptions.OP_PAGED_RESULTS_OFFSET, options.getPagedResultsOffset()+1);
-				this.pageSearch(conn, objectClass, filter, handler, options);
+            ResultsHandler handler, OperationOptions options, AtomicBoolean stopped) {
+		OperationOptions pageOptions = options;
+		while (!stopped.get()) {
+			SearchResult searchResult = conn.search(objectClass, filter, handler, pageOptions);
+			// For all my tests was search result Null.
+			if (searchResult == null) {
+				return;
+			}
+			LOG.debug("SearchResul was returned (pagination): cookie: {}  --- offset: {}", pageOptions.getPagedResultsCookie(), pageOptions.getPagedResultsOffset());
+			String cookie = searchResult.getPagedResultsCookie();
+			int remainingResult = searchResult.getRemainingPagedResults();
+			if (remainingResult <= 0 || cookie == null) {
+				return;
+			}
+			Map<String, Object> nextPageOptions = new HashMap<>(pageOptions.getOptions());
+			nextPageOptions.put(OperationOptions.OP_PAGED_RESULTS_COOKIE, cookie);
+			Integer offset = pageOptions.getPagedResultsOffset();
+			if (offset != null) {
+				nextPageOptions.put(OperationOptions.OP_PAGED_RESULTS_OFFSET, offset + 1);
+			}
+			pageOptions = new OperationOptions(nextPageOptions);
+		}
+	}
+
+	/**
+	 * ConnId framework doesn't support batch operations - operations are executed one by one 
+	 * (connector facade is reused from cache).
+	 */
+	@Override
+	public List<IcBatchResult> executeBatch(IcConnectorInstance connectorInstance,
+			IcConnectorConfiguration connectorConfiguration, List<IcBatchOperation> operations) {
+		Assert.notNull(connectorInstance, "Connector instance is required.");
+		Assert.notNull(connectorInstance.getConnectorKey(), "Connector key is required.");
+		Assert.notNull(connectorConfiguration, "Configuration is required.");
+		Assert.notNull(operations, "Operations are required.");
+		
+		String key = connectorInstance.getConnectorKey().toString();
+		LOG.debug("Execute batch with [{}] operations - ConnId ({})", operations.size(), key);
+		
+		List<IcBatchResult> results = new ArrayList<>(operations.size());
+		for (IcBatchOperation operation : operations) {
+			try {
+				IcUidAttribute uid = null;
+				switch (operation.getOperationType()) {
+					case CREATE: {
+						uid = createObject(connectorInstance, connectorConfiguration, operation.getObjectClass(), operation.getAttributes());
+						break;
+					}
+					case UPDATE: {
+						uid = updateObject(connectorInstance, connectorConfiguration, operation.getObjectClass(), operation.getUid(), operation.getAttributes());
+						break;
+					}
+					case DELETE: {
+						deleteObject(connectorInstance, connectorConfiguration, operation.getObjectClass(), operation.getUid());
+						break;
+					}
+					default: {
+						throw new IcException(MessageFormat.format("Batch operation type [{0}] is not supported!", operation.getOperationType()));
+					}
+				}
+				results.add(new IcBatchResultImpl(operation, uid));
+			} catch (Exception ex) {
+				LOG.debug("Batch operation [{}] failed - ConnId ({})", operation, key, ex);
+				results.add(new IcBatchResultImpl(operation, ex));
 			}
 		}
+		LOG.debug("Executed batch with [{}] operations - ConnId ({})", operations.size(), key);
+		return results;
 	}
 
 	@Override
@@ -1,41 +1,162 @@
 package eu.bcvsolutions.idm.ic.connid.service.impl;
 
+import java.lang.reflect.Array;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import org.identityconnectors.framework.api.APIConfiguration;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.identityconnectors.framework.api.ConnectorInfo;
+import org.identityconnectors.framework.impl.api.local.LocalConnectorFacadeImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.ic.api.IcConfigurationProperty;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
+import eu.bcvsolutions.idm.ic.api.IcConnectorServer;
+import eu.bcvsolutions.idm.ic.api.IcObjectPoolConfiguration;
 import eu.bcvsolutions.idm.ic.connid.domain.ConnIdIcConvertUtil;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
 
 /**
  * Basic factory to provide {@link ConnectorFacade} instances.
+ * Validated facades are cached by connector key and configuration fingerprint. Cache is local and bounded
+ * (size and idle time) - evicted facades (e.g. facades for previous configuration) are disposed, 
+ * when they are not used (released) by all callers.
  *
  * @author Peter Štrunc <peter.strunc@bcvsolutions.eu>
+ * @author Radek Tomiška
  */
 @Service
 public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory {
 
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultIcConnectorFacadeFactory.class);
+	public static final long DEFAULT_CACHE_SIZE = 200; // ~ count of configured systems
+	public static final Duration DEFAULT_CACHE_IDLE_TIME = Duration.ofHours(1);
+	//
 	@Autowired
 	private ConnIdIcConfigurationService configurationServiceConnId;
+	//
+	private final Cache<String, CachedConnectorFacade> facades;
+	private final Map<ConnectorFacade, CachedConnectorFacade> usedFacades = new ConcurrentHashMap<>(); // cached or used facades
+	
+	public DefaultIcConnectorFacadeFactory() {
+		this(DEFAULT_CACHE_SIZE, DEFAULT_CACHE_IDLE_TIME);
+	}
+	
+	/**
+	 * Factory with configured facade cache.
+	 * 
+	 * @param cacheSize maximum count of cached facades
+	 * @param cacheIdleTime facade not used for given time is evicted (e.g. facade for previous configuration)
+	 */
+	public DefaultIcConnectorFacadeFactory(long cacheSize, Duration cacheIdleTime) {
+		Assert.notNull(cacheIdleTime, "Cache idle time is required.");
+		//
+		this.facades = CacheBuilder
+				.newBuilder()
+				.maximumSize(cacheSize)
+				.expireAfterAccess(cacheIdleTime.toMillis(), TimeUnit.MILLISECONDS)
+				.removalListener((RemovalNotification<String, CachedConnectorFacade> notification) -> {
+					LOG.debug("Connector facade [{}] was evicted from cache [{}].", notification.getKey(), notification.getCause());
+					//
+					CachedConnectorFacade cachedFacade = notification.getValue();
+					if (cachedFacade.evict()) {
+						dispose(cachedFacade);
+					} else {
+						LOG.debug("Connector facade [{}] is used, facade will be disposed after is released.", notification.getKey());
+					}
+				})
+				.build();
+	}
 
 	/**
 	 * Basic factory method to obtain {@link ConnectorFacade} instance based on given configuration. It uses
-	 * {@link ConnectorFacadeFactory} internally.
+	 * {@link ConnectorFacadeFactory} internally. Facade is validated once for each configuration - cached facade
+	 * is used, till configuration is not changed. Returned facade has to be released by {@link #releaseConnectorFacade(ConnectorFacade)}.
 	 *
 	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
 	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
-	 * @return New instance of {@link ConnectorFacade} created based on given arguments
+	 * @return Instance of {@link ConnectorFacade} created based on given arguments
 	 */
 	@Override
 	public ConnectorFacade getConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
 		Assert.notNull(connectorInstance.getConnectorKey(), "Connector key is required.");
 		Assert.notNull(connectorConfiguration, "Configuration is required.");
+		//
+		String cacheKey = getCacheKey(connectorInstance, connectorConfiguration);
+		try {
+			while (true) {
+				CachedConnectorFacade cachedFacade = facades.get(cacheKey, () -> {
+					LOG.debug("Validated connector facade for connector [{}] will be cached.", connectorInstance.getConnectorKey().getFullName());
+					//
+					CachedConnectorFacade createdFacade = new CachedConnectorFacade(
+							createConnectorFacade(connectorInstance, connectorConfiguration));
+					usedFacades.put(createdFacade.getFacade(), createdFacade);
+					//
+					return createdFacade;
+				});
+				if (cachedFacade.acquire()) {
+					return cachedFacade.getFacade();
+				}
+				// facade was evicted concurrently => new facade will be created
+			}
+		} catch (UncheckedExecutionException ex) {
+			// original exception (e.g. invalid configuration)
+			throw (RuntimeException) ex.getCause();
+		} catch (ExecutionException ex) {
+			throw new CoreException(ex.getCause());
+		}
+	}
+	
+	/**
+	 * Evicted facade is disposed, when is released by the last caller.
+	 * 
+	 * @param facade used facade
+	 */
+	@Override
+	public void releaseConnectorFacade(ConnectorFacade facade) {
+		if (facade == null) {
+			return;
+		}
+		CachedConnectorFacade cachedFacade = usedFacades.get(facade);
+		if (cachedFacade == null) {
+			// facade is not cached (or already disposed)
+			return;
+		}
+		if (cachedFacade.release()) {
+			LOG.debug("Evicted connector facade was released, facade will be disposed.");
+			//
+			dispose(cachedFacade);
+		}
+	}
+	
+	/**
+	 * Create and validate new connector facade.
+	 * 
+	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
+	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
+	 * @return new validated facade
+	 */
+	protected ConnectorFacade createConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
 		ConnectorInfo connIdInfo = configurationServiceConnId.getConnIdConnectorInfo(connectorInstance);
 		Assert.notNull(connIdInfo, "ConnId connector info not found!");
 		APIConfiguration config = connIdInfo.createDefaultAPIConfiguration();
@@ -46,7 +167,151 @@ public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory
 		ConnectorFacade conn = ConnectorFacadeFactory.getManagedInstance().newInstance(config);
 		// Make sure we have set up the Configuration properly
 		conn.validate();
+		//
 		return conn;
 	}
+	
+	private void dispose(CachedConnectorFacade cachedFacade) {
+		usedFacades.remove(cachedFacade.getFacade());
+		dispose(cachedFacade.getFacade());
+	}
+	
+	/**
+	 * Dispose evicted and released facade - pooled connectors are disposed (remote facade holds no local resources).
+	 * 
+	 * @param facade evicted facade
+	 */
+	protected void dispose(ConnectorFacade facade) {
+		if (!(facade instanceof LocalConnectorFacadeImpl)) {
+			return;
+		}
+		try {
+			((LocalConnectorFacadeImpl) facade).dispose();
+		} catch (Exception ex) {
+			LOG.warn("Evicted connector facade cannot be disposed.", ex);
+		}
+	}
+
+	/**
+	 * Cache key - connector key with configuration fingerprint. Configuration is hashed => confidential values
+	 * are not stored in cache key. Content of confidential values (guarded strings) and arrays is hashed 
+	 * (without conversion to string).
+	 *
+	 * @param connectorInstance connector
+	 * @param connectorConfiguration configuration
+	 * @return cache key
+	 */
+	protected String getCacheKey(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
+		Hasher hasher = Hashing.sha256().newHasher();
+		if (connectorInstance.isRemote()) {
+			IcConnectorServer server = connectorInstance.getConnectorServer();
+			Assert.notNull(server, "Connector server is required.");
+			//
+			putValue(hasher, server.getHost());
+			putValue(hasher, server.getPort());
+			putValue(hasher, server.getPassword());
+			putValue(hasher, server.isUseSsl());
+			putValue(hasher, server.getTimeout());
+		}
+		if (connectorConfiguration.getConfigurationProperties() != null) {
+			for (IcConfigurationProperty property : connectorConfiguration.getConfigurationProperties().getProperties()) {
+				putValue(hasher, property.getName());
+				putValue(hasher, property.getValue());
+			}
+		}
+		putValue(hasher, connectorConfiguration.isConnectorPoolingSupported());
+		IcObjectPoolConfiguration poolConfiguration = connectorConfiguration.getConnectorPoolConfiguration();
+		if (poolConfiguration != null) {
+			putValue(hasher, poolConfiguration.getMaxObjects());
+			putValue(hasher, poolConfiguration.getMaxIdle());
+			putValue(hasher, poolConfiguration.getMaxWait());
+			putValue(hasher, poolConfiguration.getMinEvictableIdleTimeMillis());
+			putValue(hasher, poolConfiguration.getMinIdle());
+		}
+		putValue(hasher, connectorConfiguration.getProducerBufferSize());
+		Map<String, Object> operationOptions = connectorConfiguration.getSystemOperationOptions();
+		if (operationOptions != null) {
+			new TreeMap<>(operationOptions).forEach((name, value) -> {
+				putValue(hasher, name);
+				putValue(hasher, value);
+			});
+		}
+		//
+		return String.format("%s:%s", connectorInstance.getConnectorKey().getFullName(), hasher.hash().toString());
+	}
 
+	private void putValue(Hasher hasher, Object value) {
+		if (value == null) {
+			// value separator only
+			hasher.putChar('\u0000');
+			return;
+		}
+		// the same string representation of different types is not the same configuration
+		hasher.putString(value.getClass().getName(), StandardCharsets.UTF_8).putChar('\u0001');
+		if (value instanceof GuardedString) {
+			hasher.putBytes(((GuardedString) value).asBytes());
+		} else if (value instanceof org.identityconnectors.common.security.GuardedString) {
+			// secret is decrypted for hashing only - clear characters are erased by ConnId after access
+			((org.identityconnectors.common.security.GuardedString) value).access(chars -> {
+				hasher.putString(CharBuffer.wrap(chars), StandardCharsets.UTF_8);
+			});
+		} else if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			hasher.putInt(length);
+			for (int index = 0; index < length; index++) {
+				putValue(hasher, Array.get(value, index));
+			}
+		} else {
+			hasher.putString(String.valueOf(value), StandardCharsets.UTF_8);
+		}
+		// value separator
+		hasher.putChar('\u0000');
+	}
+	
+	/**
+	 * Cached facade with usage counter - evicted facade is disposed, when is not used.
+	 */
+	private static class CachedConnectorFacade {
+		
+		private final ConnectorFacade facade;
+		private int usages = 0;
+		private boolean evicted = false;
+		
+		CachedConnectorFacade(ConnectorFacade facade) {
+			this.facade = facade;
+		}
+		
+		ConnectorFacade getFacade() {
+			return facade;
+		}
+		
+		/**
+		 * @return false - facade was evicted, cannot be used
+		 */
+		synchronized boolean acquire() {
+			if (evicted) {
+				return false;
+			}
+			usages++;
+			return true;
+		}
+		
+		/**
+		 * @return true - evicted facade is not used anymore => can be disposed
+		 */
+		synchronized boolean release() {
+			if (usages > 0) {
+				usages--;
+			}
+			return evicted && usages == 0;
+		}
+		
+		/**
+		 * @return true - evicted facade is not used => can be disposed
+		 */
+		synchronized boolean evict() {
+			evicted = true;
+			return usages == 0;
+		}
+	}
 }
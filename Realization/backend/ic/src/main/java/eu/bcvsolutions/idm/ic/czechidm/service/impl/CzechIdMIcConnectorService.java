@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.ic.czechidm.service.impl;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -12,6 +13,8 @@ import org.springframework.util.Assert;
 
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
 import eu.bcvsolutions.idm.ic.api.IcConnector;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
@@ -21,6 +24,7 @@ import eu.bcvsolutions.idm.ic.api.IcObjectClassInfo;
 import eu.bcvsolutions.idm.ic.api.IcSyncResultsHandler;
 import eu.bcvsolutions.idm.ic.api.IcSyncToken;
 import eu.bcvsolutions.idm.ic.api.IcUidAttribute;
+import eu.bcvsolutions.idm.ic.api.operation.IcCanBatch;
 import eu.bcvsolutions.idm.ic.api.operation.IcCanCreate;
 import eu.bcvsolutions.idm.ic.api.operation.IcCanDelete;
 import eu.bcvsolutions.idm.ic.api.operation.IcCanRead;
@@ -29,6 +33,7 @@ import eu.bcvsolutions.idm.ic.api.operation.IcCanUpdate;
 import eu.bcvsolutions.idm.ic.exception.IcException;
 import eu.bcvsolutions.idm.ic.filter.api.IcFilter;
 import eu.bcvsolutions.idm.ic.filter.api.IcResultsHandler;
+import eu.bcvsolutions.idm.ic.impl.IcBatchResultImpl;
 import eu.bcvsolutions.idm.ic.impl.IcObjectClassImpl;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacade;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorService;
@@ -226,6 +231,74 @@ public class CzechIdMIcConnectorService implements IcConnectorService {
 
 	}
 
+	/**
+	 * Connector is instantiated once for all given operations. Operations are executed natively, 
+	 * when connector supports batch operations ({@link IcCanBatch}), or one by one otherwise.
+	 */
+	@Override
+	public List<IcBatchResult> executeBatch(IcConnectorInstance connectorInstance,
+			IcConnectorConfiguration connectorConfiguration, List<IcBatchOperation> operations) {
+		Assert.notNull(connectorInstance, "Connector instance is required.");
+		Assert.notNull(connectorInstance.getConnectorKey(), "Connector key is required.");
+		Assert.notNull(connectorConfiguration, "Configuration is required.");
+		Assert.notNull(operations, "Operations are required.");
+		
+		String key = connectorInstance.getConnectorKey().toString();
+		LOG.debug("Execute batch with [{}] operations - CzechIdM ({})", operations.size(), key);
+		
+		IcConnector connector = this.getConnectorInstance(connectorInstance, connectorConfiguration);
+		if (connector instanceof IcCanBatch) {
+			return ((IcCanBatch) connector).batch(operations);
+		}
+		
+		List<IcBatchResult> results = new ArrayList<>(operations.size());
+		for (IcBatchOperation operation : operations) {
+			try {
+				IcObjectClass objectClass = operation.getObjectClass();
+				if (objectClass == null) {
+					objectClass = new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT);
+				}
+				IcUidAttribute uid = null;
+				switch (operation.getOperationType()) {
+					case CREATE: {
+						if (!(connector instanceof IcCanCreate)) {
+							throw new IcException(MessageFormat.format("Connector [{0}] not supports create operation!", key));
+						}
+						Assert.notNull(operation.getAttributes(), "Attributes are required.");
+						uid = ((IcCanCreate) connector).create(objectClass, operation.getAttributes());
+						break;
+					}
+					case UPDATE: {
+						if (!(connector instanceof IcCanUpdate)) {
+							throw new IcException(MessageFormat.format("Connector [{0}] not supports update operation!", key));
+						}
+						Assert.notNull(operation.getUid(), "Uid is required.");
+						Assert.notNull(operation.getAttributes(), "Replace attributes are required.");
+						uid = ((IcCanUpdate) connector).update(operation.getUid(), objectClass, operation.getAttributes());
+						break;
+					}
+					case DELETE: {
+						if (!(connector instanceof IcCanDelete)) {
+							throw new IcException(MessageFormat.format("Connector [{0}] not supports delete operation!", key));
+						}
+						Assert.notNull(operation.getUid(), "Uid is required.");
+						((IcCanDelete) connector).delete(operation.getUid(), objectClass);
+						break;
+					}
+					default: {
+						throw new IcException(MessageFormat.format("Batch operation type [{0}] is not supported!", operation.getOperationType()));
+					}
+				}
+				results.add(new IcBatchResultImpl(operation, uid));
+			} catch (Exception ex) {
+				LOG.debug("Batch operation [{}] failed - CzechIdM ({})", operation, key, ex);
+				results.add(new IcBatchResultImpl(operation, ex));
+			}
+		}
+		LOG.debug("Executed batch with [{}] operations - CzechIdM ({})", operations.size(), key);
+		return results;
+	}
+
 	@Override
 	public IcConnector getConnectorInstance(IcConnectorInstance connectorInstance,
 			IcConnectorConfiguration connectorConfiguration) {
@@ -0,0 +1,14 @@
+package eu.bcvsolutions.idm.ic.domain;
+
+/**
+ * Type of write operation in batch.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public enum IcBatchOperationType {
+
+	CREATE,
+	UPDATE,
+	DELETE;
+}
@@ -0,0 +1,92 @@
+package eu.bcvsolutions.idm.ic.impl;
+
+import java.util.List;
+
+import eu.bcvsolutions.idm.ic.api.IcAttribute;
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcObjectClass;
+import eu.bcvsolutions.idm.ic.api.IcUidAttribute;
+import eu.bcvsolutions.idm.ic.domain.IcBatchOperationType;
+
+/**
+ * Write operation (create / update / delete) executed in batch on connector.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class IcBatchOperationImpl implements IcBatchOperation {
+
+	private static final long serialVersionUID = 1L;
+	//
+	private final IcBatchOperationType operationType;
+	private final IcObjectClass objectClass;
+	private final IcUidAttribute uid;
+	private final List<IcAttribute> attributes;
+
+	public IcBatchOperationImpl(IcBatchOperationType operationType, IcObjectClass objectClass, IcUidAttribute uid,
+			List<IcAttribute> attributes) {
+		this.operationType = operationType;
+		this.objectClass = objectClass;
+		this.uid = uid;
+		this.attributes = attributes;
+	}
+	
+	/**
+	 * Create operation.
+	 * 
+	 * @param objectClass object class
+	 * @param attributes attributes for new object
+	 * @return operation
+	 */
+	public static IcBatchOperationImpl create(IcObjectClass objectClass, List<IcAttribute> attributes) {
+		return new IcBatchOperationImpl(IcBatchOperationType.CREATE, objectClass, null, attributes);
+	}
+	
+	/**
+	 * Update operation.
+	 * 
+	 * @param objectClass object class
+	 * @param uid object identifier
+	 * @param replaceAttributes attributes to replace
+	 * @return operation
+	 */
+	public static IcBatchOperationImpl update(IcObjectClass objectClass, IcUidAttribute uid, List<IcAttribute> replaceAttributes) {
+		return new IcBatchOperationImpl(IcBatchOperationType.UPDATE, objectClass, uid, replaceAttributes);
+	}
+	
+	/**
+	 * Delete operation.
+	 * 
+	 * @param objectClass object class
+	 * @param uid object identifier
+	 * @return operation
+	 */
+	public static IcBatchOperationImpl delete(IcObjectClass objectClass, IcUidAttribute uid) {
+		return new IcBatchOperationImpl(IcBatchOperationType.DELETE, objectClass, uid, null);
+	}
+
+	@Override
+	public IcBatchOperationType getOperationType() {
+		return operationType;
+	}
+
+	@Override
+	public IcObjectClass getObjectClass() {
+		return objectClass;
+	}
+
+	@Override
+	public IcUidAttribute getUid() {
+		return uid;
+	}
+
+	@Override
+	public List<IcAttribute> getAttributes() {
+		return attributes;
+	}
+	
+	@Override
+	public String toString() {
+		return "IcBatchOperationImpl [operationType=" + operationType + ", objectClass=" + (objectClass == null ? null : objectClass.getType()) + ", uid=" + uid + "]";
+	}
+}
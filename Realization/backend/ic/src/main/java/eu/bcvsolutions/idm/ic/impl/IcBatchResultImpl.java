@@ -0,0 +1,47 @@
+package eu.bcvsolutions.idm.ic.impl;
+
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
+import eu.bcvsolutions.idm.ic.api.IcUidAttribute;
+
+/**
+ * Result of one write operation executed in batch.
+ * 
+ * @author Radek Tomiška
+ * @since 11.0.0
+ */
+public class IcBatchResultImpl implements IcBatchResult {
+
+	private final IcBatchOperation operation;
+	private final IcUidAttribute uid;
+	private final Exception exception;
+	
+	public IcBatchResultImpl(IcBatchOperation operation, IcUidAttribute uid) {
+		this(operation, uid, null);
+	}
+	
+	public IcBatchResultImpl(IcBatchOperation operation, Exception exception) {
+		this(operation, null, exception);
+	}
+
+	private IcBatchResultImpl(IcBatchOperation operation, IcUidAttribute uid, Exception exception) {
+		this.operation = operation;
+		this.uid = uid;
+		this.exception = exception;
+	}
+
+	@Override
+	public IcBatchOperation getOperation() {
+		return operation;
+	}
+
+	@Override
+	public IcUidAttribute getUid() {
+		return uid;
+	}
+
+	@Override
+	public Exception getException() {
+		return exception;
+	}
+}
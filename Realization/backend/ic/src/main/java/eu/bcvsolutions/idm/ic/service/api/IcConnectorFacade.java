@@ -5,6 +5,8 @@ import java.util.Map;
 
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
 import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
@@ -98,6 +100,19 @@ public interface IcConnectorFacade {
 	void search(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration, IcObjectClass objectClass,
 			IcFilter filter, IcResultsHandler handler);
 	
+	/**
+	 * Execute given write operations (create / update / delete) together. Operation failure does not stop processing 
+	 * other operations - failure is returned in result of given operation.
+	 * 
+	 * @param connectorInstance - Identification of connector
+	 * @param connectorConfiguration - Connector configuration
+	 * @param operations - operations in execution order
+	 * @return result for each given operation (in the same order)
+	 * @since 11.0.0
+	 */
+	List<IcBatchResult> executeBatch(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration,
+			List<IcBatchOperation> operations);
+	
 	/**
 	 * @return Connector services for all ICs
 	 */
@@ -15,12 +15,23 @@ public interface IcConnectorFacadeFactory {
 
 	/**
 	 * Basic factory method to obtain {@link ConnectorFacade} instance based on given configuration. It uses
-	 * {@link ConnectorFacadeFactory} internally.
+	 * {@link ConnectorFacadeFactory} internally. Created facade is validated and cached - cached facade is used,
+	 * till connector configuration is not changed. Returned facade has to be released, when operation ends
+	 * - see {@link #releaseConnectorFacade(ConnectorFacade)}.
 	 *
 	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
 	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
-	 * @return New instance of {@link ConnectorFacade} created based on given arguments
+	 * @return Instance of {@link ConnectorFacade} created based on given arguments
 	 */
 	ConnectorFacade getConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration);
+	
+	/**
+	 * Release facade obtained by {@link #getConnectorFacade(IcConnectorInstance, IcConnectorConfiguration)}, when operation ends.
+	 * Facade evicted from cache is disposed, when is released by all callers (e.g. long running search is not affected).
+	 * 
+	 * @param facade used facade
+	 * @since 11.0.0
+	 */
+	void releaseConnectorFacade(ConnectorFacade facade);
 
 }
@@ -1,9 +1,12 @@
 package eu.bcvsolutions.idm.ic.service.api;
 
+import java.text.MessageFormat;
 import java.util.List;
 
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
 import eu.bcvsolutions.idm.ic.api.IcConnector;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
@@ -12,6 +15,7 @@ import eu.bcvsolutions.idm.ic.api.IcObjectClass;
 import eu.bcvsolutions.idm.ic.api.IcSyncResultsHandler;
 import eu.bcvsolutions.idm.ic.api.IcSyncToken;
 import eu.bcvsolutions.idm.ic.api.IcUidAttribute;
+import eu.bcvsolutions.idm.ic.exception.IcException;
 import eu.bcvsolutions.idm.ic.filter.api.IcFilter;
 import eu.bcvsolutions.idm.ic.filter.api.IcResultsHandler;
 
@@ -107,6 +111,25 @@ public interface IcConnectorService {
 			IcFilter filter, IcResultsHandler handler);
 
 	
+	/**
+	 * Execute given write operations (create / update / delete). Operation failure does not stop processing 
+	 * other operations - failure is returned in result of given operation.
+	 * 
+	 * IC implementation has to override this method - operations can be executed one by one, when framework 
+	 * doesn't support batch operations (e.g. ConnId).
+	 * 
+	 * @param connectorInstance - Identification of connector
+	 * @param connectorConfiguration - Connector configuration
+	 * @param operations - operations in execution order
+	 * @return result for each given operation (in the same order)
+	 * @throws IcException if batch operations are not supported by IC implementation
+	 * @since 11.0.0
+	 */
+	default List<IcBatchResult> executeBatch(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration, 
+			List<IcBatchOperation> operations) {
+		throw new IcException(MessageFormat.format("Batch operations are not supported by IC implementation [{0}]!", getImplementationType()));
+	}
+	
 	/**
 	 * Get connector instance (cached)
 	 * @param connectorInstance
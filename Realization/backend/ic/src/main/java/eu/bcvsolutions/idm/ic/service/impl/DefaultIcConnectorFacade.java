@@ -12,6 +12,8 @@ import com.google.common.collect.ImmutableMap;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
 import eu.bcvsolutions.idm.ic.api.IcConnectorKey;
@@ -114,6 +116,14 @@ public class DefaultIcConnectorFacade implements IcConnectorFacade {
 		icConnectors.get(connectorInstance.getConnectorKey().getFramework()).search(connectorInstance, connectorConfiguration, objectClass, filter, handler);
 	}
 	
+	@Override
+	public List<IcBatchResult> executeBatch(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration,
+			List<IcBatchOperation> operations) {
+		Assert.notNull(connectorInstance, "Connector instance is required.");
+		Assert.notNull(connectorInstance.getConnectorKey(), "Connector key is required.");
+		checkIcType(connectorInstance.getConnectorKey());
+		return icConnectors.get(connectorInstance.getConnectorKey().getFramework()).executeBatch(connectorInstance, connectorConfiguration, operations);
+	}
 
 	private boolean checkIcType(IcConnectorKey key) {
 		if (!icConnectors.containsKey(key.getFramework())) {
@@ -55,10 +55,16 @@ import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.domain.IdmBasePermission;
 import eu.bcvsolutions.idm.core.security.api.dto.LoginDto;
 import eu.bcvsolutions.idm.core.security.api.service.LoginService;
+import eu.bcvsolutions.idm.ic.api.IcAttributeInfo;
+import eu.bcvsolutions.idm.ic.api.IcBatchOperation;
+import eu.bcvsolutions.idm.ic.api.IcBatchResult;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
 import eu.bcvsolutions.idm.ic.api.IcObjectClass;
+import eu.bcvsolutions.idm.ic.api.IcObjectClassInfo;
 import eu.bcvsolutions.idm.ic.filter.api.IcResultsHandler;
+import eu.bcvsolutions.idm.ic.impl.IcAttributeImpl;
+import eu.bcvsolutions.idm.ic.impl.IcBatchOperationImpl;
 import eu.bcvsolutions.idm.ic.impl.IcObjectClassImpl;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacade;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
@@ -293,6 +299,35 @@ public class DefaultVsRequestServiceIntegrationTest extends AbstractIntegrationT
 		Assert.assertEquals(USER_ONE_NAME, uids.get(0));
 	}
 
+	@Test
+	public void executeBatchTest() {
+		SysSystemDto system = this.createVirtualSystem(USER_IMPLEMENTER_NAME, null);
+		IcConnectorConfiguration configuration = systemService.getConnectorConfiguration(system);
+		IcObjectClass objectClass = new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT);
+		String uidOne = helper.createName();
+		String uidTwo = helper.createName();
+		List<IcBatchOperation> operations = Lists.newArrayList(
+				IcBatchOperationImpl.create(objectClass, Lists.newArrayList(new IcAttributeImpl(IcAttributeInfo.NAME, uidOne))),
+				IcBatchOperationImpl.update(objectClass, null, Lists.newArrayList(new IcAttributeImpl(IcAttributeInfo.NAME, uidOne))), // uid is missing
+				IcBatchOperationImpl.create(objectClass, Lists.newArrayList(new IcAttributeImpl(IcAttributeInfo.NAME, uidTwo))));
+		//
+		List<IcBatchResult> results = connectorFacade.executeBatch(systemService.getConnectorInstance(system), configuration, operations);
+		//
+		Assert.assertEquals(3, results.size());
+		Assert.assertTrue(results.get(0).isSuccess());
+		Assert.assertFalse(results.get(1).isSuccess());
+		Assert.assertNotNull(results.get(1).getException());
+		Assert.assertTrue(results.get(2).isSuccess());
+		//
+		VsRequestFilter requestFilter = new VsRequestFilter();
+		requestFilter.setSystemId(system.getId());
+		List<VsRequestDto> requests = requestService.find(requestFilter, null).getContent();
+		Assert.assertEquals(2, requests.size());
+		Assert.assertTrue(requests.stream().allMatch(r -> VsOperationType.CREATE == r.getOperationType()));
+		Assert.assertTrue(requests.stream().anyMatch(r -> uidOne.equals(r.getUid())));
+		Assert.assertTrue(requests.stream().anyMatch(r -> uidTwo.equals(r.getUid())));
+	}
+
 	@Test
 	public void createAndCancelRequestTest() {
 		String reason = "cancel \"request\" reason!";